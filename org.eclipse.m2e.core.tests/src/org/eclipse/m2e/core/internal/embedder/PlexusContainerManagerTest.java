@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.embedder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.codehaus.plexus.PlexusContainer;
+
+import org.eclipse.m2e.core.embedder.IComponentLookup;
+import org.eclipse.m2e.core.internal.embedder.PlexusContainerManager.ContainerLease;
+
+
+public class PlexusContainerManagerTest {
+
+  private static final String EXTENSIONS = "<extensions><extension><groupId>test</groupId>"
+      + "<artifactId>extension</artifactId><version>1.0</version></extension></extensions>";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private TestContainerManager manager;
+
+  @Before
+  public void setUp() {
+    manager = new TestContainerManager();
+  }
+
+  @After
+  public void tearDown() {
+    manager.dispose();
+    MavenProperties.clearMultiModuleProjectDirectories();
+  }
+
+  @Test
+  public void testReuse() throws Exception {
+    File root = root("a");
+
+    IMavenPlexusContainer first = manager.aquire(root);
+    IMavenPlexusContainer second = manager.aquire(new File(root, "module"));
+
+    assertSame(first, second);
+    assertEquals(1, manager.created.size());
+  }
+
+  @Test
+  public void testEvictIdle() throws Exception {
+    manager.aquire(root("a"));
+
+    manager.evictIdle(0);
+
+    assertEquals(manager.created, manager.disposed);
+  }
+
+  @Test
+  public void testEvictIdleKeepsLeased() throws Exception {
+    File root = root("a");
+    try (ContainerLease lease = manager.lease(root)) {
+      manager.evictIdle(0);
+      assertTrue(manager.disposed.isEmpty());
+    }
+
+    manager.evictIdle(0);
+
+    assertEquals(manager.created, manager.disposed);
+  }
+
+  @Test
+  public void testEvictExceeding() throws Exception {
+    File a = root("a");
+    File b = root("b");
+    File c = root("c");
+    manager.aquire(a);
+    manager.aquire(b);
+    manager.aquire(c);
+    // a is the least recently used, but leased
+    try (ContainerLease lease = manager.lease(a)) {
+      manager.aquire(b);
+      manager.aquire(c);
+
+      manager.evictExceeding(1);
+
+      assertEquals(2, manager.disposed.size());
+      assertTrue(manager.disposed.contains(manager.created.get(1)));
+      assertTrue(manager.disposed.contains(manager.created.get(2)));
+    }
+    assertEquals(2, manager.disposed.size());
+
+    // b is created again
+    manager.aquire(b);
+    manager.evictExceeding(1);
+
+    assertEquals(4, manager.created.size());
+    assertEquals(3, manager.disposed.size());
+    assertTrue(manager.disposed.contains(manager.created.get(0)));
+  }
+
+  @Test
+  public void testRemovedMvnFolderDisposesAfterLastLease() throws Exception {
+    File root = root("a");
+    ContainerLease lease = manager.lease(root);
+    Files.delete(new File(root, IMavenPlexusContainer.MVN_FOLDER).toPath());
+
+    manager.cleanup();
+    assertTrue(manager.disposed.isEmpty());
+
+    lease.close();
+    assertEquals(manager.created, manager.disposed);
+  }
+
+  @Test
+  public void testSameConfigurationSharesContainer() throws Exception {
+    File a = root("a", "-Xmx1g");
+    File b = root("b", "-Xmx1g");
+
+    IMavenPlexusContainer first = manager.aquire(a);
+    IMavenPlexusContainer second = manager.aquire(b);
+
+    assertEquals(1, manager.created.size());
+    assertSame(first.getContainer(), second.getContainer());
+    assertEquals(Optional.of(a), first.getMavenDirectory());
+    assertEquals(Optional.of(b), second.getMavenDirectory());
+    assertEquals(a.getAbsolutePath() + ", " + b.getAbsolutePath(), manager.names.get(0).get());
+  }
+
+  @Test
+  public void testDifferentConfigurationDoesNotShareContainer() throws Exception {
+    IMavenPlexusContainer first = manager.aquire(root("a", "-Xmx1g"));
+    IMavenPlexusContainer second = manager.aquire(root("b", "-Xmx2g"));
+
+    assertEquals(2, manager.created.size());
+    assertNotSame(first.getContainer(), second.getContainer());
+  }
+
+  @Test
+  public void testSameExtensionsShareContainer() throws Exception {
+    File a = root("a", "-Xmx1g");
+    File b = root("b", "-Xmx1g");
+    for(File root : List.of(a, b)) {
+      Files.writeString(new File(root, IMavenPlexusContainer.EXTENSIONS_FILENAME).toPath(), EXTENSIONS);
+      Files.writeString(new File(root, ".mvn/maven.config").toPath(), "-Dfoo=bar");
+    }
+
+    IMavenPlexusContainer first = manager.aquire(a);
+    IMavenPlexusContainer second = manager.aquire(b);
+
+    assertEquals(1, manager.created.size());
+    assertSame(first.getContainer(), second.getContainer());
+  }
+
+  @Test
+  public void testRelativeSettingsDoNotShareContainer() throws Exception {
+    File a = root("a", "-Xmx1g");
+    File b = root("b", "-Xmx1g");
+    for(File root : List.of(a, b)) {
+      Files.writeString(new File(root, IMavenPlexusContainer.EXTENSIONS_FILENAME).toPath(), EXTENSIONS);
+      Files.writeString(new File(root, ".mvn/maven.config").toPath(), "-s settings.xml");
+    }
+
+    IMavenPlexusContainer first = manager.aquire(a);
+    IMavenPlexusContainer second = manager.aquire(b);
+
+    assertEquals(2, manager.created.size());
+    assertNotSame(first.getContainer(), second.getContainer());
+  }
+
+  private File root(String name) throws IOException {
+    // distinct configurations, so the roots don't share a container
+    return root(name, name);
+  }
+
+  private File root(String name, String jvmConfig) throws IOException {
+    File root = temporaryFolder.newFolder(name);
+    File mvn = new File(root, IMavenPlexusContainer.MVN_FOLDER);
+    mvn.mkdir();
+    Files.writeString(new File(mvn, "jvm.config").toPath(), jvmConfig);
+    new File(root, "module").mkdir();
+    return root;
+  }
+
+  private static final class TestContainerManager extends PlexusContainerManager {
+    final List<IMavenPlexusContainer> created = new ArrayList<>();
+
+    final List<IMavenPlexusContainer> disposed = new ArrayList<>();
+
+    final List<Supplier<String>> names = new ArrayList<>();
+
+    @Override
+    synchronized IMavenPlexusContainer newContainer(File multiModuleProjectDirectory, Supplier<String> directories) {
+      names.add(directories);
+      PlexusContainer container = mock(PlexusContainer.class);
+      IMavenPlexusContainer result = new IMavenPlexusContainer() {
+        @Override
+        public Optional<File> getMavenDirectory() {
+          return Optional.ofNullable(multiModuleProjectDirectory);
+        }
+
+        @Override
+        public PlexusContainer getContainer() {
+          return container;
+        }
+
+        @Override
+        public IComponentLookup getComponentLookup() {
+          return PlexusContainerManager.wrap(container, null);
+        }
+      };
+      created.add(result);
+      return result;
+    }
+
+    @Override
+    synchronized void disposeContainer(IMavenPlexusContainer container) {
+      disposed.add(container);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+
+public class LocalRepositoryIndexTest {
+
+  private static final String SHA1 = "0123456789abcdef0123456789abcdef01234567";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testSearch() throws Exception {
+    Path repository = temporaryFolder.getRoot().toPath();
+    Path demo = createVersion(repository, "demo", "1.0", "jar", "org/example/Foo.class", "org/example/Foo$Inner.class");
+    Files.writeString(demo.resolve("demo-1.0.jar.sha1"), SHA1 + "  demo-1.0.jar");
+    Files.createFile(demo.resolve("demo-1.0-sources.jar"));
+    createVersion(repository, "parent", "1.0", "pom");
+
+    LocalRepositoryIndex index = new LocalRepositoryIndex();
+    index.update(repository, new NullProgressMonitor());
+
+    Map<String, IndexedArtifact> result = index.search(new UserInputSearchExpression("demo"), IIndex.SEARCH_ARTIFACT,
+        IIndex.SEARCH_ALL);
+    assertEquals(1, result.size());
+    IndexedArtifact artifact = result.get("org.example:demo");
+    assertEquals("jar", artifact.getPackaging());
+    assertEquals(2, artifact.getFiles().size());
+
+    result = index.search(new UserInputSearchExpression("org.example"), IIndex.SEARCH_PARENTS, IIndex.SEARCH_ALL);
+    assertEquals(Map.of("org.example:parent", result.get("org.example:parent")), result);
+
+    result = index.search(new UserInputSearchExpression("foo"), IIndex.SEARCH_CLASS_NAME, IIndex.SEARCH_JARS);
+    assertEquals(1, result.size());
+    artifact = result.values().iterator().next();
+    assertEquals("Foo", artifact.getClassname());
+    assertEquals("org.example", artifact.getPackageName());
+
+    result = index.search(new UserInputSearchExpression(SHA1.substring(0, 8)), IIndex.SEARCH_SHA1);
+    assertTrue(result.containsKey("org.example:demo"));
+
+    IndexedArtifactFile file = index.getIndexedArtifactFile(new ArtifactKey("org.example", "demo", "1.0", "sources"));
+    assertNotNull(file);
+    assertEquals("demo-1.0-sources.jar", file.fname);
+  }
+
+  @Test
+  public void testInstalledVersion() throws Exception {
+    Path repository = temporaryFolder.getRoot().toPath();
+    createVersion(repository, "demo", "1.0", "jar", "org/example/Foo.class");
+
+    LocalRepositoryIndex index = new LocalRepositoryIndex();
+    index.update(repository, new NullProgressMonitor());
+    Path installed = createVersion(repository, "demo", "2.0", "jar", "org/example/Bar.class");
+    index.queue(installed);
+    index.update(repository, new NullProgressMonitor());
+
+    Map<String, IndexedArtifact> result = index.search(new UserInputSearchExpression("demo"),
+        IIndex.SEARCH_ARTIFACT);
+    assertEquals(2, result.get("org.example:demo").getFiles().size());
+    // class names are indexed for the newest version only
+    assertEquals(1, index.search(new UserInputSearchExpression("bar"), IIndex.SEARCH_CLASS_NAME).size());
+    assertEquals(0, index.search(new UserInputSearchExpression("foo"), IIndex.SEARCH_CLASS_NAME).size());
+
+    // checksums are computed for jars without .sha1 file
+    Path copy = temporaryFolder.newFolder("lib").toPath().resolve("copy.jar");
+    Files.copy(installed.resolve("demo-2.0.jar"), copy);
+    assertEquals(new ArtifactKey("org.example", "demo", "2.0", null), index.identify(copy.toFile()).getArtifactKey());
+  }
+
+  @Test
+  public void testArtifactCoordinates() throws Exception {
+    Path repository = temporaryFolder.getRoot().toPath();
+    createVersion(repository, "demo", "1.0", "jar");
+    Files.createFile(createVersion(repository, "demo", "1.10", "jar").resolve("demo-1.10-sources.jar"));
+    createVersion(repository, "demo", "1.9", "jar");
+    createVersion(repository, "parent", "1.0", "pom");
+
+    LocalRepositoryIndex index = new LocalRepositoryIndex();
+    index.update(repository, new NullProgressMonitor());
+    ArtifactCoordinates coordinates = index.getArtifactCoordinates();
+
+    assertEquals(List.of("org.example"), coordinates.findGroupIds("org.ex", null, 10));
+    assertEquals(List.of(), coordinates.findGroupIds("org.ex", "maven-plugin", 10));
+    assertEquals(List.of("demo", "parent"), coordinates.findArtifactIds("org.example", "", null));
+    assertEquals(List.of("parent"), coordinates.findArtifactIds("org.example", "", "pom"));
+    assertEquals(List.of("1.10", "1.9", "1.0"), coordinates.findVersions("org.example", "demo", ""));
+    assertEquals(Set.of("sources"), coordinates.findClassifiers("org.example", "demo", "1.10", ""));
+    assertEquals(Set.of("jar", "pom"), coordinates.findTypes("org.example", "demo", "1.10", ""));
+  }
+
+  private static Path createVersion(Path repository, String artifactId, String version, String packaging,
+      String... classes) throws IOException {
+    Path dir = Files.createDirectories(repository.resolve("org/example").resolve(artifactId).resolve(version));
+    String prefix = artifactId + "-" + version;
+    Files.writeString(dir.resolve(prefix + ".pom"), "<project><groupId>org.example</groupId><artifactId>" + artifactId
+        + "</artifactId><version>" + version + "</version><packaging>" + packaging + "</packaging></project>");
+    if("jar".equals(packaging)) {
+      try (OutputStream out = Files.newOutputStream(dir.resolve(prefix + ".jar"));
+          ZipOutputStream zip = new ZipOutputStream(out)) {
+        for(String name : classes) {
+          zip.putNextEntry(new ZipEntry(name));
+          zip.closeEntry();
+        }
+      }
+    }
+    return dir;
+  }
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.lifecyclemapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.project.MavenProject;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadata;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadataSource;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionFilter;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
+import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+import org.junit.After;
+import org.junit.Test;
+
+
+public class EffectiveLifecycleMappingCacheTest {
+
+  private static final List<Object> KEY = List.of("jar", "test");
+
+  private static final MojoExecutionKey EXECUTION = new MojoExecutionKey("org.apache.maven.plugins",
+      "maven-compiler-plugin", "3.11.0", "compile", "compile", "default-compile");
+
+  @After
+  public void tearDown() {
+    EffectiveLifecycleMappingCache.clear();
+  }
+
+  @Test
+  public void testMemoizedResultDoesNotReferenceProject() {
+    MavenProject project = new MavenProject();
+    project.setGroupId("group");
+    project.setArtifactId("artifact");
+    project.setVersion("1.0");
+    LifecycleMappingMetadataSource pomSource = new LifecycleMappingMetadataSource();
+    pomSource.setSource(project);
+    PluginExecutionMetadata execution = execution(pomSource);
+    LifecycleMappingMetadata lifecycleMapping = new LifecycleMappingMetadata();
+    lifecycleMapping.setPackagingType("jar");
+    lifecycleMapping.setLifecycleMappingId("test");
+    lifecycleMapping.setSource(pomSource);
+    lifecycleMapping.addPluginExecution(execution(pomSource));
+    EffectiveLifecycleMappingCache.put(KEY, result(lifecycleMapping, execution));
+
+    LifecycleMappingResult memoized = new LifecycleMappingResult();
+    assertTrue(EffectiveLifecycleMappingCache.get(KEY, memoized));
+
+    PluginExecutionMetadata memoizedExecution = (PluginExecutionMetadata) memoized.getMojoExecutionMapping()
+        .get(EXECUTION).get(0);
+    assertNotSame(execution, memoizedExecution);
+    assertEquals(execution.getAction(), memoizedExecution.getAction());
+    assertEquals(project.getId(), memoizedExecution.getSource().getSource());
+    LifecycleMappingMetadata memoizedLifecycleMapping = memoized.getLifecycleMappingMetadata();
+    assertEquals("test", memoized.getLifecycleMappingId());
+    assertSame(memoizedExecution.getSource(), memoizedLifecycleMapping.getSource());
+    assertFalse(memoizedLifecycleMapping.getPluginExecutions().get(0).getSource()
+        .getSource() instanceof MavenProject);
+    // the original result is not modified
+    assertSame(project, execution.getSource().getSource());
+  }
+
+  @Test
+  public void testMemoizedResultKeepsOtherSources() {
+    LifecycleMappingMetadataSource workspaceSource = new LifecycleMappingMetadataSource();
+    workspaceSource.setSource("workspace");
+    EffectiveLifecycleMappingCache.put(KEY, result(null, execution(workspaceSource)));
+
+    LifecycleMappingResult memoized = new LifecycleMappingResult();
+    assertTrue(EffectiveLifecycleMappingCache.get(KEY, memoized));
+
+    PluginExecutionMetadata memoizedExecution = (PluginExecutionMetadata) memoized.getMojoExecutionMapping()
+        .get(EXECUTION).get(0);
+    assertSame(workspaceSource, memoizedExecution.getSource());
+  }
+
+  private static PluginExecutionMetadata execution(LifecycleMappingMetadataSource source) {
+    PluginExecutionMetadata execution = new PluginExecutionMetadata();
+    execution.setFilter(new PluginExecutionFilter(EXECUTION.groupId(), EXECUTION.artifactId(), "[3.0,)", "compile"));
+    execution.setSource(source);
+    return execution;
+  }
+
+  private static LifecycleMappingResult result(LifecycleMappingMetadata lifecycleMapping,
+      PluginExecutionMetadata execution) {
+    Map<MojoExecutionKey, List<IPluginExecutionMetadata>> mapping = new LinkedHashMap<>();
+    mapping.put(EXECUTION, new ArrayList<>(List.of(execution)));
+    LifecycleMappingResult result = new LifecycleMappingResult();
+    result.setLifecycleMappingMetadata(lifecycleMapping);
+    result.setMojoExecutionMapping(mapping);
+    return result;
+  }
+}
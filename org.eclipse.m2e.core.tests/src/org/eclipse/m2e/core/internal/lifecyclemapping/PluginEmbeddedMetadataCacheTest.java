@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.lifecyclemapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadataSource;
+
+
+public class PluginEmbeddedMetadataCacheTest {
+
+  private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File cacheFile;
+
+  private Artifact plugin;
+
+  @Before
+  public void setUp() throws Exception {
+    cacheFile = new File(temporaryFolder.getRoot(), "pluginEmbeddedMetadata.cache");
+    plugin = artifact("plugin");
+    writeJar(plugin.getFile(), "aaa", LAST_MODIFIED);
+    PluginEmbeddedMetadataCache cache = new PluginEmbeddedMetadataCache(cacheFile);
+    assertEquals(Set.of("aaa"), goals(cache.getMetadata(plugin)));
+    cache.write();
+    assertTrue(cacheFile.isFile());
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    // same size and last modification time, so the cached metadata is still valid
+    writeJar(plugin.getFile(), "bbb", LAST_MODIFIED);
+
+    PluginEmbeddedMetadataCache cache = new PluginEmbeddedMetadataCache(cacheFile);
+
+    assertEquals(Set.of("aaa"), goals(cache.getMetadata(plugin)));
+  }
+
+  @Test
+  public void testSizeChangeInvalidates() throws Exception {
+    writeJar(plugin.getFile(), "bbbb", LAST_MODIFIED);
+
+    PluginEmbeddedMetadataCache cache = new PluginEmbeddedMetadataCache(cacheFile);
+
+    assertEquals(Set.of("bbbb"), goals(cache.getMetadata(plugin)));
+  }
+
+  @Test
+  public void testLastModifiedChangeInvalidates() throws Exception {
+    writeJar(plugin.getFile(), "bbb", LAST_MODIFIED + 1000);
+
+    PluginEmbeddedMetadataCache cache = new PluginEmbeddedMetadataCache(cacheFile);
+
+    assertEquals(Set.of("bbb"), goals(cache.getMetadata(plugin)));
+  }
+
+  @Test
+  public void testJarWithoutMetadata() throws Exception {
+    Artifact other = artifact("other");
+    writeJar(other.getFile(), null, LAST_MODIFIED);
+    PluginEmbeddedMetadataCache cache = new PluginEmbeddedMetadataCache(cacheFile);
+
+    assertNull(cache.getMetadata(other));
+  }
+
+  @Test
+  public void testMissingJarsAreDropped() throws Exception {
+    Artifact other = artifact("other");
+    writeJar(other.getFile(), "aaa", LAST_MODIFIED);
+    PluginEmbeddedMetadataCache cache = new PluginEmbeddedMetadataCache(cacheFile);
+    assertEquals(Set.of("aaa"), goals(cache.getMetadata(other)));
+    assertTrue(plugin.getFile().delete());
+    cache.write();
+    // a jar of the same size and last modification time is not taken from the cache
+    writeJar(plugin.getFile(), "bbb", LAST_MODIFIED);
+
+    cache = new PluginEmbeddedMetadataCache(cacheFile);
+
+    assertEquals(Set.of("bbb"), goals(cache.getMetadata(plugin)));
+    assertEquals(Set.of("aaa"), goals(cache.getMetadata(other)));
+  }
+
+  private Artifact artifact(String artifactId) {
+    Artifact artifact = new DefaultArtifact("test", artifactId, "1.0", "compile", "maven-plugin", null,
+        new DefaultArtifactHandler("maven-plugin"));
+    artifact.setFile(new File(temporaryFolder.getRoot(), artifactId + ".jar"));
+    return artifact;
+  }
+
+  private static void writeJar(File file, String goal, long lastModified) throws IOException {
+    try (JarOutputStream out = new JarOutputStream(new FileOutputStream(file))) {
+      if(goal != null) {
+        byte[] content = ("<lifecycleMappingMetadata><pluginExecutions><pluginExecution><pluginExecutionFilter>"
+            + "<goals><goal>" + goal + "</goal></goals></pluginExecutionFilter><action><ignore/></action>"
+            + "</pluginExecution></pluginExecutions></lifecycleMappingMetadata>").getBytes(StandardCharsets.UTF_8);
+        // stored, so that the size of the jar only depends on the length of the goal
+        JarEntry entry = new JarEntry(LifecycleMappingFactory.LIFECYCLE_MAPPING_METADATA_EMBEDDED_SOURCE_PATH);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        entry.setCrc(crc.getValue());
+        out.putNextEntry(entry);
+        out.write(content);
+        out.closeEntry();
+      } else {
+        out.putNextEntry(new JarEntry("readme.txt"));
+        out.closeEntry();
+      }
+    }
+    assertTrue(file.setLastModified(lastModified));
+  }
+
+  private static Set<String> goals(LifecycleMappingMetadataSource metadata) {
+    return metadata.getPluginExecutions().get(0).getFilter().getGoals();
+  }
+}
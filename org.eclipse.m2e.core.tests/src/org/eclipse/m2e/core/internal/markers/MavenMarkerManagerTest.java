@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.markers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class MavenMarkerManagerTest {
+
+  private static final String TYPE = IMavenConstants.MARKER_POM_LOADING_ID;
+
+  private final MavenMarkerManager markerManager = new MavenMarkerManager();
+
+  private IProject project;
+
+  private IFile pom;
+
+  @Before
+  public void setUp() throws CoreException {
+    project = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getSimpleName());
+    project.create(null);
+    project.open(null);
+    pom = project.getFile("pom.xml");
+    pom.create(new ByteArrayInputStream("<project>\n</project>\n".getBytes(StandardCharsets.UTF_8)), true, null);
+  }
+
+  @After
+  public void tearDown() throws CoreException {
+    project.delete(true, null);
+  }
+
+  @Test
+  public void testUnchangedProblemKeepsMarker() throws CoreException {
+    markerManager.replaceMarkers(pom, TYPE, List.of(problem("a", 1, 1, 5)));
+    IMarker marker = single();
+
+    markerManager.replaceMarkers(pom, TYPE, List.of(problem("a", 1, 1, 5)));
+
+    assertEquals(marker.getId(), single().getId());
+    assertTrue(marker.exists());
+  }
+
+  @Test
+  public void testKeptMarkerUpdatesLinkedCause() throws CoreException {
+    markerManager.replaceMarkers(pom, TYPE, List.of(linkedProblem("a", 5)));
+    IMarker marker = single();
+
+    markerManager.replaceMarkers(pom, TYPE, List.of(linkedProblem("a", 7)));
+
+    assertEquals(marker.getId(), single().getId());
+    assertEquals(7, marker.getAttribute(IMavenConstants.MARKER_CAUSE_LINE_NUMBER, -1));
+  }
+
+  @Test
+  public void testNewProblemAddsMarkerAndGoneProblemRemovesIt() throws CoreException {
+    markerManager.replaceMarkers(pom, TYPE, List.of(problem("a", 1, 1, 5)));
+    IMarker a = single();
+
+    markerManager.replaceMarkers(pom, TYPE, List.of(problem("a", 1, 1, 5), problem("b", 2, 1, 5)));
+
+    IMarker[] markers = markers();
+    assertEquals(2, markers.length);
+    assertTrue(a.exists());
+
+    markerManager.replaceMarkers(pom, TYPE, List.of(problem("b", 2, 1, 5)));
+
+    assertFalse(a.exists());
+    assertEquals("b", single().getAttribute(IMarker.MESSAGE));
+  }
+
+  @Test
+  public void testMovedProblemReplacesMarker() throws CoreException {
+    markerManager.replaceMarkers(pom, TYPE, List.of(problem("a", 1, 1, 5)));
+    IMarker marker = single();
+
+    markerManager.replaceMarkers(pom, TYPE, List.of(problem("a", 1, 3, 8)));
+
+    IMarker moved = single();
+    assertNotEquals(marker.getId(), moved.getId());
+    assertEquals(3, moved.getAttribute(IMavenConstants.MARKER_COLUMN_START, -1));
+    assertEquals(8, moved.getAttribute(IMavenConstants.MARKER_COLUMN_END, -1));
+  }
+
+  @Test
+  public void testDuplicatesAreRemoved() throws CoreException {
+    markerManager.replaceMarkers(pom, TYPE, List.of(problem("a", 1, 1, 5), problem("a", 1, 1, 5)));
+    IMarker marker = single();
+    IMarker duplicate = pom.createMarker(TYPE, marker.getAttributes());
+
+    markerManager.replaceMarkers(pom, TYPE, List.of(problem("a", 1, 1, 5)));
+
+    assertEquals(1, markers().length);
+    assertTrue(marker.exists() ^ duplicate.exists());
+  }
+
+  @Test
+  public void testNoProblemsRemovesAllMarkers() throws CoreException {
+    markerManager.replaceMarkers(pom, TYPE, List.of(problem("a", 1, 1, 5), problem("b", 2, 1, 5)));
+
+    markerManager.replaceMarkers(pom, TYPE, List.of());
+
+    assertEquals(0, markers().length);
+  }
+
+  private static MavenProblemInfo problem(String message, int line, int columnStart, int columnEnd) {
+    return new MavenProblemInfo(message, IMarker.SEVERITY_ERROR, new SourceLocation(line, columnStart, columnEnd));
+  }
+
+  private static MavenProblemInfo linkedProblem(String message, int causeLine) {
+    SourceLocation cause = new SourceLocation("parent/pom.xml", "test:parent:1.0", causeLine, 1, 5);
+    return new MavenProblemInfo(message, IMarker.SEVERITY_ERROR, new SourceLocation(1, 1, 5, cause));
+  }
+
+  private IMarker single() throws CoreException {
+    IMarker[] markers = markers();
+    assertEquals(1, markers.length);
+    return markers[0];
+  }
+
+  private IMarker[] markers() throws CoreException {
+    return pom.findMarkers(TYPE, true, IResource.DEPTH_ZERO);
+  }
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.metadata.ResolutionGroup;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.artifact.repository.ArtifactRepositoryPolicy;
+import org.apache.maven.artifact.repository.MavenArtifactRepository;
+import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
+import org.apache.maven.project.artifact.DefaultMavenMetadataCache;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+
+
+public class EclipseMavenMetadataCacheTest {
+
+  private static final ArtifactRepository LOCAL = new MavenArtifactRepository("local", "file:///repository",
+      new DefaultRepositoryLayout(), new ArtifactRepositoryPolicy(), new ArtifactRepositoryPolicy());
+
+  private static final List<ArtifactRepository> REPOSITORIES = List.of();
+
+  @Test
+  public void testRemoveProject() {
+    EclipseMavenMetadataCache cache = new EclipseMavenMetadataCache();
+    Artifact a = artifact("a", "jar");
+    Artifact b = artifact("b", "jar");
+    Artifact c = artifact("c", "jar");
+    cache.put(a, false, LOCAL, REPOSITORIES, resolutionGroup(a, b));
+    cache.put(c, false, LOCAL, REPOSITORIES, resolutionGroup(c));
+
+    cache.removeProject(null, new ArtifactKey("test", "b", "1.0-SNAPSHOT", null), false);
+
+    assertNull(cache.get(a, false, LOCAL, REPOSITORIES));
+    assertNotNull(cache.get(c, false, LOCAL, REPOSITORIES));
+
+    // a new project pom replaces the records that refer to it
+    cache.put(artifact("c", "pom"), false, LOCAL, REPOSITORIES, resolutionGroup(c));
+    assertNull(cache.get(c, false, LOCAL, REPOSITORIES));
+  }
+
+  @Test
+  public void testRemoveProjects() {
+    int records = 500;
+    int dependencies = 5;
+    IndexedMetadataCache indexed = new IndexedMetadataCache();
+    ScanningMetadataCache scanning = new ScanningMetadataCache();
+    for(int i = 0; i < records; i++ ) {
+      Artifact artifact = artifact("p" + i, "jar");
+      List<Artifact> artifacts = new ArrayList<>();
+      for(int j = 1; j <= dependencies; j++ ) {
+        artifacts.add(artifact("p" + (i + j) % records, "jar"));
+      }
+      ResolutionGroup result = resolutionGroup(artifact, artifacts.toArray(new Artifact[0]));
+      indexed.put(artifact, false, LOCAL, REPOSITORIES, result);
+      scanning.put(artifact, false, LOCAL, REPOSITORIES, result);
+    }
+    indexed.assertIndexConsistent();
+
+    Set<Integer> removed = new HashSet<>();
+    for(int i = 0; i < records; i += 10) {
+      removed.add(i);
+      scanning.removeProject(new ArtifactKey("test", "p" + i, "1.0-SNAPSHOT", null));
+      indexed.removeProject(null, new ArtifactKey("test", "p" + i, "1.0-SNAPSHOT", null), false);
+      indexed.assertIndexConsistent();
+    }
+
+    for(int i = 0; i < records; i++ ) {
+      // a record is removed with its own project and with any of its dependencies
+      boolean expectRemoved = false;
+      for(int j = 0; j <= dependencies; j++ ) {
+        expectRemoved |= removed.contains((i + j) % records);
+      }
+      Artifact artifact = artifact("p" + i, "jar");
+      assertEquals(artifact.toString(), expectRemoved, indexed.get(artifact, false, LOCAL, REPOSITORIES) == null);
+      assertEquals(artifact.toString(), expectRemoved, scanning.get(artifact, false, LOCAL, REPOSITORIES) == null);
+    }
+
+    indexed.flush();
+    indexed.assertIndexConsistent();
+    assertTrue(indexed.keysByArtifact.isEmpty());
+  }
+
+  private static Artifact artifact(String artifactId, String type) {
+    return new DefaultArtifact("test", artifactId, "1.0-SNAPSHOT", null, type, null,
+        new DefaultArtifactHandler(type));
+  }
+
+  private static ResolutionGroup resolutionGroup(Artifact pomArtifact, Artifact... artifacts) {
+    return new ResolutionGroup(pomArtifact, new LinkedHashSet<>(List.of(artifacts)), REPOSITORIES);
+  }
+
+  /**
+   * Checks the reverse index against the cache records.
+   */
+  private static class IndexedMetadataCache extends EclipseMavenMetadataCache {
+
+    void assertIndexConsistent() {
+      Map<ArtifactKey, Set<CacheKey>> expected = new HashMap<>();
+      cache.forEach((cacheKey, record) -> {
+        expected.computeIfAbsent(toGAbV(record.getArtifact()), k -> new HashSet<>()).add(cacheKey);
+        for(Artifact artifact : record.getArtifacts()) {
+          expected.computeIfAbsent(toGAbV(artifact), k -> new HashSet<>()).add(cacheKey);
+        }
+      });
+      assertEquals(expected, keysByArtifact);
+    }
+
+    private static ArtifactKey toGAbV(Artifact artifact) {
+      return new ArtifactKey(artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion(), null);
+    }
+  }
+
+  /**
+   * The former implementation, scanning all records.
+   */
+  private static class ScanningMetadataCache extends DefaultMavenMetadataCache {
+
+    void removeProject(ArtifactKey key) {
+      Iterator<Entry<CacheKey, CacheRecord>> iter = cache.entrySet().iterator();
+      while(iter.hasNext()) {
+        CacheRecord record = iter.next().getValue();
+        if(equals(record.getArtifact(), key) || record.getArtifacts().stream().anyMatch(a -> equals(a, key))) {
+          iter.remove();
+        }
+      }
+    }
+
+    private static boolean equals(Artifact artifact, ArtifactKey key) {
+      return key.groupId().equals(artifact.getGroupId()) && key.artifactId().equals(artifact.getArtifactId())
+          && key.version().equals(artifact.getBaseVersion());
+    }
+  }
+}
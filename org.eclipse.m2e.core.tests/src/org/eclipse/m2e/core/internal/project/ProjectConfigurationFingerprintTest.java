@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.MavenUpdateRequest;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+
+public class ProjectConfigurationFingerprintTest extends AbstractMavenProjectTestCase {
+
+  private static final String PREFERENCE = "fingerprintTest";
+
+  @After
+  public void clearProperties() throws Exception {
+    System.clearProperty(ProjectConfigurationManager.SKIP_UNCHANGED_CONFIGURATION);
+    IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode("org.eclipse.jdt.core");
+    preferences.remove(PREFERENCE);
+  }
+
+  @Test
+  public void testFingerprintOfSameInputsIsStable() throws Exception {
+    IProject project = importProject("resources/projects/simplePomOK/pom.xml");
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().getProject(project);
+
+    String inputs = inputs(facade);
+
+    assertEquals(inputs, inputs(facade));
+    assertEquals(ProjectConfigurationFingerprint.of(inputs, project),
+        ProjectConfigurationFingerprint.of(inputs, project));
+  }
+
+  @Test
+  public void testFingerprintChangesWithWorkspacePreferences() throws Exception {
+    IProject project = importProject("resources/projects/simplePomOK/pom.xml");
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().getProject(project);
+    String inputs = inputs(facade);
+
+    InstanceScope.INSTANCE.getNode("org.eclipse.jdt.core").put(PREFERENCE, "changed");
+
+    assertNotEquals(inputs, inputs(facade));
+  }
+
+  @Test
+  public void testFingerprintChangesWithProjectSettings() throws Exception {
+    IProject project = importProject("resources/projects/simplePomOK/pom.xml");
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().getProject(project);
+    String inputs = inputs(facade);
+    String fingerprint = ProjectConfigurationFingerprint.of(inputs, project);
+
+    project.getFile(".project").touch(monitor);
+
+    assertNotEquals(fingerprint, ProjectConfigurationFingerprint.of(inputs, project));
+  }
+
+  @Test
+  public void testUnchangedConfigurationIsSkipped() throws Exception {
+    System.setProperty(ProjectConfigurationManager.SKIP_UNCHANGED_CONFIGURATION, "true");
+    IProject project = importProject("resources/projects/simplePomOK/pom.xml");
+    update(project, true);
+
+    project.createMarker(IMavenConstants.MARKER_CONFIGURATION_ID);
+    update(project, false);
+
+    assertEquals(1, configurationMarkers(project));
+  }
+
+  @Test
+  public void testForcedUpdateIsNotSkipped() throws Exception {
+    System.setProperty(ProjectConfigurationManager.SKIP_UNCHANGED_CONFIGURATION, "true");
+    IProject project = importProject("resources/projects/simplePomOK/pom.xml");
+    update(project, true);
+
+    project.createMarker(IMavenConstants.MARKER_CONFIGURATION_ID);
+    update(project, true);
+
+    assertEquals(0, configurationMarkers(project));
+  }
+
+  @Test
+  public void testProjectUpdateIsNotSkipped() throws Exception {
+    System.setProperty(ProjectConfigurationManager.SKIP_UNCHANGED_CONFIGURATION, "true");
+    IProject project = importProject("resources/projects/simplePomOK/pom.xml");
+    update(project, true);
+
+    project.createMarker(IMavenConstants.MARKER_CONFIGURATION_ID);
+    MavenPlugin.getProjectConfigurationManager().updateProjectConfiguration(project, monitor);
+
+    assertEquals(0, configurationMarkers(project));
+  }
+
+  @Test
+  public void testUnchangedConfigurationIsNotSkippedByDefault() throws Exception {
+    IProject project = importProject("resources/projects/simplePomOK/pom.xml");
+    update(project, true);
+
+    project.createMarker(IMavenConstants.MARKER_CONFIGURATION_ID);
+    update(project, false);
+
+    assertEquals(0, configurationMarkers(project));
+  }
+
+  private String inputs(IMavenProjectFacade facade) throws CoreException {
+    LifecycleMappingConfiguration configuration = LifecycleMappingConfiguration
+        .newLifecycleMappingConfiguration(facade, monitor);
+    assertNotNull(configuration);
+    return ProjectConfigurationFingerprint.ofInputs(facade, facade.getMavenProject(monitor), configuration);
+  }
+
+  private void update(IProject project, boolean force) throws Exception {
+    ProjectConfigurationManager manager = (ProjectConfigurationManager) MavenPlugin.getProjectConfigurationManager();
+    manager.updateProjectConfiguration(new MavenUpdateRequest(project, false, force), true, false, monitor).values()
+        .forEach(status -> assertTrue(status.toString(), status.isOK()));
+    waitForJobsToComplete(monitor);
+  }
+
+  private static int configurationMarkers(IProject project) throws CoreException {
+    return project.findMarkers(IMavenConstants.MARKER_CONFIGURATION_ID, true, IResource.DEPTH_ZERO).length;
+  }
+}
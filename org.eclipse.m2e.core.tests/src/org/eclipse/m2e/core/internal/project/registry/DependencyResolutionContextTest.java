@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.junit.Test;
+
+
+public class DependencyResolutionContextTest {
+
+  private final IFile a = mock(IFile.class);
+
+  private final IFile b = mock(IFile.class);
+
+  private final IFile c = mock(IFile.class);
+
+  @Test
+  public void testForcingScheduledPomIsSkipped() {
+    DependencyResolutionContext context = new DependencyResolutionContext(List.of(a, b, c));
+    context.schedule(context.popAll());
+
+    context.forcePomFiles(List.of(b, c));
+    context.forcePomFile(c);
+
+    assertTrue(context.isEmpty());
+  }
+
+  @Test
+  public void testForcingStartedPomQueuesItAgain() {
+    DependencyResolutionContext context = new DependencyResolutionContext(List.of(a, b, c));
+    context.schedule(context.popAll());
+    context.started(a);
+    context.started(b);
+
+    context.forcePomFiles(List.of(a, b, c));
+
+    assertEquals(Set.of(a, b), context.popAll());
+  }
+
+  @Test
+  public void testNextBatchReplacesScheduledPoms() {
+    DependencyResolutionContext context = new DependencyResolutionContext(List.of(a, b));
+    context.schedule(context.popAll());
+    context.forcePomFiles(List.of(c));
+    context.schedule(context.popAll());
+
+    context.forcePomFiles(List.of(a, b, c));
+
+    assertEquals(Set.of(a, b), context.popAll());
+  }
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.junit.Test;
+
+
+public class DependencyResolutionSchedulerTest {
+
+  private final MutableProjectRegistry state = new MutableProjectRegistry(new ProjectRegistry());
+
+  @Test
+  public void testUpstreamPomsFirst() throws CoreException {
+    IFile a = pom("a");
+    IFile b = pom("b", "a");
+    IFile c = pom("c", "b");
+    List<IFile> processed = new CopyOnWriteArrayList<>();
+
+    try (DependencyResolutionScheduler scheduler = new DependencyResolutionScheduler(state, 4)) {
+      scheduler.run(List.of(c, b, a), processed::add, () -> false);
+    }
+
+    assertEquals(List.of(a, b, c), processed);
+  }
+
+  @Test
+  public void testIndependentPomsInParallel() throws CoreException {
+    IFile a = pom("a");
+    IFile b = pom("b");
+    CountDownLatch latch = new CountDownLatch(2);
+
+    try (DependencyResolutionScheduler scheduler = new DependencyResolutionScheduler(state, 2)) {
+      scheduler.run(List.of(a, b), pom -> {
+        latch.countDown();
+        try {
+          // both poms have to be processed at the same time for the latch to open
+          assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch(InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+      }, () -> false);
+    }
+  }
+
+  @Test
+  public void testCycleIsProcessed() throws CoreException {
+    IFile a = pom("a", "b");
+    IFile b = pom("b", "a");
+    List<IFile> processed = new CopyOnWriteArrayList<>();
+
+    try (DependencyResolutionScheduler scheduler = new DependencyResolutionScheduler(state, 2)) {
+      scheduler.run(List.of(a, b), processed::add, () -> false);
+    }
+
+    assertEquals(Set.of(a, b), Set.copyOf(processed));
+    assertEquals(2, processed.size());
+  }
+
+  @Test
+  public void testFailureStopsDownstreamPoms() {
+    IFile a = pom("a");
+    IFile b = pom("b", "a");
+    List<IFile> processed = new CopyOnWriteArrayList<>();
+    CoreException failure = new CoreException(Status.error("failed"));
+
+    try (DependencyResolutionScheduler scheduler = new DependencyResolutionScheduler(state, 2)) {
+      scheduler.run(List.of(a, b), pom -> {
+        processed.add(pom);
+        throw failure;
+      }, () -> false);
+      fail();
+    } catch(CoreException ex) {
+      assertSame(failure, ex);
+    }
+
+    assertEquals(List.of(a), processed);
+  }
+
+  private IFile pom(String artifactId, String... dependencies) {
+    IFile pom = mock(IFile.class);
+    state.setCapabilities(pom, Set.of(MavenCapability.createMavenArtifact(key(artifactId))));
+    Set<RequiredCapability> requirements = new HashSet<>();
+    for(String dependency : dependencies) {
+      requirements.add(MavenRequiredCapability.createMavenArtifact(key(dependency), "compile", false));
+    }
+    state.setRequirements(pom, requirements);
+    return pom;
+  }
+
+  private static ArtifactKey key(String artifactId) {
+    return new ArtifactKey("org.eclipse.m2e.test", artifactId, "1.0", null);
+  }
+}
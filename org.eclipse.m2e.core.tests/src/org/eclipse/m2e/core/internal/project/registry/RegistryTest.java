@@ -16,12 +16,18 @@ package org.eclipse.m2e.core.internal.project.registry;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -90,6 +96,118 @@ public class RegistryTest extends AbstractMavenProjectTestCase {
     Assert.assertNotEquals(Collections.emptyMap(), state.requiredCapabilities);
   }
 
+  @Test
+  public void testParallelRefreshMatchesSequentialRefresh() throws IOException, CoreException, InterruptedException {
+    IProject dependentProject = createExisting("dependent", "resources/projects/dependency/dependent", true);
+    IProject dependencyProject = createExisting("dependency", "resources/projects/dependency/dependency", true);
+    waitForJobsToComplete(monitor);
+    Collection<IFile> pomFiles = List.of(dependentProject.getFile("pom.xml"), dependencyProject.getFile("pom.xml"));
+
+    MutableProjectRegistry sequential = refreshCleared(pomFiles);
+    System.setProperty(DependencyResolutionScheduler.THREADS_PROPERTY, "2");
+    MutableProjectRegistry parallel;
+    try {
+      parallel = refreshCleared(pomFiles);
+    } finally {
+      System.clearProperty(DependencyResolutionScheduler.THREADS_PROPERTY);
+    }
+
+    assertEquals(sequential.projectCapabilities, parallel.projectCapabilities);
+    assertEquals(sequential.projectRequirements, parallel.projectRequirements);
+    for(IFile pom : pomFiles) {
+      Assert.assertNotNull(parallel.getProjectFacade(pom));
+    }
+  }
+
+  private MutableProjectRegistry refreshCleared(Collection<IFile> pomFiles) throws CoreException {
+    ProjectRegistryManager registryManager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+    MutableProjectRegistry state = registryManager.newMutableProjectRegistry();
+    state.clear();
+    MavenImpl.execute(MavenPlugin.getMaven(), false, false, (context, aMonitor) -> {
+      registryManager.refresh(state, pomFiles, aMonitor);
+      return null;
+    }, monitor);
+    return state;
+  }
+
+  @Test
+  public void testWorkspaceArtifactsIndex() throws IOException, CoreException, InterruptedException {
+    IProject dependencyProject = createExisting("dependency", "resources/projects/dependency/dependency", true);
+    waitForJobsToComplete(monitor);
+    ProjectRegistryManager registryManager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+    IFile pom = dependencyProject.getFile("pom.xml");
+    ArtifactKey key = new ArtifactKey("org.eclipse.m2e.core.test.registrymanager", "dependency", "0.0.1", null);
+    try (MutableProjectRegistry state = registryManager.newMutableProjectRegistry()) {
+      assertEquals(Map.of(key, Set.of(pom)), state.getWorkspaceArtifacts(key.groupId(), key.artifactId()));
+      assertEquals(Map.of(), state.getWorkspaceArtifacts(key.groupId(), "dependent"));
+
+      state.removeProject(pom, key);
+      assertEquals(Map.of(), state.getWorkspaceArtifacts(key.groupId(), key.artifactId()));
+    }
+  }
+
+  @Test
+  public void testWorkspaceStateRoundTrip() throws IOException, CoreException, InterruptedException {
+    IProject dependentProject = createExisting("dependent", "resources/projects/dependency/dependent", true);
+    IProject dependencyProject = createExisting("dependency", "resources/projects/dependency/dependency", true);
+    waitForJobsToComplete(monitor);
+    ProjectRegistryManager registryManager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+    ProjectRegistry state = new ProjectRegistry();
+    try (MutableProjectRegistry current = registryManager.newMutableProjectRegistry()) {
+      state.replaceWith(current);
+    }
+    File stateLocation = Files.createTempDirectory("m2e-state").toFile();
+    ProjectRegistryReader reader = new ProjectRegistryReader();
+    reader.setStateLocation(stateLocation);
+    reader.writeWorkspaceState(state);
+    ProjectRegistry restored = reader.readWorkspaceState(registryManager);
+
+    Assert.assertNotNull(restored);
+    assertEquals(state.workspacePoms.keySet(), restored.workspacePoms.keySet());
+    assertEquals(state.workspaceArtifacts, restored.workspaceArtifacts);
+    assertEquals(state.projectCapabilities, restored.projectCapabilities);
+    assertEquals(state.projectRequirements, restored.projectRequirements);
+    assertEquals(state.requiredCapabilities, restored.requiredCapabilities);
+    IFile pom = dependentProject.getFile("pom.xml");
+    MavenProjectFacade facade = restored.getProjectFacade(pom);
+    assertEquals(state.getProjectFacade(pom).getArtifactKey(), facade.getArtifactKey());
+    assertEquals(state.getProjectFacade(pom).getMojoExecutionMapping().keySet(),
+        facade.getMojoExecutionMapping().keySet());
+    Assert.assertNotNull(restored.getProjectFacade(dependencyProject.getFile("pom.xml")));
+  }
+
+  @Test
+  public void testWorkspaceStateJournal() throws IOException, CoreException, InterruptedException {
+    IProject dependencyProject = createExisting("dependency", "resources/projects/dependency/dependency", true);
+    waitForJobsToComplete(monitor);
+    ProjectRegistryManager registryManager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+    IFile pom = dependencyProject.getFile("pom.xml");
+    ProjectRegistry state = new ProjectRegistry();
+    try (MutableProjectRegistry current = registryManager.newMutableProjectRegistry()) {
+      state.replaceWith(current);
+    }
+    File stateLocation = Files.createTempDirectory("m2e-state").toFile();
+    ProjectRegistryReader reader = new ProjectRegistryReader();
+    reader.setStateLocation(stateLocation);
+    reader.writeWorkspaceState(state);
+
+    try (MutableProjectRegistry changes = new MutableProjectRegistry(state)) {
+      changes.removeProject(pom, state.getProjectFacade(pom).getArtifactKey());
+      state.apply(changes);
+      Assert.assertFalse(reader.appendToJournal(changes));
+    }
+    // a crash during the next append leaves a partial record behind
+    Files.write(new File(stateLocation, "workspaceState.journal").toPath(), new byte[] {0, 0, 1},
+        StandardOpenOption.APPEND);
+
+    ProjectRegistry restored = reader.readWorkspaceState(registryManager);
+    Assert.assertNotNull(restored);
+    Assert.assertNull(restored.getProjectFacade(pom));
+    assertEquals(state.workspacePoms.keySet(), restored.workspacePoms.keySet());
+    assertEquals(state.projectRequirements, restored.projectRequirements);
+    assertEquals(state.requiredCapabilities, restored.requiredCapabilities);
+  }
+
   @Ignore(value = "This test doesn't manage to reproduce Bug 547172 while similar manual steps do lead to an error")
   @Test
   public void testInvalidParent() throws IOException, CoreException, InterruptedException {
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+
+public class LocalProjectScannerTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testProjectsAreListedInFolderOrder() throws Exception {
+    for(int i = 0; i < 20; i++ ) {
+      project("project" + i);
+    }
+    File root = folder.getRoot();
+    List<String> expected = Arrays.stream(root.listFiles(File::isDirectory)).map(File::getName).toList();
+
+    LocalProjectScanner scanner = scan(List.of(root));
+
+    assertEquals(expected, artifactIds(scanner.getProjects()));
+  }
+
+  @Test
+  public void testRootFoldersAreListedInGivenOrder() throws Exception {
+    File z = project("z");
+    File a = project("a");
+    File m = project("m");
+
+    LocalProjectScanner scanner = scan(List.of(z, a, m));
+
+    assertEquals(List.of("z", "a", "m"), artifactIds(scanner.getProjects()));
+  }
+
+  @Test
+  public void testModulesKeepTheirOrder() throws Exception {
+    project("parent", "m2", "m1", "m3");
+    project("parent/m1");
+    project("parent/m2");
+    project("parent/m3");
+    // a nested project that is not a module is not found
+    project("parent/other");
+
+    LocalProjectScanner scanner = scan(List.of(folder.getRoot()));
+
+    assertEquals(List.of("parent"), artifactIds(scanner.getProjects()));
+    MavenProjectInfo parent = scanner.getProjects().get(0);
+    assertEquals(List.of("m2", "m1", "m3"), artifactIds(parent.getProjects()));
+    assertTrue(scanner.getErrors().isEmpty());
+  }
+
+  @Test
+  public void testDefaultExcludedFolders() throws Exception {
+    project("found");
+    project(".git/hidden");
+    project("node_modules/module");
+    project(".metadata/workspace");
+
+    LocalProjectScanner scanner = scan(List.of(folder.getRoot()));
+
+    assertEquals(List.of("found"), artifactIds(scanner.getProjects()));
+  }
+
+  @Test
+  public void testCustomExcludedFolders() throws Exception {
+    project("found");
+    project("skipped");
+    project("sub/skip-me/project");
+    project(".git/hidden");
+    project(".metadata/workspace");
+
+    LocalProjectScanner scanner = new LocalProjectScanner(List.of(folder.getRoot().toString()), false,
+        MavenPlugin.getMavenModelManager());
+    scanner.setExcludedFolders(List.of("skip*", " "));
+    scanner.run(new NullProgressMonitor());
+
+    assertEquals(new HashSet<>(List.of("found", "hidden")), new HashSet<>(artifactIds(scanner.getProjects())));
+  }
+
+  @Test
+  public void testProjectListenerIsNotifiedOfEachProject() throws Exception {
+    for(int i = 0; i < 10; i++ ) {
+      project("group" + i % 3 + "/project" + i);
+    }
+    project("group0/project0/module");
+    List<MavenProjectInfo> notified = new CopyOnWriteArrayList<>();
+
+    LocalProjectScanner scanner = new LocalProjectScanner(List.of(folder.getRoot().toString()), false,
+        MavenPlugin.getMavenModelManager());
+    scanner.addProjectListener(notified::add);
+    scanner.run(new NullProgressMonitor());
+
+    assertEquals(10, scanner.getProjects().size());
+    assertEquals(new HashSet<>(scanner.getProjects()), new HashSet<>(notified));
+    assertEquals(scanner.getProjects().size(), notified.size());
+  }
+
+  private static LocalProjectScanner scan(List<File> folders) throws InterruptedException {
+    LocalProjectScanner scanner = new LocalProjectScanner(folders.stream().map(File::toString).toList(), false,
+        MavenPlugin.getMavenModelManager());
+    scanner.run(new NullProgressMonitor());
+    return scanner;
+  }
+
+  private File project(String path, String... modules) throws IOException {
+    File dir = new File(folder.getRoot(), path);
+    dir.mkdirs();
+    StringBuilder pom = new StringBuilder();
+    pom.append("<project><modelVersion>4.0.0</modelVersion>");
+    pom.append("<groupId>test</groupId><artifactId>").append(dir.getName()).append("</artifactId>");
+    pom.append("<version>1.0</version>");
+    if(modules.length > 0) {
+      pom.append("<packaging>pom</packaging><modules>");
+      for(String module : modules) {
+        pom.append("<module>").append(module).append("</module>");
+      }
+      pom.append("</modules>");
+    }
+    pom.append("</project>");
+    Files.writeString(new File(dir, "pom.xml").toPath(), pom);
+    return dir;
+  }
+
+  private static List<String> artifactIds(Iterable<MavenProjectInfo> projects) {
+    List<String> artifactIds = new ArrayList<>();
+    projects.forEach(project -> artifactIds.add(project.getModel().getArtifactId()));
+    return artifactIds;
+  }
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.internal.launch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge;
+import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge.MavenBuildConnection;
+import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge.MavenBuildEvent;
+import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge.MavenProjectBuildData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@SuppressWarnings("restriction")
+public class M2EMavenBuildDataBridgeTest {
+
+	private static final String PORT_PROPERTY = "m2e.build.project.data.socket.port";
+
+	private final List<MavenBuildEvent> events = new CopyOnWriteArrayList<>();
+
+	private final CompletableFuture<Void> readCompleted = new CompletableFuture<>();
+
+	private MavenBuildConnection connection;
+
+	@Before
+	public void setUp() throws Exception {
+		connection = M2EMavenBuildDataBridge.prepareConnection("test", events::add);
+		connection.whenReadCompleted(() -> readCompleted.complete(null));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		System.clearProperty(PORT_PROPERTY);
+		connection.close();
+	}
+
+	@Test
+	public void testProjectStarted() throws Exception {
+		MavenProject project = project();
+		project.setFile(new File("/project/pom.xml"));
+		project.getBuild().setDirectory("/project/target");
+
+		send(event(ExecutionEvent.Type.ProjectStarted, project, null));
+
+		assertEquals(1, events.size());
+		MavenBuildEvent event = events.get(0);
+		assertEquals(MavenBuildEvent.Type.PROJECT_STARTED, event.type);
+		assertEquals("group", event.groupId);
+		assertEquals("artifact", event.artifactId);
+		assertEquals("1.0", event.version);
+		MavenProjectBuildData data = event.projectData;
+		assertEquals(Path.of("/project/pom.xml").toAbsolutePath(), data.projectFile.toAbsolutePath());
+		assertEquals(Path.of("/project").toAbsolutePath(), data.projectBasedir.toAbsolutePath());
+		assertEquals(Path.of("/project/target"), data.projectBuildDirectory);
+	}
+
+	@Test
+	public void testProjectStartedWithoutPaths() throws Exception {
+		send(event(ExecutionEvent.Type.ProjectStarted, project(), null),
+				event(ExecutionEvent.Type.ProjectSucceeded, project(), null));
+
+		assertEquals(2, events.size());
+		MavenProjectBuildData data = events.get(0).projectData;
+		assertNull(data.projectFile);
+		assertNull(data.projectBasedir);
+		assertNull(data.projectBuildDirectory);
+		assertEquals(MavenBuildEvent.Type.PROJECT_SUCCEEDED, events.get(1).type);
+	}
+
+	@Test
+	public void testMojoAndSessionEvents() throws Exception {
+		MojoExecution mojo = mock(MojoExecution.class);
+		when(mojo.getGroupId()).thenReturn("org.apache.maven.plugins");
+		when(mojo.getArtifactId()).thenReturn("maven-compiler-plugin");
+		when(mojo.getVersion()).thenReturn("3.11.0");
+		when(mojo.getGoal()).thenReturn("compile");
+
+		send(event(ExecutionEvent.Type.MojoStarted, project(), mojo),
+				event(ExecutionEvent.Type.SessionEnded, null, null));
+
+		assertEquals(2, events.size());
+		MavenBuildEvent event = events.get(0);
+		assertEquals(MavenBuildEvent.Type.MOJO_STARTED, event.type);
+		assertEquals("org.apache.maven.plugins:maven-compiler-plugin:3.11.0:compile", event.mojo);
+		assertNull(event.executionId);
+		assertNull(event.projectData);
+		MavenBuildEvent sessionEnded = events.get(1);
+		assertEquals(MavenBuildEvent.Type.SESSION_ENDED, sessionEnded.type);
+		assertNull(sessionEnded.groupId);
+		assertTrue(events.get(0).nanoTime <= sessionEnded.nanoTime);
+	}
+
+	@Test
+	public void testOversizedFrameEndsReading() throws Exception {
+		try (SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+				Integer.parseInt(port())))) {
+			ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MAX_VALUE);
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			readCompleted.get(10, TimeUnit.SECONDS);
+		}
+		assertTrue(events.isEmpty());
+	}
+
+	private void send(ExecutionEvent... executionEvents) throws Exception {
+		System.setProperty(PORT_PROPERTY, port());
+		M2EMavenBuildDataBridge bridge = new M2EMavenBuildDataBridge();
+		bridge.init(null);
+		try {
+			for (ExecutionEvent event : executionEvents) {
+				bridge.onEvent(event);
+			}
+		} finally {
+			bridge.close();
+		}
+		readCompleted.get(10, TimeUnit.SECONDS);
+	}
+
+	private String port() throws Exception {
+		String arguments = connection.getMavenVMArguments();
+		return arguments.substring(arguments.indexOf('=') + 1);
+	}
+
+	private static MavenProject project() {
+		MavenProject project = new MavenProject();
+		project.setGroupId("group");
+		project.setArtifactId("artifact");
+		project.setVersion("1.0");
+		return project;
+	}
+
+	private static ExecutionEvent event(ExecutionEvent.Type type, MavenProject project, MojoExecution mojo) {
+		ExecutionEvent event = mock(ExecutionEvent.class);
+		when(event.getType()).thenReturn(type);
+		when(event.getProject()).thenReturn(project);
+		when(event.getMojoExecution()).thenReturn(mojo);
+		return event;
+	}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.internal.markers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.junit.Test;
+
+
+public class PomPositionIndexTest {
+
+  private static final String POM = "<project>%n  <modelVersion>4.0.0</modelVersion>%n%n"
+      + "  <artifactId>test</artifactId>%n</project>%n";
+
+  @Test
+  public void testLineFeed() throws Exception {
+    assertSameLines(POM.replace("%n", "\n"));
+  }
+
+  @Test
+  public void testCarriageReturnLineFeed() throws Exception {
+    assertSameLines(POM.replace("%n", "\r\n"));
+  }
+
+  @Test
+  public void testCarriageReturn() throws Exception {
+    assertSameLines(POM.replace("%n", "\r"));
+  }
+
+  @Test
+  public void testMixedDelimiters() throws Exception {
+    assertSameLines("<project>\n\r<a/>\r\n\n<b/>\r\r\n</project>");
+  }
+
+  @Test
+  public void testByteOrderMark() throws Exception {
+    String content = POM.replace("%n", "\r\n");
+    // the structured model of the pom does not contain the byte order mark
+    assertSameLines(new Document(content), PomPositionIndex.read(new StringReader('\uFEFF' + content), 0));
+  }
+
+  @Test
+  public void testDelimiterSplitAcrossBuffers() throws Exception {
+    StringBuilder content = new StringBuilder("<project>\r\n");
+    while(content.length() < 8191) {
+      content.append(' ');
+    }
+    // the \r is the last character of the first buffer, the \n the first of the next one
+    content.append("\r\n</project>\r\n");
+    assertEquals('\r', content.charAt(8191));
+    assertSameLines(content.toString());
+  }
+
+  @Test
+  public void testUnknownLine() throws Exception {
+    PomPositionIndex index = PomPositionIndex.read(new StringReader("<project/>"), 0);
+
+    assertThrows(BadLocationException.class, () -> index.getLineInformation(1));
+    assertThrows(BadLocationException.class, () -> index.getLineInformation(-1));
+  }
+
+  private static void assertSameLines(String content) throws IOException, BadLocationException {
+    assertSameLines(new Document(content), PomPositionIndex.read(new StringReader(content), 0));
+  }
+
+  private static void assertSameLines(IDocument document, PomPositionIndex index) throws BadLocationException {
+    for(int line = 0; line < document.getNumberOfLines(); line++ ) {
+      IRegion expected = document.getLineInformation(line);
+      IRegion actual = index.getLineInformation(line);
+      assertEquals("offset of line " + line, expected.getOffset(), actual.getOffset());
+      assertEquals("length of line " + line, expected.getLength(), actual.getLength());
+    }
+    assertThrows(BadLocationException.class, () -> index.getLineInformation(document.getNumberOfLines()));
+  }
+}
@@ -58,6 +58,7 @@ import org.eclipse.m2e.core.internal.lifecyclemapping.discovery.IMavenDiscovery;
 import org.eclipse.m2e.core.ui.internal.archetype.ArchetypePlugin;
 import org.eclipse.m2e.core.ui.internal.console.MavenConsoleImpl;
 import org.eclipse.m2e.core.ui.internal.project.MavenUpdateConfigurationChangeListener;
+import org.eclipse.m2e.core.ui.internal.search.util.IndexSearchEngine;
 import org.eclipse.m2e.core.ui.internal.search.util.SearchEngine;
 import org.eclipse.m2e.core.ui.internal.wizards.IMavenDiscoveryUI;
 
@@ -72,6 +73,8 @@ public class M2EUIPluginActivator extends AbstractUIPlugin {
 
   private ServiceTracker<ArchetypePlugin, ArchetypePlugin> archetypeManager;
 
+  private final SearchEngine searchEngine = new IndexSearchEngine();
+
   /**
    * Storage for preferences.
    */
@@ -167,7 +170,7 @@ public class M2EUIPluginActivator extends AbstractUIPlugin {
   }
 
   public SearchEngine getSearchEngine(IProject project) {
-    return null; // used to be only Index based search, need to hook other engines
+    return searchEngine;
   }
 
   public synchronized IMavenDiscovery getMavenDiscovery() {
@@ -965,6 +965,28 @@ public class Messages extends NLS {
 
   public static String BuildDebugView_errorDescription;
 
+  public static String MavenMetricsView_actionExport;
+
+  public static String MavenMetricsView_actionRefresh;
+
+  public static String MavenMetricsView_actionReset;
+
+  public static String MavenMetricsView_cacheCount;
+
+  public static String MavenMetricsView_columnCount;
+
+  public static String MavenMetricsView_columnMax;
+
+  public static String MavenMetricsView_columnName;
+
+  public static String MavenMetricsView_columnTotal;
+
+  public static String MavenMetricsView_errorExport;
+
+  public static String MavenMetricsView_errorTitle;
+
+  public static String MavenMetricsView_nodeCaches;
+
   public static String UpdateMavenProjectsDialog_btnRefreshFromLocal_text;
 
   public static String AssignWorkingSetDialog_btnFilterAssignedProjects_text;
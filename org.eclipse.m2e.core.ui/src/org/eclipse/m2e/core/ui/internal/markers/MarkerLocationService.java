@@ -92,7 +92,42 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
 
   @Override
   public void findLocationForMarker(final IMarker marker) {
+    findLocationForMarkers(marker.getResource(), List.of(marker));
+  }
+
+  /**
+   * Reads the line offsets of the pom once for all markers, from the structured model if an editor has it loaded
+   * already, otherwise from the cached {@link PomPositionIndex}.
+   */
+  @Override
+  public void findLocationForMarkers(IResource resource, List<IMarker> markers) {
+    if(!(resource instanceof IFile file) || markers.isEmpty()) {
+      return;
+    }
     IDOMModel domModel = null;
+    try {
+      domModel = (IDOMModel) StructuredModelManager.getModelManager().getExistingModelForRead(file);
+      if(domModel != null) {
+        IStructuredDocument document = domModel.getStructuredDocument();
+        for(IMarker marker : markers) {
+          setCharRange(marker, document::getLineInformation);
+        }
+      } else {
+        PomPositionIndex index = PomPositionIndex.get(file);
+        for(IMarker marker : markers) {
+          setCharRange(marker, index::getLineInformation);
+        }
+      }
+    } catch(Exception e) {
+      log.error(e.getMessage(), e);
+    } finally {
+      if(domModel != null) {
+        domModel.releaseFromRead();
+      }
+    }
+  }
+
+  private static void setCharRange(IMarker marker, LineInformation lines) {
     try {
       Integer lineNumber = (Integer) marker.getAttribute(IMarker.LINE_NUMBER);
       if(lineNumber == null) {
@@ -106,33 +141,24 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
       if(columnEnd == null) {
         return;
       }
-
-      IFile resource = (IFile) marker.getResource();
-      domModel = (IDOMModel) StructuredModelManager.getModelManager().getModelForRead(resource);
-      if(domModel == null) {
-        log.debug("Document is not structured: " + resource);
-        return;
-      }
-      IStructuredDocument document = domModel.getStructuredDocument();
-      int charStart = document.getLineOffset(lineNumber - 1) + columnStart - 1;
-      marker.setAttribute(IMarker.CHAR_START, charStart);
+      IRegion line = lines.getLineInformation(lineNumber - 1);
+      int charStart = line.getOffset() + columnStart - 1;
       int charEnd;
       if(columnEnd > columnStart) {
-        charEnd = document.getLineOffset(lineNumber - 1) + columnEnd;
+        charEnd = line.getOffset() + columnEnd;
       } else {
-        IRegion line = document.getLineInformation(lineNumber - 1);
         charEnd = line.getOffset() + line.getLength();
       }
-      marker.setAttribute(IMarker.CHAR_END, charEnd);
+      marker.setAttributes(new String[] {IMarker.CHAR_START, IMarker.CHAR_END}, new Object[] {charStart, charEnd});
     } catch(Exception e) {
       log.error(e.getMessage(), e);
-    } finally {
-      if(domModel != null) {
-        domModel.releaseFromRead();
-      }
     }
   }
 
+  private interface LineInformation {
+    IRegion getLineInformation(int line) throws BadLocationException;
+  }
+
   public void findLocationForMarker_(final IMarker marker) {
 
     String hint = marker.getAttribute(IMavenConstants.MARKER_ATTR_EDITOR_HINT, null);
@@ -251,8 +277,22 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
   @Override
   public void addEditorHintMarkers(IMavenMarkerManager markerManager, IFile pom, MavenProject mavenProject,
       String type) {
-    checkForSchema(markerManager, pom, type);
-    checkVarious(markerManager, pom, mavenProject, type);
+    IDOMModel domModel = null;
+    try {
+      domModel = (IDOMModel) StructuredModelManager.getModelManager().getModelForRead(pom);
+      if(domModel == null) {
+        //the API claims this return never null but we still see null errors in the log...
+        return;
+      }
+      checkForSchema(markerManager, pom, type, domModel);
+      checkVarious(markerManager, pom, mavenProject, type, domModel);
+    } catch(Exception ex) {
+      log.error("Error loading model of " + pom, ex); //$NON-NLS-1$
+    } finally {
+      if(domModel != null) {
+        domModel.releaseFromRead();
+      }
+    }
   }
 
   /**
@@ -261,18 +301,11 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
    *
    * @param mavenMarkerManager
    * @param pomFile
+   * @param domModel the model of the pom, shared by all checks
    */
-  static void checkForSchema(IMavenMarkerManager mavenMarkerManager, IResource pomFile, String type) {
-    IDOMModel domModel = null;
+  static void checkForSchema(IMavenMarkerManager mavenMarkerManager, IResource pomFile, String type,
+      IDOMModel domModel) {
     try {
-      if(!(pomFile instanceof IFile)) {
-        return;
-      }
-      domModel = (IDOMModel) StructuredModelManager.getModelManager().getModelForRead((IFile) pomFile);
-      if(domModel == null) {
-        //the API claims this return never null but we still see null errors in the log...
-        return;
-      }
       IStructuredDocument document = domModel.getStructuredDocument();
 
       // iterate through document regions
@@ -308,10 +341,6 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
       }
     } catch(Exception ex) {
       log.error("Error checking for schema", ex); //$NON-NLS-1$
-    } finally {
-      if(domModel != null) {
-        domModel.releaseFromRead();
-      }
     }
   }
 
@@ -615,18 +644,11 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
    * @param mavenMarkerManager
    * @param pomFile
    * @param mavenProject can be null
+   * @param domModel the model of the pom, shared by all checks
    */
   static void checkVarious(IMavenMarkerManager mavenMarkerManager, IResource pomFile, MavenProject mavenProject,
-      String type) {
-    IDOMModel domModel = null;
+      String type, IDOMModel domModel) {
     try {
-      if(!(pomFile instanceof IFile)) {
-        return;
-      }
-      domModel = (IDOMModel) StructuredModelManager.getModelManager().getModelForRead((IFile) pomFile);
-      if(domModel == null) {
-        return;
-      }
       IStructuredDocument document = domModel.getStructuredDocument();
       Element root = domModel.getDocument().getDocumentElement();
 
@@ -640,10 +662,6 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
       }
     } catch(Exception t) {
       log.error("Error checking for warnings", t); //$NON-NLS-1$
-    } finally {
-      if(domModel != null) {
-        domModel.releaseFromRead();
-      }
     }
   }
 
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.internal.markers;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+
+/**
+ * The character offsets of the lines of a pom, read in a single streaming pass over its content. This is all that is
+ * needed to turn the line and column Maven reports for a problem into the character range of its marker, without
+ * loading a structured model of the pom. The index of a file is cached until its modification stamp changes.
+ */
+final class PomPositionIndex {
+
+  private static final int CACHE_SIZE = Integer.getInteger("m2e.markers.positionIndex.cacheSize", 64); //$NON-NLS-1$
+
+  private static final char BOM = '\uFEFF';
+
+  private static final Map<IFile, PomPositionIndex> cache = Collections
+      .synchronizedMap(new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<IFile, PomPositionIndex> eldest) {
+          return size() > CACHE_SIZE;
+        }
+      });
+
+  private final long modificationStamp;
+
+  private int[] lineOffsets = new int[64];
+
+  private int[] lineLengths = new int[64];
+
+  private int lines;
+
+  private PomPositionIndex(long modificationStamp) {
+    this.modificationStamp = modificationStamp;
+  }
+
+  /**
+   * Returns the index of the current content of the given file.
+   */
+  static PomPositionIndex get(IFile file) throws CoreException, IOException {
+    long modificationStamp = file.getModificationStamp();
+    PomPositionIndex index = cache.get(file);
+    if(index == null || index.modificationStamp != modificationStamp) {
+      try (Reader reader = new InputStreamReader(file.getContents(true), file.getCharset())) {
+        index = read(reader, modificationStamp);
+      }
+      cache.put(file, index);
+    }
+    return index;
+  }
+
+  static PomPositionIndex read(Reader reader, long modificationStamp) throws IOException {
+    PomPositionIndex index = new PomPositionIndex(modificationStamp);
+    char[] buffer = new char[8192];
+    int offset = 0;
+    int lineStart = 0;
+    boolean cr = false;
+    boolean first = true;
+    for(int read = reader.read(buffer); read >= 0; read = reader.read(buffer)) {
+      for(int i = 0; i < read; i++ ) {
+        char c = buffer[i];
+        if(first) {
+          first = false;
+          if(c == BOM) {
+            continue;
+          }
+        }
+        if(c == '\r') {
+          index.addLine(lineStart, offset - lineStart);
+          lineStart = offset + 1;
+        } else if(c == '\n') {
+          // the line of a \r\n delimiter already ended with the \r
+          if(!cr) {
+            index.addLine(lineStart, offset - lineStart);
+          }
+          lineStart = offset + 1;
+        }
+        cr = c == '\r';
+        offset++ ;
+      }
+    }
+    index.addLine(lineStart, offset - lineStart);
+    return index;
+  }
+
+  private void addLine(int offset, int length) {
+    if(lines == lineOffsets.length) {
+      lineOffsets = Arrays.copyOf(lineOffsets, lines * 2);
+      lineLengths = Arrays.copyOf(lineLengths, lines * 2);
+    }
+    lineOffsets[lines] = offset;
+    lineLengths[lines] = length;
+    lines++ ;
+  }
+
+  /**
+   * Returns the offset and the length without delimiter of the given zero based line, like
+   * {@link org.eclipse.jface.text.IDocument#getLineInformation(int)} does for the structured model of the pom.
+   */
+  IRegion getLineInformation(int line) throws BadLocationException {
+    if(line < 0 || line >= lines) {
+      throw new BadLocationException("No line " + line); //$NON-NLS-1$
+    }
+    return new Region(lineOffsets[line], lineLengths[line]);
+  }
+}
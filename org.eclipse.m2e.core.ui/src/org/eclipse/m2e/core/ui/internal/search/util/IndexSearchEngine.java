@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.internal.search.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.MavenPluginActivator;
+import org.eclipse.m2e.core.internal.index.ArtifactCoordinates;
+import org.eclipse.m2e.core.internal.index.IIndex;
+import org.eclipse.m2e.core.internal.index.LocalRepositoryIndex;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+
+
+/**
+ * Search engine answering from the coordinates of the local repository index and of the Maven projects in the
+ * workspace. All expressions are prefixes.
+ */
+public class IndexSearchEngine implements SearchEngine {
+
+  private static final Comparator<String> NEWEST_FIRST = Comparator
+      .comparing((String version) -> new ComparableVersion(version)).reversed();
+
+  @Override
+  public Collection<String> findGroupIds(String searchExpression, Packaging packaging,
+      ArtifactInfo containingArtifact) {
+    String prefix = nes(searchExpression);
+    String packagingName = getPackaging(packaging);
+    Set<String> result = new TreeSet<>();
+    for(ArtifactKey key : getWorkspaceArtifacts(packagingName)) {
+      if(key.groupId().startsWith(prefix)) {
+        result.add(key.groupId());
+      }
+    }
+    ArtifactCoordinates coordinates = getCoordinates();
+    if(coordinates != null) {
+      result.addAll(coordinates.findGroupIds(prefix, packagingName, IIndex.MAX_RESULTS));
+    }
+    return result;
+  }
+
+  @Override
+  public Collection<String> findArtifactIds(String groupId, String searchExpression, Packaging packaging,
+      ArtifactInfo containingArtifact) {
+    String prefix = nes(searchExpression);
+    String packagingName = getPackaging(packaging);
+    Set<String> result = new TreeSet<>();
+    for(ArtifactKey key : getWorkspaceArtifacts(packagingName)) {
+      if(key.groupId().equals(groupId) && key.artifactId().startsWith(prefix)) {
+        result.add(key.artifactId());
+      }
+    }
+    ArtifactCoordinates coordinates = getCoordinates();
+    if(coordinates != null && groupId != null) {
+      result.addAll(coordinates.findArtifactIds(groupId, prefix, packagingName));
+    }
+    return result;
+  }
+
+  @Override
+  public Collection<String> findVersions(String groupId, String artifactId, String searchExpression,
+      Packaging packaging) {
+    String prefix = nes(searchExpression);
+    ArtifactCoordinates coordinates = getCoordinates();
+    List<String> result = new ArrayList<>();
+    if(coordinates != null && groupId != null && artifactId != null) {
+      result.addAll(coordinates.findVersions(groupId, artifactId, prefix));
+    }
+    boolean added = false;
+    for(ArtifactKey key : getWorkspaceArtifacts(getPackaging(packaging))) {
+      if(key.groupId().equals(groupId) && key.artifactId().equals(artifactId) && key.version().startsWith(prefix)
+          && !result.contains(key.version())) {
+        result.add(key.version());
+        added = true;
+      }
+    }
+    if(added) {
+      result.sort(NEWEST_FIRST);
+    }
+    return result;
+  }
+
+  @Override
+  public Collection<String> findClassifiers(String groupId, String artifactId, String version, String prefix,
+      Packaging packaging) {
+    ArtifactCoordinates coordinates = getCoordinates();
+    if(coordinates == null || groupId == null || artifactId == null || version == null) {
+      return List.of();
+    }
+    return coordinates.findClassifiers(groupId, artifactId, version, nes(prefix));
+  }
+
+  @Override
+  public Collection<String> findTypes(String groupId, String artifactId, String version, String prefix,
+      Packaging packaging) {
+    ArtifactCoordinates coordinates = getCoordinates();
+    if(coordinates == null || groupId == null || artifactId == null || version == null) {
+      return List.of();
+    }
+    return coordinates.findTypes(groupId, artifactId, version, nes(prefix));
+  }
+
+  private static ArtifactCoordinates getCoordinates() {
+    if(MavenPluginActivator.getDefault().getIndex() instanceof LocalRepositoryIndex index) {
+      return index.getArtifactCoordinates();
+    }
+    return null;
+  }
+
+  private static List<ArtifactKey> getWorkspaceArtifacts(String packaging) {
+    List<ArtifactKey> result = new ArrayList<>();
+    for(IMavenProjectFacade facade : MavenPlugin.getMavenProjectRegistry().getProjects()) {
+      if(packaging == null || packaging.equals(facade.getPackaging())) {
+        result.add(facade.getArtifactKey());
+      }
+    }
+    return result;
+  }
+
+  private static String getPackaging(Packaging packaging) {
+    if(packaging == Packaging.PLUGIN) {
+      return "maven-plugin"; //$NON-NLS-1$
+    } else if(packaging == Packaging.POM) {
+      return "pom"; //$NON-NLS-1$
+    }
+    return null;
+  }
+
+  private static String nes(String str) {
+    return str != null ? str : ""; //$NON-NLS-1$
+  }
+}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.internal.views;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.action.IToolBarManager;
+import org.eclipse.jface.dialogs.ErrorDialog;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ITableLabelProvider;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.TreeViewerColumn;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.ui.IActionBars;
+import org.eclipse.ui.part.ViewPart;
+
+import org.eclipse.m2e.core.internal.metrics.Metrics;
+import org.eclipse.m2e.core.internal.metrics.Metrics.Histogram;
+import org.eclipse.m2e.core.ui.internal.MavenImages;
+import org.eclipse.m2e.core.ui.internal.Messages;
+
+
+/**
+ * Shows the phase timers of each project and the cache counters collected by {@link Metrics}.
+ */
+public class MavenMetricsView extends ViewPart {
+
+  /*package*/TreeViewer viewer;
+
+  @Override
+  public void createPartControl(Composite parent) {
+    viewer = new TreeViewer(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
+    Tree tree = viewer.getTree();
+    tree.setHeaderVisible(true);
+    tree.setLinesVisible(true);
+
+    addColumn(Messages.MavenMetricsView_columnName, 400);
+    addColumn(Messages.MavenMetricsView_columnCount, 160);
+    addColumn(Messages.MavenMetricsView_columnTotal, 100);
+    addColumn(Messages.MavenMetricsView_columnMax, 100);
+
+    viewer.setLabelProvider(new RowLabelProvider());
+    viewer.setContentProvider(new ITreeContentProvider() {
+
+      @Override
+      public Object[] getElements(Object inputElement) {
+        return ArrayContentProvider.getInstance().getElements(inputElement);
+      }
+
+      @Override
+      public Object[] getChildren(Object parentElement) {
+        return ((Row) parentElement).children().toArray();
+      }
+
+      @Override
+      public Object getParent(Object element) {
+        return null;
+      }
+
+      @Override
+      public boolean hasChildren(Object element) {
+        return !((Row) element).children().isEmpty();
+      }
+    });
+
+    IActionBars actionBars = getViewSite().getActionBars();
+    IToolBarManager toolBar = actionBars.getToolBarManager();
+    Action refreshAction = new Action(Messages.MavenMetricsView_actionRefresh, MavenImages.REFRESH) {
+      @Override
+      public void run() {
+        refresh();
+      }
+    };
+    Action resetAction = new Action(Messages.MavenMetricsView_actionReset, MavenImages.CLEAR) {
+      @Override
+      public void run() {
+        Metrics.reset();
+        refresh();
+      }
+    };
+    Action exportAction = new Action(Messages.MavenMetricsView_actionExport) {
+      @Override
+      public void run() {
+        export();
+      }
+    };
+    toolBar.add(refreshAction);
+    toolBar.add(resetAction);
+    actionBars.getMenuManager().add(exportAction);
+    actionBars.updateActionBars();
+
+    refresh();
+  }
+
+  private void addColumn(String text, int width) {
+    TreeViewerColumn column = new TreeViewerColumn(viewer, SWT.NONE);
+    column.getColumn().setText(text);
+    column.getColumn().setWidth(width);
+  }
+
+  /*package*/void refresh() {
+    List<Row> rows = new ArrayList<>();
+    Metrics.getTimers().forEach((phase, projects) -> {
+      List<Row> projectRows = new ArrayList<>();
+      long count = 0;
+      long total = 0;
+      long max = 0;
+      for(var entry : projects.entrySet()) {
+        Histogram histogram = entry.getValue();
+        projectRows.add(new Row(entry.getKey(), Long.toString(histogram.getCount()),
+            Long.toString(histogram.getTotalMillis()), Long.toString(histogram.getMaxMillis()), List.of()));
+        count += histogram.getCount();
+        total += histogram.getTotalMillis();
+        max = Math.max(max, histogram.getMaxMillis());
+      }
+      rows.add(new Row(phase, Long.toString(count), Long.toString(total), Long.toString(max), projectRows));
+    });
+    List<Row> cacheRows = new ArrayList<>();
+    Metrics.getCacheCounters().forEach((cache, counter) -> {
+      String count = NLS.bind(Messages.MavenMetricsView_cacheCount, counter.getHits(), counter.getMisses());
+      cacheRows.add(new Row(cache, count, null, null, List.of()));
+    });
+    if(!cacheRows.isEmpty()) {
+      rows.add(new Row(Messages.MavenMetricsView_nodeCaches, null, null, null, cacheRows));
+    }
+    viewer.setInput(rows);
+  }
+
+  /*package*/void export() {
+    FileDialog dialog = new FileDialog(getSite().getShell(), SWT.SAVE);
+    dialog.setFilterExtensions(new String[] {"*.json"}); //$NON-NLS-1$
+    dialog.setFileName("m2e-metrics.json"); //$NON-NLS-1$
+    dialog.setOverwrite(true);
+    String file = dialog.open();
+    if(file != null) {
+      try {
+        Files.writeString(Path.of(file), Metrics.toJson());
+      } catch(IOException ex) {
+        ErrorDialog.openError(getSite().getShell(), Messages.MavenMetricsView_errorTitle,
+            Messages.MavenMetricsView_errorExport, Status.error(ex.getMessage(), ex));
+      }
+    }
+  }
+
+  @Override
+  public void setFocus() {
+    viewer.getTree().setFocus();
+  }
+
+  private record Row(String name, String count, String total, String max, List<Row> children) {
+  }
+
+  private static class RowLabelProvider extends LabelProvider implements ITableLabelProvider {
+
+    @Override
+    public String getColumnText(Object element, int columnIndex) {
+      Row row = (Row) element;
+      return switch(columnIndex) {
+        case 0 -> row.name();
+        case 1 -> row.count();
+        case 2 -> row.total();
+        case 3 -> row.max();
+        default -> null;
+      };
+    }
+
+    @Override
+    public Image getColumnImage(Object element, int columnIndex) {
+      return null;
+    }
+  }
+}
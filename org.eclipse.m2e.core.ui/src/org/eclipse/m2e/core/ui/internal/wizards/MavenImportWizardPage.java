@@ -388,6 +388,17 @@ public class MavenImportWizardPage extends AbstractMavenWizardPage {
 
   public void scanProjects() {
     final AbstractProjectScanner<MavenProjectInfo> projectScanner = getProjectScanner();
+    // show the projects while they are found
+    List<MavenProjectInfo> foundProjects = new ArrayList<>();
+    projectTreeViewer.setInput(foundProjects);
+    Display display = projectTreeViewer.getControl().getDisplay();
+    projectScanner.addProjectListener(project -> display.asyncExec(() -> {
+      if(!projectTreeViewer.getControl().isDisposed() && projectTreeViewer.getInput() == foundProjects) {
+        foundProjects.add(project);
+        projectTreeViewer.refresh();
+        projectTreeViewer.expandAll();
+      }
+    }));
     try {
       getWizard().getContainer().run(true, true, monitor -> projectScanner.run(monitor));
 
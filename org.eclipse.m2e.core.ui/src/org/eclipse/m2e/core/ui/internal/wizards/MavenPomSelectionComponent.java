@@ -15,12 +15,14 @@ package org.eclipse.m2e.core.ui.internal.wizards;
 
 import java.text.DateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -67,6 +69,7 @@ import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.index.IIndex;
 import org.eclipse.m2e.core.internal.index.IndexedArtifact;
 import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
+import org.eclipse.m2e.core.internal.index.UserInputSearchExpression;
 import org.eclipse.m2e.core.internal.index.filter.ArtifactFilterManager;
 import org.eclipse.m2e.core.internal.jobs.MavenJob;
 import org.eclipse.m2e.core.ui.internal.M2EUIPluginActivator;
@@ -398,7 +401,6 @@ public class MavenPomSelectionComponent extends Composite {
 
     private String query;
 
-    @SuppressWarnings("unused") //TODO: remove if search-capability is not restored
     private final String field;
 
     private volatile boolean stop = false;
@@ -427,8 +429,21 @@ public class MavenPomSelectionComponent extends Composite {
       if(query != null) {
         String activeQuery = query;
         setResult(IStatus.OK, NLS.bind(Messages.MavenPomSelectionComponent_searching, activeQuery.toLowerCase()), null);
+        int classifier = showClassifiers() ? IIndex.SEARCH_ALL : IIndex.SEARCH_JARS;
+        try {
+          Map<String, IndexedArtifact> result = MavenPluginActivator.getDefault().getIndex()
+              .search(new UserInputSearchExpression(activeQuery), field, classifier);
+          if(result.size() > IIndex.MAX_RESULTS) {
+            setResult(IStatus.ERROR, Messages.MavenPomSelectionComponent_toomany, Collections.emptyMap());
+          } else {
+            setResult(IStatus.OK, NLS.bind(Messages.MavenPomSelectionComponent_results, activeQuery, result.size()),
+                result);
+          }
+        } catch(CoreException ex) {
+          setResult(IStatus.ERROR, NLS.bind(Messages.MavenPomSelectionComponent_error, ex.getMessage()),
+              Collections.emptyMap());
+        }
       }
-      // TODO used to be indexer, replace with Central search
 
       return Status.OK_STATUS;
     }
@@ -60,6 +60,8 @@ import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.embedder.IMaven;
+import org.eclipse.m2e.core.internal.index.IIndex;
+import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
 import org.eclipse.m2e.core.internal.preferences.MavenPreferenceConstants;
 
 
@@ -76,6 +78,10 @@ public class MavenArtifactIdentifier {
     if(classesArtifacts.isEmpty()) {
       // GAV extracted from pom.xml
       classesArtifacts = MetaInfMavenScanner.scanForPomXml(location);
+      if(classesArtifacts.isEmpty()) {
+        // path or checksum-based lookup in the local repository
+        classesArtifacts = identifyLocalRepository(location);
+      }
       if(classesArtifacts.isEmpty() && isQueryCentral()) {
         // checksum-based lookup in central. This can be really slow and the chances are low that, 
         // after we havn't found a pom.xml/.properties embedded into the jar that this exact 
@@ -86,6 +92,20 @@ public class MavenArtifactIdentifier {
     return classesArtifacts;
   }
 
+  private static Set<ArtifactKey> identifyLocalRepository(Path file) {
+    IIndex index = MavenPluginActivator.getDefault().getIndex();
+    if(index == null || !Files.isRegularFile(file)) {
+      return Set.of();
+    }
+    try {
+      IndexedArtifactFile artifactFile = index.identify(file.toFile());
+      return artifactFile != null ? Set.of(artifactFile.getArtifactKey()) : Set.of();
+    } catch(CoreException ex) {
+      LOG.log(Status.error("Failed to identify file using the local repository index: " + file, ex));
+      return Set.of();
+    }
+  }
+
   private static boolean isQueryCentral() {
     return InstanceScope.INSTANCE.getNode(IMavenConstants.PLUGIN_ID)
         .getBoolean(MavenPreferenceConstants.P_QUERY_CENTRAL_TO_IDENTIFY_ARTIFACT, false);
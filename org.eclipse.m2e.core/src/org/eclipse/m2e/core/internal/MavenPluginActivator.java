@@ -37,6 +37,7 @@ import org.apache.maven.project.DefaultProjectBuilder;
 import org.eclipse.m2e.core.embedder.IMaven;
 import org.eclipse.m2e.core.embedder.IMavenConfiguration;
 import org.eclipse.m2e.core.embedder.MavenModelManager;
+import org.eclipse.m2e.core.internal.index.IIndex;
 import org.eclipse.m2e.core.internal.index.filter.ArtifactFilterManager;
 import org.eclipse.m2e.core.internal.launch.MavenRuntimeManagerImpl;
 import org.eclipse.m2e.core.internal.lifecyclemapping.LifecycleMappingFactory;
@@ -118,6 +119,7 @@ public class MavenPluginActivator extends Plugin {
     toDisposeContainers.forEach(PlexusContainer::dispose);
 
     LifecycleMappingFactory.setBundleMetadataSources(null);
+    LifecycleMappingFactory.savePluginEmbeddedMetadata();
 
     plugin = null;
   }
@@ -190,6 +192,10 @@ public class MavenPluginActivator extends Plugin {
     return getService(ArtifactFilterManager.class);
   }
 
+  public IIndex getIndex() {
+    return getService(IIndex.class);
+  }
+
   /**
    * @return
    */
@@ -30,6 +30,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.aether.ConfigurationProperties;
 import org.eclipse.aether.DefaultRepositorySystemSession;
@@ -78,6 +79,7 @@ import org.eclipse.m2e.core.embedder.IMavenExecutionContext;
 import org.eclipse.m2e.core.embedder.MavenSettingsLocations;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.Messages;
+import org.eclipse.m2e.core.internal.embedder.PlexusContainerManager.ContainerLease;
 
 
 /**
@@ -107,6 +109,8 @@ public class MavenExecutionContext implements IMavenExecutionContext {
 
   private File multiModuleProjectDirectory;
 
+  private final Supplier<ContainerLease> containerLease;
+
   /**
    * Creates a new execution context for the given environment.
    * 
@@ -125,10 +129,20 @@ public class MavenExecutionContext implements IMavenExecutionContext {
 
   public MavenExecutionContext(IComponentLookup lookup, File baseDir, File multiModuleProjectDirectory,
       Function<? super MavenExecutionContext, MavenProject> projectSupplier) {
+    this(lookup, baseDir, multiModuleProjectDirectory, projectSupplier, null);
+  }
+
+  /**
+   * Creates a new execution context like {@link #MavenExecutionContext(IComponentLookup, File, File, Function)}, whose
+   * container is leased from the given supplier while the context executes, so that it is not disposed meanwhile.
+   */
+  public MavenExecutionContext(IComponentLookup lookup, File baseDir, File multiModuleProjectDirectory,
+      Function<? super MavenExecutionContext, MavenProject> projectSupplier, Supplier<ContainerLease> containerLease) {
     this.multiModuleProjectDirectory = multiModuleProjectDirectory;
     this.containerLookup = Objects.requireNonNull(lookup);
     this.basedir = baseDir;
     this.projectSupplier = projectSupplier;
+    this.containerLease = containerLease;
   }
 
   @Override
@@ -292,60 +306,62 @@ public class MavenExecutionContext implements IMavenExecutionContext {
       return executeBare(project, callable, monitor);
     }
 
-    // remember original configuration to "pop" the session stack properly
-    final MavenExecutionRequest origRequest = request;
-    final Map<String, Object> origContext = context;
+    try (ContainerLease lease = containerLease != null ? containerLease.get() : null) {
+      // remember original configuration to "pop" the session stack properly
+      final MavenExecutionRequest origRequest = request;
+      final Map<String, Object> origContext = context;
 
-    if(request == null && parent != null) {
-      this.request = parent.request;
-      this.context = new HashMap<>(parent.context);
-    } else {
-      this.context = new HashMap<>();
-      if(request == null) {
-        request = newExecutionRequest();
+      if(request == null && parent != null) {
+        this.request = parent.request;
+        this.context = new HashMap<>(parent.context);
+      } else {
+        this.context = new HashMap<>();
+        if(request == null) {
+          request = newExecutionRequest();
+        }
+        IComponentLookup lookup = getComponentLookup();
+        try {
+          lookup.lookup(MavenExecutionRequestPopulator.class).populateDefaults(request);
+        } catch(MavenExecutionRequestPopulationException ex) {
+          throw new CoreException(Status.error(Messages.MavenImpl_error_read_config, ex));
+        }
+        populateSystemProperties(request);
+        setValue(CTX_LOCALREPOSITORY, request.getLocalRepository());
+        final FilterRepositorySystemSession repositorySession = createRepositorySession(request,
+            MavenPlugin.getMavenConfiguration(), lookup);
+        setValue(CTX_REPOSITORYSESSION, repositorySession);
+        if(parent != null) {
+          repositorySession.setData(parent.getRepositorySession().getData());
+        }
+        final MavenExecutionResult result = new DefaultMavenExecutionResult();
+        setValue(CTX_MAVENSESSION,
+            new MavenSession(lookup.lookup(PlexusContainer.class), repositorySession, request, result));
       }
       IComponentLookup lookup = getComponentLookup();
-      try {
-        lookup.lookup(MavenExecutionRequestPopulator.class).populateDefaults(request);
-      } catch(MavenExecutionRequestPopulationException ex) {
-        throw new CoreException(Status.error(Messages.MavenImpl_error_read_config, ex));
-      }
-      populateSystemProperties(request);
-      setValue(CTX_LOCALREPOSITORY, request.getLocalRepository());
-      final FilterRepositorySystemSession repositorySession = createRepositorySession(request,
-          MavenPlugin.getMavenConfiguration(), lookup);
-      setValue(CTX_REPOSITORYSESSION, repositorySession);
-      if(parent != null) {
-        repositorySession.setData(parent.getRepositorySession().getData());
-      }
-      final MavenExecutionResult result = new DefaultMavenExecutionResult();
-      setValue(CTX_MAVENSESSION,
-          new MavenSession(lookup.lookup(PlexusContainer.class), repositorySession, request, result));
-    }
-    IComponentLookup lookup = getComponentLookup();
 
-    final LegacySupport legacySupport = lookup.lookup(LegacySupport.class);
-    final MavenSession origLegacySession = legacySupport.getSession(); // TODO validate == origSession
+      final LegacySupport legacySupport = lookup.lookup(LegacySupport.class);
+      final MavenSession origLegacySession = legacySupport.getSession(); // TODO validate == origSession
 
-    stack.push(this);
+      stack.push(this);
 
-    final MavenSession session = getSession();
-    legacySupport.setSession(session);
-    final SessionScope sessionScope = lookup.lookup(SessionScope.class);
-    sessionScope.enter();
-    sessionScope.seed(MavenSession.class, session);
+      final MavenSession session = getSession();
+      legacySupport.setSession(session);
+      final SessionScope sessionScope = lookup.lookup(SessionScope.class);
+      sessionScope.enter();
+      sessionScope.seed(MavenSession.class, session);
 
-    try {
-      return executeBare(project, callable, monitor);
-    } finally {
-      sessionScope.exit();
-      stack.pop();
-      if(stack.isEmpty()) {
-        threadLocal.set(null); // TODO decide if this is useful
+      try {
+        return executeBare(project, callable, monitor);
+      } finally {
+        sessionScope.exit();
+        stack.pop();
+        if(stack.isEmpty()) {
+          threadLocal.set(null); // TODO decide if this is useful
+        }
+        legacySupport.setSession(origLegacySession);
+        request = origRequest;
+        context = origContext;
       }
-      legacySupport.setSession(origLegacySession);
-      request = origRequest;
-      context = origContext;
     }
   }
 
@@ -81,6 +81,12 @@ public class MavenProperties {
 
   private static Map<File, MavenProperties> mavenProperties = new ConcurrentHashMap<>();
 
+  /**
+   * The multi-module project directory of each file asked for, cleared by the {@link PlexusContainerManager} whenever a
+   * <code>.mvn</code> folder or a project is added or removed and periodically for folders outside of the workspace.
+   */
+  private static final Map<File, Optional<File>> multiModuleProjectDirectories = new ConcurrentHashMap<>();
+
   private File configFile;
 
   private CommandLine commandline;
@@ -226,6 +232,21 @@ public class MavenProperties {
     if(file == null) {
       return null;
     }
+    Optional<File> directory = multiModuleProjectDirectories.get(file);
+    if(directory == null || directory.filter(d -> !new File(d, IMavenPlexusContainer.MVN_FOLDER).isDirectory())
+        .isPresent()) {
+      // not known yet or its .mvn folder was removed, which is not reported for folders outside of the workspace
+      directory = Optional.ofNullable(findMultiModuleProjectDirectory(file));
+      multiModuleProjectDirectories.put(file, directory);
+    }
+    return directory.orElse(null);
+  }
+
+  static void clearMultiModuleProjectDirectories() {
+    multiModuleProjectDirectories.clear();
+  }
+
+  private static File findMultiModuleProjectDirectory(File file) {
     final File basedir = file.isDirectory() ? file : file.getParentFile();
     IWorkspace workspace = ResourcesPlugin.getWorkspace();
     File workspaceRoot = workspace.getRoot().getLocation().toFile();
@@ -18,17 +18,28 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
@@ -37,12 +48,20 @@ import org.slf4j.LoggerFactory;
 
 import com.google.inject.AbstractModule;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.apache.commons.codec.digest.DigestUtils;
 
 import org.codehaus.plexus.ContainerConfiguration;
 import org.codehaus.plexus.DefaultContainerConfiguration;
@@ -70,6 +89,7 @@ import org.apache.maven.session.scope.internal.SessionScopeModule;
 
 import org.eclipse.m2e.core.embedder.IComponentLookup;
 import org.eclipse.m2e.core.embedder.IMavenConfiguration;
+import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.Messages;
 
 
@@ -77,9 +97,27 @@ import org.eclipse.m2e.core.internal.Messages;
  * The {@link PlexusContainerManager} takes care about creating and caching {@link PlexusContainer}, code should always
  * ask the manager instead of caching container instances as if file-system change containers can also change without
  * notice.
+ * <p>
+ * Containers of different multi-module project directories are created in parallel, callers asking for a container
+ * that is still being created wait for it. Containers whose <code>.mvn</code> folder is removed are disposed when the
+ * workspace reports the change or the periodic check notices it, containers not asked for a while or exceeding the
+ * pool size are disposed in the background. The containers of the Maven projects in the workspace are created in the
+ * background on startup.
+ * </p>
+ * <p>
+ * Code using a container for longer, like a registry refresh, an execution context while it executes or a cached Maven
+ * project referencing its realms, holds a {@link ContainerLease}. Leased containers are never evicted, a container whose <code>.mvn</code> folder is removed
+ * while leased is no longer handed out and disposed when its last lease is closed.
+ * </p>
+ * <p>
+ * Directories with the same core extensions, <code>maven.config</code> and <code>jvm.config</code> share one
+ * container, so memory grows with the number of distinct configurations instead of with the number of directories. The
+ * shared container is disposed when the last of its directories is.
+ * </p>
  */
-@Component(service = PlexusContainerManager.class)
-public class PlexusContainerManager {
+@Component(service = {PlexusContainerManager.class, IResourceChangeListener.class}, property = "event.mask:Integer="
+    + IResourceChangeEvent.POST_CHANGE)
+public class PlexusContainerManager implements IResourceChangeListener {
   private static final ILog LOG = Platform.getLog(PlexusContainerManager.class);
 
   private static final String CONTAINER_CONFIGURATION_NAME = "maven";
@@ -88,9 +126,42 @@ public class PlexusContainerManager {
 
   private static final String PLEXUS_CORE_REALM = "plexus.core";
 
+  private static final String MAVEN_CONFIG_FILENAME = IMavenPlexusContainer.MVN_FOLDER + "/maven.config";
+
+  private static final String JVM_CONFIG_FILENAME = IMavenPlexusContainer.MVN_FOLDER + "/jvm.config";
+
+  /**
+   * Maximum number of containers of multi-module project directories kept, the least recently used are disposed
+   */
+  static final int MAX_CONTAINERS = Integer.getInteger("m2e.container.pool.size", 16);
+
+  /**
+   * Minutes after which a container of a multi-module project directory not asked for is disposed
+   */
+  static final long IDLE_MINUTES = Long.getLong("m2e.container.pool.idleMinutes", 30);
+
+  private static final boolean PREWARM = Boolean
+      .parseBoolean(System.getProperty("m2e.container.pool.prewarm", "true"));
+
+  private final Object nonRootedLock = new Object();
+
   private IMavenPlexusContainer nonRootedContainer;
 
-  private final Map<File, IMavenPlexusContainer> containerMap = new HashMap<>();
+  private final Map<File, PooledContainer> containerMap = new ConcurrentHashMap<>();
+
+  private final Map<File, File> canonicalDirectories = new ConcurrentHashMap<>();
+
+  /**
+   * The containers shared by directories with the same configuration by configuration key, guarded by itself
+   */
+  private final Map<String, SharedContainer> sharedContainers = new HashMap<>();
+
+  private final Job evictionJob = Job.createSystem("Dispose idle Maven containers", monitor -> {
+    // .mvn folders outside of the workspace projects are not reported by resource deltas
+    revalidate();
+    evictIdle(TimeUnit.MINUTES.toNanos(IDLE_MINUTES));
+    scheduleEviction();
+  });
 
   @Reference
   private LoggerManager loggerManager;
@@ -101,11 +172,18 @@ public class PlexusContainerManager {
   @Reference
   private IWorkspace workspace;
 
+  @Activate
+  void activate() {
+    if(PREWARM) {
+      Job.createSystem("Prepare Maven containers", this::prewarm).schedule();
+    }
+  }
+
   @Deactivate
   void dispose() {
-    synchronized(containerMap) {
-      containerMap.values().forEach(PlexusContainerManager::disposeContainer);
-      containerMap.clear();
+    evictionJob.cancel();
+    containerMap.forEach(this::retire);
+    synchronized(nonRootedLock) {
       if(nonRootedContainer != null) {
         disposeContainer(nonRootedContainer);
         nonRootedContainer = null;
@@ -113,22 +191,191 @@ public class PlexusContainerManager {
     }
   }
 
+  /**
+   * Creates the containers of the multi-module project directories of the open Maven projects in the workspace, each in
+   * its own job so they are created in parallel.
+   */
+  private void prewarm(IProgressMonitor monitor) {
+    Set<File> directories = new LinkedHashSet<>();
+    for(IProject project : workspace.getRoot().getProjects()) {
+      if(monitor.isCanceled()) {
+        return;
+      }
+      try {
+        if(project.isOpen() && project.hasNature(IMavenConstants.NATURE_ID)) {
+          File directory = MavenProperties.computeMultiModuleProjectDirectory(project);
+          if(directory != null) {
+            directories.add(directory);
+          }
+        }
+      } catch(CoreException ex) {
+        // closed meanwhile
+      }
+    }
+    for(File directory : directories) {
+      Job.createSystem("Prepare Maven container for " + directory, m -> {
+        try {
+          aquire(directory);
+        } catch(Exception ex) {
+          LOG.warn("Failed to prepare Maven container for " + directory, ex);
+        }
+      }).schedule();
+    }
+  }
+
+  @Override
+  public void resourceChanged(IResourceChangeEvent event) {
+    IResourceDelta delta = event.getDelta();
+    if(delta == null || !isMultiModuleProjectDirectoryChange(delta)) {
+      return;
+    }
+    revalidate();
+  }
+
+  /**
+   * Forgets the known multi-module project directories and disposes the containers of those that are gone.
+   */
+  private void revalidate() {
+    MavenProperties.clearMultiModuleProjectDirectories();
+    canonicalDirectories.clear();
+    cleanup();
+  }
+
+  /**
+   * Tells if a project or a <code>.mvn</code> folder was added, removed, opened or closed, i.e. if the multi-module
+   * project directories may have changed.
+   */
+  private static boolean isMultiModuleProjectDirectoryChange(IResourceDelta delta) {
+    IResource resource = delta.getResource();
+    if(resource.getType() == IResource.FILE) {
+      return false;
+    }
+    boolean addedOrRemoved = delta.getKind() == IResourceDelta.ADDED || delta.getKind() == IResourceDelta.REMOVED;
+    if(resource.getType() == IResource.PROJECT
+        && (addedOrRemoved || (delta.getFlags() & IResourceDelta.OPEN) != 0)) {
+      return true;
+    }
+    if(resource.getType() == IResource.FOLDER && IMavenPlexusContainer.MVN_FOLDER.equals(resource.getName())) {
+      return addedOrRemoved;
+    }
+    for(IResourceDelta child : delta.getAffectedChildren()) {
+      if(isMultiModuleProjectDirectoryChange(child)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Performs a cleanup cycle by disposing (and removing) container that are no longer referencing a valid maven root
    */
   void cleanup() {
-    synchronized(containerMap) {
-      containerMap.entrySet().removeIf(entry -> {
-        if(!new File(entry.getKey(), IMavenPlexusContainer.MVN_FOLDER).isDirectory()) {
-          disposeContainer(entry.getValue());
-          return true;
-        }
-        return false;
-      });
+    containerMap.forEach((directory, pooled) -> {
+      if(!new File(directory, IMavenPlexusContainer.MVN_FOLDER).isDirectory()) {
+        retire(directory, pooled);
+      }
+    });
+  }
+
+  /**
+   * Disposes the containers not leased and not asked for within the given time.
+   */
+  void evictIdle(long idleNanos) {
+    long idleSince = System.nanoTime() - idleNanos;
+    containerMap.forEach((directory, pooled) -> {
+      if(pooled.lastAccess - idleSince <= 0) {
+        evict(directory, pooled);
+      }
+    });
+  }
+
+  private void scheduleEviction() {
+    if(!containerMap.isEmpty() && evictionJob.getState() == Job.NONE) {
+      evictionJob.schedule(TimeUnit.MINUTES.toMillis(Math.max(1, IDLE_MINUTES / 2)));
+    }
+  }
+
+  /**
+   * Disposes the least recently used containers not leased while there are more than the given number. Leased
+   * containers are kept even if this exceeds the number.
+   */
+  void evictExceeding(int maxContainers) {
+    evictExceeding(maxContainers, null);
+  }
+
+  private void evictExceeding(int maxContainers, PooledContainer keep) {
+    while(containerMap.size() > maxContainers) {
+      Optional<Map.Entry<File, PooledContainer>> leastRecentlyUsed = containerMap.entrySet().stream()
+          .filter(e -> e.getValue() != keep && e.getValue().isEvictable())
+          .min(Comparator.comparingLong(e -> e.getValue().lastAccess));
+      if(leastRecentlyUsed.isEmpty()) {
+        return;
+      }
+      evict(leastRecentlyUsed.get().getKey(), leastRecentlyUsed.get().getValue());
+    }
+  }
+
+  /**
+   * Removes the container of the given directory and disposes it, unless it is still being created or leased.
+   */
+  private void evict(File directory, PooledContainer pooled) {
+    synchronized(pooled) {
+      if(!pooled.isEvictable() || !containerMap.remove(directory, pooled)) {
+        return;
+      }
+      pooled.retired = true;
+    }
+    release(pooled.shared, directory);
+  }
+
+  /**
+   * Removes the container of the given directory, so it is no longer handed out, and disposes it once its last lease is
+   * closed. Containers still being created are kept, their creation fails or completes on its own.
+   */
+  private void retire(File directory, PooledContainer pooled) {
+    synchronized(pooled) {
+      if(!pooled.container.isDone() || !containerMap.remove(directory, pooled)) {
+        return;
+      }
+      pooled.retired = true;
+      if(pooled.leases > 0) {
+        return;
+      }
     }
+    release(pooled.shared, directory);
   }
 
-  private static void disposeContainer(IMavenPlexusContainer mavenPlexusContainer) {
+  private void closeLease(File directory, PooledContainer pooled) {
+    synchronized(pooled) {
+      pooled.leases-- ;
+      pooled.lastAccess = System.nanoTime();
+      if(pooled.leases > 0 || !pooled.retired) {
+        return;
+      }
+    }
+    release(pooled.shared, directory);
+  }
+
+  /**
+   * Removes the given directory from the users of the given shared container and disposes it if it was the last one.
+   */
+  private void release(SharedContainer shared, File directory) {
+    if(shared == null) {
+      return;
+    }
+    synchronized(sharedContainers) {
+      shared.directories.remove(directory);
+      if(!shared.directories.isEmpty() || !sharedContainers.remove(shared.key, shared)) {
+        return;
+      }
+    }
+    IMavenPlexusContainer container = shared.container.getNow(null);
+    if(container != null) {
+      disposeContainer(container);
+    }
+  }
+
+  void disposeContainer(IMavenPlexusContainer mavenPlexusContainer) {
     PlexusContainer plexusContainer = mavenPlexusContainer.getContainer();
     ClassWorld classWorld = plexusContainer.getContainerRealm().getWorld();
     for(ClassRealm realm : classWorld.getRealms()) {
@@ -142,10 +389,9 @@ public class PlexusContainerManager {
   }
 
   public IMavenPlexusContainer aquire() throws Exception {
-    synchronized(containerMap) {
-      cleanup();
+    synchronized(nonRootedLock) {
       if(nonRootedContainer == null) {
-        nonRootedContainer = newPlexusContainer(null, loggerManager, mavenConfiguration);
+        nonRootedContainer = newPlexusContainer(null, () -> "GLOBAL", loggerManager, mavenConfiguration);
       }
       return nonRootedContainer;
     }
@@ -166,34 +412,212 @@ public class PlexusContainerManager {
   }
 
   public IMavenPlexusContainer aquire(File basedir) throws Exception {
-    File directory = MavenProperties.computeMultiModuleProjectDirectory(basedir);
+    File directory = getDirectory(basedir);
     if(directory == null) {
       return aquire();
     }
-    File canonicalDirectory = directory.getCanonicalFile();
-    synchronized(containerMap) {
-      cleanup();
-      IMavenPlexusContainer plexusContainer = containerMap.get(canonicalDirectory);
-      if(plexusContainer == null) {
-        try {
-          plexusContainer = newPlexusContainer(canonicalDirectory, loggerManager, mavenConfiguration);
-          containerMap.put(canonicalDirectory, plexusContainer);
-        } catch(ExtensionResolutionException e) {
-          //TODO how can we create an error marker on the extension file?
-          CoreExtension extension = e.getExtension();
-          File file = new File(directory, IMavenPlexusContainer.EXTENSIONS_FILENAME);
-          throw new PlexusContainerException(
-              "can't create plexus container for basedir = " + basedir.getAbsolutePath() + " because the extension "
-                  + extension.getGroupId() + ":" + extension.getArtifactId() + ":" + extension.getVersion()
-                  + " can't be loaded (defined in "
-                  + file.getAbsolutePath() + ").",
-              e);
+    PooledContainer pooled = getPooled(directory, basedir);
+    pooled.lastAccess = System.nanoTime();
+    return join(pooled.container);
+  }
+
+  /**
+   * Leases the container of the given base directory, it is not disposed before the returned lease is closed. Unlike
+   * {@link #aquire(File)} this never fails, like {@link #getComponentLookup(File)} a container that can't be created
+   * is reported when looking up components.
+   */
+  public ContainerLease lease(File basedir) {
+    File directory;
+    try {
+      directory = getDirectory(basedir);
+    } catch(Exception ex) {
+      return new Lease(null, null, new ExceptionalLookup(ex));
+    }
+    if(directory == null) {
+      return new Lease(null, null, getComponentLookup());
+    }
+    while(true) {
+      PooledContainer pooled = getPooled(directory, basedir);
+      synchronized(pooled) {
+        if(!pooled.retired) {
+          pooled.leases++ ;
+          pooled.lastAccess = System.nanoTime();
+        } else if(!pooled.container.isCompletedExceptionally()) {
+          // evicted meanwhile, the next lookup creates a new one
+          continue;
+        }
+      }
+      try {
+        IComponentLookup lookup = join(pooled.container).getComponentLookup();
+        return new Lease(directory, pooled, lookup);
+      } catch(Exception ex) {
+        if(!pooled.container.isCompletedExceptionally()) {
+          closeLease(directory, pooled);
         }
+        return new Lease(null, null, new ExceptionalLookup(ex));
       }
-      return plexusContainer;
     }
   }
 
+  /**
+   * Returns the canonical multi-module project directory of the given base directory or <code>null</code> if it has
+   * none.
+   */
+  private File getDirectory(File basedir) throws Exception {
+    File directory = MavenProperties.computeMultiModuleProjectDirectory(basedir);
+    if(directory == null) {
+      return null;
+    }
+    File canonicalDirectory = canonicalDirectories.get(directory);
+    if(canonicalDirectory == null) {
+      canonicalDirectory = directory.getCanonicalFile();
+      canonicalDirectories.put(directory, canonicalDirectory);
+    }
+    return canonicalDirectory;
+  }
+
+  private PooledContainer getPooled(File directory, File basedir) {
+    PooledContainer pooled = containerMap.get(directory);
+    if(pooled == null) {
+      PooledContainer created = new PooledContainer();
+      pooled = containerMap.putIfAbsent(directory, created);
+      if(pooled == null) {
+        pooled = created;
+        create(directory, basedir, created);
+        // the container just created is about to be used
+        evictExceeding(MAX_CONTAINERS, created);
+        scheduleEviction();
+      }
+    }
+    return pooled;
+  }
+
+  private static IMavenPlexusContainer join(CompletableFuture<IMavenPlexusContainer> container) throws Exception {
+    try {
+      return container.join();
+    } catch(CompletionException ex) {
+      if(ex.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+
+  private void create(File directory, File basedir, PooledContainer pooled) {
+    try {
+      IMavenPlexusContainer container = acquireShared(directory, pooled);
+      pooled.container.complete(new RootedContainer(directory, container));
+    } catch(Throwable t) {
+      // forget the failed container, so the next caller tries again
+      synchronized(pooled) {
+        containerMap.remove(directory, pooled);
+        pooled.retired = true;
+      }
+      release(pooled.shared, directory);
+      if(t instanceof ExtensionResolutionException e) {
+        //TODO how can we create an error marker on the extension file?
+        CoreExtension extension = e.getExtension();
+        File file = new File(directory, IMavenPlexusContainer.EXTENSIONS_FILENAME);
+        t = new PlexusContainerException(
+            "can't create plexus container for basedir = " + basedir.getAbsolutePath() + " because the extension "
+                + extension.getGroupId() + ":" + extension.getArtifactId() + ":" + extension.getVersion()
+                + " can't be loaded (defined in "
+                + file.getAbsolutePath() + ").",
+            e);
+      }
+      pooled.container.completeExceptionally(t);
+    }
+  }
+
+  /**
+   * Returns the container shared by all directories with the same configuration as the given one, creating it if the
+   * given directory is the first one with this configuration.
+   */
+  private IMavenPlexusContainer acquireShared(File directory, PooledContainer pooled) throws Exception {
+    String key;
+    try {
+      key = getConfigurationKey(directory);
+    } catch(Exception ex) {
+      // don't share, creating the container reports the problem
+      key = directory.getAbsolutePath();
+    }
+    SharedContainer shared;
+    boolean owner;
+    synchronized(sharedContainers) {
+      shared = sharedContainers.get(key);
+      owner = shared == null;
+      if(owner) {
+        shared = new SharedContainer(key);
+        sharedContainers.put(key, shared);
+      }
+      shared.directories.add(directory);
+      pooled.shared = shared;
+    }
+    if(owner) {
+      SharedContainer container = shared;
+      try {
+        shared.container.complete(newContainer(directory, () -> getDirectories(container)));
+      } catch(Throwable t) {
+        // directories asking later try again
+        synchronized(sharedContainers) {
+          sharedContainers.remove(key, shared);
+        }
+        shared.container.completeExceptionally(t);
+      }
+    }
+    return join(shared.container);
+  }
+
+  /**
+   * Returns the key of the configuration a container of the given directory is created from: its core extensions, the
+   * content of its <code>maven.config</code> and <code>jvm.config</code> and the settings used to resolve the
+   * extensions. Settings files given relative to the directory in its <code>maven.config</code> are part of the key as
+   * absolute locations, so directories whose extensions would be resolved differently don't share a container.
+   */
+  private static String getConfigurationKey(File directory) throws Exception {
+    StringBuilder sb = new StringBuilder();
+    File extensionsXml = new File(directory, IMavenPlexusContainer.EXTENSIONS_FILENAME);
+    if(extensionsXml.isFile()) {
+      try (InputStream is = new FileInputStream(extensionsXml)) {
+        for(CoreExtension extension : new CoreExtensionsXpp3Reader().read(is).getExtensions()) {
+          sb.append("extension=").append(extension.getId()).append(':').append(extension.getClassLoadingStrategy())
+              .append('\n');
+        }
+      }
+    }
+    for(String config : List.of(MAVEN_CONFIG_FILENAME, JVM_CONFIG_FILENAME)) {
+      Path file = new File(directory, config).toPath();
+      if(Files.isRegularFile(file)) {
+        sb.append(config).append('=').append(DigestUtils.sha256Hex(Files.readAllBytes(file))).append('\n');
+      }
+    }
+    Optional<MavenProperties> mavenProperties = MavenProperties.getMavenArgs(directory);
+    if(mavenProperties.isPresent()) {
+      sb.append("settings=")
+          .append(mavenProperties.get().getSettingsLocations(IMavenConfiguration.getWorkspaceConfiguration()))
+          .append('\n');
+    }
+    return DigestUtils.sha256Hex(sb.toString());
+  }
+
+  /**
+   * Returns the directories using the given shared container, for diagnostics.
+   */
+  private String getDirectories(SharedContainer shared) {
+    synchronized(sharedContainers) {
+      return shared.directories.stream().map(File::getAbsolutePath).sorted().collect(Collectors.joining(", "));
+    }
+  }
+
+  /**
+   * Creates a new container for the given multi-module project directory, the container is shared with all
+   * directories of the same configuration, listed by the given supplier.
+   */
+  IMavenPlexusContainer newContainer(File multiModuleProjectDirectory, Supplier<String> directories)
+      throws Exception {
+    return newPlexusContainer(multiModuleProjectDirectory, directories, loggerManager, mavenConfiguration);
+  }
+
   public IComponentLookup getComponentLookup() {
     try {
       return aquire().getComponentLookup();
@@ -210,15 +634,14 @@ public class PlexusContainerManager {
     }
   }
 
-  private static IMavenPlexusContainer newPlexusContainer(File multiModuleProjectDirectory, LoggerManager loggerManager,
-      IMavenConfiguration mavenConfiguration) throws Exception {
+  private static IMavenPlexusContainer newPlexusContainer(File multiModuleProjectDirectory, Supplier<String> name,
+      LoggerManager loggerManager, IMavenConfiguration mavenConfiguration) throws Exception {
 
     // In M2E it can happen that the same extension (with same GAV) is referenced/loaded from multiple locations ('.mvn'-folders).
     // In contrast to a standalone Maven-build, which only has one multi-module-root ('.mvn'-folder), M2E can import multiple 
     // projects with different '.mvn'-folder. Because the id of an extension's realm is only based on the GAV, attempts to load 
     // the same extension from different locations result in a DuplicateRealmException. Therefore each container needs its own ClassWorld.
-    ClassWorld classWorld = new M2EClassWorld(PLEXUS_CORE_REALM, ClassWorld.class.getClassLoader(),
-        multiModuleProjectDirectory);
+    ClassWorld classWorld = new M2EClassWorld(PLEXUS_CORE_REALM, ClassWorld.class.getClassLoader(), name);
     ClassRealm coreRealm = classWorld.getRealm(PLEXUS_CORE_REALM);
     CoreExtensionEntry coreEntry = CoreExtensionEntry.discoverFrom(coreRealm);
 
@@ -366,17 +789,16 @@ public class PlexusContainerManager {
 
   private static final class M2EClassWorld extends ClassWorld {
 
-    private File multiModuleProjectDirectory;
+    private final Supplier<String> name;
 
-    M2EClassWorld(String plexusCoreRealm, ClassLoader classLoader, File multiModuleProjectDirectory) {
+    M2EClassWorld(String plexusCoreRealm, ClassLoader classLoader, Supplier<String> name) {
       super(plexusCoreRealm, classLoader);
-      this.multiModuleProjectDirectory = multiModuleProjectDirectory;
+      this.name = name;
     }
 
     @Override
     public String toString() {
-      String name = multiModuleProjectDirectory == null ? "GLOBAL" : multiModuleProjectDirectory.getAbsolutePath();
-      return "ClassWorld [" + name + "] "
+      return "ClassWorld [" + name.get() + "] "
           + getRealms().stream().map(ClassRealm::getId).collect(Collectors.joining(", "));
     }
 
@@ -460,5 +882,111 @@ public class PlexusContainerManager {
     return new PlexusComponentLookup(container, realm);
   }
 
+  /**
+   * A use of a container that keeps it from being disposed until it is closed.
+   */
+  public interface ContainerLease extends AutoCloseable {
+
+    /**
+     * @return a lookup of the components of the leased container
+     */
+    IComponentLookup getComponentLookup();
+
+    @Override
+    void close();
+  }
+
+  private final class Lease implements ContainerLease {
+    private final File directory;
+
+    private final PooledContainer pooled;
+
+    private final IComponentLookup lookup;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    Lease(File directory, PooledContainer pooled, IComponentLookup lookup) {
+      this.directory = directory;
+      this.pooled = pooled;
+      this.lookup = lookup;
+    }
+
+    @Override
+    public IComponentLookup getComponentLookup() {
+      return lookup;
+    }
+
+    @Override
+    public void close() {
+      if(pooled != null && closed.compareAndSet(false, true)) {
+        closeLease(directory, pooled);
+      }
+    }
+  }
+
+  private static final class PooledContainer {
+    final CompletableFuture<IMavenPlexusContainer> container = new CompletableFuture<>();
+
+    volatile long lastAccess = System.nanoTime();
+
+    volatile SharedContainer shared;
+
+    /**
+     * Number of open leases, guarded by this
+     */
+    int leases;
+
+    /**
+     * Whether this container was removed from the pool, guarded by this
+     */
+    boolean retired;
+
+    synchronized boolean isEvictable() {
+      return leases == 0 && container.isDone();
+    }
+  }
+
+  private static final class SharedContainer {
+    final String key;
+
+    final CompletableFuture<IMavenPlexusContainer> container = new CompletableFuture<>();
+
+    /**
+     * The directories using this container, guarded by {@link PlexusContainerManager#sharedContainers}
+     */
+    final Set<File> directories = new HashSet<>();
+
+    SharedContainer(String key) {
+      this.key = key;
+    }
+  }
+
+  /**
+   * The container of a directory, backed by the container shared with other directories of the same configuration.
+   */
+  private static final class RootedContainer implements IMavenPlexusContainer {
+    private final File directory;
+
+    private final IMavenPlexusContainer shared;
+
+    RootedContainer(File directory, IMavenPlexusContainer shared) {
+      this.directory = directory;
+      this.shared = shared;
+    }
+
+    @Override
+    public Optional<File> getMavenDirectory() {
+      return Optional.of(directory);
+    }
 
+    @Override
+    public PlexusContainer getContainer() {
+      return shared.getContainer();
+    }
+
+    @Override
+    public IComponentLookup getComponentLookup() {
+      return shared.getComponentLookup();
+    }
+  }
 }
@@ -46,6 +46,17 @@ public interface IIndex {
    */
   String SEARCH_PARENTS = "parents"; //$NON-NLS-1$
 
+  /**
+   * matches simple class names by prefix, or fully qualified class names containing a search term with a dot
+   */
+  String SEARCH_CLASS_NAME = "className"; //$NON-NLS-1$
+
+  /**
+   * Searches may stop once they found more results than this, such results are incomplete and mean that the search
+   * expression was not specific enough.
+   */
+  int MAX_RESULTS = 1000;
+
   // search classifiers
 
 //  public enum SearchClassifiers {
@@ -0,0 +1,720 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.google.common.base.Suppliers;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.embedder.ILocalRepositoryListener;
+import org.eclipse.m2e.core.embedder.IMaven;
+import org.eclipse.m2e.core.internal.Messages;
+import org.eclipse.m2e.core.internal.index.LocalRepositoryScanner.ArtifactFile;
+import org.eclipse.m2e.core.internal.index.LocalRepositoryScanner.VersionDir;
+
+
+/**
+ * Index of the artifacts in the local Maven repository, searchable without network access. The index is persisted in
+ * the bundle state location, completed by a background scan of the repository on startup and kept current with the
+ * artifacts installed or downloaded afterwards. Class names are indexed for the newest version of each artifact only.
+ * <p>
+ * Queries work on an immutable snapshot of the index and never wait for a scan.
+ */
+@Component(service = {IIndex.class}, immediate = true)
+public class LocalRepositoryIndex implements IIndex, ILocalRepositoryListener {
+  private static final Logger log = LoggerFactory.getLogger(LocalRepositoryIndex.class);
+
+  private static final int VERSION = 1;
+
+  private static final String INDEX_FILE = "localRepositoryIndex.dat"; //$NON-NLS-1$
+
+  private static final long UPDATE_DELAY = 1000L;
+
+  private static final String JAR = "jar"; //$NON-NLS-1$
+
+  private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[\\s:]+"); //$NON-NLS-1$
+
+  @Reference
+  private IMaven maven;
+
+  private final UpdateJob updateJob = new UpdateJob();
+
+  private final Set<Path> pending = ConcurrentHashMap.newKeySet();
+
+  private final Object loadLock = new Object();
+
+  private File indexFile;
+
+  /**
+   * The version directories of the repository by path, only modified by the update job after loading
+   */
+  private Map<String, VersionDir> versions;
+
+  /**
+   * The indexed repository, <code>null</code> if nothing was loaded or scanned yet
+   */
+  private volatile Path basedir;
+
+  /**
+   * Whether the repository was scanned in this session
+   */
+  private boolean scanned;
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * @param artifacts the versions of each artifact by artifact key, newest first
+   * @param paths the versions by path
+   * @param sha1s the files by checksum
+   * @param coordinates the prefix index of the coordinates, built on first use
+   */
+  private record Snapshot(SortedMap<String, List<VersionDir>> artifacts, Map<String, VersionDir> paths,
+      Map<String, FileRef> sha1s, Supplier<ArtifactCoordinates> coordinates) {
+  }
+
+  private record FileRef(VersionDir version, ArtifactFile file) {
+  }
+
+  @Activate
+  void activate(BundleContext context) {
+    indexFile = Platform.getStateLocation(context.getBundle()).append(INDEX_FILE).toFile();
+    maven.addLocalRepositoryListener(this);
+    updateJob.schedule();
+  }
+
+  @Deactivate
+  void deactivate() {
+    maven.removeLocalRepositoryListener(this);
+    updateJob.cancel();
+    try {
+      updateJob.join();
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // ILocalRepositoryListener
+
+  @Override
+  public void artifactInstalled(File repositoryBasedir, ArtifactKey baseArtifact, ArtifactKey artifact,
+      File artifactFile) {
+    File dir = artifactFile.getParentFile();
+    if(dir != null) {
+      queue(dir.toPath());
+      updateJob.schedule(UPDATE_DELAY);
+    }
+  }
+
+  /**
+   * Queues a version directory for the next update.
+   */
+  void queue(Path dir) {
+    pending.add(dir.toAbsolutePath());
+  }
+
+  // IIndex
+
+  @Override
+  public IndexedArtifactFile getIndexedArtifactFile(ArtifactKey artifact) {
+    Snapshot snapshot = getSnapshot();
+    String path = artifact.groupId().replace('.', '/') + '/' + artifact.artifactId() + '/' + artifact.version();
+    VersionDir version = snapshot.paths().get(path);
+    ArtifactFile file = version != null ? version.getClassifiedFile(artifact.classifier()) : null;
+    return file != null ? toIndexedArtifactFile(version, file) : null;
+  }
+
+  @Override
+  public IndexedArtifactFile identify(File file) throws CoreException {
+    Snapshot snapshot = getSnapshot();
+    Path indexed = basedir;
+    Path path = file.toPath().toAbsolutePath();
+    if(indexed != null && path.startsWith(indexed) && path.getParent() != null) {
+      String dir = indexed.relativize(path.getParent()).toString().replace(File.separatorChar, '/');
+      VersionDir version = snapshot.paths().get(dir);
+      ArtifactFile artifactFile = version != null ? version.getFile(path.getFileName().toString()) : null;
+      if(artifactFile != null) {
+        return toIndexedArtifactFile(version, artifactFile);
+      }
+    }
+    if(snapshot.sha1s().isEmpty() || !Files.isRegularFile(path)) {
+      return null;
+    }
+    String sha1;
+    try (InputStream is = Files.newInputStream(path)) {
+      sha1 = DigestUtils.sha1Hex(is);
+    } catch(IOException ex) {
+      throw new CoreException(Status.error(ex.getMessage(), ex));
+    }
+    FileRef ref = snapshot.sha1s().get(sha1);
+    return ref != null ? toIndexedArtifactFile(ref.version(), ref.file()) : null;
+  }
+
+  @Override
+  public Collection<IndexedArtifact> find(SearchExpression groupId, SearchExpression artifactId,
+      SearchExpression version, SearchExpression packaging) {
+    return find(toList(groupId), toList(artifactId), toList(version), toList(packaging));
+  }
+
+  @Override
+  public Collection<IndexedArtifact> find(Collection<SearchExpression> groupId,
+      Collection<SearchExpression> artifactId, Collection<SearchExpression> version,
+      Collection<SearchExpression> packaging) {
+    List<IndexedArtifact> result = new ArrayList<>();
+    for(List<VersionDir> versions : getSnapshot().artifacts().values()) {
+      VersionDir newest = versions.get(0);
+      if(!matches(groupId, newest.groupId()) || !matches(artifactId, newest.artifactId())) {
+        continue;
+      }
+      IndexedArtifact artifact = newIndexedArtifact(newest, null);
+      for(VersionDir candidate : versions) {
+        if(matches(version, candidate.version()) && matches(packaging, candidate.packaging())) {
+          addFiles(artifact, candidate, SEARCH_ALL);
+        }
+      }
+      if(!artifact.getFiles().isEmpty()) {
+        result.add(artifact);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public Map<String, IndexedArtifact> search(SearchExpression expression, String searchType) {
+    return search(expression, searchType, SEARCH_ALL);
+  }
+
+  @Override
+  public Map<String, IndexedArtifact> search(SearchExpression expression, String searchType, int classifier) {
+    Snapshot snapshot = getSnapshot();
+    String query = expression.getStringValue().trim().toLowerCase();
+    Map<String, IndexedArtifact> result = new TreeMap<>();
+    if(query.isEmpty()) {
+      return result;
+    }
+    String type = searchType != null ? searchType : SEARCH_ARTIFACT;
+    switch(type) {
+      case SEARCH_CLASS_NAME -> searchClassNames(snapshot, query, classifier, result);
+      case SEARCH_SHA1 -> {
+        for(Map.Entry<String, FileRef> entry : snapshot.sha1s().entrySet()) {
+          if(entry.getKey().startsWith(query) && result.size() <= MAX_RESULTS) {
+            VersionDir version = entry.getValue().version();
+            IndexedArtifact artifact = newIndexedArtifact(version, null);
+            artifact.addFile(toIndexedArtifactFile(version, entry.getValue().file()));
+            result.put(getKey(artifact), artifact);
+          }
+        }
+      }
+      case SEARCH_GROUP -> searchArtifacts(snapshot, v -> v.groupId().toLowerCase().startsWith(query), v -> true,
+          classifier, result);
+      case SEARCH_PACKAGING -> searchArtifacts(snapshot, v -> true, v -> query.equals(v.packaging()), classifier,
+          result);
+      case SEARCH_PLUGIN -> searchArtifacts(snapshot, artifactMatcher(query),
+          v -> "maven-plugin".equals(v.packaging()), classifier, result); //$NON-NLS-1$
+      case SEARCH_ARCHETYPE -> searchArtifacts(snapshot, artifactMatcher(query),
+          v -> "maven-archetype".equals(v.packaging()), classifier, result); //$NON-NLS-1$
+      case SEARCH_PARENTS -> searchArtifacts(snapshot, artifactMatcher(query),
+          v -> "pom".equals(v.packaging()), classifier, result); //$NON-NLS-1$
+      default -> searchArtifacts(snapshot, artifactMatcher(query), v -> true, classifier, result);
+    }
+    return result;
+  }
+
+  /**
+   * Adds the artifacts whose newest version matches the given artifact filter, with the files of all versions that
+   * match the given version filter.
+   */
+  private void searchArtifacts(Snapshot snapshot, Predicate<VersionDir> artifactFilter,
+      Predicate<VersionDir> versionFilter, int classifier, Map<String, IndexedArtifact> result) {
+    for(List<VersionDir> versions : snapshot.artifacts().values()) {
+      if(result.size() > MAX_RESULTS) {
+        return;
+      }
+      if(artifactFilter.test(versions.get(0))) {
+        IndexedArtifact artifact = null;
+        for(VersionDir version : versions) {
+          if(versionFilter.test(version)) {
+            if(artifact == null) {
+              artifact = newIndexedArtifact(version, null);
+            }
+            addFiles(artifact, version, classifier);
+          }
+        }
+        if(artifact != null && !artifact.getFiles().isEmpty()) {
+          result.put(getKey(artifact), artifact);
+        }
+      }
+    }
+  }
+
+  /**
+   * Matches simple class names starting with the query, or fully qualified names containing it if it has a dot.
+   */
+  private void searchClassNames(Snapshot snapshot, String query, int classifier,
+      Map<String, IndexedArtifact> result) {
+    boolean qualified = query.indexOf('.') >= 0;
+    for(List<VersionDir> versions : snapshot.artifacts().values()) {
+      String classNames = versions.stream().map(VersionDir::classNames).filter(c -> c != null && !c.isEmpty())
+          .findFirst().orElse(null);
+      if(classNames == null) {
+        continue;
+      }
+      int start = 0;
+      while(start < classNames.length() && result.size() <= MAX_RESULTS) {
+        int end = classNames.indexOf('\n', start);
+        if(end < 0) {
+          end = classNames.length();
+        }
+        int simpleName = classNames.lastIndexOf('.', end - 1) + 1;
+        if(simpleName < start) {
+          simpleName = start;
+        }
+        boolean match = qualified ? containsIgnoreCase(classNames, start, end, query)
+            : end - simpleName >= query.length()
+                && classNames.regionMatches(true, simpleName, query, 0, query.length());
+        if(match) {
+          String packageName = simpleName > start ? classNames.substring(start, simpleName - 1) : ""; //$NON-NLS-1$
+          IndexedArtifact artifact = newIndexedArtifact(versions.get(0), packageName,
+              classNames.substring(simpleName, end));
+          for(VersionDir version : versions) {
+            addFiles(artifact, version, classifier);
+          }
+          if(!artifact.getFiles().isEmpty()) {
+            result.put(classNames.substring(start, end) + ' ' + getKey(artifact), artifact);
+          }
+        }
+        start = end + 1;
+      }
+    }
+  }
+
+  private static boolean containsIgnoreCase(String string, int start, int end, String query) {
+    for(int i = start; i <= end - query.length(); i++ ) {
+      if(string.regionMatches(true, i, query, 0, query.length())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns a matcher of artifact keys that contain all whitespace or colon separated tokens of the given query,
+   * tokens may contain <code>*</code> and <code>?</code> wildcards.
+   */
+  private static Predicate<VersionDir> artifactMatcher(String query) {
+    Predicate<String> result = key -> true;
+    for(String token : TOKEN_SEPARATOR.split(query)) {
+      if(token.isEmpty()) {
+        continue;
+      }
+      if(token.indexOf('*') >= 0 || token.indexOf('?') >= 0) {
+        StringBuilder regex = new StringBuilder();
+        for(char c : token.toCharArray()) {
+          regex.append(c == '*' ? ".*" : c == '?' ? "." : Pattern.quote(String.valueOf(c))); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        Pattern pattern = Pattern.compile(regex.toString());
+        result = result.and(key -> pattern.matcher(key).find());
+      } else {
+        result = result.and(key -> key.contains(token));
+      }
+    }
+    Predicate<String> keyMatcher = result;
+    return version -> keyMatcher.test(version.getArtifactKey().toLowerCase());
+  }
+
+  private static boolean matches(Collection<SearchExpression> expressions, String value) {
+    if(expressions == null || expressions.isEmpty()) {
+      return true;
+    }
+    for(SearchExpression expression : expressions) {
+      String string = expression.getStringValue();
+      if(expression instanceof MatchTyped matchTyped && matchTyped.getMatchType() == MatchTyped.MatchType.PARTIAL
+          ? value.toLowerCase().contains(string.toLowerCase())
+          : value.equals(string)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static List<SearchExpression> toList(SearchExpression expression) {
+    return expression != null ? List.of(expression) : null;
+  }
+
+  private static String getKey(IndexedArtifact artifact) {
+    return artifact.getGroupId() + ':' + artifact.getArtifactId();
+  }
+
+  private static IndexedArtifact newIndexedArtifact(VersionDir version, String packageName, String className) {
+    return new IndexedArtifact(version.groupId(), version.artifactId(), packageName, className, version.packaging());
+  }
+
+  private static IndexedArtifact newIndexedArtifact(VersionDir version, String className) {
+    return newIndexedArtifact(version, null, className);
+  }
+
+  /**
+   * Adds one file per matching classifier of the given version.
+   */
+  private void addFiles(IndexedArtifact artifact, VersionDir version, int classifiers) {
+    Set<String> classifierNames = new LinkedHashSet<>();
+    version.files().forEach(f -> classifierNames.add(f.classifier()));
+    for(String classifier : classifierNames) {
+      if(isIncluded(classifier, classifiers)) {
+        artifact.addFile(toIndexedArtifactFile(version, version.getClassifiedFile(classifier)));
+      }
+    }
+  }
+
+  private static boolean isIncluded(String classifier, int classifiers) {
+    if(classifier == null) {
+      return (classifiers & SEARCH_JARS) != 0;
+    }
+    return switch(classifier) {
+      case "sources" -> (classifiers & SEARCH_SOURCES) != 0; //$NON-NLS-1$
+      case "javadoc" -> (classifiers & SEARCH_JAVADOCS) != 0; //$NON-NLS-1$
+      case "tests" -> (classifiers & SEARCH_TESTS) != 0; //$NON-NLS-1$
+      default -> classifiers == SEARCH_ALL;
+    };
+  }
+
+  private IndexedArtifactFile toIndexedArtifactFile(VersionDir version, ArtifactFile file) {
+    Path repository = basedir;
+    int sources = version.getClassifiedFile("sources") != null ? PRESENT : NOT_PRESENT; //$NON-NLS-1$
+    int javadoc = version.getClassifiedFile("javadoc") != null ? PRESENT : NOT_PRESENT; //$NON-NLS-1$
+    return new IndexedArtifactFile(repository != null ? repository.toUri().toString() : null, version.groupId(),
+        version.artifactId(),
+        version.version(), file.extension(), file.classifier(), file.name(), file.size(),
+        new Date(file.lastModified()), sources, javadoc, null, null);
+  }
+
+  /**
+   * Returns the prefix index of the coordinates of all artifacts in the local repository.
+   */
+  public ArtifactCoordinates getArtifactCoordinates() {
+    return getSnapshot().coordinates().get();
+  }
+
+  // index maintenance
+
+  private Snapshot getSnapshot() {
+    Snapshot result = snapshot;
+    if(result == null) {
+      load();
+      result = snapshot;
+    }
+    return result;
+  }
+
+  /**
+   * Loads the persisted index unless it is already loaded.
+   */
+  private void load() {
+    synchronized(loadLock) {
+      if(versions != null) {
+        return;
+      }
+      versions = new HashMap<>();
+      if(indexFile != null && indexFile.isFile()) {
+        try {
+          basedir = read(indexFile.toPath(), versions);
+        } catch(IOException ex) {
+          log.warn("Can't read local repository index {}", indexFile, ex); //$NON-NLS-1$
+          versions.clear();
+        }
+      }
+      snapshot = createSnapshot(versions.values());
+    }
+  }
+
+  /**
+   * Scans the given repository if it was not scanned in this session yet, otherwise updates the queued directories.
+   */
+  void update(Path repository, IProgressMonitor monitor) throws IOException {
+    load();
+    Set<Path> dirs = Set.copyOf(pending);
+    pending.removeAll(dirs);
+    boolean changed = false;
+    if(!scanned || !repository.equals(basedir)) {
+      Map<String, VersionDir> previous = repository.equals(basedir) ? versions : Map.of();
+      Map<String, VersionDir> result = new LocalRepositoryScanner(repository, previous).scan(monitor);
+      synchronized(loadLock) {
+        versions = new HashMap<>(result);
+        basedir = repository;
+        scanned = true;
+      }
+      changed = true;
+    } else {
+      LocalRepositoryScanner scanner = new LocalRepositoryScanner(basedir, versions);
+      for(Path dir : dirs) {
+        if(!dir.startsWith(basedir)) {
+          continue;
+        }
+        VersionDir version = scanner.scanVersion(dir);
+        String path = basedir.relativize(dir).toString().replace(File.separatorChar, '/');
+        changed |= version != null ? !version.equals(versions.put(path, version)) : versions.remove(path) != null;
+      }
+    }
+    if(changed) {
+      updateClassNames(createSnapshot(versions.values()), monitor);
+      updateChecksums(monitor);
+      Snapshot result = createSnapshot(versions.values());
+      result.coordinates().get(); // built in the background rather than on the next content assist
+      snapshot = result;
+      if(indexFile != null) {
+        write(indexFile.toPath(), basedir, result.paths().values());
+      }
+    }
+  }
+
+  /**
+   * Reads the class names of the newest version of each artifact and forgets those of older versions.
+   */
+  private void updateClassNames(Snapshot snapshot, IProgressMonitor monitor) {
+    List<VersionDir> toRead = new ArrayList<>();
+    for(List<VersionDir> artifactVersions : snapshot.artifacts().values()) {
+      boolean newest = true;
+      for(VersionDir version : artifactVersions) {
+        if(version.getMainJar() == null) {
+          continue;
+        }
+        if(newest && version.classNames() == null) {
+          toRead.add(version);
+        } else if(!newest && version.classNames() != null) {
+          versions.put(version.path(), version.withClassNames(null));
+        }
+        newest = false;
+      }
+    }
+    updateParallel(toRead, version -> {
+      Path jar = basedir.resolve(version.path()).resolve(version.getMainJar().name());
+      return version.withClassNames(LocalRepositoryScanner.readClassNames(jar));
+    }, monitor);
+  }
+
+  /**
+   * Computes the checksums of the jars without <code>.sha1</code> side file, e.g. those installed by local builds, so
+   * all jars can be identified by checksum.
+   */
+  private void updateChecksums(IProgressMonitor monitor) {
+    List<VersionDir> toHash = new ArrayList<>();
+    for(VersionDir version : versions.values()) {
+      if(version.files().stream().anyMatch(f -> f.sha1() == null && JAR.equals(f.extension()))) {
+        toHash.add(version);
+      }
+    }
+    updateParallel(toHash, version -> {
+      List<ArtifactFile> files = new ArrayList<>();
+      for(ArtifactFile file : version.files()) {
+        if(file.sha1() == null && JAR.equals(file.extension())) {
+          try (InputStream is = Files.newInputStream(basedir.resolve(version.path()).resolve(file.name()))) {
+            file = file.withSha1(DigestUtils.sha1Hex(is));
+          } catch(IOException ex) {
+            log.debug("Can't compute checksum of {}", file.name(), ex); //$NON-NLS-1$
+          }
+        }
+        files.add(file);
+      }
+      return version.withFiles(List.copyOf(files));
+    }, monitor);
+  }
+
+  /**
+   * Replaces the given versions by the result of the given function, which is applied in parallel.
+   */
+  private void updateParallel(List<VersionDir> toUpdate, Function<VersionDir, VersionDir> function,
+      IProgressMonitor monitor) {
+    if(toUpdate.isEmpty()) {
+      return;
+    }
+    Map<String, VersionDir> updated = new ConcurrentHashMap<>();
+    LocalRepositoryScanner.getPool().submit(() -> toUpdate.parallelStream().forEach(version -> {
+      if(!monitor.isCanceled()) {
+        updated.put(version.path(), function.apply(version));
+      }
+    })).join();
+    versions.putAll(updated);
+  }
+
+  private static Snapshot createSnapshot(Collection<VersionDir> versions) {
+    Map<String, List<VersionDir>> byArtifact = new HashMap<>();
+    Map<String, VersionDir> paths = new HashMap<>();
+    Map<String, FileRef> sha1s = new HashMap<>();
+    for(VersionDir version : versions) {
+      byArtifact.computeIfAbsent(version.getArtifactKey(), k -> new ArrayList<>()).add(version);
+      paths.put(version.path(), version);
+      for(ArtifactFile file : version.files()) {
+        if(file.sha1() != null) {
+          sha1s.putIfAbsent(file.sha1(), new FileRef(version, file));
+        }
+      }
+    }
+    SortedMap<String, List<VersionDir>> artifacts = new TreeMap<>();
+    byArtifact.forEach((key, artifactVersions) -> {
+      if(artifactVersions.size() > 1) {
+        // parse each version once
+        Map<VersionDir, ComparableVersion> parsed = new HashMap<>();
+        artifactVersions.forEach(v -> parsed.put(v, new ComparableVersion(v.version())));
+        artifactVersions.sort((a, b) -> parsed.get(b).compareTo(parsed.get(a)));
+      }
+      artifacts.put(key, artifactVersions);
+    });
+    return new Snapshot(artifacts, paths, sha1s, Suppliers.memoize(() -> new ArtifactCoordinates(artifacts, paths)));
+  }
+
+  // persistence
+
+  private static Path read(Path file, Map<String, VersionDir> versions) throws IOException {
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+      if(in.readInt() != VERSION) {
+        return null;
+      }
+      Path basedir = Path.of(in.readUTF());
+      Map<String, String> strings = new HashMap<>();
+      Function<String, String> dedup = s -> s != null ? strings.computeIfAbsent(s, Function.identity()) : null;
+      int count = in.readInt();
+      for(int i = 0; i < count; i++ ) {
+        String path = in.readUTF();
+        String groupId = dedup.apply(in.readUTF());
+        String artifactId = dedup.apply(in.readUTF());
+        String version = in.readUTF();
+        String packaging = dedup.apply(in.readUTF());
+        ArtifactFile[] files = new ArtifactFile[in.readInt()];
+        for(int j = 0; j < files.length; j++ ) {
+          files[j] = new ArtifactFile(in.readUTF(), dedup.apply(readNullable(in)), dedup.apply(in.readUTF()),
+              readNullable(in), in.readLong(), in.readLong());
+        }
+        String classNames = null;
+        int length = in.readInt();
+        if(length >= 0) {
+          byte[] bytes = new byte[length];
+          in.readFully(bytes);
+          classNames = new String(bytes, StandardCharsets.UTF_8);
+        }
+        versions.put(path, new VersionDir(path, groupId, artifactId, version, packaging, List.of(files), classNames));
+      }
+      return basedir;
+    }
+  }
+
+  private static void write(Path file, Path basedir, Collection<VersionDir> versions) throws IOException {
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+      out.writeInt(VERSION);
+      out.writeUTF(basedir.toString());
+      out.writeInt(versions.size());
+      for(VersionDir version : versions) {
+        out.writeUTF(version.path());
+        out.writeUTF(version.groupId());
+        out.writeUTF(version.artifactId());
+        out.writeUTF(version.version());
+        out.writeUTF(version.packaging());
+        out.writeInt(version.files().size());
+        for(ArtifactFile artifactFile : version.files()) {
+          out.writeUTF(artifactFile.name());
+          writeNullable(out, artifactFile.classifier());
+          out.writeUTF(artifactFile.extension());
+          writeNullable(out, artifactFile.sha1());
+          out.writeLong(artifactFile.size());
+          out.writeLong(artifactFile.lastModified());
+        }
+        if(version.classNames() != null) {
+          byte[] bytes = version.classNames().getBytes(StandardCharsets.UTF_8);
+          out.writeInt(bytes.length);
+          out.write(bytes);
+        } else {
+          out.writeInt(-1);
+        }
+      }
+    }
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private static String readNullable(DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  private static void writeNullable(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if(value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  class UpdateJob extends Job {
+
+    UpdateJob() {
+      super(Messages.IndexUpdaterJob_title);
+      setPriority(DECORATE);
+    }
+
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+      try {
+        update(Path.of(maven.getLocalRepositoryPath()).toAbsolutePath(), monitor);
+      } catch(OperationCanceledException ex) {
+        return Status.CANCEL_STATUS;
+      } catch(IOException ex) {
+        log.error("Can't update local repository index", ex); //$NON-NLS-1$
+      }
+      return Status.OK_STATUS;
+    }
+  }
+}
@@ -0,0 +1,378 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+
+/**
+ * Reads the artifacts of a local Maven repository. A directory is a version directory if it contains files named
+ * <code>artifactId-version[-classifier].extension</code> after its parent and itself. Directories are walked in
+ * parallel, and files that did not change since a previous scan are not read again.
+ */
+final class LocalRepositoryScanner {
+  private static final Logger log = LoggerFactory.getLogger(LocalRepositoryScanner.class);
+
+  private static final int THREADS = Integer.getInteger("m2e.index.threads", Runtime.getRuntime().availableProcessors());
+
+  private static final Pattern PACKAGING = Pattern.compile("<packaging>\\s*([^<\\s]+)\\s*</packaging>"); //$NON-NLS-1$
+
+  /**
+   * Pom sections that may follow the packaging of the project itself and can contain other packaging elements
+   */
+  private static final String[] POM_SECTIONS = {"<dependencies", "<dependencyManagement", "<build", "<profiles", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+      "<reporting"}; //$NON-NLS-1$
+
+  private static final Set<String> IGNORED_EXTENSIONS = Set.of("sha1", "sha256", "sha512", "md5", "asc", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+      "lastUpdated", "part", "lock"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+  private static final String DEFAULT_PACKAGING = "jar"; //$NON-NLS-1$
+
+  /**
+   * A file of an artifact version.
+   *
+   * @param sha1 the checksum of the <code>.sha1</code> side file, <code>null</code> if there is none
+   */
+  record ArtifactFile(String name, String classifier, String extension, String sha1, long size, long lastModified) {
+
+    boolean isUnchanged(ArtifactFile other) {
+      return other != null && size == other.size && lastModified == other.lastModified;
+    }
+
+    ArtifactFile withSha1(String sha1) {
+      return new ArtifactFile(name, classifier, extension, sha1, size, lastModified);
+    }
+  }
+
+  /**
+   * An artifact version directory.
+   *
+   * @param path the directory relative to the repository basedir with <code>/</code> separators
+   * @param classNames the fully qualified names of the top level classes of the main jar separated by <code>\n</code>,
+   *          <code>null</code> if they were not read
+   */
+  record VersionDir(String path, String groupId, String artifactId, String version, String packaging,
+      List<ArtifactFile> files, String classNames) {
+
+    String getArtifactKey() {
+      return groupId + ':' + artifactId;
+    }
+
+    ArtifactFile getFile(String name) {
+      for(ArtifactFile file : files) {
+        if(file.name().equals(name)) {
+          return file;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Returns the file of the given classifier, files of other extensions are preferred over the pom.
+     */
+    ArtifactFile getClassifiedFile(String classifier) {
+      ArtifactFile result = null;
+      for(ArtifactFile file : files) {
+        if(classifier == null ? file.classifier() == null : classifier.equals(file.classifier())) {
+          if(result == null || "pom".equals(result.extension())) { //$NON-NLS-1$
+            result = file;
+          }
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Returns the main jar, <code>null</code> if this version has none.
+     */
+    ArtifactFile getMainJar() {
+      ArtifactFile file = getClassifiedFile(null);
+      return file != null && "jar".equals(file.extension()) ? file : null; //$NON-NLS-1$
+    }
+
+    VersionDir withClassNames(String classNames) {
+      return new VersionDir(path, groupId, artifactId, version, packaging, files, classNames);
+    }
+
+    VersionDir withFiles(List<ArtifactFile> files) {
+      return new VersionDir(path, groupId, artifactId, version, packaging, files, classNames);
+    }
+  }
+
+  private final Path basedir;
+
+  private final Map<String, VersionDir> previous;
+
+  /**
+   * @param previous the result of a previous scan, by path
+   */
+  LocalRepositoryScanner(Path basedir, Map<String, VersionDir> previous) {
+    this.basedir = basedir;
+    this.previous = previous;
+  }
+
+  /**
+   * Returns the pool shared by all scans and index updates. It is created on first use, its daemon workers terminate
+   * when idle, so it is never shut down.
+   */
+  static ForkJoinPool getPool() {
+    return PoolHolder.POOL;
+  }
+
+  private static final class PoolHolder {
+    static final ForkJoinPool POOL = new ForkJoinPool(THREADS, pool -> {
+      ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName("m2e local repository index " + thread.getPoolIndex()); //$NON-NLS-1$
+      thread.setDaemon(true);
+      return thread;
+    }, null, false);
+  }
+
+  /**
+   * Scans the whole repository and returns its version directories by path.
+   */
+  Map<String, VersionDir> scan(IProgressMonitor monitor) {
+    Map<String, VersionDir> result = new ConcurrentHashMap<>();
+    if(!Files.isDirectory(basedir)) {
+      return result;
+    }
+    getPool().invoke(new DirectoryScan(basedir, result, monitor));
+    if(monitor.isCanceled()) {
+      throw new OperationCanceledException();
+    }
+    return result;
+  }
+
+  /**
+   * Scans a single directory, returns <code>null</code> if it is not a version directory or does not exist.
+   */
+  VersionDir scanVersion(Path dir) throws IOException {
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, Files::isRegularFile)) {
+      stream.forEach(files::add);
+    } catch(NoSuchFileException ex) {
+      return null;
+    }
+    return scanVersion(dir, files);
+  }
+
+  private VersionDir scanVersion(Path dir, List<Path> files) {
+    Path relative = basedir.relativize(dir);
+    int count = relative.getNameCount();
+    if(count < 3) {
+      return null;
+    }
+    String version = relative.getFileName().toString();
+    String artifactId = relative.getName(count - 2).toString();
+    String prefix = artifactId + '-' + version;
+    String path = relative.toString().replace(File.separatorChar, '/');
+    VersionDir old = previous.get(path);
+
+    List<ArtifactFile> artifactFiles = new ArrayList<>();
+    Path pom = null;
+    for(Path file : files) {
+      String name = file.getFileName().toString();
+      if(name.length() <= prefix.length() + 1 || !name.startsWith(prefix)) {
+        continue;
+      }
+      String classifier = null;
+      String extension;
+      char separator = name.charAt(prefix.length());
+      int dot = name.indexOf('.', prefix.length() + 1);
+      if(separator == '.') {
+        extension = name.substring(prefix.length() + 1);
+      } else if(separator == '-' && dot > prefix.length() + 1 && dot < name.length() - 1) {
+        classifier = name.substring(prefix.length() + 1, dot);
+        extension = name.substring(dot + 1);
+      } else {
+        continue;
+      }
+      if(IGNORED_EXTENSIONS.contains(extension.substring(extension.lastIndexOf('.') + 1))) {
+        continue;
+      }
+      BasicFileAttributes attributes;
+      try {
+        attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      } catch(IOException ex) {
+        continue; // deleted in the meantime
+      }
+      long size = attributes.size();
+      long lastModified = attributes.lastModifiedTime().toMillis();
+      ArtifactFile oldFile = old != null ? old.getFile(name) : null;
+      // the side file may be written after the artifact, so missing checksums are looked up again
+      String sha1 = oldFile != null && oldFile.size() == size && oldFile.lastModified() == lastModified
+          && oldFile.sha1() != null ? oldFile.sha1() : readSha1(file.resolveSibling(name + ".sha1")); //$NON-NLS-1$
+      artifactFiles.add(new ArtifactFile(name, classifier, extension, sha1, size, lastModified));
+      if(classifier == null && "pom".equals(extension)) { //$NON-NLS-1$
+        pom = file;
+      }
+    }
+    if(artifactFiles.isEmpty()) {
+      return null;
+    }
+
+    String groupId = relative.subpath(0, count - 2).toString().replace(File.separatorChar, '.');
+    VersionDir result = new VersionDir(path, groupId, artifactId, version, null, List.copyOf(artifactFiles), null);
+    String packaging;
+    String pomName = prefix + ".pom"; //$NON-NLS-1$
+    if(pom != null && old != null && old.getFile(pomName) != null
+        && result.getFile(pomName).isUnchanged(old.getFile(pomName))) {
+      packaging = old.packaging();
+    } else if(pom != null) {
+      packaging = readPackaging(pom);
+    } else {
+      ArtifactFile main = result.getClassifiedFile(null);
+      packaging = main != null ? main.extension() : DEFAULT_PACKAGING;
+    }
+    ArtifactFile mainJar = result.getMainJar();
+    String classNames = old != null && mainJar != null && mainJar.isUnchanged(old.getMainJar()) ? old.classNames()
+        : null;
+    return new VersionDir(path, groupId, artifactId, version, packaging, result.files(), classNames);
+  }
+
+  /**
+   * Returns the packaging of the given pom without building its model. Packaging is never inherited, so the first
+   * packaging element outside of dependencies, build and profiles is the one of the project.
+   */
+  static String readPackaging(Path pom) {
+    try {
+      // element names and packaging values are ASCII, so any ASCII compatible encoding works
+      String content = new String(Files.readAllBytes(pom), StandardCharsets.ISO_8859_1);
+      int end = content.length();
+      for(String section : POM_SECTIONS) {
+        int index = content.indexOf(section);
+        if(index >= 0 && index < end) {
+          end = index;
+        }
+      }
+      Matcher matcher = PACKAGING.matcher(content).region(0, end);
+      if(matcher.find()) {
+        return matcher.group(1);
+      }
+    } catch(IOException ex) {
+      log.debug("Can't read packaging of {}", pom, ex); //$NON-NLS-1$
+    }
+    return DEFAULT_PACKAGING;
+  }
+
+  private static String readSha1(Path file) {
+    try {
+      String content = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1).trim();
+      int end = 0;
+      while(end < content.length() && Character.digit(content.charAt(end), 16) >= 0) {
+        end++ ;
+      }
+      return end == 40 ? content.substring(0, end).toLowerCase() : null;
+    } catch(IOException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the names of the top level classes of the given jar, an empty string if it can't be read.
+   */
+  static String readClassNames(Path jar) {
+    StringBuilder names = new StringBuilder();
+    try (ZipFile zip = new ZipFile(jar.toFile())) {
+      Enumeration<? extends ZipEntry> entries = zip.entries();
+      while(entries.hasMoreElements()) {
+        String name = entries.nextElement().getName();
+        if(!name.endsWith(".class") || name.indexOf('$') >= 0 || name.indexOf('-') >= 0 //$NON-NLS-1$
+            || name.startsWith("META-INF/")) { //$NON-NLS-1$
+          continue; // inner classes, module-info, package-info and multi-release versions
+        }
+        if(!names.isEmpty()) {
+          names.append('\n');
+        }
+        for(int i = 0; i < name.length() - 6; i++ ) {
+          char c = name.charAt(i);
+          names.append(c == '/' ? '.' : c);
+        }
+      }
+    } catch(IOException ex) {
+      log.debug("Can't read classes of {}", jar, ex); //$NON-NLS-1$
+    }
+    return names.toString();
+  }
+
+  private class DirectoryScan extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Path dir;
+
+    private final Map<String, VersionDir> result;
+
+    private final IProgressMonitor monitor;
+
+    DirectoryScan(Path dir, Map<String, VersionDir> result, IProgressMonitor monitor) {
+      this.dir = dir;
+      this.result = result;
+      this.monitor = monitor;
+    }
+
+    @Override
+    protected void compute() {
+      if(monitor.isCanceled()) {
+        return;
+      }
+      List<DirectoryScan> children = new ArrayList<>();
+      List<Path> files = new ArrayList<>();
+      try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+        for(Path child : stream) {
+          if(Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+            if(!child.getFileName().toString().startsWith(".")) { //$NON-NLS-1$
+              children.add(new DirectoryScan(child, result, monitor));
+            }
+          } else {
+            files.add(child);
+          }
+        }
+      } catch(IOException ex) {
+        log.debug("Can't list {}", dir, ex); //$NON-NLS-1$
+        return;
+      }
+      if(!files.isEmpty()) {
+        VersionDir version = scanVersion(dir, files);
+        if(version != null) {
+          result.put(version.path(), version);
+        }
+      }
+      invokeAll(children);
+    }
+  }
+}
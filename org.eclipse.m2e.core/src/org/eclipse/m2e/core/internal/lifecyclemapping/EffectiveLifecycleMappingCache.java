@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.lifecyclemapping;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadata;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadataSource;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionFilter;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.io.xpp3.LifecycleMappingMetadataSourceXpp3Writer;
+import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
+import org.eclipse.m2e.core.lifecyclemapping.model.PluginExecutionAction;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+
+
+/**
+ * Memoizes the effective lifecycle mapping (packaging lookup and mojo execution mapping) of projects. Projects that
+ * share packaging, mojo executions and mapping metadata sources, e.g. modules of the same parent, get the same result,
+ * which is then computed only once. Results that depend on plugin parameter values or that reported problems are not
+ * memoized. Memoized results are detached from the projects they were computed for, metadata that originates from a
+ * pom refers to its project by id only.
+ */
+final class EffectiveLifecycleMappingCache {
+  private static final Logger log = LoggerFactory.getLogger(EffectiveLifecycleMappingCache.class);
+
+  private static final int SIZE = Integer.getInteger("m2e.lifecyclemapping.cache.size", 500);
+
+  private static final Cache<List<Object>, Entry> RESULTS = CacheBuilder.newBuilder().maximumSize(SIZE).build();
+
+  /**
+   * Content fingerprints of metadata sources, weak keys are compared by identity.
+   */
+  private static final Cache<LifecycleMappingMetadataSource, SourceFingerprint> FINGERPRINTS = CacheBuilder
+      .newBuilder().weakKeys().build();
+
+  private EffectiveLifecycleMappingCache() { // static use only
+  }
+
+  private record Entry(LifecycleMappingMetadata lifecycleMappingMetadata,
+      Map<MojoExecutionKey, List<IPluginExecutionMetadata>> executionMapping) {
+  }
+
+  /**
+   * @param parameterFilters filters that match plugin parameter values, their outcome is specific to a project
+   */
+  private record SourceFingerprint(String digest, List<PluginExecutionFilter> parameterFilters) {
+  }
+
+  /**
+   * Returns the key of the effective lifecycle mapping for the given inputs, or <code>null</code> if the mapping must
+   * not be memoized.
+   */
+  static List<Object> getKey(String packaging, List<MappingMetadataSource> metadataSources,
+      List<MojoExecution> mojoExecutions, PluginExecutionAction defaultMojoExecutionAction) {
+    List<Object> key = new ArrayList<>();
+    key.add(packaging);
+    key.add(defaultMojoExecutionAction);
+    List<PluginExecutionFilter> parameterFilters = new ArrayList<>();
+    for(MappingMetadataSource source : metadataSources) {
+      if(source instanceof SimpleMappingMetadataSource simpleSource) {
+        for(LifecycleMappingMetadataSource metadataSource : simpleSource.getSources()) {
+          SourceFingerprint fingerprint = getFingerprint(metadataSource);
+          if(fingerprint == null) {
+            return null;
+          }
+          key.add(fingerprint.digest());
+          parameterFilters.addAll(fingerprint.parameterFilters());
+        }
+      } else {
+        // annotations and failed sources are specific to a project
+        return null;
+      }
+    }
+    if(mojoExecutions != null) {
+      for(MojoExecution execution : mojoExecutions) {
+        MojoExecutionKey executionKey = new MojoExecutionKey(execution);
+        for(PluginExecutionFilter filter : parameterFilters) {
+          if(filter.match(executionKey)) {
+            return null;
+          }
+        }
+        key.add(executionKey);
+      }
+    }
+    return key;
+  }
+
+  /**
+   * Copies a memoized result into the given result, returns <code>false</code> if there is none.
+   */
+  static boolean get(List<Object> key, LifecycleMappingResult result) {
+    Entry entry = RESULTS.getIfPresent(key);
+    if(entry == null) {
+      return false;
+    }
+    result.setLifecycleMappingMetadata(entry.lifecycleMappingMetadata());
+    result.setMojoExecutionMapping(copy(entry.executionMapping()));
+    return true;
+  }
+
+  /**
+   * Memoizes the given result, callers must not memoize results that reported problems.
+   */
+  static void put(List<Object> key, LifecycleMappingResult result) {
+    if(result.getMojoExecutionMapping() != null) {
+      Map<LifecycleMappingMetadataSource, LifecycleMappingMetadataSource> detachedSources = new IdentityHashMap<>();
+      Map<MojoExecutionKey, List<IPluginExecutionMetadata>> executionMapping = new LinkedHashMap<>();
+      result.getMojoExecutionMapping().forEach((executionKey, metadatas) -> executionMapping.put(executionKey,
+          metadatas.stream().map(metadata -> detach(metadata, detachedSources)).toList()));
+      RESULTS.put(key, new Entry(detach(result.getLifecycleMappingMetadata(), detachedSources), executionMapping));
+    }
+  }
+
+  /**
+   * Discards all memoized results, must be called whenever workspace or bundle metadata changes.
+   */
+  static void clear() {
+    RESULTS.invalidateAll();
+    FINGERPRINTS.invalidateAll();
+  }
+
+  private static Map<MojoExecutionKey, List<IPluginExecutionMetadata>> copy(
+      Map<MojoExecutionKey, List<IPluginExecutionMetadata>> executionMapping) {
+    Map<MojoExecutionKey, List<IPluginExecutionMetadata>> copy = new LinkedHashMap<>();
+    executionMapping.forEach((key, metadatas) -> copy.put(key, new ArrayList<>(metadatas)));
+    return copy;
+  }
+
+  private static LifecycleMappingMetadata detach(LifecycleMappingMetadata metadata,
+      Map<LifecycleMappingMetadataSource, LifecycleMappingMetadataSource> detachedSources) {
+    if(metadata == null) {
+      return null;
+    }
+    LifecycleMappingMetadata copy = new LifecycleMappingMetadata();
+    copy.setPackagingType(metadata.getPackagingType());
+    copy.setLifecycleMappingId(metadata.getLifecycleMappingId());
+    copy.setLifecycleMappingVersionRange(metadata.getLifecycleMappingVersionRange());
+    List<PluginExecutionMetadata> executions = new ArrayList<>();
+    for(PluginExecutionMetadata execution : metadata.getPluginExecutions()) {
+      executions.add((PluginExecutionMetadata) detach(execution, detachedSources));
+    }
+    copy.setPluginExecutions(executions);
+    copy.setSource(detach(metadata.getSource(), detachedSources));
+    return copy;
+  }
+
+  private static IPluginExecutionMetadata detach(IPluginExecutionMetadata metadata,
+      Map<LifecycleMappingMetadataSource, LifecycleMappingMetadataSource> detachedSources) {
+    if(metadata instanceof PluginExecutionMetadata execution) {
+      PluginExecutionMetadata copy = execution.clone();
+      copy.setSource(detach(execution.getSource(), detachedSources));
+      return copy;
+    }
+    return metadata;
+  }
+
+  /**
+   * Replaces a source that originates from a pom by a copy that refers to the project by id, other sources do not
+   * reference projects and are kept.
+   */
+  private static LifecycleMappingMetadataSource detach(LifecycleMappingMetadataSource source,
+      Map<LifecycleMappingMetadataSource, LifecycleMappingMetadataSource> detachedSources) {
+    if(source == null || !(source.getSource() instanceof MavenProject project)) {
+      return source;
+    }
+    return detachedSources.computeIfAbsent(source, s -> {
+      LifecycleMappingMetadataSource copy = new LifecycleMappingMetadataSource();
+      copy.setGroupId(s.getGroupId());
+      copy.setArtifactId(s.getArtifactId());
+      copy.setVersion(s.getVersion());
+      copy.setSource(project.getId());
+      return copy;
+    });
+  }
+
+  private static SourceFingerprint getFingerprint(LifecycleMappingMetadataSource metadataSource) {
+    try {
+      return FINGERPRINTS.get(metadataSource, () -> computeFingerprint(metadataSource));
+    } catch(ExecutionException ex) {
+      log.debug("Cannot compute fingerprint of lifecycle mapping metadata source {}", metadataSource, ex); //$NON-NLS-1$
+      return null;
+    }
+  }
+
+  private static SourceFingerprint computeFingerprint(LifecycleMappingMetadataSource metadataSource)
+      throws IOException {
+    StringWriter content = new StringWriter();
+    // the origin of the metadata is reported in markers and quick fixes, so it is part of the fingerprint
+    Object origin = metadataSource.getSource();
+    if(origin instanceof MavenProject project) {
+      content.write(project.getId() + '@' + project.getFile());
+    } else {
+      content.write(String.valueOf(origin));
+    }
+    new LifecycleMappingMetadataSourceXpp3Writer().write(content, metadataSource);
+
+    List<PluginExecutionFilter> parameterFilters = new ArrayList<>();
+    addParameterFilters(metadataSource.getPluginExecutions(), parameterFilters);
+    for(LifecycleMappingMetadata lifecycleMapping : metadataSource.getLifecycleMappings()) {
+      addParameterFilters(lifecycleMapping.getPluginExecutions(), parameterFilters);
+    }
+    return new SourceFingerprint(DigestUtils.sha1Hex(content.toString()), parameterFilters);
+  }
+
+  private static void addParameterFilters(List<PluginExecutionMetadata> executions,
+      List<PluginExecutionFilter> parameterFilters) {
+    if(executions != null) {
+      for(PluginExecutionMetadata execution : executions) {
+        PluginExecutionFilter filter = execution.getFilter();
+        if(filter != null && !filter.getParameters().isEmpty()) {
+          parameterFilters.add(filter);
+        }
+      }
+    }
+  }
+}
@@ -41,10 +41,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
 
 import org.osgi.framework.Bundle;
 import org.osgi.framework.FrameworkUtil;
@@ -134,7 +132,7 @@ public class LifecycleMappingFactory {
 
   private static final String LIFECYCLE_MAPPING_METADATA_SOURCE_PATH = '/' + LIFECYCLE_MAPPING_METADATA_SOURCE_NAME;
 
-  private static final String LIFECYCLE_MAPPING_METADATA_EMBEDDED_SOURCE_PATH = "META-INF/m2e/" //$NON-NLS-1$
+  static final String LIFECYCLE_MAPPING_METADATA_EMBEDDED_SOURCE_PATH = "META-INF/m2e/" //$NON-NLS-1$
       + LIFECYCLE_MAPPING_METADATA_SOURCE_NAME;
 
   public static final String EXTENSION_LIFECYCLE_MAPPINGS = IMavenConstants.PLUGIN_ID + ".lifecycleMappings"; //$NON-NLS-1$
@@ -248,8 +246,17 @@ public class LifecycleMappingFactory {
       try {
         Map<String, List<MappingMetadataSource>> projectSources = getProjectMetadataSourcesMap(mavenProject,
             getBundleMetadataSources(), mojoExecutions, true, monitor);
-        calculateEffectiveLifecycleMappingMetadata(result, asList(projectSources), mavenProject, mojoExecutions, true,
-            monitor);
+        List<MappingMetadataSource> metadataSources = asList(projectSources);
+        List<Object> key = EffectiveLifecycleMappingCache.getKey(packagingType, metadataSources, mojoExecutions,
+            MavenPlugin.getMavenConfiguration().getDefaultMojoExecutionAction());
+        if(key == null || !EffectiveLifecycleMappingCache.get(key, result)) {
+          int problems = result.getProblems().size();
+          calculateEffectiveLifecycleMappingMetadata(result, metadataSources, mavenProject, mojoExecutions, true,
+              monitor);
+          if(key != null && result.getProblems().size() == problems) {
+            EffectiveLifecycleMappingCache.put(key, result);
+          }
+        }
       } catch(LifecycleMappingConfigurationException e) {
         // could not read/parse/interpret mapping metadata configured in the pom or inherited from parent pom.
         // record the problem and return
@@ -427,12 +434,6 @@ public class LifecycleMappingFactory {
       }
       LifecycleMappingMetadataSource metadata = readMavenPluginEmbeddedMetadata(artifact);
       if(metadata != null) {
-        // enforce embedded metadata only contains mappings for this plugin and nothing else
-        for(LifecycleMappingMetadata lifecycleMetadta : metadata.getLifecycleMappings()) {
-          enforcePluginMapping(artifact, lifecycleMetadta.getPluginExecutions());
-        }
-        enforcePluginMapping(artifact, metadata.getPluginExecutions());
-
         result.put(file, metadata);
       }
     }
@@ -440,6 +441,17 @@ public class LifecycleMappingFactory {
     return new ArrayList<>(result.values());
   }
 
+  /**
+   * Enforces that the given metadata embedded in the given plugin only contains mappings for this plugin and nothing
+   * else. Modifies the metadata, so it must be called once when the metadata is read and before it is shared.
+   */
+  static void enforcePluginMappings(Artifact artifact, LifecycleMappingMetadataSource metadata) {
+    for(LifecycleMappingMetadata lifecycleMetadta : metadata.getLifecycleMappings()) {
+      enforcePluginMapping(artifact, lifecycleMetadta.getPluginExecutions());
+    }
+    enforcePluginMapping(artifact, metadata.getPluginExecutions());
+  }
+
   private static void enforcePluginMapping(Artifact artifact, List<PluginExecutionMetadata> executions) {
     if(executions == null) {
       return;
@@ -475,14 +487,8 @@ public class LifecycleMappingFactory {
     LifecycleMappingMetadataSource metadata = null;
     try {
       if(file.isFile()) {
-        try (JarFile jar = new JarFile(file)) {
-          ZipEntry entry = jar.getEntry(LIFECYCLE_MAPPING_METADATA_EMBEDDED_SOURCE_PATH);
-          if(entry == null) {
-            return null;
-          }
-          InputStream is = jar.getInputStream(entry);
-          metadata = createLifecycleMappingMetadataSource(is);
-        }
+        // already has its source set and its mappings enforced
+        return PluginEmbeddedMetadataCache.getInstance().getMetadata(artifact);
       } else if(file.isDirectory()) {
         file = new File(file, LIFECYCLE_MAPPING_METADATA_EMBEDDED_SOURCE_PATH);
         if(file.isFile()) {
@@ -497,6 +503,7 @@ public class LifecycleMappingFactory {
     }
     if(metadata != null) {
       metadata.setSource(artifact);
+      enforcePluginMappings(artifact, metadata);
     }
     return metadata;
   }
@@ -509,6 +516,7 @@ public class LifecycleMappingFactory {
 
   public static synchronized LifecycleMappingMetadataSource getWorkspaceMetadata(boolean reload) {
     if(workspaceMetadataSource == null || reload) {
+      EffectiveLifecycleMappingCache.clear();
       File mappingFile = getWorkspaceMetadataFile();
       try (InputStream is = new FileInputStream(mappingFile)) {
         workspaceMetadataSource = createLifecycleMappingMetadataSource(is);
@@ -538,6 +546,7 @@ public class LifecycleMappingFactory {
       log.error(ex.getMessage(), ex);
     }
     workspaceMetadataSource = metadata;
+    EffectiveLifecycleMappingCache.clear();
   }
 
   public static void calculateEffectiveLifecycleMappingMetadata(LifecycleMappingResult result,
@@ -1360,9 +1369,8 @@ public class LifecycleMappingFactory {
       // TODO deal with configurators that have been removed since facade was first created
       if(result.hasProblems()) {
         IMavenMarkerManager markerManager = MavenPluginActivator.getDefault().getMavenMarkerManager();
-        for(MavenProblemInfo problem : result.getProblems()) {
-          markerManager.addErrorMarker(facade.getPom(), IMavenConstants.MARKER_LIFECYCLEMAPPING_ID, problem);
-        }
+        markerManager.addErrorMarkers(facade.getPom(), IMavenConstants.MARKER_LIFECYCLEMAPPING_ID,
+            result.getProblems());
       }
     }
     return configurators;
@@ -1453,10 +1461,18 @@ public class LifecycleMappingFactory {
     return INTERESTING_PHASES.contains(phase);
   }
 
+  /**
+   * Writes the cache of the lifecycle mapping metadata embedded in maven plugin jars, called when the plugin stops.
+   */
+  public static void savePluginEmbeddedMetadata() {
+    PluginEmbeddedMetadataCache.close();
+  }
+
   /**
    * @param bundleMetadataSources The bundleMetadataSources to set.
    */
   public static synchronized void setBundleMetadataSources(List<LifecycleMappingMetadataSource> bundleMetadataSources) {
     LifecycleMappingFactory.bundleMetadataSources = bundleMetadataSources;
+    EffectiveLifecycleMappingCache.clear();
   }
 }
@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.lifecyclemapping;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.core.runtime.Platform;
+
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import org.apache.maven.artifact.Artifact;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadataSource;
+
+
+/**
+ * Workspace wide cache of the lifecycle mapping metadata embedded in maven plugin jars. Entries are keyed by the jar
+ * path and validated against its size and modification time, so each distinct plugin jar is opened only once, also
+ * across restarts. Jars without embedded metadata are remembered as well. The cache file is read on first access and
+ * written when the plugin stops, jars that no longer exist are dropped when it is written.
+ */
+final class PluginEmbeddedMetadataCache {
+  private static final Logger log = LoggerFactory.getLogger(PluginEmbeddedMetadataCache.class);
+
+  private static final String CACHE_FILE = "pluginEmbeddedMetadata.cache"; //$NON-NLS-1$
+
+  private static final int VERSION = 1;
+
+  private static PluginEmbeddedMetadataCache instance;
+
+  private final Path file;
+
+  private final Object writeLock = new Object();
+
+  private Map<String, Entry> entries;
+
+  private volatile boolean dirty;
+
+  /**
+   * Creates a cache stored in the given file, or kept in memory only if the file is <code>null</code>.
+   */
+  PluginEmbeddedMetadataCache(File file) {
+    this.file = file != null ? file.toPath() : null;
+  }
+
+  /**
+   * Returns the cache stored in the state location of this bundle.
+   */
+  static synchronized PluginEmbeddedMetadataCache getInstance() {
+    if(instance == null) {
+      Bundle bundle = FrameworkUtil.getBundle(PluginEmbeddedMetadataCache.class);
+      File file = null;
+      if(bundle != null && bundle.getBundleContext() != null) {
+        file = Platform.getStateLocation(bundle).append(CACHE_FILE).toFile();
+      }
+      instance = new PluginEmbeddedMetadataCache(file);
+    }
+    return instance;
+  }
+
+  /**
+   * Writes and forgets the cache of this bundle, if it was used.
+   */
+  static void close() {
+    PluginEmbeddedMetadataCache cache;
+    synchronized(PluginEmbeddedMetadataCache.class) {
+      cache = instance;
+      instance = null;
+    }
+    if(cache != null) {
+      try {
+        cache.write();
+      } catch(IOException ex) {
+        log.error("Failed to persist plugin embedded lifecycle mapping metadata cache", ex);
+      }
+    }
+  }
+
+  /**
+   * Returns the metadata embedded in the given plugin jar, or <code>null</code> if there is none. The returned instance
+   * is shared by all callers and must not be modified, its mappings are already restricted to the plugin.
+   */
+  LifecycleMappingMetadataSource getMetadata(Artifact artifact) throws IOException, XmlPullParserException {
+    File jar = artifact.getFile();
+    String path = jar.getAbsolutePath();
+    long size = jar.length();
+    long lastModified = jar.lastModified();
+    Map<String, Entry> entries = getEntries();
+    Entry entry = entries.get(path);
+    if(entry == null || entry.size != size || entry.lastModified != lastModified) {
+      entry = new Entry(size, lastModified, readContent(jar));
+      entries.put(path, entry);
+      dirty = true;
+    }
+    return entry.getMetadata(artifact);
+  }
+
+  private static byte[] readContent(File file) throws IOException {
+    try (JarFile jar = new JarFile(file)) {
+      ZipEntry entry = jar.getEntry(LifecycleMappingFactory.LIFECYCLE_MAPPING_METADATA_EMBEDDED_SOURCE_PATH);
+      if(entry == null) {
+        return null;
+      }
+      try (InputStream is = jar.getInputStream(entry)) {
+        return is.readAllBytes();
+      }
+    }
+  }
+
+  /**
+   * Writes the cache if jars were read since it was read or last written.
+   */
+  void write() throws IOException {
+    synchronized(writeLock) {
+      if(!dirty || file == null) {
+        return;
+      }
+      // entries added while writing mark the cache dirty again
+      dirty = false;
+      Path temp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+      try {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+          Map<String, Entry> existing = new HashMap<>();
+          getEntries().forEach((path, entry) -> {
+            if(new File(path).isFile()) {
+              existing.put(path, entry);
+            }
+          });
+          out.writeInt(VERSION);
+          out.writeInt(existing.size());
+          for(Map.Entry<String, Entry> entry : existing.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue().size);
+            out.writeLong(entry.getValue().lastModified);
+            byte[] content = entry.getValue().content;
+            out.writeInt(content != null ? content.length : -1);
+            if(content != null) {
+              out.write(content);
+            }
+          }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      } catch(IOException ex) {
+        dirty = true;
+        throw ex;
+      }
+    }
+  }
+
+  private synchronized Map<String, Entry> getEntries() {
+    if(entries == null) {
+      entries = new ConcurrentHashMap<>();
+      if(file != null && Files.isRegularFile(file)) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+          if(in.readInt() == VERSION) {
+            for(int count = in.readInt(); count > 0; count-- ) {
+              String path = in.readUTF();
+              long size = in.readLong();
+              long lastModified = in.readLong();
+              byte[] content = null;
+              int length = in.readInt();
+              if(length >= 0) {
+                content = new byte[length];
+                in.readFully(content);
+              }
+              entries.put(path, new Entry(size, lastModified, content));
+            }
+          }
+        } catch(IOException ex) {
+          log.error("Failed to load plugin embedded lifecycle mapping metadata cache", ex);
+          entries.clear();
+        }
+      }
+    }
+    return entries;
+  }
+
+  private static final class Entry {
+
+    final long size;
+
+    final long lastModified;
+
+    /**
+     * Raw metadata xml, <code>null</code> if the plugin does not embed metadata
+     */
+    final byte[] content;
+
+    private LifecycleMappingMetadataSource metadata;
+
+    Entry(long size, long lastModified, byte[] content) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.content = content;
+    }
+
+    synchronized LifecycleMappingMetadataSource getMetadata(Artifact artifact)
+        throws IOException, XmlPullParserException {
+      if(metadata == null && content != null) {
+        LifecycleMappingMetadataSource created = LifecycleMappingFactory
+            .createLifecycleMappingMetadataSource(new ByteArrayInputStream(content));
+        created.setSource(artifact);
+        LifecycleMappingFactory.enforcePluginMappings(artifact, created);
+        metadata = created;
+      }
+      return metadata;
+    }
+  }
+}
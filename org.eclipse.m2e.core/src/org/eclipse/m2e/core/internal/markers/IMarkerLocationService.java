@@ -13,7 +13,10 @@
 
 package org.eclipse.m2e.core.internal.markers;
 
+import java.util.List;
+
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
 
 
 /**
@@ -30,4 +33,15 @@ public interface IMarkerLocationService {
    */
   void findLocationForMarker(IMarker marker);
 
+  /**
+   * sets the offset attributes on the given markers of the given resource, implementations should read the resource
+   * only once for all of them
+   *
+   * @param resource
+   * @param markers
+   */
+  default void findLocationForMarkers(IResource resource, List<IMarker> markers) {
+    markers.forEach(this::findLocationForMarker);
+  }
+
 }
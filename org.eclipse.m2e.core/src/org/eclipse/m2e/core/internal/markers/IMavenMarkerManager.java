@@ -15,6 +15,7 @@ package org.eclipse.m2e.core.internal.markers;
 
 import java.util.List;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
@@ -80,4 +81,23 @@ public interface IMavenMarkerManager {
   void addErrorMarkers(IResource resource, String type, List<MavenProblemInfo> problems) throws CoreException;
 
   void addErrorMarker(IResource resource, String type, MavenProblemInfo problem);
+
+  /**
+   * Replaces the markers of the specified type (including subtypes) of an IResource by the markers of the given
+   * problems. Markers of problems that already have one are kept as they are.
+   */
+  void replaceMarkers(IResource resource, String type, List<MavenProblemInfo> problems);
+
+  /**
+   * Replaces the markers of the specified type (including subtypes) of a pom file by the markers of the problems of a
+   * MavenExecutionResult.
+   */
+  void replaceMarkers(IResource pomFile, String type, MavenExecutionResult result);
+
+  /**
+   * Replaces the markers of the specified type (including subtypes) of a pom file by the markers of the problems of a
+   * MavenExecutionResult and the editor hint markers of its project. Markers of problems and hints that already have
+   * one are kept.
+   */
+  void replaceMarkersAndEditorHints(IFile pom, String type, MavenExecutionResult result);
 }
@@ -14,6 +14,8 @@
 
 package org.eclipse.m2e.core.internal.markers;
 
+import java.util.List;
+
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceReference;
 import org.slf4j.Logger;
@@ -21,6 +23,7 @@ import org.slf4j.LoggerFactory;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
 
 import org.apache.maven.project.MavenProject;
 
@@ -38,6 +41,16 @@ public class MarkerUtils {
   private static Logger log = LoggerFactory.getLogger(MarkerUtils.class);
 
   public static void decorateMarker(IMarker marker) {
+    decorateMarkers(marker.getResource(), List.of(marker));
+  }
+
+  /**
+   * Decorates all given markers of the given resource at once.
+   */
+  public static void decorateMarkers(IResource resource, List<IMarker> markers) {
+    if(markers.isEmpty()) {
+      return;
+    }
     BundleContext context = MavenPluginActivator.getDefault().getBundleContext();
     ServiceReference<IMarkerLocationService> ref = context.getServiceReference(IMarkerLocationService.class);
     if(ref == null) {
@@ -47,7 +60,7 @@ public class MarkerUtils {
     IMarkerLocationService service = context.getService(ref);
     if(service != null) {
       try {
-        service.findLocationForMarker(marker);
+        service.findLocationForMarkers(resource, markers);
       } finally {
         context.ungetService(ref);
       }
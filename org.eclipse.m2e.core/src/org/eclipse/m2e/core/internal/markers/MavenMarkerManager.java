@@ -17,17 +17,22 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.osgi.util.NLS;
@@ -46,7 +51,10 @@ import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingResult;
 
 import org.eclipse.m2e.core.embedder.IMavenConfiguration;
+import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.Messages;
+import org.eclipse.m2e.core.internal.metrics.Metrics;
+import org.eclipse.m2e.core.internal.metrics.Metrics.Measurement;
 
 
 @Component(service = {IMavenMarkerManager.class})
@@ -60,6 +68,52 @@ public class MavenMarkerManager implements IMavenMarkerManager {
 
   @Override
   public void addMarkers(IResource pomResource, String type, MavenExecutionResult result) {
+    try (Measurement m = Metrics.start(Metrics.PHASE_MARKERS, getProjectName(pomResource))) {
+      addProblemMarkers(pomResource, type, getProblems(pomResource, result));
+    }
+  }
+
+  @Override
+  public void replaceMarkers(IResource pomResource, String type, MavenExecutionResult result) {
+    try (Measurement m = Metrics.start(Metrics.PHASE_MARKERS, getProjectName(pomResource))) {
+      replaceMarkers(pomResource, type, getProblems(pomResource, result), marker -> false);
+    }
+  }
+
+  /**
+   * Replaces the markers of the problems like {@link #replaceMarkers(IResource, String, List)}, while the editor hint
+   * markers are added again. Adding a hint that already has a marker updates that marker, so only the markers of hints
+   * that are gone are deleted.
+   */
+  @Override
+  public void replaceMarkersAndEditorHints(IFile pom, String type, MavenExecutionResult result) {
+    if(!pom.isAccessible()) {
+      return;
+    }
+    IWorkspace workspace = pom.getWorkspace();
+    try (Measurement m = Metrics.start(Metrics.PHASE_MARKERS, getProjectName(pom))) {
+      List<MavenProblemInfo> problems = getProblems(pom, result);
+      workspace.run(monitor -> {
+        Predicate<IMarker> isHint = marker -> marker.getAttribute(IMavenConstants.MARKER_ATTR_EDITOR_HINT,
+            null) != null;
+        replaceMarkers(pom, type, problems, isHint);
+        Set<IMarker> obsoleteHints = new HashSet<>();
+        for(IMarker marker : pom.findMarkers(type, false /*includeSubtypes*/, IResource.DEPTH_ZERO)) {
+          if(isHint.test(marker)) {
+            obsoleteHints.add(marker);
+          }
+        }
+        MarkerUtils.addEditorHintMarkers(new HintMarkerManager(this, obsoleteHints), pom, result.getProject(), type);
+        if(!obsoleteHints.isEmpty()) {
+          workspace.deleteMarkers(obsoleteHints.toArray(IMarker[]::new));
+        }
+      }, workspace.getRuleFactory().markerRule(pom), IWorkspace.AVOID_UPDATE, null);
+    } catch(CoreException ex) {
+      log.error("Unable to replace markers; " + ex.toString(), ex); //$NON-NLS-1$
+    }
+  }
+
+  private List<MavenProblemInfo> getProblems(IResource pomResource, MavenExecutionResult result) {
     SourceLocation defaultSourceLocation = new SourceLocation(1, 0, 0);
     List<MavenProblemInfo> allProblems = new ArrayList<>();
 
@@ -82,8 +136,70 @@ public class MavenMarkerManager implements IMavenMarkerManager {
     if(mavenProject != null) {
       addMissingArtifactProblemInfos(mavenProject, defaultSourceLocation, allProblems);
     }
+    return allProblems;
+  }
 
-    addErrorMarkers(pomResource, type, allProblems);
+  /**
+   * Compares the existing markers of the given type with the markers of the given problems by message, line, columns,
+   * severity and transient flag. Only markers of problems that are gone are deleted and only markers of new problems
+   * are created, all in one workspace operation. The attributes of the markers that are kept are set again from their
+   * problems, like the location of a linked cause, and so is their character range, as the content before them may
+   * have changed.
+   */
+  @Override
+  public void replaceMarkers(IResource resource, String type, List<MavenProblemInfo> problems) {
+    try (Measurement m = Metrics.start(Metrics.PHASE_MARKERS, getProjectName(resource))) {
+      replaceMarkers(resource, type, problems, marker -> false);
+    }
+  }
+
+  private void replaceMarkers(IResource resource, String type, List<MavenProblemInfo> problems,
+      Predicate<IMarker> retained) {
+    if(!resource.isAccessible()) {
+      return;
+    }
+    IWorkspace workspace = resource.getWorkspace();
+    try {
+      workspace.run(monitor -> {
+        Map<MarkerKey, IMarker> existing = new HashMap<>();
+        List<IMarker> obsolete = new ArrayList<>();
+        for(IMarker marker : resource.findMarkers(type, true /*includeSubtypes*/, IResource.DEPTH_ZERO)) {
+          if(!retained.test(marker) && existing.putIfAbsent(MarkerKey.of(marker), marker) != null) {
+            obsolete.add(marker);
+          }
+        }
+        Set<MarkerKey> desired = new HashSet<>();
+        List<IMarker> markers = new ArrayList<>();
+        for(MavenProblemInfo problem : problems) {
+          MarkerKey key = MarkerKey.of(type, problem);
+          if(!desired.add(key)) {
+            continue;
+          }
+          IMarker marker = existing.get(key);
+          if(marker == null) {
+            marker = resource.createMarker(type, key.toAttributes());
+          }
+          // also for kept markers, the location of a linked cause or other attributes of the problem may have changed
+          try {
+            problem.processMarker(marker);
+          } catch(CoreException ex) {
+            log.error(ex.getMessage(), ex);
+          }
+          markers.add(marker);
+        }
+        existing.forEach((key, marker) -> {
+          if(!desired.contains(key)) {
+            obsolete.add(marker);
+          }
+        });
+        if(!obsolete.isEmpty()) {
+          workspace.deleteMarkers(obsolete.toArray(IMarker[]::new));
+        }
+        MarkerUtils.decorateMarkers(resource, markers);
+      }, workspace.getRuleFactory().markerRule(resource), IWorkspace.AVOID_UPDATE, null);
+    } catch(CoreException ex) {
+      log.error("Unable to replace markers; " + ex.toString(), ex); //$NON-NLS-1$
+    }
   }
 
   @Override
@@ -245,7 +361,9 @@ public class MavenMarkerManager implements IMavenMarkerManager {
   @Override
   public void deleteMarkers(IResource resource, boolean includeSubtypes, String type) throws CoreException {
     if(resource != null && resource.exists()) {
-      resource.deleteMarkers(type, includeSubtypes, IResource.DEPTH_INFINITE);
+      try (Measurement m = Metrics.start(Metrics.PHASE_MARKERS, getProjectName(resource))) {
+        resource.deleteMarkers(type, includeSubtypes, IResource.DEPTH_INFINITE);
+      }
     }
   }
 
@@ -255,10 +373,12 @@ public class MavenMarkerManager implements IMavenMarkerManager {
       return;
     }
 
-    IMarker[] markers = resource.findMarkers(type, false /*includeSubtypes*/, IResource.DEPTH_ZERO);
-    for(IMarker marker : markers) {
-      if(eq(attrValue, marker.getAttribute(attrName))) {
-        marker.delete();
+    try (Measurement m = Metrics.start(Metrics.PHASE_MARKERS, getProjectName(resource))) {
+      IMarker[] markers = resource.findMarkers(type, false /*includeSubtypes*/, IResource.DEPTH_ZERO);
+      for(IMarker marker : markers) {
+        if(eq(attrValue, marker.getAttribute(attrName))) {
+          marker.delete();
+        }
       }
     }
   }
@@ -308,25 +428,164 @@ public class MavenMarkerManager implements IMavenMarkerManager {
 
   @Override
   public void addErrorMarkers(IResource resource, String type, List<MavenProblemInfo> problems) {
+    try (Measurement m = Metrics.start(Metrics.PHASE_MARKERS, getProjectName(resource))) {
+      addProblemMarkers(resource, type, problems);
+    }
+  }
+
+  private void addProblemMarkers(IResource resource, String type, List<MavenProblemInfo> problems) {
+    List<IMarker> markers = new ArrayList<>(problems.size());
     for(MavenProblemInfo problem : problems) {
-      addErrorMarker(resource, type, problem);
+      IMarker marker = addProblemMarker(resource, type, problem);
+      if(marker != null) {
+        markers.add(marker);
+      }
     }
+    // resolve the locations of all markers with one read of the resource
+    MarkerUtils.decorateMarkers(resource, markers);
   }
 
   @Override
   public void addErrorMarker(IResource resource, String type, MavenProblemInfo problem) {
+    IMarker marker = addProblemMarker(resource, type, problem);
+    if(marker != null) {
+      MarkerUtils.decorateMarker(marker);
+    }
+  }
+
+  private IMarker addProblemMarker(IResource resource, String type, MavenProblemInfo problem) {
     IMarker marker = addMarker(resource, type, problem.getMessage(), problem.getLocation().getLineNumber(),
         problem.getSeverity());
     if(marker == null) {
       //resource is no longer accessible (eg. project being closed)
-      return;
+      return null;
     }
     try {
       problem.processMarker(marker);
     } catch(CoreException ex) {
       log.error(ex.getMessage(), ex);
     }
-    MarkerUtils.decorateMarker(marker);
+    return marker;
+  }
+
+  /**
+   * The attributes identifying a marker, like {@link #findMarker(IResource, String, String, int, int, boolean)}
+   * compares them.
+   */
+  private record MarkerKey(String type, Object message, Object lineNumber, Object columnStart, Object columnEnd,
+      Object severity, Object isTransient) {
+
+    private static final String[] ATTRIBUTES = {IMarker.MESSAGE, IMarker.LINE_NUMBER,
+        IMavenConstants.MARKER_COLUMN_START, IMavenConstants.MARKER_COLUMN_END, IMarker.SEVERITY, IMarker.TRANSIENT};
+
+    static MarkerKey of(IMarker marker) throws CoreException {
+      Object[] values = marker.getAttributes(ATTRIBUTES);
+      return new MarkerKey(marker.getType(), values[0], values[1], values[2], values[3], values[4], values[5]);
+    }
+
+    /**
+     * Returns the key of the marker of the given problem, with the attributes set by
+     * {@link MavenProblemInfo#processMarker(IMarker)}.
+     */
+    static MarkerKey of(String type, MavenProblemInfo problem) {
+      SourceLocation location = problem.getLocation();
+      return new MarkerKey(type, problem.getMessage(), location.getLineNumber(), location.getColumnStart(),
+          location.getColumnEnd(), problem.getSeverity(), false);
+    }
+
+    Map<String, Object> toAttributes() {
+      Map<String, Object> attributes = new HashMap<>();
+      if(message != null) {
+        attributes.put(IMarker.MESSAGE, message);
+      }
+      attributes.put(IMarker.LINE_NUMBER, lineNumber);
+      attributes.put(IMarker.SEVERITY, severity);
+      attributes.put(IMarker.TRANSIENT, isTransient);
+      return attributes;
+    }
+  }
+
+  /**
+   * Adds the editor hint markers through the given manager and takes the markers of the added hints out of the given
+   * obsolete hint markers.
+   */
+  private static final class HintMarkerManager implements IMavenMarkerManager {
+    private final IMavenMarkerManager delegate;
+
+    private final Set<IMarker> obsoleteHints;
+
+    HintMarkerManager(IMavenMarkerManager delegate, Set<IMarker> obsoleteHints) {
+      this.delegate = delegate;
+      this.obsoleteHints = obsoleteHints;
+    }
+
+    @Override
+    public IMarker addMarker(IResource resource, String type, String message, int lineNumber, int severity) {
+      IMarker marker = delegate.addMarker(resource, type, message, lineNumber, severity);
+      obsoleteHints.remove(marker);
+      return marker;
+    }
+
+    @Override
+    public void addMarkers(IResource pomFile, String type, MavenExecutionResult result) {
+      delegate.addMarkers(pomFile, type, result);
+    }
+
+    @Override
+    public void deleteMarkers(IResource resource, String type) throws CoreException {
+      delegate.deleteMarkers(resource, type);
+    }
+
+    @Override
+    public void deleteMarkers(IResource resource, boolean includeSubtypes, String type) throws CoreException {
+      delegate.deleteMarkers(resource, includeSubtypes, type);
+    }
+
+    @Override
+    public void deleteMarkers(IResource resource, String type, String attrName, String attrValue)
+        throws CoreException {
+      delegate.deleteMarkers(resource, type, attrName, attrValue);
+    }
+
+    @Override
+    public void addErrorMarkers(IResource resource, String type, Throwable ex) {
+      delegate.addErrorMarkers(resource, type, ex);
+    }
+
+    @Override
+    public void addErrorMarkers(IResource resource, String type, Exception ex) {
+      delegate.addErrorMarkers(resource, type, ex);
+    }
+
+    @Override
+    public void addErrorMarkers(IResource resource, String type, List<MavenProblemInfo> problems)
+        throws CoreException {
+      delegate.addErrorMarkers(resource, type, problems);
+    }
+
+    @Override
+    public void addErrorMarker(IResource resource, String type, MavenProblemInfo problem) {
+      delegate.addErrorMarker(resource, type, problem);
+    }
+
+    @Override
+    public void replaceMarkers(IResource resource, String type, List<MavenProblemInfo> problems) {
+      delegate.replaceMarkers(resource, type, problems);
+    }
+
+    @Override
+    public void replaceMarkers(IResource pomFile, String type, MavenExecutionResult result) {
+      delegate.replaceMarkers(pomFile, type, result);
+    }
+
+    @Override
+    public void replaceMarkersAndEditorHints(IFile pom, String type, MavenExecutionResult result) {
+      delegate.replaceMarkersAndEditorHints(pom, type, result);
+    }
+  }
+
+  private static String getProjectName(IResource resource) {
+    return resource != null && resource.getProject() != null ? resource.getProject().getName() : null;
   }
 
   private static boolean equals(org.eclipse.aether.artifact.Artifact a1, org.eclipse.aether.artifact.Artifact a2) {
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+
+/**
+ * Timers and cache counters of the registry refresh and project configuration, to find the projects, phases and
+ * project configurators dominating the refresh time.
+ * <p>
+ * Timers record the duration of a phase per project. Durations are kept as histograms with power of two millisecond
+ * buckets, so recording is cheap and the memory used does not grow with the number of measurements. Phases may nest,
+ * e.g. marker work is part of the resolve phase too. Work done for several projects at once, like reading the projects
+ * of one build or setting their classpath containers, is shared equally among these projects.
+ */
+public final class Metrics {
+
+  public static final String PHASE_READ = "refresh.read"; //$NON-NLS-1$
+
+  public static final String PHASE_RESOLVE = "refresh.resolve"; //$NON-NLS-1$
+
+  public static final String PHASE_LIFECYCLE_MAPPING = "refresh.lifecycleMapping"; //$NON-NLS-1$
+
+  public static final String PHASE_MARKERS = "refresh.markers"; //$NON-NLS-1$
+
+  public static final String PHASE_CONFIGURATION = "configuration"; //$NON-NLS-1$
+
+  /**
+   * Prefix of the phases of the project configurators, followed by the configurator id
+   */
+  public static final String PHASE_CONFIGURATOR = "configuration.configurator."; //$NON-NLS-1$
+
+  public static final String PHASE_CLASSPATH = "configuration.classpath"; //$NON-NLS-1$
+
+  public static final String CACHE_MAVEN_PROJECT = "MavenProjectCache"; //$NON-NLS-1$
+
+  public static final String CACHE_PROJECT_REALM = "ProjectRealmCache"; //$NON-NLS-1$
+
+  public static final String CACHE_EXTENSION_REALM = "ExtensionRealmCache"; //$NON-NLS-1$
+
+  public static final String CACHE_PLUGIN_REALM = "PluginRealmCache"; //$NON-NLS-1$
+
+  public static final String CACHE_PLUGIN_ARTIFACTS = "PluginArtifactsCache"; //$NON-NLS-1$
+
+  /**
+   * Number of histogram buckets, the last one counts durations of 2^14 ms and more
+   */
+  static final int BUCKETS = 16;
+
+  private static final Map<String, Map<String, Histogram>> timers = new ConcurrentHashMap<>();
+
+  private static final Map<String, CacheCounter> caches = new ConcurrentHashMap<>();
+
+  private Metrics() {
+  }
+
+  /**
+   * Starts measuring the given phase for the given project. The duration is recorded when the returned measurement is
+   * closed.
+   */
+  public static Measurement start(String phase, String project) {
+    return new Measurement(phase, project, System.nanoTime());
+  }
+
+  public static void record(String phase, String project, long nanos) {
+    timers.computeIfAbsent(phase, p -> new ConcurrentHashMap<>())
+        .computeIfAbsent(project != null ? project : "", p -> new Histogram()).record(nanos); //$NON-NLS-1$
+  }
+
+  public static void hit(String cache) {
+    getCacheCounter(cache).hits.increment();
+  }
+
+  public static void miss(String cache) {
+    getCacheCounter(cache).misses.increment();
+  }
+
+  private static CacheCounter getCacheCounter(String cache) {
+    return caches.computeIfAbsent(cache, c -> new CacheCounter());
+  }
+
+  public static void reset() {
+    timers.clear();
+    caches.clear();
+  }
+
+  /**
+   * Returns the histograms of each project by phase, both sorted by name.
+   */
+  public static SortedMap<String, SortedMap<String, Histogram>> getTimers() {
+    SortedMap<String, SortedMap<String, Histogram>> result = new TreeMap<>();
+    timers.forEach((phase, projects) -> result.put(phase, new TreeMap<>(projects)));
+    return result;
+  }
+
+  /**
+   * Returns the counters of each cache, sorted by name.
+   */
+  public static SortedMap<String, CacheCounter> getCacheCounters() {
+    return new TreeMap<>(caches);
+  }
+
+  /**
+   * Returns all timers and counters as JSON document.
+   */
+  public static String toJson() {
+    JsonObject timersJson = new JsonObject();
+    getTimers().forEach((phase, projects) -> {
+      Histogram total = new Histogram();
+      JsonObject projectsJson = new JsonObject();
+      projects.forEach((project, histogram) -> {
+        total.add(histogram);
+        projectsJson.add(project, histogram.toJson());
+      });
+      JsonObject phaseJson = total.toJson();
+      phaseJson.add("projects", projectsJson); //$NON-NLS-1$
+      timersJson.add(phase, phaseJson);
+    });
+    JsonObject cachesJson = new JsonObject();
+    getCacheCounters().forEach((cache, counter) -> {
+      JsonObject counterJson = new JsonObject();
+      counterJson.addProperty("hits", counter.getHits()); //$NON-NLS-1$
+      counterJson.addProperty("misses", counter.getMisses()); //$NON-NLS-1$
+      cachesJson.add(cache, counterJson);
+    });
+    JsonObject json = new JsonObject();
+    json.add("timers", timersJson); //$NON-NLS-1$
+    json.add("caches", cachesJson); //$NON-NLS-1$
+    return new GsonBuilder().setPrettyPrinting().create().toJson(json);
+  }
+
+  /**
+   * A running measurement of a phase.
+   */
+  public static final class Measurement implements AutoCloseable {
+    private final String phase;
+
+    private final String project;
+
+    private final long start;
+
+    Measurement(String phase, String project, long start) {
+      this.phase = phase;
+      this.project = project;
+      this.start = start;
+    }
+
+    @Override
+    public void close() {
+      record(phase, project, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Durations of a phase of one project.
+   */
+  public static final class Histogram {
+    private long count;
+
+    private long totalNanos;
+
+    private long maxNanos;
+
+    private final long[] buckets = new long[BUCKETS];
+
+    synchronized void record(long nanos) {
+      count++ ;
+      totalNanos += nanos;
+      maxNanos = Math.max(maxNanos, nanos);
+      long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+      int bucket = millis <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(millis);
+      buckets[Math.min(bucket, BUCKETS - 1)]++ ;
+    }
+
+    synchronized void add(Histogram other) {
+      synchronized(other) {
+        count += other.count;
+        totalNanos += other.totalNanos;
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+        for(int i = 0; i < BUCKETS; i++ ) {
+          buckets[i] += other.buckets[i];
+        }
+      }
+    }
+
+    public synchronized long getCount() {
+      return count;
+    }
+
+    public synchronized long getTotalMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+    }
+
+    public synchronized long getMaxMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(maxNanos);
+    }
+
+    /**
+     * Returns the number of durations in each bucket. Bucket <code>i</code> counts durations from <code>2^i</code> up
+     * to <code>2^(i+1)</code> milliseconds, the first bucket all durations below 2 ms.
+     */
+    public synchronized long[] getBuckets() {
+      return buckets.clone();
+    }
+
+    synchronized JsonObject toJson() {
+      JsonObject json = new JsonObject();
+      json.addProperty("count", count); //$NON-NLS-1$
+      json.addProperty("totalMillis", getTotalMillis()); //$NON-NLS-1$
+      json.addProperty("maxMillis", getMaxMillis()); //$NON-NLS-1$
+      JsonArray histogram = new JsonArray();
+      for(long bucket : buckets) {
+        histogram.add(bucket);
+      }
+      json.add("histogram", histogram); //$NON-NLS-1$
+      return json;
+    }
+  }
+
+  /**
+   * Hits and misses of a cache.
+   */
+  public static final class CacheCounter {
+    final LongAdder hits = new LongAdder();
+
+    final LongAdder misses = new LongAdder();
+
+    public long getHits() {
+      return hits.sum();
+    }
+
+    public long getMisses() {
+      return misses.sum();
+    }
+  }
+}
@@ -22,6 +22,7 @@ import org.apache.maven.plugin.DefaultExtensionRealmCache;
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.metrics.Metrics;
 
 
 /**
@@ -41,6 +42,17 @@ public class EclipseExtensionRealmCache extends DefaultExtensionRealmCache imple
     }
   };
 
+  @Override
+  public CacheRecord get(Key key) {
+    CacheRecord cacheRecord = super.get(key);
+    if(cacheRecord != null) {
+      Metrics.hit(Metrics.CACHE_EXTENSION_REALM);
+    } else {
+      Metrics.miss(Metrics.CACHE_EXTENSION_REALM);
+    }
+    return cacheRecord;
+  }
+
   @Override
   public void register(MavenProject project, Key key, CacheRecord record) {
     plunger.register(project, key);
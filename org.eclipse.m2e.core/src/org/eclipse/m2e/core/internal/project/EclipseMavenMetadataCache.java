@@ -15,10 +15,12 @@ package org.eclipse.m2e.core.internal.project;
 
 import java.io.File;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.inject.Singleton;
 
@@ -32,12 +34,17 @@ import org.eclipse.m2e.core.embedder.ArtifactKey;
 
 /**
  * EclipseMavenMetadataCache
+ * <p>
+ * Keeps a reverse index from the GAbV (bV==baseVersion) of the artifacts of each cache record to the record's key, so
+ * removing a project only touches the records that refer to it.
  *
  * @author igor
  */
 @Singleton
 public class EclipseMavenMetadataCache extends DefaultMavenMetadataCache implements IManagedCache {
 
+  final Map<ArtifactKey, Set<CacheKey>> keysByArtifact = new HashMap<>();
+
   @Override
   public void put(Artifact artifact, boolean resolveManagedVersions, ArtifactRepository localRepository,
       List<ArtifactRepository> remoteRepositories, ResolutionGroup result) {
@@ -52,48 +59,72 @@ public class EclipseMavenMetadataCache extends DefaultMavenMetadataCache impleme
     super.put(artifact, resolveManagedVersions, localRepository, remoteRepositories, result);
   }
 
+  @Override
+  protected void put(CacheKey cacheKey, ResolutionGroup result) {
+    synchronized(keysByArtifact) {
+      super.put(cacheKey, result);
+      CacheRecord record = cache.get(cacheKey);
+      if(record != null) {
+        forEachArtifact(record, key -> keysByArtifact.computeIfAbsent(key, k -> new HashSet<>()).add(cacheKey));
+      }
+    }
+  }
+
   @Override
   public Set<File> removeProject(File pom, ArtifactKey key, boolean force) {
     removeProject(key);
     return Collections.emptySet();
   }
 
+  @Override
+  public void flush() {
+    synchronized(keysByArtifact) {
+      super.flush();
+      keysByArtifact.clear();
+    }
+  }
+
   private void removeProject(ArtifactKey key) {
     if(key == null) {
       return;
     }
 
-    Iterator<Entry<CacheKey, CacheRecord>> iter = cache.entrySet().iterator();
-
-    while(iter.hasNext()) {
-      Entry<CacheKey, CacheRecord> entry = iter.next();
-      CacheRecord record = entry.getValue();
-
-      if(equals(record.getArtifact(), key) || contains(record.getArtifacts(), key)) {
-        iter.remove();
+    synchronized(keysByArtifact) {
+      Set<CacheKey> cacheKeys = keysByArtifact.remove(toGAbV(key.groupId(), key.artifactId(), key.version()));
+      if(cacheKeys == null) {
+        return;
       }
-    }
-  }
-
-  private boolean contains(List<Artifact> artifacts, ArtifactKey key) {
-    for(Artifact artifact : artifacts) {
-      if(equals(artifact, key)) {
-        return true;
+      for(CacheKey cacheKey : cacheKeys) {
+        CacheRecord record = cache.remove(cacheKey);
+        if(record != null) {
+          forEachArtifact(record, other -> {
+            Set<CacheKey> otherKeys = keysByArtifact.get(other);
+            if(otherKeys != null && otherKeys.remove(cacheKey) && otherKeys.isEmpty()) {
+              keysByArtifact.remove(other);
+            }
+          });
+        }
       }
     }
-    return false;
   }
 
-  private boolean equals(Artifact artifact, ArtifactKey key) {
+  private static void forEachArtifact(CacheRecord record, Consumer<ArtifactKey> action) {
     /*
      * maybe too conservative, but purge anything that matches GAbV (bV==baseVersion)
      */
-    return eq(key.groupId(), artifact.getGroupId()) //
-        && eq(key.artifactId(), artifact.getArtifactId()) //
-        && eq(key.version(), artifact.getBaseVersion());
+    if(record.getArtifact() != null) {
+      action.accept(toGAbV(record.getArtifact()));
+    }
+    for(Artifact artifact : record.getArtifacts()) {
+      action.accept(toGAbV(artifact));
+    }
+  }
+
+  private static ArtifactKey toGAbV(Artifact artifact) {
+    return toGAbV(artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion());
   }
 
-  private static <T> boolean eq(T a, T b) {
-    return a != null ? a.equals(b) : b == null;
+  private static ArtifactKey toGAbV(String groupId, String artifactId, String baseVersion) {
+    return new ArtifactKey(groupId, artifactId, baseVersion, null);
   }
 }
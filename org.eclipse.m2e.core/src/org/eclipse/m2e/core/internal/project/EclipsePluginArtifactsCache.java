@@ -19,9 +19,11 @@ import java.util.Set;
 import javax.inject.Singleton;
 
 import org.apache.maven.plugin.DefaultPluginArtifactsCache;
+import org.apache.maven.plugin.PluginResolutionException;
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.metrics.Metrics;
 
 
 @Singleton
@@ -34,6 +36,17 @@ public class EclipsePluginArtifactsCache extends DefaultPluginArtifactsCache imp
     }
   };
 
+  @Override
+  public CacheRecord get(Key key) throws PluginResolutionException {
+    CacheRecord cacheRecord = super.get(key);
+    if(cacheRecord != null) {
+      Metrics.hit(Metrics.CACHE_PLUGIN_ARTIFACTS);
+    } else {
+      Metrics.miss(Metrics.CACHE_PLUGIN_ARTIFACTS);
+    }
+    return cacheRecord;
+  }
+
   @Override
   public void register(MavenProject project, Key cacheKey, CacheRecord record) {
     plunger.register(project, cacheKey);
@@ -19,9 +19,12 @@ import java.util.Set;
 import javax.inject.Singleton;
 
 import org.apache.maven.plugin.DefaultPluginRealmCache;
+import org.apache.maven.plugin.PluginContainerException;
+import org.apache.maven.plugin.PluginResolutionException;
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.metrics.Metrics;
 
 
 /**
@@ -40,6 +43,33 @@ public class EclipsePluginRealmCache extends DefaultPluginRealmCache implements
     }
   };
 
+  @Override
+  public CacheRecord get(Key key) {
+    CacheRecord cacheRecord = super.get(key);
+    if(cacheRecord != null) {
+      Metrics.hit(Metrics.CACHE_PLUGIN_REALM);
+    } else {
+      Metrics.miss(Metrics.CACHE_PLUGIN_REALM);
+    }
+    return cacheRecord;
+  }
+
+  @Override
+  public CacheRecord get(Key key, PluginRealmSupplier supplier)
+      throws PluginResolutionException, PluginContainerException {
+    boolean[] loaded = new boolean[1];
+    CacheRecord cacheRecord = super.get(key, () -> {
+      loaded[0] = true;
+      return supplier.load();
+    });
+    if(loaded[0]) {
+      Metrics.miss(Metrics.CACHE_PLUGIN_REALM);
+    } else {
+      Metrics.hit(Metrics.CACHE_PLUGIN_REALM);
+    }
+    return cacheRecord;
+  }
+
   @Override
   public void register(MavenProject project, Key cacheKey, CacheRecord record) {
     plunger.register(project, cacheKey);
@@ -22,6 +22,7 @@ import org.apache.maven.project.DefaultProjectRealmCache;
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.metrics.Metrics;
 
 
 /**
@@ -40,6 +41,17 @@ public class EclipseProjectRealmCache extends DefaultProjectRealmCache implement
     }
   };
 
+  @Override
+  public CacheRecord get(Key key) {
+    CacheRecord cacheRecord = super.get(key);
+    if(cacheRecord != null) {
+      Metrics.hit(Metrics.CACHE_PROJECT_REALM);
+    } else {
+      Metrics.miss(Metrics.CACHE_PROJECT_REALM);
+    }
+    return cacheRecord;
+  }
+
   @Override
   public void register(MavenProject project, Key key, CacheRecord record) {
     plunger.register(project, key);
@@ -55,6 +55,11 @@ public class LifecycleMappingConfiguration implements ILifecycleMappingConfigura
 
   private final Map<MojoExecutionKey, Xpp3Dom> mojoExecutionConfiguration;
 
+  /**
+   * Fingerprint of the project configuration when this configuration was persisted, <code>null</code> if unknown.
+   */
+  private String fingerprint;
+
   public LifecycleMappingConfiguration(String lifecycleMappingId,
       Map<MojoExecutionKey, List<IPluginExecutionMetadata>> mojoExecutionMapping,
       Map<MojoExecutionKey, Xpp3Dom> mojoExecutionConfiguration) {
@@ -78,19 +83,13 @@ public class LifecycleMappingConfiguration implements ILifecycleMappingConfigura
     return mojoExecutionConfiguration.get(key);
   }
 
-  public static void persist(IMavenProjectFacade facade, IProgressMonitor monitor) {
-    LifecycleMappingConfiguration configuration;
-    try {
-      configuration = newLifecycleMappingConfiguration(facade, monitor);
-
-      if(configuration == null) {
-        return;
-      }
-    } catch(CoreException ex) {
-      log.warn("Could not persist build lifecycle mapping configuration for {}.", facade.toString(), ex);
-      return;
-    }
+  public String getFingerprint() {
+    return fingerprint;
+  }
 
+  public static void persist(IMavenProjectFacade facade, LifecycleMappingConfiguration configuration,
+      String fingerprint) {
+    configuration.fingerprint = fingerprint;
     persist(facade.getProject(), configuration);
   }
 
@@ -15,10 +15,10 @@ package org.eclipse.m2e.core.internal.project;
 
 import java.io.File;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,22 +35,27 @@ import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
 
 
 /**
+ * Tracks which projects reference each cache entry and flushes an entry once no project references it anymore.
+ * <p>
+ * Safe for concurrent use. The references of a cache entry are only changed within an atomic compute on that entry,
+ * so an entry is flushed exactly when its last reference is removed and never while a project registers it.
+ *
  * @since 1.6
  */
 abstract class ProjectCachePlunger<Key> {
 
   private final Logger log = LoggerFactory.getLogger(getClass());
 
-  final Map<File, Set<Key>> projectKeys = new HashMap<>();
+  final Map<File, Set<Key>> projectKeys = new ConcurrentHashMap<>();
 
-  final Map<Key, Set<File>> keyProjects = new HashMap<>();
+  final Map<Key, Set<File>> keyProjects = new ConcurrentHashMap<>();
 
   public void register(MavenProject project, Key cacheKey) {
     // project.file is null for parent pom.xml resolved from repositories
     File file = project.getFile();
     if(file != null) {
-      projectKeys.computeIfAbsent(file, f -> new HashSet<>()).add(cacheKey);
-      keyProjects.computeIfAbsent(cacheKey, f -> new HashSet<>()).add(file);
+      add(keyProjects, cacheKey, file);
+      add(projectKeys, file, cacheKey);
     }
   }
 
@@ -63,23 +68,40 @@ abstract class ProjectCachePlunger<Key> {
     final Set<File> affectedProjects = new HashSet<>();
 
     for(Key cacheKey : removeAll(projectKeys, pom)) {
-      remove(keyProjects, cacheKey, pom);
-      if(forceDependencyUpdate && RepositoryPolicy.UPDATE_POLICY_ALWAYS.equals(session.getUpdatePolicy())
-          && session.getCache().get(session, cacheKey) == null) {
+      boolean forceUpdate = forceDependencyUpdate
+          && RepositoryPolicy.UPDATE_POLICY_ALWAYS.equals(session.getUpdatePolicy())
+          && session.getCache().get(session, cacheKey) == null;
+      if(forceUpdate) {
         session.getCache().put(session, cacheKey, Boolean.TRUE);
-        for(File affectedPom : removeAll(keyProjects, cacheKey)) {
-          affectedProjects.add(affectedPom);
-          remove(projectKeys, affectedPom, cacheKey);
-        }
-      }
-      if(!keyProjects.containsKey(cacheKey)) {
-        flush(cacheKey);
-        log.debug("Flushed cache entry for {}", cacheKey);
       }
+      keyProjects.compute(cacheKey, (key, files) -> {
+        if(files != null) {
+          files.remove(pom);
+          if(forceUpdate) {
+            for(File affectedPom : files) {
+              affectedProjects.add(affectedPom);
+              remove(projectKeys, affectedPom, key);
+            }
+          } else if(!files.isEmpty()) {
+            return files;
+          }
+        }
+        flush(key);
+        log.debug("Flushed cache entry for {}", key);
+        return null;
+      });
     }
     return affectedProjects;
   }
 
+  private static <K, V> void add(Map<K, Set<V>> map, K key, V value) {
+    map.compute(key, (k, values) -> {
+      Set<V> result = values != null ? values : new HashSet<>();
+      result.add(value);
+      return result;
+    });
+  }
+
   private static <K, V> Set<V> removeAll(Map<K, Set<V>> map, K key) {
     Set<V> removed = map.remove(key);
     return removed != null ? removed : Collections.emptySet();
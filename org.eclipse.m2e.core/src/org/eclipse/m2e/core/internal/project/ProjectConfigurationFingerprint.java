@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.osgi.framework.Bundle;
+import org.osgi.service.prefs.BackingStoreException;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Resource;
+import org.apache.maven.project.MavenProject;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.internal.lifecyclemapping.LifecycleMappingFactory;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
+import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.IProjectConfiguration;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+
+
+/**
+ * Fingerprint of everything the project configurators of a project read: the lifecycle mapping and the effective
+ * configuration of the executions mapped to configurators, packaging, source and resource roots, dependencies,
+ * resolver configuration, the workspace preferences of m2e, JDT and APT, the workspace lifecycle mapping metadata and
+ * the versions of the bundles contributing configurators. The modification stamps of the project description, the
+ * classpath and the project settings are added after configuration, so changes made to them outside of m2e are noticed
+ * too.
+ */
+final class ProjectConfigurationFingerprint {
+
+  private static final String PROJECT_FILE = ".project"; //$NON-NLS-1$
+
+  private static final String CLASSPATH_FILE = ".classpath"; //$NON-NLS-1$
+
+  private static final String SETTINGS_FOLDER = ".settings"; //$NON-NLS-1$
+
+  /**
+   * Qualifiers of the workspace preferences read by the configurators
+   */
+  private static final List<String> PREFERENCES = List.of(IMavenConstants.PLUGIN_ID,
+      "org.eclipse.m2e.jdt", //$NON-NLS-1$
+      "org.eclipse.m2e.apt", //$NON-NLS-1$
+      "org.eclipse.jdt.core", //$NON-NLS-1$
+      "org.eclipse.jdt.apt.core"); //$NON-NLS-1$
+
+  private ProjectConfigurationFingerprint() {
+  }
+
+  /**
+   * Returns the fingerprint of the inputs of the configuration of the given project.
+   */
+  static String ofInputs(IMavenProjectFacade facade, MavenProject mavenProject,
+      LifecycleMappingConfiguration mappingConfiguration) {
+    StringBuilder sb = new StringBuilder();
+    append(sb, "mapping", mappingConfiguration.getLifecycleMappingId()); //$NON-NLS-1$
+    for(Map.Entry<MojoExecutionKey, List<IPluginExecutionMetadata>> entry : mappingConfiguration
+        .getMojoExecutionMapping().entrySet()) {
+      append(sb, "execution", entry.getKey()); //$NON-NLS-1$
+      if(entry.getValue() != null) {
+        for(IPluginExecutionMetadata metadata : entry.getValue()) {
+          append(sb, "action", metadata.getAction()); //$NON-NLS-1$
+          if(metadata instanceof PluginExecutionMetadata executionMetadata) {
+            append(sb, "metadata", executionMetadata.getConfiguration()); //$NON-NLS-1$
+          }
+        }
+      }
+      append(sb, "configuration", mappingConfiguration.getMojoExecutionConfiguration(entry.getKey())); //$NON-NLS-1$
+    }
+
+    append(sb, "packaging", mavenProject.getPackaging()); //$NON-NLS-1$
+    String encoding = mavenProject.getProperties().getProperty("project.build.sourceEncoding"); //$NON-NLS-1$
+    append(sb, "encoding", encoding); //$NON-NLS-1$
+    append(sb, "sources", mavenProject.getCompileSourceRoots()); //$NON-NLS-1$
+    append(sb, "testSources", mavenProject.getTestCompileSourceRoots()); //$NON-NLS-1$
+    appendResources(sb, "resources", mavenProject.getResources()); //$NON-NLS-1$
+    appendResources(sb, "testResources", mavenProject.getTestResources()); //$NON-NLS-1$
+    append(sb, "output", mavenProject.getBuild().getOutputDirectory()); //$NON-NLS-1$
+    append(sb, "testOutput", mavenProject.getBuild().getTestOutputDirectory()); //$NON-NLS-1$
+    for(Artifact artifact : mavenProject.getArtifacts()) {
+      append(sb, "artifact", artifact.getId() + ':' + artifact.getScope()); //$NON-NLS-1$
+    }
+
+    IProjectConfiguration configuration = facade.getConfiguration();
+    append(sb, "workspace", configuration.isResolveWorkspaceProjects()); //$NON-NLS-1$
+    append(sb, "activeProfiles", configuration.getActiveProfileList()); //$NON-NLS-1$
+    append(sb, "inactiveProfiles", configuration.getInactiveProfileList()); //$NON-NLS-1$
+    append(sb, "configurationProperties", new TreeMap<>(configuration.getConfigurationProperties())); //$NON-NLS-1$
+    append(sb, "userProperties", new TreeMap<>(configuration.getUserProperties())); //$NON-NLS-1$
+    append(sb, "multiModuleDirectory", configuration.getMultiModuleProjectDirectory()); //$NON-NLS-1$
+
+    Map<String, IConfigurationElement> configurators = new TreeMap<>(
+        LifecycleMappingFactory.getProjectConfiguratorExtensions());
+    for(Map.Entry<String, IConfigurationElement> entry : configurators.entrySet()) {
+      Bundle bundle = Platform.getBundle(entry.getValue().getContributor().getName());
+      append(sb, "configurator", entry.getKey() + '@' + (bundle != null ? bundle.getVersion() : null)); //$NON-NLS-1$
+    }
+
+    for(String qualifier : PREFERENCES) {
+      appendPreferences(sb, InstanceScope.INSTANCE.getNode(qualifier));
+    }
+    File mappingFile = new File(MavenPlugin.getMavenConfiguration().getWorkspaceLifecycleMappingMetadataFile());
+    append(sb, "workspaceMapping", //$NON-NLS-1$
+        mappingFile.getAbsolutePath() + '|' + mappingFile.length() + '|' + mappingFile.lastModified());
+    return DigestUtils.sha256Hex(sb.toString());
+  }
+
+  /**
+   * Returns the fingerprint of the given project, combining the given inputs with the modification stamps of the files
+   * written by the configurators, or <code>null</code> if they can't be read.
+   */
+  static String of(String inputs, IProject project) {
+    StringBuilder sb = new StringBuilder(inputs);
+    appendStamp(sb, project.findMember(PROJECT_FILE));
+    appendStamp(sb, project.findMember(CLASSPATH_FILE));
+    if(project.findMember(SETTINGS_FOLDER) instanceof IFolder settings) {
+      try {
+        for(IResource member : settings.members()) {
+          sb.append(':').append(member.getName());
+          appendStamp(sb, member);
+        }
+      } catch(CoreException ex) {
+        return null;
+      }
+    }
+    return sb.toString();
+  }
+
+  private static void appendStamp(StringBuilder sb, IResource resource) {
+    sb.append(':').append(resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP);
+  }
+
+  private static void appendPreferences(StringBuilder sb, IEclipsePreferences preferences) {
+    try {
+      for(String key : new TreeSet<>(Arrays.asList(preferences.keys()))) {
+        String value = preferences.get(key, null);
+        append(sb, "preference", preferences.absolutePath() + '/' + key + '=' + value); //$NON-NLS-1$
+      }
+    } catch(BackingStoreException ex) {
+      // can't tell whether they changed, never match a persisted fingerprint
+      append(sb, "preference", preferences.absolutePath() + '@' + System.nanoTime()); //$NON-NLS-1$
+    }
+  }
+
+  private static void appendResources(StringBuilder sb, String name, List<Resource> resources) {
+    for(Resource resource : resources) {
+      append(sb, name, resource.getDirectory() + '|' + resource.getTargetPath() + '|' + resource.getFiltering() + '|'
+          + resource.getIncludes() + '|' + resource.getExcludes());
+    }
+  }
+
+  private static void append(StringBuilder sb, String name, Object value) {
+    sb.append(name).append('=').append(value).append('\n');
+  }
+}
@@ -76,6 +76,8 @@ import org.eclipse.m2e.core.internal.embedder.MavenImpl;
 import org.eclipse.m2e.core.internal.embedder.PlexusContainerManager;
 import org.eclipse.m2e.core.internal.lifecyclemapping.LifecycleMappingFactory;
 import org.eclipse.m2e.core.internal.markers.IMavenMarkerManager;
+import org.eclipse.m2e.core.internal.metrics.Metrics;
+import org.eclipse.m2e.core.internal.metrics.Metrics.Measurement;
 import org.eclipse.m2e.core.internal.preferences.ProblemSeverity;
 import org.eclipse.m2e.core.internal.project.registry.MavenProjectFacade;
 import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryManager;
@@ -106,6 +108,12 @@ public class ProjectConfigurationManager
     implements IProjectConfigurationManager, IMavenProjectChangedListener, IResourceChangeListener {
   private static final Logger log = LoggerFactory.getLogger(ProjectConfigurationManager.class);
 
+  /**
+   * System property that enables skipping the configuration of projects whose configuration fingerprint is unchanged
+   * by updates that are not forced. Disabled by default.
+   */
+  static final String SKIP_UNCHANGED_CONFIGURATION = "m2e.configuration.skipUnchanged"; //$NON-NLS-1$
+
   @Reference
   ProjectRegistryManager projectManager;
 
@@ -276,7 +284,7 @@ public class ProjectConfigurationManager
       progress.subTask(NLS.bind(Messages.ProjectConfigurationManager_task_updating, facade.getProject().getName()));
       MavenProject mavenProject = facade.getMavenProject(subProgress.split(1));
       ProjectConfigurationRequest request = new ProjectConfigurationRequest(facade, mavenProject);
-      updateProjectConfiguration(request, subProgress.split(9));
+      updateProjectConfiguration(request, true, subProgress.split(9));
     }
   }
 
@@ -305,7 +313,8 @@ public class ProjectConfigurationManager
       throw new IllegalArgumentException();
     }
 
-    Map<String, IStatus> updateStatus = updateProjectConfiguration(request, true, true, monitor);
+    // callers request the update after changing configuration inputs, never skip it
+    Map<String, IStatus> updateStatus = updateProjectConfiguration(request, true, true, false, true, monitor);
 
     IStatus status = updateStatus.values().iterator().next(); // only one project
 
@@ -335,10 +344,16 @@ public class ProjectConfigurationManager
    */
   public Map<String, IStatus> updateProjectConfiguration(MavenUpdateRequest request, boolean updateConfiguration,
       boolean cleanProjects, boolean refreshFromLocal, IProgressMonitor monitor) {
+    return updateProjectConfiguration(request, updateConfiguration, cleanProjects, refreshFromLocal,
+        request.isForceDependencyUpdate(), monitor);
+  }
+
+  private Map<String, IStatus> updateProjectConfiguration(MavenUpdateRequest request, boolean updateConfiguration,
+      boolean cleanProjects, boolean refreshFromLocal, boolean forceConfiguration, IProgressMonitor monitor) {
     try {
       return MavenImpl.execute(maven, request.isOffline(), request.isForceDependencyUpdate(),
           (context, m) -> updateProjectConfiguration0(request.getPomFiles(), updateConfiguration, cleanProjects,
-              refreshFromLocal, m),
+              refreshFromLocal, forceConfiguration, m),
           monitor);
     } catch(CoreException ex) {
       Map<String, IStatus> result = new LinkedHashMap<>();
@@ -350,7 +365,7 @@ public class ProjectConfigurationManager
   }
 
   private Map<String, IStatus> updateProjectConfiguration0(Collection<IFile> pomFiles, boolean updateConfiguration,
-      boolean cleanProjects, boolean refreshFromLocal, IProgressMonitor m) {
+      boolean cleanProjects, boolean refreshFromLocal, boolean force, IProgressMonitor m) {
 
     SubMonitor monitor = SubMonitor.convert(m, Messages.ProjectConfigurationManager_task_updating_projects,
         pomFiles.size() * (1 + (updateConfiguration ? 1 : 0) + (cleanProjects ? 1 : 0) + (refreshFromLocal ? 1 : 0)));
@@ -423,7 +438,7 @@ public class ProjectConfigurationManager
           SubMonitor submonitor = monitor.split(1, SubMonitor.SUPPRESS_SUBTASK);
           ProjectConfigurationRequest cfgRequest = new ProjectConfigurationRequest(facade,
               facade.getMavenProject(submonitor));
-          updateProjectConfiguration(cfgRequest, submonitor);
+          updateProjectConfiguration(cfgRequest, force, submonitor);
         } catch(CoreException ex) {
           updateStatus.put(projectName, ex.getStatus());
           return true;
@@ -476,7 +491,11 @@ public class ProjectConfigurationManager
     return String.format("%s takes %.2f sec", type, delay);
   }
 
-  private void updateProjectConfiguration(ProjectConfigurationRequest request, IProgressMonitor monitor)
+  /**
+   * Configures the project of the given request. Unless forced, the configuration is skipped if the fingerprint of the
+   * project configuration is the same as after its last configuration.
+   */
+  private void updateProjectConfiguration(ProjectConfigurationRequest request, boolean force, IProgressMonitor monitor)
       throws CoreException {
     IProject project = request.mavenProjectFacade().getProject();
     long start = System.currentTimeMillis();
@@ -497,24 +516,55 @@ public class ProjectConfigurationManager
     IMavenExecutionContext executionContext = projectManager.createExecutionContext(mavenProjectFacade.getPom(),
         mavenProjectFacade.getConfiguration());
 
-    executionContext.execute(mavenProject, (context, m) -> {
-      ILifecycleMapping lifecycleMapping = getLifecycleMapping(mavenProjectFacade);
+    try (Measurement measurement = Metrics.start(Metrics.PHASE_CONFIGURATION, project.getName())) {
+      executionContext.execute(mavenProject, (context, m) -> {
+        ILifecycleMapping lifecycleMapping = getLifecycleMapping(mavenProjectFacade);
 
-      if(lifecycleMapping != null) {
-        mavenMarkerManager.deleteMarkers(mavenProjectFacade.getProject(), IMavenConstants.MARKER_CONFIGURATION_ID);
+        if(lifecycleMapping != null) {
+          LifecycleMappingConfiguration mappingConfiguration = newLifecycleMappingConfiguration(mavenProjectFacade, m);
+          String inputs = mappingConfiguration != null && Boolean.getBoolean(SKIP_UNCHANGED_CONFIGURATION)
+              ? ProjectConfigurationFingerprint.ofInputs(mavenProjectFacade, mavenProject, mappingConfiguration)
+              : null;
+          if(!force && inputs != null && isConfigurationUnchanged(mavenProjectFacade, inputs, m)) {
+            log.debug("Configuration of project {} is up-to-date.", mavenProjectFacade); //$NON-NLS-1$
+            return null;
+          }
 
-        lifecycleMapping.configure(request, m);
+          mavenMarkerManager.deleteMarkers(mavenProjectFacade.getProject(), IMavenConstants.MARKER_CONFIGURATION_ID);
 
-        LifecycleMappingConfiguration.persist(request.mavenProjectFacade(), m);
-      } else {
-        log.debug("LifecycleMapping is null for project {}", mavenProjectFacade); //$NON-NLS-1$
-      }
-      return null;
-    }, monitor);
+          lifecycleMapping.configure(request, m);
+
+          if(mappingConfiguration != null) {
+            LifecycleMappingConfiguration.persist(mavenProjectFacade, mappingConfiguration,
+                inputs != null ? ProjectConfigurationFingerprint.of(inputs, project) : null);
+          }
+        } else {
+          log.debug("LifecycleMapping is null for project {}", mavenProjectFacade); //$NON-NLS-1$
+        }
+        return null;
+      }, monitor);
+    }
 
     log.debug("Updated project configuration for {} in {} ms.", mavenProjectFacade, System.currentTimeMillis() - start); //$NON-NLS-1$
   }
 
+  private static LifecycleMappingConfiguration newLifecycleMappingConfiguration(IMavenProjectFacade facade,
+      IProgressMonitor monitor) {
+    try {
+      return LifecycleMappingConfiguration.newLifecycleMappingConfiguration(facade, monitor);
+    } catch(CoreException ex) {
+      log.warn("Could not persist build lifecycle mapping configuration for {}.", facade.toString(), ex);
+      return null;
+    }
+  }
+
+  private static boolean isConfigurationUnchanged(IMavenProjectFacade facade, String inputs,
+      IProgressMonitor monitor) {
+    LifecycleMappingConfiguration persisted = LifecycleMappingConfiguration.restore(facade, monitor);
+    String fingerprint = persisted != null ? persisted.getFingerprint() : null;
+    return fingerprint != null && fingerprint.equals(ProjectConfigurationFingerprint.of(inputs, facade.getProject()));
+  }
+
   @Override
   public void enableMavenNature(IProject project, IProjectConfiguration configuration, IProgressMonitor monitor)
       throws CoreException {
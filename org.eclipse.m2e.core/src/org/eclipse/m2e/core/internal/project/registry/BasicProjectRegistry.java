@@ -14,6 +14,8 @@
 package org.eclipse.m2e.core.internal.project.registry;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.HashMap;
@@ -43,6 +45,12 @@ abstract class BasicProjectRegistry implements Serializable {
    */
   protected final Map<ArtifactKey, Set<IFile>> workspaceArtifacts = new HashMap<>();
 
+  /**
+   * Maps versionless ArtifactKey (groupId and artifactId only) to all keys of {@link #workspaceArtifacts} with the same
+   * groupId and artifactId. Derived from workspaceArtifacts and therefore not serialized.
+   */
+  protected transient Map<ArtifactKey, Set<ArtifactKey>> workspaceArtifactVersions = new HashMap<>();
+
   /**
    * Maps IFile to MavenProjectFacade
    */
@@ -79,6 +87,7 @@ abstract class BasicProjectRegistry implements Serializable {
     clear();
 
     copy(other.workspaceArtifacts, workspaceArtifacts);
+    copy(other.workspaceArtifactVersions, workspaceArtifactVersions);
     copy(other.workspacePoms, workspacePoms);
     copy(other.projectCapabilities, projectCapabilities);
     copy(other.projectRequirements, projectRequirements);
@@ -107,6 +116,47 @@ abstract class BasicProjectRegistry implements Serializable {
     });
   }
 
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    workspaceArtifactVersions = new HashMap<>();
+    workspaceArtifacts.forEach((key, poms) -> {
+      if(!poms.isEmpty()) {
+        workspaceArtifactVersions.computeIfAbsent(versionlessKey(key), k -> new LinkedHashSet<>()).add(key);
+      }
+    });
+  }
+
+  private static ArtifactKey versionlessKey(ArtifactKey key) {
+    return versionlessKey(key.groupId(), key.artifactId());
+  }
+
+  private static ArtifactKey versionlessKey(String groupId, String artifactId) {
+    return new ArtifactKey(groupId, artifactId, null, null);
+  }
+
+  /**
+   * Associates the given pom with the workspace artifact, maintaining the groupId/artifactId index.
+   */
+  protected void addWorkspaceArtifact(ArtifactKey key, IFile pom) {
+    workspaceArtifacts.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(pom);
+    workspaceArtifactVersions.computeIfAbsent(versionlessKey(key), k -> new LinkedHashSet<>()).add(key);
+  }
+
+  /**
+   * Removes the association of the given pom with the workspace artifact, maintaining the groupId/artifactId index.
+   */
+  protected void removeWorkspaceArtifact(ArtifactKey key, IFile pom) {
+    Set<IFile> paths = workspaceArtifacts.get(key);
+    if(paths != null && paths.remove(pom) && paths.isEmpty()) {
+      workspaceArtifacts.remove(key);
+      ArtifactKey versionlessKey = versionlessKey(key);
+      Set<ArtifactKey> versions = workspaceArtifactVersions.get(versionlessKey);
+      if(versions != null && versions.remove(key) && versions.isEmpty()) {
+        workspaceArtifactVersions.remove(versionlessKey);
+      }
+    }
+  }
+
   public MavenProjectFacade getProjectFacade(IFile pom) {
     return workspacePoms.get(pom);
   }
@@ -128,17 +178,91 @@ abstract class BasicProjectRegistry implements Serializable {
   }
 
   public Map<ArtifactKey, Collection<IFile>> getWorkspaceArtifacts(String groupId, String artifactId) {
-    Map<ArtifactKey, Collection<IFile>> artifacts = new HashMap<>();
-    workspaceArtifacts.forEach((wsKey, files) -> {
-      if(!files.isEmpty() && groupId.equals(wsKey.groupId()) && artifactId.equals(wsKey.artifactId())) {
-        artifacts.computeIfAbsent(wsKey, k -> new HashSet<>()).addAll(files);
+    Set<ArtifactKey> keys = workspaceArtifactVersions.getOrDefault(versionlessKey(groupId, artifactId), Set.of());
+    Map<ArtifactKey, Collection<IFile>> artifacts = new HashMap<>(keys.size(), 1.f);
+    for(ArtifactKey wsKey : keys) {
+      Set<IFile> files = workspaceArtifacts.get(wsKey);
+      if(files != null && !files.isEmpty()) {
+        artifacts.put(wsKey, new HashSet<>(files));
       }
-    });
+    }
     return artifacts;
   }
 
+  /**
+   * Writes the contents of this registry in {@link ProjectRegistryFormat}. Workspace artifacts and pom files are
+   * derived from the facades and not written.
+   */
+  void writeTo(ProjectRegistryFormat.Output out) throws IOException {
+    out.writeVarInt(workspacePoms.size());
+    for(MavenProjectFacade facade : workspacePoms.values()) {
+      facade.writeTo(out);
+    }
+    out.writeVarInt(projectCapabilities.size());
+    for(Map.Entry<IFile, Set<Capability>> entry : projectCapabilities.entrySet()) {
+      out.writeFile(entry.getKey());
+      out.writeCapabilities(entry.getValue());
+    }
+    out.writeVarInt(projectRequirements.size());
+    for(Map.Entry<IFile, Set<RequiredCapability>> entry : projectRequirements.entrySet()) {
+      out.writeFile(entry.getKey());
+      out.writeRequirements(entry.getValue());
+    }
+    out.writeVarInt(requiredCapabilities.size());
+    for(Map.Entry<VersionlessKey, Map<RequiredCapability, Set<IFile>>> entry : requiredCapabilities.entrySet()) {
+      out.writeVersionlessKey(entry.getKey());
+      out.writeVarInt(entry.getValue().size());
+      for(Map.Entry<RequiredCapability, Set<IFile>> requirement : entry.getValue().entrySet()) {
+        out.writeRequirement(requirement.getKey());
+        out.writeVarInt(requirement.getValue().size());
+        for(IFile pom : requirement.getValue()) {
+          out.writeFile(pom);
+        }
+      }
+    }
+  }
+
+  /**
+   * Replaces the contents of this registry with the contents read from the given input.
+   */
+  void readFrom(ProjectRegistryFormat.Input in, ProjectRegistryManager manager) throws IOException {
+    clear();
+    int facades = in.readVarInt();
+    for(int i = 0; i < facades; i++ ) {
+      MavenProjectFacade facade = new MavenProjectFacade(manager, in);
+      workspacePoms.put(facade.getPom(), facade);
+      workspacePomFiles.put(facade.getPomFile(), facade);
+      addWorkspaceArtifact(facade.getArtifactKey(), facade.getPom());
+    }
+    int capabilities = in.readVarInt();
+    for(int i = 0; i < capabilities; i++ ) {
+      projectCapabilities.put(in.readFile(), in.readCapabilities());
+    }
+    int requirements = in.readVarInt();
+    for(int i = 0; i < requirements; i++ ) {
+      projectRequirements.put(in.readFile(), in.readRequirements());
+    }
+    int keys = in.readVarInt();
+    for(int i = 0; i < keys; i++ ) {
+      VersionlessKey key = in.readVersionlessKey();
+      int size = in.readVarInt();
+      Map<RequiredCapability, Set<IFile>> requirementPoms = new LinkedHashMap<>(size);
+      for(int j = 0; j < size; j++ ) {
+        RequiredCapability requirement = in.readRequirement();
+        int poms = in.readVarInt();
+        Set<IFile> files = new LinkedHashSet<>(poms);
+        for(int k = 0; k < poms; k++ ) {
+          files.add(in.readFile());
+        }
+        requirementPoms.put(requirement, files);
+      }
+      requiredCapabilities.put(key, requirementPoms);
+    }
+  }
+
   protected void clear() {
     workspaceArtifacts.clear();
+    workspaceArtifactVersions.clear();
     workspacePoms.clear();
     workspacePomFiles.clear();
     requiredCapabilities.clear();
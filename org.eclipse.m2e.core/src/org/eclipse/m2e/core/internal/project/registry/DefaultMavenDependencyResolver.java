@@ -60,17 +60,21 @@ public class DefaultMavenDependencyResolver extends AbstractMavenDependencyResol
     long start = System.currentTimeMillis();
     log.debug("Resolving dependencies for {}", facade); //$NON-NLS-1$
 
-    markerManager.deleteMarkers(facade.getPom(), IMavenConstants.MARKER_DEPENDENCY_ID);
-
     IMavenExecutionContext executionContext = facade.createExecutionContext();
-    MavenExecutionResult mavenResult = executionContext.execute((ctx, mon) -> {
-      ProjectBuildingRequest configuration = ctx.newProjectBuildingRequest();
-      configuration.setProject(facade.getMavenProject());
-      configuration.setResolveDependencies(true);
-      return IMavenToolbox.of(ctx).readMavenProject(facade.getPomFile(), configuration);
-    }, monitor);
-
-    markerManager.addMarkers(facade.getPom(), IMavenConstants.MARKER_DEPENDENCY_ID, mavenResult);
+    MavenExecutionResult mavenResult;
+    try {
+      mavenResult = executionContext.execute((ctx, mon) -> {
+        ProjectBuildingRequest configuration = ctx.newProjectBuildingRequest();
+        configuration.setProject(facade.getMavenProject());
+        configuration.setResolveDependencies(true);
+        return IMavenToolbox.of(ctx).readMavenProject(facade.getPomFile(), configuration);
+      }, monitor);
+    } catch(CoreException | RuntimeException ex) {
+      markerManager.deleteMarkers(facade.getPom(), IMavenConstants.MARKER_DEPENDENCY_ID);
+      throw ex;
+    }
+
+    markerManager.replaceMarkers(facade.getPom(), IMavenConstants.MARKER_DEPENDENCY_ID, mavenResult);
 
     if(!facade.getConfiguration().isResolveWorkspaceProjects()) {
       return;
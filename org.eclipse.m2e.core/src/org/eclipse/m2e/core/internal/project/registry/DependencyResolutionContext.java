@@ -16,6 +16,7 @@ package org.eclipse.m2e.core.internal.project.registry;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -36,6 +37,9 @@ public class DependencyResolutionContext {
 
   private final Map<IFile, IStatus> statusMap = new HashMap<>();
 
+  /** Pom files of the batch that is processed in parallel whose processing has not started yet */
+  private final Set<IFile> scheduled = new HashSet<>();
+
   public DependencyResolutionContext(Collection<IFile> pomFiles) {
     this.pomFiles = new LinkedHashSet<>(pomFiles);
   }
@@ -45,8 +49,11 @@ public class DependencyResolutionContext {
   }
 
   public synchronized void forcePomFiles(Collection<IFile> pomFiles) {
-    this.pomFiles.addAll(pomFiles);
-
+    for(IFile pomFile : pomFiles) {
+      if(!scheduled.contains(pomFile)) {
+        this.pomFiles.add(pomFile);
+      }
+    }
   }
 
   public synchronized IFile pop() {
@@ -60,23 +67,50 @@ public class DependencyResolutionContext {
     return new LinkedHashSet<>(pomFiles);
   }
 
+  /**
+   * Removes and returns all pom files currently queued in this context.
+   */
+  synchronized Set<IFile> popAll() {
+    Set<IFile> current = new LinkedHashSet<>(pomFiles);
+    pomFiles.clear();
+    return current;
+  }
+
+  /**
+   * Marks the given pom files as the batch that is about to be processed. Forcing one of them has no effect until its
+   * processing is {@link #started(IFile) started}, since it will see the change that caused it to be forced.
+   */
+  synchronized void schedule(Collection<IFile> batch) {
+    scheduled.clear();
+    scheduled.addAll(batch);
+  }
+
+  /**
+   * Marks the processing of the given pom file of the current batch as started, changes from now on force it again.
+   */
+  synchronized void started(IFile file) {
+    scheduled.remove(file);
+  }
+
   /**
    * @param file
    */
-  public void forcePomFile(IFile file) {
-    pomFiles.add(file);
+  public synchronized void forcePomFile(IFile file) {
+    if(!scheduled.contains(file)) {
+      pomFiles.add(file);
+    }
     statusMap.remove(file);
   }
 
-  public IStatus getStatus(IFile file) {
+  public synchronized IStatus getStatus(IFile file) {
     return statusMap.getOrDefault(file, Status.OK_STATUS);
   }
 
-  void setStatus(IFile file, IStatus status) {
+  synchronized void setStatus(IFile file, IStatus status) {
     statusMap.put(file, status);
   }
 
-  void clearErrors(Collection<? extends IFile> pomFiles) {
+  synchronized void clearErrors(Collection<? extends IFile> pomFiles) {
     for(IFile file : pomFiles) {
       statusMap.remove(file);
     }
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+
+
+/**
+ * Schedules phase 2 (dependency resolution) of a registry refresh on a bounded pool of worker threads. The reactor
+ * graph of a batch of poms is derived from the capabilities and requirements already recorded in the
+ * {@link MutableProjectRegistry}; a pom is handed to a worker as soon as all of its upstream poms in the same batch
+ * have been processed, independent poms are processed at the same time.
+ */
+final class DependencyResolutionScheduler implements AutoCloseable {
+
+  static final String THREADS_PROPERTY = "m2e.project.refresh.threads"; //$NON-NLS-1$
+
+  private static final int DEFAULT_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+  /**
+   * Returns the number of worker threads used for phase 2, by default the number of processors but at most 4. A value
+   * of <code>1</code> keeps the sequential behavior.
+   */
+  static int getThreads() {
+    return Math.max(1, Integer.getInteger(THREADS_PROPERTY, DEFAULT_THREADS));
+  }
+
+  private static final long POLL_INTERVAL = 100;
+
+  @FunctionalInterface
+  interface PomProcessor {
+    void process(IFile pom) throws CoreException;
+  }
+
+  private final MutableProjectRegistry state;
+
+  private final ExecutorService executor;
+
+  DependencyResolutionScheduler(MutableProjectRegistry state, int threads) {
+    this.state = state;
+    this.executor = Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+  }
+
+  /**
+   * Processes the given poms, upstream poms first. Returns once all poms are processed or, in case of a failure or if
+   * <code>abort</code> becomes <code>true</code>, once all poms that are currently processed are done.
+   */
+  void run(Collection<IFile> poms, PomProcessor processor, BooleanSupplier abort) throws CoreException {
+    Map<IFile, Set<IFile>> downstream = new HashMap<>();
+    Map<IFile, AtomicInteger> pending = new HashMap<>();
+    computeGraph(poms, downstream, pending);
+
+    Set<IFile> remaining = new LinkedHashSet<>(poms);
+    Deque<IFile> ready = new ArrayDeque<>();
+    for(IFile pom : poms) {
+      if(pending.get(pom).get() == 0) {
+        ready.add(pom);
+      }
+    }
+
+    CompletionService<IFile> completionService = new ExecutorCompletionService<>(executor);
+    Throwable failure = null;
+    int running = 0;
+    while(running > 0 || (!remaining.isEmpty() && failure == null)) {
+      if(failure == null && abort.getAsBoolean()) {
+        failure = new OperationCanceledException();
+      }
+      if(failure == null) {
+        if(ready.isEmpty() && running == 0) {
+          // only poms with a dependency cycle are left, release the first one
+          ready.add(remaining.iterator().next());
+        }
+        while(!ready.isEmpty()) {
+          IFile pom = ready.poll();
+          remaining.remove(pom);
+          completionService.submit(() -> {
+            processor.process(pom);
+            return pom;
+          });
+          running++ ;
+        }
+      }
+      Future<IFile> done;
+      try {
+        done = completionService.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+      } catch(InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        if(failure == null) {
+          failure = new OperationCanceledException();
+        }
+        continue;
+      }
+      if(done == null) {
+        continue;
+      }
+      running-- ;
+      try {
+        for(IFile dependent : downstream.getOrDefault(done.get(), Set.of())) {
+          if(pending.get(dependent).decrementAndGet() == 0 && remaining.contains(dependent)) {
+            ready.add(dependent);
+          }
+        }
+      } catch(ExecutionException ex) {
+        if(failure == null) {
+          failure = ex.getCause();
+        }
+      } catch(InterruptedException ex) {
+        // can't happen, the future is already done
+        Thread.currentThread().interrupt();
+      }
+    }
+    if(failure instanceof CoreException coreException) {
+      throw coreException;
+    }
+    if(failure instanceof RuntimeException runtimeException) {
+      throw runtimeException;
+    }
+    if(failure instanceof Error error) {
+      throw error;
+    }
+    if(failure != null) {
+      throw new CoreException(Status.error(failure.getMessage(), failure));
+    }
+  }
+
+  /**
+   * Computes the edges between the given poms, a pom is downstream of another pom if one of its requirements
+   * potentially matches one of the capabilities of the other pom.
+   */
+  private void computeGraph(Collection<IFile> poms, Map<IFile, Set<IFile>> downstream,
+      Map<IFile, AtomicInteger> pending) {
+    Map<VersionlessKey, List<Map.Entry<Capability, IFile>>> providers = new HashMap<>();
+    for(IFile pom : poms) {
+      pending.put(pom, new AtomicInteger());
+      for(Capability capability : state.getCapabilities(pom)) {
+        providers.computeIfAbsent(capability.getVersionlessKey(), k -> new ArrayList<>())
+            .add(Map.entry(capability, pom));
+      }
+    }
+    for(IFile pom : poms) {
+      Set<IFile> upstream = new LinkedHashSet<>();
+      for(RequiredCapability requirement : state.getRequirements(pom)) {
+        for(Map.Entry<Capability, IFile> provider : providers.getOrDefault(requirement.getVersionlessKey(),
+            List.of())) {
+          if(!pom.equals(provider.getValue()) && requirement.isPotentialMatch(provider.getKey(), true)) {
+            upstream.add(provider.getValue());
+          }
+        }
+      }
+      pending.get(pom).set(upstream.size());
+      for(IFile dependency : upstream) {
+        downstream.computeIfAbsent(dependency, k -> new LinkedHashSet<>()).add(pom);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private static final class WorkerThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread thread = new Thread(r, "M2E Dependency Resolution " + count.incrementAndGet()); //$NON-NLS-1$
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -20,6 +20,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.repository.WorkspaceReader;
 import org.eclipse.aether.repository.WorkspaceRepository;
@@ -45,6 +48,14 @@ public final class EclipseWorkspaceArtifactRepository extends LocalArtifactRepos
 
   private static final GenericVersionScheme versionScheme = new GenericVersionScheme();
 
+  private static final int VERSION_CACHE_SIZE = Integer.getInteger("m2e.workspace.versions.cache.size", 10000);
+
+  /**
+   * Parsed versions of workspace artifacts, workspace versions are matched against every requested version constraint.
+   */
+  private static final Cache<String, Version> parsedVersions = CacheBuilder.newBuilder()
+      .maximumSize(VERSION_CACHE_SIZE).build();
+
   private final transient ProjectRegistryManager.Context context;
 
   private static final ThreadLocal<Boolean> disabled = new ThreadLocal<>();
@@ -120,7 +131,7 @@ public final class EclipseWorkspaceArtifactRepository extends LocalArtifactRepos
     // in vast majority of cases there will be single workspace artifact with matching groupId and artifactId
     for(ArtifactKey workspaceArtifact : workspaceArtifacts.keySet()) {
       try {
-        Version workspaceVersion = versionScheme.parseVersion(workspaceArtifact.version());
+        Version workspaceVersion = parseVersion(workspaceArtifact.version());
         if(constraint.containsVersion(workspaceVersion)) {
           matchingArtifacts.put(workspaceVersion, workspaceArtifact);
         }
@@ -135,6 +146,15 @@ public final class EclipseWorkspaceArtifactRepository extends LocalArtifactRepos
     return workspaceArtifacts.get(matchingArtifact).iterator().next();
   }
 
+  private static Version parseVersion(String version) throws InvalidVersionSpecificationException {
+    Version parsed = parsedVersions.getIfPresent(version);
+    if(parsed == null) {
+      parsed = versionScheme.parseVersion(version);
+      parsedVersions.put(version, parsed);
+    }
+    return parsed;
+  }
+
   @Override
   public File findArtifact(Artifact artifact) {
     return resolveAsEclipseProject(artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion(),
@@ -205,11 +225,8 @@ public final class EclipseWorkspaceArtifactRepository extends LocalArtifactRepos
       return versions;
     }
 
-    for(MavenProjectFacade facade : context.state.getProjects()) {
-      ArtifactKey artifactKey = facade.getArtifactKey();
-      if(groupId.equals(artifactKey.groupId()) && artifactId.equals(artifactKey.artifactId())) {
-        versions.add(artifactKey.version());
-      }
+    for(ArtifactKey artifactKey : context.state.getWorkspaceArtifacts(groupId, artifactId).keySet()) {
+      versions.add(artifactKey.version());
     }
 
     return versions;
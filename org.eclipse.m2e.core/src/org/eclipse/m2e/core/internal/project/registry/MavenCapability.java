@@ -72,6 +72,10 @@ public class MavenCapability extends Capability {
         getVersionlessKey().equals(other.getVersionlessKey()) && version.equals(other.version);
   }
 
+  static MavenCapability create(String namespace, String id, String version) {
+    return new MavenCapability(namespace, id, version);
+  }
+
   public static MavenCapability createMavenArtifact(ArtifactKey key) {
     return new MavenCapability(NS_MAVEN_ARTIFACT, getId(key), key.version());
   }
@@ -43,6 +43,8 @@ import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.embedder.IComponentLookup;
 import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
 import org.eclipse.m2e.core.internal.embedder.PlexusContainerManager;
+import org.eclipse.m2e.core.internal.embedder.PlexusContainerManager.ContainerLease;
+import org.eclipse.m2e.core.internal.metrics.Metrics;
 import org.eclipse.m2e.core.internal.project.IManagedCache;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.IProjectConfiguration;
@@ -76,6 +78,7 @@ public class MavenProjectCache {
               flushMavenCaches(mavenProject.getFile(), removed.getKey().artifactKey(), false);
             }
           });
+          removed.getValue().releaseLeases();
         }).build(CacheLoader.from(CacheLine::new));
   }
 
@@ -170,8 +173,31 @@ public class MavenProjectCache {
 
     private ConcurrentMap<File, MavenProject> projects = new ConcurrentHashMap<>(1);
 
+    /**
+     * Leases of the containers the realms of the cached projects belong to, by pom file
+     */
+    private ConcurrentMap<File, ContainerLease> leases = new ConcurrentHashMap<>(1);
+
     void remove(File pomFile) {
       projects.remove(pomFile);
+      releaseLease(pomFile);
+    }
+
+    void lease(File pomFile) {
+      if(containerManager != null) {
+        leases.computeIfAbsent(pomFile, containerManager::lease);
+      }
+    }
+
+    private void releaseLease(File pomFile) {
+      ContainerLease lease = leases.remove(pomFile);
+      if(lease != null) {
+        lease.close();
+      }
+    }
+
+    void releaseLeases() {
+      leases.keySet().forEach(this::releaseLease);
     }
 
     void updateProject(IMavenProjectFacade facade, MavenProject mavenProject) {
@@ -180,7 +206,7 @@ public class MavenProjectCache {
         distributeProjectToCache(mavenProject, facade.getConfiguration());
         return mavenProject;
       });
-
+      lease(pomFile);
     }
 
     MavenProject getProject(IMavenProjectFacade facade, Function<IMavenProjectFacade, MavenProject> loader) {
@@ -188,11 +214,22 @@ public class MavenProjectCache {
       if(loader == null) {
         return projects.get(pomFile);
       }
-      return projects.computeIfAbsent(pomFile, f -> {
+      boolean[] loaded = new boolean[1];
+      MavenProject result = projects.computeIfAbsent(pomFile, f -> {
+        loaded[0] = true;
         MavenProject mavenProject = loader.apply(facade);
         distributeProjectToCache(mavenProject, facade.getConfiguration());
         return mavenProject;
       });
+      if(loaded[0]) {
+        if(result != null) {
+          lease(pomFile);
+        }
+        Metrics.miss(Metrics.CACHE_MAVEN_PROJECT);
+      } else {
+        Metrics.hit(Metrics.CACHE_MAVEN_PROJECT);
+      }
+      return result;
     }
 
   }
@@ -207,9 +244,10 @@ public class MavenProjectCache {
       //check if this is a workspace artifact
       if(file != null) {
         ArtifactKey projectKey = new ArtifactKey(parent.getArtifact());
-        MavenProject cacheItem = loadingCache.getUnchecked(new CacheKey(projectKey, configuration)).projects
-            .computeIfAbsent(file, x -> parent);
+        CacheLine cacheLine = loadingCache.getUnchecked(new CacheKey(projectKey, configuration));
+        MavenProject cacheItem = cacheLine.projects.computeIfAbsent(file, x -> parent);
         if(cacheItem == parent) {
+          cacheLine.lease(file);
           //the project was cached, go on with the parent of the parent...
           distributeProjectToCache(parent, configuration);
         } else {
@@ -14,6 +14,7 @@
 package org.eclipse.m2e.core.internal.project.registry;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IFile;
@@ -58,6 +60,7 @@ import org.eclipse.m2e.core.internal.Messages;
 import org.eclipse.m2e.core.internal.embedder.IMavenPlexusContainer;
 import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
 import org.eclipse.m2e.core.internal.embedder.PlexusContainerManager;
+import org.eclipse.m2e.core.internal.embedder.PlexusContainerManager.ContainerLease;
 import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.IProjectConfiguration;
@@ -126,6 +129,11 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
   // TODO make final
   private Map<MojoExecutionKey, List<IPluginExecutionMetadata>> mojoExecutionMapping;
 
+  // mojoExecutionMapping of a facade read from the workspace state, decoded on first access
+  private transient byte[] serializedMojoExecutionMapping;
+
+  private transient ProjectRegistryFormat.ObjectSerializer mojoExecutionMappingSerializer;
+
   private transient Map<String, Object> sessionProperties;
 
   public MavenProjectFacade(ProjectRegistryManager manager, IFile pom, MavenProject mavenProject,
@@ -211,6 +219,123 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
     this.timestamp = Arrays.copyOf(other.timestamp, other.timestamp.length);
   }
 
+  /**
+   * Reads a facade written by {@link #writeTo(ProjectRegistryFormat.Output)}.
+   */
+  MavenProjectFacade(ProjectRegistryManager manager, ProjectRegistryFormat.Input in) throws IOException {
+    this.manager = manager;
+    this.pom = in.readFile();
+    String pomPath = in.readString();
+    this.pomFile = pomPath != null ? new File(pomPath) : null;
+    this.resolverConfiguration = new MavenProjectConfiguration(in);
+
+    this.timestamp = new long[in.readVarInt()];
+    for(int i = 0; i < timestamp.length; i++ ) {
+      timestamp[i] = in.readLong();
+    }
+
+    this.artifactKey = in.readArtifactKey();
+    this.modules = List.copyOf(in.readStrings());
+    this.packaging = in.readString();
+
+    this.resourceLocations = List.copyOf(in.readPaths());
+    this.testResourceLocations = List.copyOf(in.readPaths());
+    this.compileSourceLocations = List.copyOf(in.readPaths());
+    this.testCompileSourceLocations = List.copyOf(in.readPaths());
+
+    this.buildOutputLocation = in.readPath();
+    this.outputLocation = in.readPath();
+    this.testOutputLocation = in.readPath();
+    this.finalName = in.readString();
+
+    this.artifactRepositories = readRepositoryReferences(in);
+    this.pluginArtifactRepositories = readRepositoryReferences(in);
+
+    if(in.readBoolean()) {
+      int size = in.readVarInt();
+      Set<ArtifactRef> refs = new LinkedHashSet<>(size);
+      for(int i = 0; i < size; i++ ) {
+        refs.add(new ArtifactRef(in.readArtifactKey(), in.readString()));
+      }
+      this.artifacts = Collections.unmodifiableSet(refs);
+    }
+
+    this.lifecycleMappingId = in.readString();
+    if(in.readBoolean()) {
+      this.serializedMojoExecutionMapping = in.readBytes();
+      this.mojoExecutionMappingSerializer = in.getSerializer();
+    }
+  }
+
+  /**
+   * Writes this facade in {@link ProjectRegistryFormat}, session properties are not persisted.
+   */
+  synchronized void writeTo(ProjectRegistryFormat.Output out) throws IOException {
+    out.writeFile(pom);
+    out.writeString(pomFile != null ? pomFile.getPath() : null);
+    ((MavenProjectConfiguration) resolverConfiguration).writeTo(out);
+
+    out.writeVarInt(timestamp.length);
+    for(long stamp : timestamp) {
+      out.writeLong(stamp);
+    }
+
+    out.writeArtifactKey(artifactKey);
+    out.writeStrings(modules);
+    out.writeString(packaging);
+
+    out.writePaths(resourceLocations);
+    out.writePaths(testResourceLocations);
+    out.writePaths(compileSourceLocations);
+    out.writePaths(testCompileSourceLocations);
+
+    out.writePath(buildOutputLocation);
+    out.writePath(outputLocation);
+    out.writePath(testOutputLocation);
+    out.writeString(finalName);
+
+    writeRepositoryReferences(out, artifactRepositories);
+    writeRepositoryReferences(out, pluginArtifactRepositories);
+
+    out.writeBoolean(artifacts != null);
+    if(artifacts != null) {
+      out.writeVarInt(artifacts.size());
+      for(ArtifactRef ref : artifacts) {
+        out.writeArtifactKey(ref.artifactKey());
+        out.writeString(ref.scope());
+      }
+    }
+
+    out.writeString(lifecycleMappingId);
+    if(serializedMojoExecutionMapping != null) {
+      // not decoded yet, pass through as is
+      out.writeBoolean(true);
+      out.writeBytes(serializedMojoExecutionMapping);
+    } else {
+      out.writeObject(mojoExecutionMapping);
+    }
+  }
+
+  private static Set<ArtifactRepositoryRef> readRepositoryReferences(ProjectRegistryFormat.Input in)
+      throws IOException {
+    int size = in.readVarInt();
+    Set<ArtifactRepositoryRef> refs = new LinkedHashSet<>(size);
+    for(int i = 0; i < size; i++ ) {
+      refs.add(new ArtifactRepositoryRef(in.readString(), in.readString(), in.readString()));
+    }
+    return refs;
+  }
+
+  private static void writeRepositoryReferences(ProjectRegistryFormat.Output out, Set<ArtifactRepositoryRef> refs)
+      throws IOException {
+    out.writeVarInt(refs.size());
+    for(ArtifactRepositoryRef ref : refs) {
+      out.writeString(ref.id());
+      out.writeString(ref.url());
+      out.writeString(ref.username());
+    }
+  }
+
   /**
    * Returns project relative paths of resource directories
    */
@@ -431,12 +556,26 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
   }
 
   @Override
-  public Map<MojoExecutionKey, List<IPluginExecutionMetadata>> getMojoExecutionMapping() {
+  @SuppressWarnings("unchecked")
+  public synchronized Map<MojoExecutionKey, List<IPluginExecutionMetadata>> getMojoExecutionMapping() {
+    if(serializedMojoExecutionMapping != null) {
+      try {
+        Object mapping = mojoExecutionMappingSerializer.deserialize(serializedMojoExecutionMapping);
+        this.mojoExecutionMapping = (Map<MojoExecutionKey, List<IPluginExecutionMetadata>>) mapping;
+      } catch(IOException ex) {
+        ProjectRegistryManager.log.error("Can't read mojo execution mapping of " + this, ex);
+      }
+      serializedMojoExecutionMapping = null;
+      mojoExecutionMappingSerializer = null;
+    }
     return mojoExecutionMapping;
   }
 
-  public void setMojoExecutionMapping(Map<MojoExecutionKey, List<IPluginExecutionMetadata>> mojoExecutionMapping) {
+  public synchronized void setMojoExecutionMapping(
+      Map<MojoExecutionKey, List<IPluginExecutionMetadata>> mojoExecutionMapping) {
     this.mojoExecutionMapping = mojoExecutionMapping;
+    this.serializedMojoExecutionMapping = null;
+    this.mojoExecutionMappingSerializer = null;
   }
 
   // mojo executions
@@ -622,13 +761,16 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
     } catch(Exception ex) {
       throw new RuntimeException("Acquire container failed!", ex);
     }
+    // the container is leased while the context executes, so it is not evicted meanwhile
+    Supplier<ContainerLease> lease = () -> containerManager.lease(multiModuleProjectDirectory);
     MavenProject mavenProject = tryGetMavenProject();
     if(mavenProject == null) {
-      return new MavenExecutionContext(container.getComponentLookup(), getBaseDir(), multiModuleProjectDirectory, null);
+      return new MavenExecutionContext(container.getComponentLookup(), getBaseDir(), multiModuleProjectDirectory, null,
+          lease);
     }
     return new MavenExecutionContext(
         PlexusContainerManager.wrap(container.getContainer(), mavenProject.getClassRealm()), getBaseDir(),
-        multiModuleProjectDirectory, ctx -> mavenProject);
+        multiModuleProjectDirectory, ctx -> mavenProject, lease);
   }
 
   private MavenProject tryGetMavenProject() {
@@ -679,6 +821,29 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
       this.inactiveProfiles = List.copyOf(baseConfiguration.getInactiveProfileList());
     }
 
+    private MavenProjectConfiguration(ProjectRegistryFormat.Input in) throws IOException {
+      String directory = in.readString();
+      this.multiModuleProjectDirectory = directory != null ? new File(directory) : null;
+      this.mappingId = in.readString();
+      this.properties = Map.copyOf(in.readStringMap());
+      this.userProperties = Map.copyOf(in.readStringMap());
+      this.resolveWorkspace = in.readBoolean();
+      this.profiles = in.readString();
+      this.activeProfiles = List.copyOf(in.readStrings());
+      this.inactiveProfiles = List.copyOf(in.readStrings());
+    }
+
+    void writeTo(ProjectRegistryFormat.Output out) throws IOException {
+      out.writeString(multiModuleProjectDirectory != null ? multiModuleProjectDirectory.getPath() : null);
+      out.writeString(mappingId);
+      out.writeStringMap(properties);
+      out.writeStringMap(userProperties);
+      out.writeBoolean(resolveWorkspace);
+      out.writeString(profiles);
+      out.writeStrings(activeProfiles);
+      out.writeStrings(inactiveProfiles);
+    }
+
     @Override
     public Map<String, String> getConfigurationProperties() {
       return properties;
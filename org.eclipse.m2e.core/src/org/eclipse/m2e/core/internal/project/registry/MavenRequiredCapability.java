@@ -48,6 +48,11 @@ public class MavenRequiredCapability extends RequiredCapability {
     this.resolved = resolved;
   }
 
+  static MavenRequiredCapability create(String namespace, String id, String versionRange, String scope,
+      boolean optional, boolean resolved) {
+    return new MavenRequiredCapability(namespace, id, versionRange, scope, optional, resolved);
+  }
+
   public static MavenRequiredCapability createResolvedMavenArtifact(ArtifactKey key, String scope, boolean optional) {
     return new MavenRequiredCapability(MavenCapability.NS_MAVEN_ARTIFACT, MavenCapability.getId(key), key.version(),
         scope, optional, true);
@@ -73,6 +78,22 @@ public class MavenRequiredCapability extends RequiredCapability {
         null, false, true);
   }
 
+  String getVersionRange() {
+    return versionRange;
+  }
+
+  String getScope() {
+    return scope;
+  }
+
+  boolean isOptional() {
+    return optional;
+  }
+
+  boolean isResolved() {
+    return resolved;
+  }
+
   @Override
   public boolean isPotentialMatch(Capability capability, boolean narrowMatch) {
     if(capability instanceof MavenCapability mavenCapability
@@ -14,6 +14,7 @@
 package org.eclipse.m2e.core.internal.project.registry;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -30,7 +31,8 @@ import org.eclipse.m2e.core.embedder.ArtifactKey;
 
 
 /**
- * WorkspaceStateDelta
+ * WorkspaceStateDelta. All accessors are synchronized so that phase 2 of a registry refresh can update the registry
+ * from several threads at the same time.
  *
  * @author igor
  */
@@ -44,6 +46,11 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
 
   private boolean closed;
 
+  /**
+   * Poms whose facade, capabilities or requirements were changed through this registry
+   */
+  private final Set<IFile> changedPoms = new LinkedHashSet<>();
+
   public MutableProjectRegistry(ProjectRegistry state) {
     super(state);
     this.parent = state;
@@ -56,32 +63,30 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
     }
   }
 
-  public void setProject(IFile pom, MavenProjectFacade facade) {
+  public synchronized void setProject(IFile pom, MavenProjectFacade facade) {
     assertNotClosed();
+    changedPoms.add(pom);
 
     // remove
     MavenProjectFacade oldFacade = workspacePoms.remove(pom);
     if(oldFacade != null) {
-      Set<IFile> paths = workspaceArtifacts.get(oldFacade.getArtifactKey());
-      if(paths != null) {
-        paths.remove(pom);
-      }
+      removeWorkspaceArtifact(oldFacade.getArtifactKey(), pom);
     }
     if(facade != null) {
       // Add the project to workspaceProjects map
       workspacePoms.put(pom, facade);
 
       // Add the project to workspaceArtifacts map
-      Set<IFile> paths = workspaceArtifacts.computeIfAbsent(facade.getArtifactKey(), k -> new LinkedHashSet<>());
-      paths.add(pom);
+      addWorkspaceArtifact(facade.getArtifactKey(), pom);
     }
   }
 
-  public void removeProject(IFile pom, ArtifactKey mavenProject) {
+  public synchronized void removeProject(IFile pom, ArtifactKey mavenProject) {
     assertNotClosed();
+    changedPoms.add(pom);
 
     // remove project from requiredCapabilities map
-    removeRequiredCapabilities(pom);
+    removeRequiredCapabilities(pom, projectRequirements.getOrDefault(pom, Set.of()));
 
     // Remove the project from workspaceProjects, projectRequirements and projectCapabilities maps
     MavenProjectFacade facade = workspacePoms.remove(pom);
@@ -90,10 +95,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
 
     // Remove the project from workspaceArtifacts map
     if(mavenProject != null) {
-      Set<IFile> paths = workspaceArtifacts.get(mavenProject);
-      if(paths != null) {
-        paths.remove(pom);
-      }
+      removeWorkspaceArtifact(mavenProject, pom);
     }
 
     if(facade != null) {
@@ -108,7 +110,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
     return r1.getProject().equals(r2.getProject());
   }
 
-  public Set<IFile> removeWorkspaceModules(ArtifactKey mavenProject) {
+  public synchronized Set<IFile> removeWorkspaceModules(ArtifactKey mavenProject) {
     assertNotClosed();
 
     return getDependents(MavenCapability.createMavenParent(mavenProject), true);
@@ -119,7 +121,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
   }
 
   @Override
-  public void close() {
+  public synchronized void close() {
     this.closed = true;
     clear();
   }
@@ -131,7 +133,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
   // IProjectRegistry
 
   @Override
-  public MavenProjectFacade getProjectFacade(IFile pom) {
+  public synchronized MavenProjectFacade getProjectFacade(IFile pom) {
     if(isClosed()) {
       return parent.getProjectFacade(pom);
     }
@@ -139,7 +141,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
   }
 
   @Override
-  public MavenProjectFacade getProjectFacade(File pom) {
+  public synchronized MavenProjectFacade getProjectFacade(File pom) {
     if(isClosed()) {
       return parent.getProjectFacade(pom);
     }
@@ -147,7 +149,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
   }
 
   @Override
-  public MavenProjectFacade getProjectFacade(String groupId, String artifactId, String version) {
+  public synchronized MavenProjectFacade getProjectFacade(String groupId, String artifactId, String version) {
     if(isClosed()) {
       return parent.getProjectFacade(groupId, artifactId, version);
     }
@@ -155,7 +157,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
   }
 
   @Override
-  public List<MavenProjectFacade> getProjects() {
+  public synchronized List<MavenProjectFacade> getProjects() {
     if(isClosed()) {
       return parent.getProjects();
     }
@@ -163,7 +165,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
   }
 
   @Override
-  public Map<ArtifactKey, Collection<IFile>> getWorkspaceArtifacts(String groupId, String artifactId) {
+  public synchronized Map<ArtifactKey, Collection<IFile>> getWorkspaceArtifacts(String groupId, String artifactId) {
     if(isClosed()) {
       return parent.getWorkspaceArtifacts(groupId, artifactId);
     }
@@ -186,7 +188,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
     return getDependents(capability, true, remove);
   }
 
-  private Set<IFile> getDependents(Capability capability, boolean versionMatch, boolean remove) {
+  private synchronized Set<IFile> getDependents(Capability capability, boolean versionMatch, boolean remove) {
     Map<RequiredCapability, Set<IFile>> rs = requiredCapabilities.get(capability.getVersionlessKey());
     if(rs == null) {
       return Collections.emptySet();
@@ -199,8 +201,11 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
       }
       return false;
     });
-    if(remove && rs.isEmpty()) {
-      requiredCapabilities.remove(capability.getVersionlessKey());
+    if(remove) {
+      changedPoms.addAll(result);
+      if(rs.isEmpty()) {
+        requiredCapabilities.remove(capability.getVersionlessKey());
+      }
     }
     return result;
   }
@@ -208,7 +213,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
   /**
    * Returns all workspace projects that require given versionless Capability.
    */
-  public Set<IFile> getDependents(VersionlessKey capability, boolean remove) {
+  public synchronized Set<IFile> getDependents(VersionlessKey capability, boolean remove) {
     Map<RequiredCapability, Set<IFile>> rs;
     if(remove) {
       rs = requiredCapabilities.remove(capability);
@@ -222,15 +227,20 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
     for(Set<IFile> dependents : rs.values()) {
       result.addAll(dependents);
     }
+    if(remove) {
+      changedPoms.addAll(result);
+    }
     return result;
   }
 
-  public Set<Capability> setCapabilities(IFile pom, Set<Capability> capabilities) {
+  public synchronized Set<Capability> setCapabilities(IFile pom, Set<Capability> capabilities) {
+    changedPoms.add(pom);
     return capabilities != null ? projectCapabilities.put(pom, capabilities) : projectCapabilities.remove(pom);
   }
 
-  public Set<RequiredCapability> setRequirements(IFile pom, Set<RequiredCapability> requirements) {
-    removeRequiredCapabilities(pom);
+  public synchronized Set<RequiredCapability> setRequirements(IFile pom, Set<RequiredCapability> requirements) {
+    changedPoms.add(pom);
+    removeRequiredCapabilities(pom, projectRequirements.getOrDefault(pom, Set.of()));
     if(requirements != null) {
       for(RequiredCapability requirement : requirements) {
         var poms = requiredCapabilities.computeIfAbsent(requirement.getVersionlessKey(), k -> new HashMap<>());
@@ -241,8 +251,99 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
     return projectRequirements.remove(pom);
   }
 
-  private void removeRequiredCapabilities(IFile pom) {
-    for(RequiredCapability requiredCapability : projectRequirements.getOrDefault(pom, Set.of())) {
+  /**
+   * Returns the capabilities currently provided by the given pom, never <code>null</code>.
+   */
+  synchronized Set<Capability> getCapabilities(IFile pom) {
+    return Set.copyOf(projectCapabilities.getOrDefault(pom, Set.of()));
+  }
+
+  /**
+   * Returns the capabilities currently required by the given pom, never <code>null</code>.
+   */
+  synchronized Set<RequiredCapability> getRequirements(IFile pom) {
+    return Set.copyOf(projectRequirements.getOrDefault(pom, Set.of()));
+  }
+
+  synchronized boolean hasChanges() {
+    return !changedPoms.isEmpty();
+  }
+
+  /**
+   * Writes the current state of all poms changed through this registry as one journal record. Each pom is written as
+   * a removal followed by the mutations that restore its facade, capabilities and requirements, so replaying a record
+   * more than once is harmless.
+   */
+  synchronized void writeChanges(ProjectRegistryFormat.Output out) throws IOException {
+    int operations = 0;
+    for(IFile pom : changedPoms) {
+      operations += 1 + (workspacePoms.containsKey(pom) ? 1 : 0) + (projectCapabilities.containsKey(pom) ? 1 : 0)
+          + (projectRequirements.containsKey(pom) ? 1 : 0);
+    }
+    out.writeVarInt(operations);
+    for(IFile pom : changedPoms) {
+      out.writeByte(ProjectRegistryFormat.OP_REMOVE_PROJECT);
+      out.writeFile(pom);
+      MavenProjectFacade facade = workspacePoms.get(pom);
+      if(facade != null) {
+        out.writeByte(ProjectRegistryFormat.OP_SET_PROJECT);
+        out.writeFile(pom);
+        facade.writeTo(out);
+      }
+      Set<Capability> capabilities = projectCapabilities.get(pom);
+      if(capabilities != null) {
+        out.writeByte(ProjectRegistryFormat.OP_SET_CAPABILITIES);
+        out.writeFile(pom);
+        out.writeCapabilities(capabilities);
+      }
+      Set<RequiredCapability> requirements = projectRequirements.get(pom);
+      if(requirements != null) {
+        out.writeByte(ProjectRegistryFormat.OP_SET_REQUIREMENTS);
+        out.writeFile(pom);
+        out.writeRequirements(requirements);
+        // requirements already consumed by getDependents(..., true) are not registered anymore
+        Set<RequiredCapability> registered = new LinkedHashSet<>();
+        for(RequiredCapability requirement : requirements) {
+          Map<RequiredCapability, Set<IFile>> rs = requiredCapabilities.get(requirement.getVersionlessKey());
+          if(rs != null && rs.getOrDefault(requirement, Set.of()).contains(pom)) {
+            registered.add(requirement);
+          }
+        }
+        out.writeRequirements(registered);
+      }
+    }
+  }
+
+  /**
+   * Replays one journal record written by {@link #writeChanges(ProjectRegistryFormat.Output)}.
+   */
+  synchronized void readChanges(ProjectRegistryFormat.Input in, ProjectRegistryManager manager) throws IOException {
+    assertNotClosed();
+    int operations = in.readVarInt();
+    for(int i = 0; i < operations; i++ ) {
+      byte operation = in.readByte();
+      IFile pom = in.readFile();
+      switch(operation) {
+        case ProjectRegistryFormat.OP_REMOVE_PROJECT -> {
+          MavenProjectFacade facade = workspacePoms.get(pom);
+          removeProject(pom, facade != null ? facade.getArtifactKey() : null);
+        }
+        case ProjectRegistryFormat.OP_SET_PROJECT -> setProject(pom, new MavenProjectFacade(manager, in));
+        case ProjectRegistryFormat.OP_SET_CAPABILITIES -> setCapabilities(pom, in.readCapabilities());
+        case ProjectRegistryFormat.OP_SET_REQUIREMENTS -> {
+          Set<RequiredCapability> requirements = in.readRequirements();
+          Set<RequiredCapability> unregistered = new LinkedHashSet<>(requirements);
+          unregistered.removeAll(in.readRequirements());
+          setRequirements(pom, requirements);
+          removeRequiredCapabilities(pom, unregistered);
+        }
+        default -> throw new IOException("Unknown journal operation " + operation); //$NON-NLS-1$
+      }
+    }
+  }
+
+  private void removeRequiredCapabilities(IFile pom, Collection<RequiredCapability> requirements) {
+    for(RequiredCapability requiredCapability : requirements) {
       requiredCapabilities.computeIfPresent(requiredCapability.getVersionlessKey(), (k, rc2pom) -> {
         rc2pom.computeIfPresent(requiredCapability, (rc, requiringPoms) -> {
           requiringPoms.remove(pom);
@@ -0,0 +1,420 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+
+
+/**
+ * Compact binary format of the persisted {@link ProjectRegistry}. All strings (GAVs, paths, namespaces, ...) are stored
+ * once in a string table and referenced by varint encoded indexes, so the many repeated coordinates of capability and
+ * requirement edges cost one or two bytes each.
+ *
+ * <pre>
+ * int       MAGIC
+ * int       VERSION
+ * varint    number of strings, followed by the UTF-8 encoded strings
+ * ...       body, see BasicProjectRegistry#writeTo and MutableProjectRegistry#writeChanges
+ * </pre>
+ *
+ * A stream with an unknown magic or version is rejected with an {@link IOException}, callers then start with an empty
+ * registry and fall back to a full refresh.
+ */
+final class ProjectRegistryFormat {
+
+  static final int MAGIC = 0x4d324552; // M2ER
+
+  /**
+   * Schema version, increment on any incompatible change of the body layout.
+   */
+  static final int VERSION = 2;
+
+  /**
+   * Magic of the journal file, see ProjectRegistryReader
+   */
+  static final int JOURNAL_MAGIC = 0x4d32454a; // M2EJ
+
+  static final byte OP_REMOVE_PROJECT = 0;
+
+  static final byte OP_SET_PROJECT = 1;
+
+  static final byte OP_SET_CAPABILITIES = 2;
+
+  static final byte OP_SET_REQUIREMENTS = 3;
+
+  private static final byte TAG_MAVEN = 0;
+
+  private static final byte TAG_SERIALIZED = 1;
+
+  private ProjectRegistryFormat() {
+  }
+
+  /**
+   * Converts objects that have no dedicated encoding from and to bytes.
+   */
+  interface ObjectSerializer {
+
+    byte[] serialize(Object object) throws IOException;
+
+    Object deserialize(byte[] bytes) throws IOException;
+  }
+
+  static final class Output {
+
+    private final Map<String, Integer> stringIndex = new HashMap<>();
+
+    private final List<String> strings = new ArrayList<>();
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+
+    private final DataOutputStream data = new DataOutputStream(buffer);
+
+    private final ObjectSerializer serializer;
+
+    Output(ObjectSerializer serializer) {
+      this.serializer = serializer;
+    }
+
+    /**
+     * Writes header, string table and body to the given stream.
+     */
+    void writeTo(OutputStream stream) throws IOException {
+      DataOutputStream out = new DataOutputStream(stream);
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      writeVarInt(out, strings.size());
+      for(String string : strings) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+      }
+      data.flush();
+      buffer.writeTo(out);
+      out.flush();
+    }
+
+    void writeVarInt(int value) throws IOException {
+      writeVarInt(data, value);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+      while((value & ~0x7F) != 0) {
+        out.writeByte((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      out.writeByte(value);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+      data.writeBoolean(value);
+    }
+
+    void writeByte(byte value) throws IOException {
+      data.writeByte(value);
+    }
+
+    void writeLong(long value) throws IOException {
+      data.writeLong(value);
+    }
+
+    void writeBytes(byte[] bytes) throws IOException {
+      writeVarInt(bytes.length);
+      data.write(bytes);
+    }
+
+    /**
+     * Writes a string table reference, <code>0</code> stands for <code>null</code>.
+     */
+    void writeString(String value) throws IOException {
+      if(value == null) {
+        writeVarInt(0);
+        return;
+      }
+      Integer index = stringIndex.get(value);
+      if(index == null) {
+        index = strings.size() + 1;
+        strings.add(value);
+        stringIndex.put(value, index);
+      }
+      writeVarInt(index);
+    }
+
+    void writeStrings(Collection<String> values) throws IOException {
+      writeVarInt(values.size());
+      for(String value : values) {
+        writeString(value);
+      }
+    }
+
+    void writeStringMap(Map<String, String> values) throws IOException {
+      writeVarInt(values.size());
+      for(Map.Entry<String, String> entry : values.entrySet()) {
+        writeString(entry.getKey());
+        writeString(entry.getValue());
+      }
+    }
+
+    void writePath(IPath path) throws IOException {
+      writeString(path != null ? path.toPortableString() : null);
+    }
+
+    void writePaths(Collection<IPath> paths) throws IOException {
+      writeVarInt(paths.size());
+      for(IPath path : paths) {
+        writePath(path);
+      }
+    }
+
+    void writeFile(IFile file) throws IOException {
+      writeString(file.getFullPath().toPortableString());
+    }
+
+    void writeArtifactKey(ArtifactKey key) throws IOException {
+      writeString(key.groupId());
+      writeString(key.artifactId());
+      writeString(key.version());
+      writeString(key.classifier());
+    }
+
+    void writeObject(Object object) throws IOException {
+      writeBoolean(object != null);
+      if(object != null) {
+        writeBytes(serializer.serialize(object));
+      }
+    }
+
+    ObjectSerializer getSerializer() {
+      return serializer;
+    }
+
+    void writeCapabilities(Set<Capability> capabilities) throws IOException {
+      writeVarInt(capabilities.size());
+      for(Capability capability : capabilities) {
+        if(capability.getClass() == MavenCapability.class) {
+          MavenCapability mavenCapability = (MavenCapability) capability;
+          data.writeByte(TAG_MAVEN);
+          writeVersionlessKey(capability.getVersionlessKey());
+          writeString(mavenCapability.getVersion());
+        } else {
+          data.writeByte(TAG_SERIALIZED);
+          writeBytes(serializer.serialize(capability));
+        }
+      }
+    }
+
+    void writeRequirement(RequiredCapability requirement) throws IOException {
+      if(requirement.getClass() == MavenRequiredCapability.class) {
+        MavenRequiredCapability mavenRequirement = (MavenRequiredCapability) requirement;
+        data.writeByte(TAG_MAVEN);
+        writeVersionlessKey(requirement.getVersionlessKey());
+        writeString(mavenRequirement.getVersionRange());
+        writeString(mavenRequirement.getScope());
+        data.writeByte((mavenRequirement.isOptional() ? 1 : 0) | (mavenRequirement.isResolved() ? 2 : 0));
+      } else {
+        data.writeByte(TAG_SERIALIZED);
+        writeBytes(serializer.serialize(requirement));
+      }
+    }
+
+    void writeRequirements(Set<RequiredCapability> requirements) throws IOException {
+      writeVarInt(requirements.size());
+      for(RequiredCapability requirement : requirements) {
+        writeRequirement(requirement);
+      }
+    }
+
+    void writeVersionlessKey(VersionlessKey key) throws IOException {
+      writeString(key.namespace());
+      writeString(key.id());
+    }
+  }
+
+  static final class Input {
+
+    private final String[] strings;
+
+    private final DataInputStream data;
+
+    private final ObjectSerializer serializer;
+
+    private final IWorkspaceRoot root;
+
+    private final Map<String, IFile> files = new HashMap<>();
+
+    Input(InputStream stream, ObjectSerializer serializer, IWorkspaceRoot root) throws IOException {
+      this.data = new DataInputStream(stream);
+      this.serializer = serializer;
+      this.root = root;
+      int magic = data.readInt();
+      int version = data.readInt();
+      if(magic != MAGIC || version != VERSION) {
+        throw new IOException(
+            "Unsupported workspace state format " + Integer.toHexString(magic) + "/" + version); //$NON-NLS-1$ //$NON-NLS-2$
+      }
+      strings = new String[readVarInt()];
+      for(int i = 0; i < strings.length; i++ ) {
+        byte[] bytes = new byte[readVarInt()];
+        data.readFully(bytes);
+        strings[i] = new String(bytes, StandardCharsets.UTF_8);
+      }
+    }
+
+    int readVarInt() throws IOException {
+      int value = 0;
+      for(int shift = 0; shift < 32; shift += 7) {
+        int b = data.readUnsignedByte();
+        value |= (b & 0x7F) << shift;
+        if((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new IOException("Malformed varint"); //$NON-NLS-1$
+    }
+
+    boolean readBoolean() throws IOException {
+      return data.readBoolean();
+    }
+
+    byte readByte() throws IOException {
+      return data.readByte();
+    }
+
+    long readLong() throws IOException {
+      return data.readLong();
+    }
+
+    byte[] readBytes() throws IOException {
+      byte[] bytes = new byte[readVarInt()];
+      data.readFully(bytes);
+      return bytes;
+    }
+
+    String readString() throws IOException {
+      int index = readVarInt();
+      if(index == 0) {
+        return null;
+      }
+      if(index > strings.length) {
+        throw new IOException("Invalid string reference " + index); //$NON-NLS-1$
+      }
+      return strings[index - 1];
+    }
+
+    List<String> readStrings() throws IOException {
+      int size = readVarInt();
+      List<String> values = new ArrayList<>(size);
+      for(int i = 0; i < size; i++ ) {
+        values.add(readString());
+      }
+      return values;
+    }
+
+    Map<String, String> readStringMap() throws IOException {
+      int size = readVarInt();
+      Map<String, String> values = new LinkedHashMap<>(size);
+      for(int i = 0; i < size; i++ ) {
+        values.put(readString(), readString());
+      }
+      return values;
+    }
+
+    IPath readPath() throws IOException {
+      String path = readString();
+      return path != null ? IPath.fromPortableString(path) : null;
+    }
+
+    List<IPath> readPaths() throws IOException {
+      int size = readVarInt();
+      List<IPath> paths = new ArrayList<>(size);
+      for(int i = 0; i < size; i++ ) {
+        paths.add(readPath());
+      }
+      return paths;
+    }
+
+    IFile readFile() throws IOException {
+      return files.computeIfAbsent(readString(), path -> root.getFile(IPath.fromPortableString(path)));
+    }
+
+    ArtifactKey readArtifactKey() throws IOException {
+      return new ArtifactKey(readString(), readString(), readString(), readString());
+    }
+
+    Object readObject() throws IOException {
+      return readBoolean() ? serializer.deserialize(readBytes()) : null;
+    }
+
+    ObjectSerializer getSerializer() {
+      return serializer;
+    }
+
+    Set<Capability> readCapabilities() throws IOException {
+      int size = readVarInt();
+      Set<Capability> capabilities = new LinkedHashSet<>(size);
+      for(int i = 0; i < size; i++ ) {
+        byte tag = data.readByte();
+        if(tag == TAG_MAVEN) {
+          VersionlessKey key = readVersionlessKey();
+          capabilities.add(MavenCapability.create(key.namespace(), key.id(), readString()));
+        } else {
+          capabilities.add((Capability) serializer.deserialize(readBytes()));
+        }
+      }
+      return capabilities;
+    }
+
+    RequiredCapability readRequirement() throws IOException {
+      byte tag = data.readByte();
+      if(tag == TAG_MAVEN) {
+        VersionlessKey key = readVersionlessKey();
+        String versionRange = readString();
+        String scope = readString();
+        byte flags = data.readByte();
+        return MavenRequiredCapability.create(key.namespace(), key.id(), versionRange, scope, (flags & 1) != 0,
+            (flags & 2) != 0);
+      }
+      return (RequiredCapability) serializer.deserialize(readBytes());
+    }
+
+    Set<RequiredCapability> readRequirements() throws IOException {
+      int size = readVarInt();
+      Set<RequiredCapability> requirements = new LinkedHashSet<>(size);
+      for(int i = 0; i < size; i++ ) {
+        requirements.add(readRequirement());
+      }
+      return requirements;
+    }
+
+    VersionlessKey readVersionlessKey() throws IOException {
+      return new VersionlessKey(readString(), readString());
+    }
+  }
+}
@@ -62,6 +62,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -99,13 +100,16 @@ import org.eclipse.m2e.core.internal.IMavenToolbox;
 import org.eclipse.m2e.core.internal.Messages;
 import org.eclipse.m2e.core.internal.URLConnectionCaches;
 import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
+import org.eclipse.m2e.core.internal.embedder.MavenImpl;
 import org.eclipse.m2e.core.internal.embedder.MavenProperties;
 import org.eclipse.m2e.core.internal.embedder.PlexusContainerManager;
+import org.eclipse.m2e.core.internal.embedder.PlexusContainerManager.ContainerLease;
 import org.eclipse.m2e.core.internal.lifecyclemapping.LifecycleMappingFactory;
 import org.eclipse.m2e.core.internal.lifecyclemapping.LifecycleMappingResult;
 import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
 import org.eclipse.m2e.core.internal.markers.IMavenMarkerManager;
-import org.eclipse.m2e.core.internal.markers.MarkerUtils;
+import org.eclipse.m2e.core.internal.metrics.Metrics;
+import org.eclipse.m2e.core.internal.metrics.Metrics.Measurement;
 import org.eclipse.m2e.core.internal.project.ResolverConfigurationIO;
 import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
 import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
@@ -139,6 +143,11 @@ public class ProjectRegistryManager implements ISaveParticipant {
 
   public static final String LIFECYCLE_SITE = "site";
 
+  /**
+   * Milliseconds to wait before compacting the workspace state, so that a burst of applied changes is compacted once.
+   */
+  private static final long COMPACTION_DELAY = 1000L;
+
   /**
    * Path of project metadata files, relative to the project. These files are used to determine if project dependencies
    * need to be updated.
@@ -174,6 +183,11 @@ public class ProjectRegistryManager implements ISaveParticipant {
 
   private volatile Thread syncRefreshThread;
 
+  /**
+   * Writes a new snapshot of the workspace state when the journal asks for it, outside of the workspace lock.
+   */
+  private final Job compactionJob = Job.createSystem("Compact Maven workspace state", monitor -> writeWorkspaceState());
+
   /**
    * @noreference For tests only
    */
@@ -446,54 +460,112 @@ public class ProjectRegistryManager implements ISaveParticipant {
 
     // phase 2: resolve project dependencies
     ProjectProcessingTracker tracker = new ProjectProcessingTracker(context);
+    int threads = DependencyResolutionScheduler.getThreads();
+    if(threads > 1 && syncRefreshThread == null) {
+      // synchronous refreshes hold the workspace lock, workers would deadlock as soon as they touch markers
+      refreshPhase2Parallel(newState, context, tracker, originalCapabilities, originalRequirements, allProcessedPoms,
+          threads, monitor);
+      return;
+    }
     do {
       while(!context.isEmpty()) {
         if(monitor.isCanceled()) {
           throw new OperationCanceledException();
         }
 
-        if(newState.isStale() || (syncRefreshThread != null && syncRefreshThread != Thread.currentThread())) {
+        if(isStale(newState)) {
           throw new StaleMutableProjectRegistryException();
         }
 
         IFile pom = context.pop();
         if(tracker.shouldProcess(pom)) {
+          refreshPhase2Pom(newState, context, originalCapabilities, originalRequirements, allProcessedPoms, pom,
+              monitor);
+          monitor.worked(1);
+        }
+      }
+    } while(tracker.needsImprovement());
+  }
 
-          MavenProjectFacade newFacade = null;
-          if(pom.isAccessible() && pom.getProject().hasNature(IMavenConstants.NATURE_ID)) {
-            newFacade = newState.getProjectFacade(pom);
-          }
-          if(newFacade != null) {
-            MavenProject mavenProject = getMavenProject(newFacade);
-            if(!allProcessedPoms.contains(newFacade.getPom())) {
-              // facade from workspace state that has not been refreshed yet
-              newFacade = readMavenProjectFacades(Collections.singletonList(pom), newState, context, monitor).get(pom);
-            } else {
-              // recreate facade instance to trigger project changed event
-              // this is only necessary for facades that are refreshed because their dependencies changed
-              // but this is relatively cheap, so all facades are recreated here
-              putMavenProject(newFacade, null);
-              newFacade = new MavenProjectFacade(newFacade);
-              putMavenProject(newFacade, mavenProject);
-            }
-            mavenProjectCache.updateMavenProject(newFacade, mavenProject);
+  private void refreshPhase2Parallel(MutableProjectRegistry newState, DependencyResolutionContext context,
+      ProjectProcessingTracker tracker, Map<IFile, Set<Capability>> originalCapabilities,
+      Map<IFile, Set<RequiredCapability>> originalRequirements, Set<IFile> allProcessedPoms, int threads,
+      IProgressMonitor monitor) throws CoreException {
+    // workers do not inherit the caller's execution context, carry over what the refresh job sets up
+    IMavenExecutionContext callerContext = MavenExecutionContext.getThreadContext();
+    boolean offline = callerContext != null ? callerContext.getExecutionRequest().isOffline()
+        : configuration.isOffline();
+    boolean forceDependencyUpdate = isForceDependencyUpdate();
+    IProgressMonitor workerMonitor = new NullProgressMonitor() {
+      @Override
+      public boolean isCanceled() {
+        return monitor.isCanceled();
+      }
+    };
+    try (DependencyResolutionScheduler scheduler = new DependencyResolutionScheduler(newState, threads)) {
+      do {
+        while(!context.isEmpty()) {
+          if(monitor.isCanceled()) {
+            throw new OperationCanceledException();
           }
-
-          if(newFacade != null) {
-            MavenProjectFacade facade = newFacade;
-            IProjectConfiguration resolverConfiguration = facade.getConfiguration();
-            createExecutionContext(newState, pom, resolverConfiguration).execute(getMavenProject(newFacade),
-                (executionContext, pm) -> {
-                  refreshPhase2(newState, context, originalCapabilities, originalRequirements, pom, facade, pm);
-                  return null;
-                }, monitor);
-          } else {
-            refreshPhase2(newState, context, originalCapabilities, originalRequirements, pom, newFacade, monitor);
+          if(isStale(newState)) {
+            throw new StaleMutableProjectRegistryException();
           }
-          monitor.worked(1);
+          List<IFile> poms = context.popAll().stream().filter(tracker::shouldProcess).toList();
+          // poms of the batch that were not started yet see all changes, they are not queued again when forced
+          context.schedule(poms);
+          scheduler.run(poms, pom -> {
+            context.started(pom);
+            MavenImpl.execute(maven, offline, forceDependencyUpdate, (executionContext, pm) -> {
+              refreshPhase2Pom(newState, context, originalCapabilities, originalRequirements, allProcessedPoms, pom,
+                  pm);
+              return null;
+            }, workerMonitor);
+          }, () -> monitor.isCanceled() || isStale(newState));
+          monitor.worked(poms.size());
         }
+      } while(tracker.needsImprovement());
+    }
+  }
+
+  private boolean isStale(MutableProjectRegistry newState) {
+    return newState.isStale() || (syncRefreshThread != null && syncRefreshThread != Thread.currentThread());
+  }
+
+  private void refreshPhase2Pom(MutableProjectRegistry newState, DependencyResolutionContext context,
+      Map<IFile, Set<Capability>> originalCapabilities, Map<IFile, Set<RequiredCapability>> originalRequirements,
+      Set<IFile> allProcessedPoms, IFile pom, IProgressMonitor monitor) throws CoreException {
+    MavenProjectFacade newFacade = null;
+    if(pom.isAccessible() && pom.getProject().hasNature(IMavenConstants.NATURE_ID)) {
+      newFacade = newState.getProjectFacade(pom);
+    }
+    if(newFacade != null) {
+      MavenProject mavenProject = getMavenProject(newFacade);
+      if(!allProcessedPoms.contains(newFacade.getPom())) {
+        // facade from workspace state that has not been refreshed yet
+        newFacade = readMavenProjectFacades(Collections.singletonList(pom), newState, context, monitor).get(pom);
+      } else {
+        // recreate facade instance to trigger project changed event
+        // this is only necessary for facades that are refreshed because their dependencies changed
+        // but this is relatively cheap, so all facades are recreated here
+        putMavenProject(newFacade, null);
+        newFacade = new MavenProjectFacade(newFacade);
+        putMavenProject(newFacade, mavenProject);
       }
-    } while(tracker.needsImprovement());
+      mavenProjectCache.updateMavenProject(newFacade, mavenProject);
+    }
+
+    if(newFacade != null) {
+      MavenProjectFacade facade = newFacade;
+      IProjectConfiguration resolverConfiguration = facade.getConfiguration();
+      createExecutionContext(newState, pom, resolverConfiguration).execute(getMavenProject(newFacade),
+          (executionContext, pm) -> {
+            refreshPhase2(newState, context, originalCapabilities, originalRequirements, pom, facade, pm);
+            return null;
+          }, monitor);
+    } else {
+      refreshPhase2(newState, context, originalCapabilities, originalRequirements, pom, newFacade, monitor);
+    }
   }
 
   private List<IFile> calculateFacadesForUpdate(MutableProjectRegistry registry, DependencyResolutionContext context,
@@ -505,7 +577,7 @@ public class ProjectRegistryManager implements ISaveParticipant {
         throw new OperationCanceledException();
       }
 
-      if(registry.isStale() || (syncRefreshThread != null && syncRefreshThread != Thread.currentThread())) {
+      if(isStale(registry)) {
         throw new StaleMutableProjectRegistryException();
       }
 
@@ -557,9 +629,12 @@ public class ProjectRegistryManager implements ISaveParticipant {
     Set<Capability> capabilities = null;
     Set<RequiredCapability> requirements = null;
     if(newFacade != null) {
-      monitor.subTask(NLS.bind(Messages.ProjectRegistryManager_task_project, newFacade.getProject().getName()));
+      String projectName = newFacade.getProject().getName();
+      monitor.subTask(NLS.bind(Messages.ProjectRegistryManager_task_project, projectName));
 
-      setupLifecycleMapping(monitor, newFacade);
+      try (Measurement m = Metrics.start(Metrics.PHASE_LIFECYCLE_MAPPING, projectName)) {
+        setupLifecycleMapping(monitor, newFacade);
+      }
 
       capabilities = new LinkedHashSet<>();
       requirements = new LinkedHashSet<>();
@@ -575,7 +650,7 @@ public class ProjectRegistryManager implements ISaveParticipant {
 
       AbstractMavenDependencyResolver resolver = getMavenDependencyResolver(newFacade, monitor);
       resolver.setContextProjectRegistry(newState);
-      try {
+      try (Measurement m = Metrics.start(Metrics.PHASE_RESOLVE, projectName)) {
         resolver.resolveProjectDependencies(newFacade, capabilities, requirements, monitor);
       } finally {
         resolver.setContextProjectRegistry(null);
@@ -654,11 +729,8 @@ public class ProjectRegistryManager implements ISaveParticipant {
     newFacade.setSessionProperty(MavenProjectFacade.PROP_LIFECYCLE_MAPPING, mappingResult.getLifecycleMapping());
     LifecycleMappingFactory.setProjectConfigurators(newFacade, mappingResult);
 
-    markerManager.deleteMarkers(newFacade.getPom(), IMavenConstants.MARKER_LIFECYCLEMAPPING_ID);
-    if(mappingResult.hasProblems()) {
-      markerManager.addErrorMarkers(newFacade.getPom(), IMavenConstants.MARKER_LIFECYCLEMAPPING_ID,
-          mappingResult.getProblems());
-    }
+    markerManager.replaceMarkers(newFacade.getPom(), IMavenConstants.MARKER_LIFECYCLEMAPPING_ID,
+        mappingResult.getProblems());
   }
 
   private void detachMappingSources(Map<MojoExecutionKey, List<IPluginExecutionMetadata>> mapping) {
@@ -738,9 +810,6 @@ public class ProjectRegistryManager implements ISaveParticipant {
       return Collections.emptyMap();
     }
     SubMonitor subMonitor = SubMonitor.convert(monitor, poms.size());
-    for(IFile pom : poms) {
-      markerManager.deleteMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID);
-    }
 
     Map<IFile, IProjectConfiguration> resolverConfigurations = new HashMap<>(poms.size(), 1.f);
     Map<IProjectConfiguration, Collection<IFile>> groupsToImport = poms.stream().collect(Collectors.groupingBy(pom -> {
@@ -751,22 +820,25 @@ public class ProjectRegistryManager implements ISaveParticipant {
     }, LinkedHashMap::new, Collectors.toCollection(LinkedHashSet::new)));
 
     Map<IFile, MavenProjectFacade> result = new LinkedHashMap<>(poms.size(), 1.f);
+    Set<IFile> marked = new HashSet<>(poms.size(), 1.f);
     for(Entry<IProjectConfiguration, Collection<IFile>> entry : groupsToImport.entrySet()) {
       IProjectConfiguration resolverConfiguration = entry.getKey();
       Collection<IFile> fileList = entry.getValue();
       File moduleProjectDirectory = resolverConfiguration.getMultiModuleProjectDirectory();
-      MavenExecutionContext context = new MavenExecutionContext(
-          containerManager.getComponentLookup(moduleProjectDirectory), moduleProjectDirectory, moduleProjectDirectory,
-          null);
-      configureExecutionRequest(context.getExecutionRequest(), state,
-          fileList.size() == 1 ? fileList.iterator().next() : null, resolverConfiguration);
-      try {
+      try (ContainerLease lease = containerManager.lease(moduleProjectDirectory)) {
+        MavenExecutionContext context = new MavenExecutionContext(lease.getComponentLookup(), moduleProjectDirectory,
+            moduleProjectDirectory, null);
+        configureExecutionRequest(context.getExecutionRequest(), state,
+            fileList.size() == 1 ? fileList.iterator().next() : null, resolverConfiguration);
         context.execute((ctx, mon) -> {
           Map<IFile, File> pomFiles = fileList.stream().filter(IFile::isAccessible)
               .collect(Collectors.toMap(Function.identity(), ProjectRegistryManager::toJavaIoFile));
           ProjectBuildingRequest buildingRequest = ctx.newProjectBuildingRequest();
+          long start = System.nanoTime();
           Map<File, MavenExecutionResult> mavenResults = IMavenToolbox.of(ctx).readMavenProjects(pomFiles.values(),
               buildingRequest);
+          long share = (System.nanoTime() - start) / Math.max(1, pomFiles.size());
+          pomFiles.keySet().forEach(pom -> Metrics.record(Metrics.PHASE_READ, pom.getProject().getName(), share));
           Map<IFile, MavenProjectFacade> facades = new HashMap<>(mavenResults.size(), 1.f);
           Map<MavenProject, MavenProjectFacade> facadeMap = new HashMap<>();
           for(var fileEntry : pomFiles.entrySet()) {
@@ -777,8 +849,8 @@ public class ProjectRegistryManager implements ISaveParticipant {
             }
             MavenExecutionResult mavenResult = mavenResults.get(file);
             MavenProject mavenProject = mavenResult.getProject();
-            MarkerUtils.addEditorHintMarkers(markerManager, pom, mavenProject, IMavenConstants.MARKER_POM_LOADING_ID);
-            markerManager.addMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID, mavenResult);
+            markerManager.replaceMarkersAndEditorHints(pom, IMavenConstants.MARKER_POM_LOADING_ID, mavenResult);
+            marked.add(pom);
             if(mavenProject != null && mavenProject.getArtifact() != null) {
               MavenProjectFacade mavenProjectFacade = new MavenProjectFacade(ProjectRegistryManager.this, pom,
                   mavenProject, resolverConfiguration);
@@ -810,6 +882,12 @@ public class ProjectRegistryManager implements ISaveParticipant {
         }
       }
     }
+    // poms that could not be read keep no stale markers
+    for(IFile pom : poms) {
+      if(!marked.contains(pom)) {
+        markerManager.deleteMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID);
+      }
+    }
     return result;
   }
 
@@ -930,19 +1008,19 @@ public class ProjectRegistryManager implements ISaveParticipant {
   private Collection<MavenExecutionResult> readProjectsWithDependencies(IFile pomFile,
       IProjectConfiguration resolverConfiguration, IProgressMonitor monitor) {
     try {
-      Map<File, MavenExecutionResult> resultMap = Map.of();
       File multiModuleProjectDirectory = resolverConfiguration.getMultiModuleProjectDirectory();
-      MavenExecutionContext context = new MavenExecutionContext(
-          containerManager.getComponentLookup(multiModuleProjectDirectory), pomFile.getLocation().toFile(),
-          multiModuleProjectDirectory, null);
-      configureExecutionRequest(context.getExecutionRequest(), projectRegistry, pomFile, resolverConfiguration);
-      resultMap = context.execute((ctx, mon) -> {
-        ProjectBuildingRequest request = context.newProjectBuildingRequest();
-        request.setResolveDependencies(true);
-        List<File> pomFiles = Stream.of(toJavaIoFile(pomFile)).filter(Objects::nonNull).toList();
-        return IMavenToolbox.of(ctx).readMavenProjects(pomFiles, request);
-      }, monitor);
-      return resultMap.values();
+      try (ContainerLease lease = containerManager.lease(multiModuleProjectDirectory)) {
+        MavenExecutionContext context = new MavenExecutionContext(lease.getComponentLookup(),
+            pomFile.getLocation().toFile(), multiModuleProjectDirectory, null);
+        configureExecutionRequest(context.getExecutionRequest(), projectRegistry, pomFile, resolverConfiguration);
+        Map<File, MavenExecutionResult> resultMap = context.execute((ctx, mon) -> {
+          ProjectBuildingRequest request = context.newProjectBuildingRequest();
+          request.setResolveDependencies(true);
+          List<File> pomFiles = Stream.of(toJavaIoFile(pomFile)).filter(Objects::nonNull).toList();
+          return IMavenToolbox.of(ctx).readMavenProjects(pomFiles, request);
+        }, monitor);
+        return resultMap.values();
+      }
     } catch(CoreException ex) {
       return List.of(new DefaultMavenExecutionResult().addException(ex));
     }
@@ -1038,13 +1116,18 @@ public class ProjectRegistryManager implements ISaveParticipant {
    */
   void applyMutableProjectRegistry(MutableProjectRegistry newState, IProgressMonitor monitor) {
     List<MavenProjectChangedEvent> events = projectRegistry.apply(newState);
-    //stateReader.writeWorkspaceState(projectRegistry);
+    if(stateReader != null && stateReader.appendToJournal(newState) && compactionJob.getState() == Job.NONE) {
+      compactionJob.schedule(COMPACTION_DELAY);
+    }
     notifyProjectChangeListeners(events, monitor);
   }
 
+  /**
+   * Compacts the persisted workspace state into a new snapshot if changes were journaled since the last one.
+   */
   public void writeWorkspaceState() {
     if(stateReader != null && projectRegistry != null) {
-      stateReader.writeWorkspaceState(projectRegistry);
+      stateReader.compactWorkspaceState(projectRegistry);
     }
   }
 
@@ -1069,7 +1152,9 @@ public class ProjectRegistryManager implements ISaveParticipant {
         } else {
           basedir = null;
         }
-        context = new MavenExecutionContext(containerManager.aquire(pom).getComponentLookup(), basedir, null);
+        context = new MavenExecutionContext(containerManager.aquire(pom).getComponentLookup(), basedir,
+            MavenProperties.computeMultiModuleProjectDirectory(basedir), null,
+            basedir != null ? () -> containerManager.lease(basedir) : null);
       }
     } catch(Exception ex) {
       throw new CoreException(Status.error("Acquire container failed", ex));
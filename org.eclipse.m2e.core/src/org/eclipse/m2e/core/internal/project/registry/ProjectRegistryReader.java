@@ -15,13 +15,26 @@ package org.eclipse.m2e.core.internal.project.registry;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
 
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
@@ -41,7 +54,18 @@ import org.eclipse.core.runtime.Platform;
 
 
 /**
- * Workspace state reader
+ * Workspace state reader. The state is stored as a snapshot of the whole registry plus a journal of the changes applied
+ * since the snapshot was written. The journal starts with a header that identifies the snapshot it belongs to and
+ * contains one record per applied {@link MutableProjectRegistry}:
+ *
+ * <pre>
+ * int       length of the payload
+ * int       CRC32 of the payload
+ * byte[]    payload, see MutableProjectRegistry#writeChanges
+ * </pre>
+ *
+ * Records are appended without waiting for the disk, only snapshots are forced to disk. A crash of the operating system
+ * can lose the records appended since the last snapshot, replaying stops at the first missing or corrupt one.
  *
  * @author Eugene Kuleshov
  */
@@ -49,10 +73,39 @@ import org.eclipse.core.runtime.Platform;
 public class ProjectRegistryReader {
   private static final Logger log = LoggerFactory.getLogger(ProjectRegistryReader.class);
 
-  private static final String WORKSPACE_STATE = "workspaceState.ser"; //$NON-NLS-1$
+  private static final String WORKSPACE_STATE = "workspaceState.bin"; //$NON-NLS-1$
+
+  private static final String WORKSPACE_STATE_JOURNAL = "workspaceState.journal"; //$NON-NLS-1$
+
+  /**
+   * Java serialized state written by previous versions, discarded in favor of a full refresh.
+   */
+  private static final String LEGACY_WORKSPACE_STATE = "workspaceState.ser"; //$NON-NLS-1$
+
+  /**
+   * Number of journal records after which the journal is compacted into a new snapshot.
+   */
+  private static final int JOURNAL_MAX_RECORDS = Integer.getInteger("m2e.project.registry.journal.maxRecords", 200);
+
+  private static final int JOURNAL_HEADER_SIZE = 16;
 
   private File stateFile;
 
+  private File journalFile;
+
+  private File legacyStateFile;
+
+  /**
+   * Generation of the snapshot on disk, <code>0</code> if there is no snapshot the journal can be appended to.
+   */
+  private long generation;
+
+  private long snapshotSize;
+
+  private int journalRecords;
+
+  private long journalSize;
+
   @Activate
   void init(BundleContext bundleContext) {
     IPath result = Platform.getStateLocation(bundleContext.getBundle());
@@ -60,14 +113,27 @@ public class ProjectRegistryReader {
     setStateLocation(bundleStateLocation);
   }
 
-  public void setStateLocation(File bundleStateLocation) {
+  public synchronized void setStateLocation(File bundleStateLocation) {
     this.stateFile = new File(bundleStateLocation, WORKSPACE_STATE);
+    this.journalFile = new File(bundleStateLocation, WORKSPACE_STATE_JOURNAL);
+    this.legacyStateFile = new File(bundleStateLocation, LEGACY_WORKSPACE_STATE);
+    this.generation = 0;
   }
 
-  public ProjectRegistry readWorkspaceState(final ProjectRegistryManager managerImpl) {
+  public synchronized ProjectRegistry readWorkspaceState(final ProjectRegistryManager managerImpl) {
+    generation = 0;
     if(stateFile.exists()) {
-      try (ObjectInputStream is = createObjectInputStream(managerImpl)) {
-        return (ProjectRegistry) is.readObject();
+      Serializer serializer = new Serializer(managerImpl);
+      IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+      try (InputStream is = new BufferedInputStream(Files.newInputStream(stateFile.toPath()))) {
+        ProjectRegistryFormat.Input input = new ProjectRegistryFormat.Input(is, serializer, root);
+        long snapshotGeneration = input.readLong();
+        ProjectRegistry state = new ProjectRegistry();
+        state.readFrom(input, managerImpl);
+        replayJournal(state, snapshotGeneration, serializer, root, managerImpl);
+        generation = snapshotGeneration;
+        snapshotSize = stateFile.length();
+        return state;
       } catch(Exception ex) {
         log.error("Can't read workspace state", ex);
       }
@@ -75,8 +141,71 @@ public class ProjectRegistryReader {
     return null;
   }
 
-  private ObjectInputStream createObjectInputStream(ProjectRegistryManager managerImpl) throws IOException {
-    return new ObjectInputStream(new BufferedInputStream(new FileInputStream(stateFile))) {
+  /**
+   * Applies the intact records of the journal that belongs to the snapshot with the given generation. Reading stops at
+   * the first truncated or corrupt record, which is what a crash during an append leaves behind, and the journal is cut
+   * back to the last intact record so that new records can be appended.
+   */
+  private void replayJournal(ProjectRegistry state, long snapshotGeneration, Serializer serializer,
+      IWorkspaceRoot root, ProjectRegistryManager managerImpl) throws IOException {
+    journalRecords = 0;
+    journalSize = 0;
+    Path journal = journalFile.toPath();
+    if(!Files.exists(journal)) {
+      return;
+    }
+    long fileSize = Files.size(journal);
+    long valid = 0;
+    try (MutableProjectRegistry newState = new MutableProjectRegistry(state);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journal)))) {
+      if(fileSize < JOURNAL_HEADER_SIZE || in.readInt() != ProjectRegistryFormat.JOURNAL_MAGIC
+          || in.readInt() != ProjectRegistryFormat.VERSION || in.readLong() != snapshotGeneration) {
+        // left over from an older snapshot
+        valid = -1;
+      } else {
+        valid = JOURNAL_HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        while(valid < fileSize) {
+          try {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if(length < 0 || length > fileSize - valid - 8) {
+              break;
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            crc.reset();
+            crc.update(payload);
+            if((int) crc.getValue() != checksum) {
+              break;
+            }
+            newState.readChanges(new ProjectRegistryFormat.Input(new ByteArrayInputStream(payload), serializer, root),
+                managerImpl);
+            valid += 8 + length;
+            journalRecords++ ;
+          } catch(EOFException ex) {
+            break;
+          }
+        }
+        if(journalRecords > 0) {
+          state.apply(newState);
+        }
+      }
+    }
+    if(valid < 0) {
+      Files.delete(journal);
+    } else if(valid < fileSize) {
+      log.warn("Ignoring {} bytes of corrupt workspace state journal records", fileSize - valid); //$NON-NLS-1$
+      try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+        channel.truncate(valid);
+      }
+    }
+    journalSize = Math.max(valid, 0);
+  }
+
+  private ObjectInputStream createObjectInputStream(InputStream stream, ProjectRegistryManager managerImpl)
+      throws IOException {
+    return new ObjectInputStream(stream) {
       {
         enableResolveObject(true);
       }
@@ -112,19 +241,111 @@ public class ProjectRegistryReader {
     };
   }
 
-  public void writeWorkspaceState(ProjectRegistry state) {
-    try (ObjectOutputStream os = createObjectOutputStream()) {
+  /**
+   * Writes a new snapshot of the given registry and starts a new, empty journal.
+   */
+  public synchronized void writeWorkspaceState(ProjectRegistry state) {
+    long newGeneration = Math.max(System.currentTimeMillis(), generation + 1);
+    generation = 0;
+    try {
+      // only encode while holding the lock, disk IO happens outside
+      ProjectRegistryFormat.Output output = new ProjectRegistryFormat.Output(new Serializer(null));
+      output.writeLong(newGeneration);
       synchronized(state) { // see MNGECLIPSE-860
-        os.writeObject(state);
+        state.writeTo(output);
+      }
+      Path target = stateFile.toPath();
+      Path temp = target.resolveSibling(WORKSPACE_STATE + ".tmp"); //$NON-NLS-1$
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING);
+          OutputStream os = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+        output.writeTo(os);
+        os.flush();
+        channel.force(false);
       }
+      try {
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch(AtomicMoveNotSupportedException ex) {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+      // a crash before the journal is reset leaves a journal of the previous generation, which is ignored
+      ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+      writeJournalHeader(header, newGeneration);
+      Files.write(journalFile.toPath(), header.array());
+      Files.deleteIfExists(legacyStateFile.toPath());
+      generation = newGeneration;
+      snapshotSize = Files.size(target);
+      journalRecords = 0;
+      journalSize = JOURNAL_HEADER_SIZE;
     } catch(Exception ex) {
       log.error("Can't write workspace state", ex);
     }
   }
 
-  private ObjectOutputStream createObjectOutputStream() throws IOException {
+  /**
+   * Writes a new snapshot if changes have been journaled since the last one.
+   */
+  public synchronized void compactWorkspaceState(ProjectRegistry state) {
+    if(generation == 0 || journalRecords > 0) {
+      writeWorkspaceState(state);
+    }
+  }
+
+  /**
+   * Appends the changes of the given mutable registry, which has just been applied to the registry, to the journal. No
+   * snapshot is written here, the caller is expected to call {@link #compactWorkspaceState(ProjectRegistry)} outside of
+   * the workspace lock if this returns <code>true</code>.
+   *
+   * @return whether a new snapshot is due, because there is no snapshot to append to or the journal has grown too large
+   */
+  public synchronized boolean appendToJournal(MutableProjectRegistry changes) {
+    if(!changes.hasChanges()) {
+      return false;
+    }
+    if(generation == 0) {
+      // the changes are part of the next snapshot
+      return true;
+    }
+    try {
+      ProjectRegistryFormat.Output output = new ProjectRegistryFormat.Output(new Serializer(null));
+      changes.writeChanges(output);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      output.writeTo(bytes);
+      byte[] payload = bytes.toByteArray();
+      CRC32 crc = new CRC32();
+      crc.update(payload);
+
+      Path journal = journalFile.toPath();
+      boolean header = !Files.exists(journal);
+      ByteBuffer record = ByteBuffer.allocate((header ? JOURNAL_HEADER_SIZE : 0) + 8 + payload.length);
+      if(header) {
+        writeJournalHeader(record, generation);
+      }
+      record.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+      try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.APPEND)) {
+        while(record.hasRemaining()) {
+          channel.write(record);
+        }
+      }
+      journalRecords++ ;
+      journalSize += record.limit();
+      return journalRecords >= JOURNAL_MAX_RECORDS || journalSize > snapshotSize;
+    } catch(Exception ex) {
+      log.error("Can't write workspace state journal", ex);
+      // the journal may end with a partial record now, start over with a new snapshot next time
+      generation = 0;
+      return true;
+    }
+  }
+
+  private static void writeJournalHeader(ByteBuffer buffer, long generation) {
+    buffer.putInt(ProjectRegistryFormat.JOURNAL_MAGIC).putInt(ProjectRegistryFormat.VERSION).putLong(generation);
+  }
+
+  private ObjectOutputStream createObjectOutputStream(OutputStream stream) throws IOException {
     ClassLoader thisClassloader = getClass().getClassLoader();
-    return new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(stateFile))) {
+    return new ObjectOutputStream(stream) {
       {
         enableReplaceObject(true);
       }
@@ -170,6 +391,36 @@ public class ProjectRegistryReader {
     };
   }
 
+  /**
+   * Java serialization of objects that have no dedicated encoding in {@link ProjectRegistryFormat}
+   */
+  private final class Serializer implements ProjectRegistryFormat.ObjectSerializer {
+
+    private final ProjectRegistryManager managerImpl;
+
+    Serializer(ProjectRegistryManager managerImpl) {
+      this.managerImpl = managerImpl;
+    }
+
+    @Override
+    public byte[] serialize(Object object) throws IOException {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream os = createObjectOutputStream(bytes)) {
+        os.writeObject(object);
+      }
+      return bytes.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws IOException {
+      try (ObjectInputStream is = createObjectInputStream(new ByteArrayInputStream(bytes), managerImpl)) {
+        return is.readObject();
+      } catch(ClassNotFoundException ex) {
+        throw new IOException(ex);
+      }
+    }
+  }
+
   /**
    * IPath replacement used for object serialization
    */
@@ -14,7 +14,11 @@
 package org.eclipse.m2e.core.project;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
@@ -27,9 +31,11 @@ import org.eclipse.core.runtime.OperationCanceledException;
  */
 public abstract class AbstractProjectScanner<T extends MavenProjectInfo> {
 
-  private final List<T> projects = new ArrayList<>();
+  private final List<T> projects = Collections.synchronizedList(new ArrayList<>());
 
-  private final List<Throwable> errors = new ArrayList<>();
+  private final List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+  private final List<Consumer<? super T>> projectListeners = new CopyOnWriteArrayList<>();
 
   /**
    * Returns <code>List</code> of {@link MavenProjectInfo}
@@ -45,8 +51,41 @@ public abstract class AbstractProjectScanner<T extends MavenProjectInfo> {
     return this.errors;
   }
 
+  /**
+   * Adds a listener notified of each project as soon as it is found, while the scanner runs. Listeners may be called
+   * from any thread.
+   *
+   * @since 2.8
+   */
+  public void addProjectListener(Consumer<? super T> listener) {
+    projectListeners.add(listener);
+  }
+
   protected void addProject(T mavenProjectInfo) {
     projects.add(mavenProjectInfo);
+    notifyProjectListeners(mavenProjectInfo);
+  }
+
+  /**
+   * Notifies the project listeners of a project found, without adding it to {@link #getProjects()}. Scanners that find
+   * projects concurrently report them early with this method and add them with {@link #addProjects(Collection)} in
+   * their discovery order.
+   *
+   * @since 2.8
+   */
+  protected void notifyProjectListeners(T mavenProjectInfo) {
+    for(Consumer<? super T> listener : projectListeners) {
+      listener.accept(mavenProjectInfo);
+    }
+  }
+
+  /**
+   * Adds projects to {@link #getProjects()} without notifying the project listeners.
+   *
+   * @since 2.8
+   */
+  protected void addProjects(Collection<? extends T> mavenProjectInfos) {
+    projects.addAll(mavenProjectInfos);
   }
 
   protected void addError(Throwable exception) {
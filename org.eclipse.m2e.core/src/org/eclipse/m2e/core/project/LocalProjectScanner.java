@@ -15,14 +15,27 @@ package org.eclipse.m2e.core.project;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.util.NLS;
@@ -36,17 +49,33 @@ import org.eclipse.m2e.core.internal.Messages;
 
 
 /**
+ * Scans folders for Maven projects. Folders and the modules of each project are scanned in parallel. Each project found
+ * is reported to the {@link #addProjectListener(java.util.function.Consumer) project listeners} as soon as it is read,
+ * including its modules. {@link #getProjects()} lists the projects in the order of the folders, like a sequential scan.
+ * <p>
+ * Folders whose name matches one of the {@link #setExcludedFolders(Collection) excluded patterns} are not scanned.
+ * The default patterns can be set with the <code>m2e.projectScanner.excludedFolders</code> system property as comma
+ * separated list of glob patterns.
+ *
  * @author Eugene Kuleshov
  */
 public class LocalProjectScanner extends AbstractProjectScanner<MavenProjectInfo> {
+  private static final String EXCLUDED_FOLDERS = System.getProperty("m2e.projectScanner.excludedFolders", //$NON-NLS-1$
+      ".git,.hg,.svn,node_modules"); //$NON-NLS-1$
+
   private final List<String> folders;
 
   private final boolean basedirRemameRequired;
 
-  private final Set<File> scannedFolders = new HashSet<>();
+  private final Set<File> scannedFolders = ConcurrentHashMap.newKeySet();
 
   private final MavenModelManager modelManager;
 
+  private List<PathMatcher> excludedFolders = toPathMatchers(List.of(EXCLUDED_FOLDERS.split(","))); //$NON-NLS-1$
+
+  private volatile File currentFolder;
+
+  private volatile boolean canceled;
 
   public LocalProjectScanner(List<String> folders, boolean basedirRemameRequired,
       MavenModelManager modelManager) {
@@ -55,73 +84,180 @@ public class LocalProjectScanner extends AbstractProjectScanner<MavenProjectInfo
     this.modelManager = modelManager;
   }
 
+  /**
+   * Sets the glob patterns of the names of the folders not to scan for projects.
+   *
+   * @since 2.8
+   */
+  public void setExcludedFolders(Collection<String> patterns) {
+    this.excludedFolders = toPathMatchers(patterns);
+  }
+
   @Override
   public void run(IProgressMonitor monitor) throws InterruptedException {
     SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.LocalProjectScanner_task_scanning, folders.size());
+    ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
     try {
       for(String folderName : folders) {
         try {
           File folder = new File(folderName).getCanonicalFile();
-          scanFolder(folder, "", subMonitor.split(1)); //$NON-NLS-1$
+          List<MavenProjectInfo> projects = waitFor(pool.submit(new FolderScan(folder, "")), subMonitor); //$NON-NLS-1$
+          if(projects != null) {
+            addProjects(projects);
+          }
+          subMonitor.worked(1);
         } catch(IOException ex) {
           addError(ex);
         }
       }
     } finally {
+      pool.shutdownNow();
       subMonitor.done();
     }
   }
 
-  private void scanFolder(File baseDir, String rootRelPath, IProgressMonitor m) throws InterruptedException {
-    SubMonitor monitor = SubMonitor.convert(m, baseDir.toString(), 1);
+  private <R> R waitFor(ForkJoinTask<R> task, SubMonitor monitor) throws InterruptedException {
+    while(true) {
+      try {
+        return task.get(100, TimeUnit.MILLISECONDS);
+      } catch(TimeoutException ex) {
+        if(monitor.isCanceled()) {
+          canceled = true;
+          throw new OperationCanceledException();
+        }
+        File folder = currentFolder;
+        if(folder != null) {
+          monitor.subTask(folder.toString());
+        }
+      } catch(ExecutionException ex) {
+        addError(ex.getCause());
+        return null;
+      }
+    }
+  }
 
-    // Don't scan the .metadata folder
-    if(!baseDir.isDirectory() || IMavenConstants.METADATA_FOLDER.equals(baseDir.getName())) {
-      monitor.done();
-      return;
+  private boolean isExcluded(File folder) {
+    Path name = folder.toPath().getFileName();
+    if(name == null) {
+      return false;
+    }
+    if(IMavenConstants.METADATA_FOLDER.equals(name.toString())) {
+      return true;
+    }
+    for(PathMatcher matcher : excludedFolders) {
+      if(matcher.matches(name)) {
+        return true;
+      }
     }
+    return false;
+  }
 
-    try {
-      if(scannedFolders.contains(baseDir.getCanonicalFile())) {
-        monitor.done();
-        return;
+  private static List<PathMatcher> toPathMatchers(Collection<String> patterns) {
+    List<PathMatcher> matchers = new ArrayList<>();
+    for(String pattern : patterns) {
+      if(!pattern.isBlank()) {
+        matchers.add(FileSystems.getDefault().getPathMatcher("glob:" + pattern.strip())); //$NON-NLS-1$
       }
-    } catch(IOException ex1) {
-      addError(ex1);
-      return;
     }
+    return matchers;
+  }
+
+  /**
+   * Scans a folder and, unless it is a Maven project, its subfolders in parallel. Returns the projects found in the
+   * order of the subfolders.
+   */
+  private class FolderScan extends RecursiveTask<List<MavenProjectInfo>> {
+    private static final long serialVersionUID = 1L;
+
+    private final File baseDir;
 
-    MavenProjectInfo projectInfo = readMavenProjectInfo(baseDir, rootRelPath, null);
-    if(projectInfo != null) {
-      addProject(projectInfo);
-      monitor.done();
-      return; // don't scan subfolders of the Maven project
+    private final String rootRelPath;
+
+    FolderScan(File baseDir, String rootRelPath) {
+      this.baseDir = baseDir;
+      this.rootRelPath = rootRelPath;
     }
 
-    File[] files = baseDir.listFiles();
-    if(files == null) {
-      addError(new Exception(NLS.bind(Messages.LocalProjectScanner_accessDeniedFromFolder, baseDir.getAbsolutePath())));
-      return;
+    @Override
+    protected List<MavenProjectInfo> compute() {
+      if(canceled || !baseDir.isDirectory() || isExcluded(baseDir) || !scannedFolders.add(baseDir)) {
+        return List.of();
+      }
+      currentFolder = baseDir;
+
+      MavenProjectInfo projectInfo = readMavenProjectInfo(baseDir, rootRelPath, null);
+      if(projectInfo != null) {
+        notifyProjectListeners(projectInfo);
+        return List.of(projectInfo); // don't scan subfolders of the Maven project
+      }
+
+      File[] files = baseDir.listFiles(File::isDirectory);
+      if(files == null) {
+        addError(
+            new Exception(NLS.bind(Messages.LocalProjectScanner_accessDeniedFromFolder, baseDir.getAbsolutePath())));
+        return List.of();
+      }
+      List<FolderScan> scans = new ArrayList<>(files.length);
+      for(File file : files) {
+        try {
+          file = file.getCanonicalFile();
+          scans.add(new FolderScan(file, rootRelPath + "/" + file.getName())); //$NON-NLS-1$
+        } catch(IOException ex) {
+          addError(ex);
+        }
+      }
+      invokeAll(scans);
+      List<MavenProjectInfo> projects = new ArrayList<>();
+      for(FolderScan scan : scans) {
+        projects.addAll(scan.join());
+      }
+      return projects;
+    }
+  }
+
+  /**
+   * Reads a module of a Maven project, in parallel to the other modules.
+   */
+  private class ModuleRead extends RecursiveTask<MavenProjectInfo> {
+    private static final long serialVersionUID = 1L;
+
+    private final File baseDir;
+
+    private final String modulePath;
+
+    private final MavenProjectInfo parentInfo;
+
+    ModuleRead(File baseDir, String modulePath, MavenProjectInfo parentInfo) {
+      this.baseDir = baseDir;
+      this.modulePath = modulePath;
+      this.parentInfo = parentInfo;
     }
-    monitor.setWorkRemaining(files.length);
-    for(File file : files) {
+
+    @Override
+    protected MavenProjectInfo compute() {
+      if(canceled) {
+        return null;
+      }
       try {
-        file = file.getCanonicalFile();
-        scanFolder(file, rootRelPath + "/" + file.getName(), monitor.split(1)); //$NON-NLS-1$
+        File moduleDir = baseDir.getCanonicalFile();
+        if(!scannedFolders.add(moduleDir)) {
+          return null; // we already know this project
+          //mkleint: well, if the project is first scanned standalone and later scanned via parent reference, the parent ref gets thrown away??
+        }
+        return readMavenProjectInfo(moduleDir, modulePath, parentInfo);
       } catch(IOException ex) {
         addError(ex);
+        return null;
       }
     }
   }
 
+  /**
+   * Reads the project in the given canonical folder and its modules, the caller has claimed the folder in
+   * {@link #scannedFolders}.
+   */
   private MavenProjectInfo readMavenProjectInfo(File baseDir, String modulePath, MavenProjectInfo parentInfo) {
     try {
-      baseDir = baseDir.getCanonicalFile();
-
-      if(!scannedFolders.add(baseDir)) {
-        return null; // we already know this project
-        //mkleint: well, if the project is first scanned standalone and later scanned via parent reference, the parent ref gets thrown away??
-      }
       Model model = modelManager.readMavenModel(new File(baseDir, IMavenConstants.POM_FILE_NAME));
       if(model == null) {
         return null;
@@ -159,21 +295,24 @@ public class LocalProjectScanner extends AbstractProjectScanner<MavenProjectInfo
         }
       }
 
+      Map<ModuleRead, Set<String>> moduleReads = new LinkedHashMap<>();
       for(Map.Entry<String, Set<String>> e : modules.entrySet()) {
         String module = e.getKey();
-        Set<String> profiles = e.getValue();
+        moduleReads.put(new ModuleRead(new File(baseDir, module), module, projectInfo), e.getValue());
+      }
+      ForkJoinTask.invokeAll(moduleReads.keySet());
 
-        File moduleBaseDir = new File(baseDir, module);
-        MavenProjectInfo moduleInfo = readMavenProjectInfo(moduleBaseDir, module, projectInfo);
+      for(Map.Entry<ModuleRead, Set<String>> e : moduleReads.entrySet()) {
+        MavenProjectInfo moduleInfo = e.getKey().join();
         if(moduleInfo != null) {
-          moduleInfo.addProfiles(profiles);
+          moduleInfo.addProfiles(e.getValue());
           projectInfo.add(moduleInfo);
         }
       }
 
       return projectInfo;
 
-    } catch(CoreException | IOException ex) {
+    } catch(CoreException ex) {
       addError(ex);
     }
 
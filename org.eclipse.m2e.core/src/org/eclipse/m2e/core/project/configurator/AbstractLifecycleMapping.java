@@ -42,6 +42,8 @@ import org.eclipse.m2e.core.internal.Messages;
 import org.eclipse.m2e.core.internal.builder.InternalBuildParticipant;
 import org.eclipse.m2e.core.internal.builder.MavenBuilderImpl;
 import org.eclipse.m2e.core.internal.embedder.MavenProjectMutableState;
+import org.eclipse.m2e.core.internal.metrics.Metrics;
+import org.eclipse.m2e.core.internal.metrics.Metrics.Measurement;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 
 
@@ -123,7 +125,8 @@ public abstract class AbstractLifecycleMapping implements ILifecycleMapping {
           if(monitor.isCanceled()) {
             throw new OperationCanceledException();
           }
-          try {
+          try (Measurement m = Metrics.start(Metrics.PHASE_CONFIGURATOR + configurator.getId(),
+              projectFacade.getProject().getName())) {
             configurator.configure(request, monitor.newChild(1));
           } catch(RuntimeException e) {
             String message = NLS.bind(Messages.AbstractLifecycleMapping_could_not_update_project_configuration,
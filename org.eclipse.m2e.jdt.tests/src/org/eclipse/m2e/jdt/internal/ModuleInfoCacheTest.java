@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.jdt.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ModuleInfoCacheTest {
+
+	private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File cacheFile;
+
+	private File jar;
+
+	@Before
+	public void setUp() throws IOException {
+		cacheFile = new File(temporaryFolder.getRoot(), "modules.bin");
+		jar = temporaryFolder.newFile("lib.jar");
+		writeJar("a.one", LAST_MODIFIED);
+		ModuleInfoCache cache = new ModuleInfoCache(cacheFile);
+		assertEquals("a.one", cache.get(jar, 11).name);
+		cache.write();
+		assertTrue(cacheFile.isFile());
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		// same size and last modification time, so the cached descriptor is still valid
+		writeJar("a.two", LAST_MODIFIED);
+
+		ModuleInfoCache cache = new ModuleInfoCache(cacheFile);
+
+		assertEquals("a.one", cache.get(jar, 11).name);
+		assertEquals("a.two", ModuleInfoCache.read(jar, 11).name);
+	}
+
+	@Test
+	public void testChecksumMismatch() throws Exception {
+		writeJar("a.two", LAST_MODIFIED);
+		try (RandomAccessFile file = new RandomAccessFile(cacheFile, "rw")) {
+			file.seek(file.length() - 1);
+			int last = file.read();
+			file.seek(file.length() - 1);
+			file.write(last ^ 0xff);
+		}
+
+		ModuleInfoCache cache = new ModuleInfoCache(cacheFile);
+
+		assertEquals("a.two", cache.get(jar, 11).name);
+	}
+
+	@Test
+	public void testUnsupportedVersion() throws Exception {
+		try (DataInputStream in = new DataInputStream(Files.newInputStream(cacheFile.toPath()))) {
+			assertEquals(ModuleInfoCache.MAGIC, in.readInt());
+			assertEquals(ModuleInfoCache.VERSION, in.readInt());
+		}
+		writeJar("a.two", LAST_MODIFIED);
+		try (RandomAccessFile file = new RandomAccessFile(cacheFile, "rw")) {
+			file.seek(Integer.BYTES);
+			file.writeInt(ModuleInfoCache.VERSION + 1);
+		}
+
+		ModuleInfoCache cache = new ModuleInfoCache(cacheFile);
+
+		assertEquals("a.two", cache.get(jar, 11).name);
+	}
+
+	@Test
+	public void testSizeChangeInvalidates() throws Exception {
+		writeJar("a.three", LAST_MODIFIED);
+
+		ModuleInfoCache cache = new ModuleInfoCache(cacheFile);
+
+		assertEquals("a.three", cache.get(jar, 11).name);
+	}
+
+	@Test
+	public void testLastModifiedChangeInvalidates() throws Exception {
+		writeJar("a.two", LAST_MODIFIED + 1000);
+
+		ModuleInfoCache cache = new ModuleInfoCache(cacheFile);
+
+		assertEquals("a.two", cache.get(jar, 11).name);
+	}
+
+	private void writeJar(String automaticModuleName, long lastModified) throws IOException {
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().putValue("Automatic-Module-Name", automaticModuleName);
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		manifest.write(content);
+		// stored, so that the size of the jar only depends on the length of the name
+		JarEntry entry = new JarEntry(JarFile.MANIFEST_NAME);
+		entry.setMethod(ZipEntry.STORED);
+		entry.setSize(content.size());
+		CRC32 crc = new CRC32();
+		crc.update(content.toByteArray());
+		entry.setCrc(crc.getValue());
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			out.putNextEntry(entry);
+			content.writeTo(out);
+			out.closeEntry();
+		}
+		assertTrue(jar.setLastModified(lastModified));
+	}
+}
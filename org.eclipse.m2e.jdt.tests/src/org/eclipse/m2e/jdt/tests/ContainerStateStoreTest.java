@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.jdt.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IAccessRule;
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IClasspathContainer;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.m2e.jdt.internal.ContainerStateStore;
+import org.eclipse.m2e.jdt.internal.MavenClasspathContainer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ContainerStateStoreTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static final IPath CONTAINER_PATH = IPath.fromOSString("org.eclipse.m2e.MAVEN2_CLASSPATH_CONTAINER");
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		File file = new File(temporaryFolder.getRoot(), "containers.state");
+		IClasspathContainer a = newContainer("/b");
+		IClasspathContainer b = newContainer("/a");
+
+		ContainerStateStore store = new ContainerStateStore(file);
+		store.put("a", a);
+		store.put("b", b);
+		store.put("c", newContainer("/a"));
+		store.remove("c");
+		store.write();
+
+		ContainerStateStore restored = new ContainerStateStore(file);
+		assertContainerEquals(a, restored.get("a"));
+		assertContainerEquals(b, restored.get("b"));
+		assertNull(restored.get("c"));
+	}
+
+	@Test
+	public void testCorruptRecord() throws Exception {
+		File file = new File(temporaryFolder.getRoot(), "containers.state");
+		IClasspathContainer a = newContainer("/b");
+
+		ContainerStateStore store = new ContainerStateStore(file);
+		store.put("a", a);
+		store.put("b", newContainer("/a"));
+		store.write();
+
+		// the record of the last project ends the file
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		bytes[bytes.length - 1] ^= 1;
+		Files.write(file.toPath(), bytes);
+
+		ContainerStateStore restored = new ContainerStateStore(file);
+		assertContainerEquals(a, restored.get("a"));
+		assertNull(restored.get("b"));
+	}
+
+	private static IClasspathContainer newContainer(String project) {
+		IClasspathAttribute[] attributes = { JavaCore.newClasspathAttribute("maven.pomderived", "true") };
+		IAccessRule[] accessRules = { JavaCore.newAccessRule(IPath.fromOSString("**/internal/**"),
+				IAccessRule.K_DISCOURAGED | IAccessRule.IGNORE_IF_BETTER) };
+		IPath jar = IPath.fromOSString("/home/user/.m2/repository/junit/junit/4.13.2/junit-4.13.2.jar");
+		IPath sources = IPath.fromOSString("/home/user/.m2/repository/junit/junit/4.13.2/junit-4.13.2-sources.jar");
+		return new MavenClasspathContainer(CONTAINER_PATH, new IClasspathEntry[] {
+				JavaCore.newLibraryEntry(jar, sources, null, accessRules, attributes, false),
+				JavaCore.newProjectEntry(IPath.fromOSString(project), new IAccessRule[0], true, attributes, true) });
+	}
+
+	private static void assertContainerEquals(IClasspathContainer expected, IClasspathContainer actual) {
+		assertEquals(expected.getPath(), actual.getPath());
+		assertArrayEquals(expected.getClasspathEntries(), actual.getClasspathEntries());
+	}
+}
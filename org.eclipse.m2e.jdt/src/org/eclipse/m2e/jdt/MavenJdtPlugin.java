@@ -173,6 +173,7 @@ public class MavenJdtPlugin extends Plugin {
 
     IWorkspace workspace = ResourcesPlugin.getWorkspace();
     workspace.removeResourceChangeListener(this.buildpathManager);
+    buildpathManager.flushContainerState();
     workspaceSourceDownloadJob = null;
     MavenPluginActivator mplugin = MavenPluginActivator.getDefault();
     if(mplugin != null) {
@@ -28,7 +28,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -82,6 +82,7 @@ import org.eclipse.m2e.core.embedder.IMaven;
 import org.eclipse.m2e.core.embedder.IMavenConfiguration;
 import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.lifecyclemapping.LifecycleMappingFactory;
+import org.eclipse.m2e.core.internal.metrics.Metrics;
 import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.IMavenProjectRegistry;
@@ -112,6 +113,10 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
 
   private static final String PROPERTY_JAVADOC_URL = ".javadoc"; //$NON-NLS-1$
 
+  private static final String CONTAINER_STATE_FILE = "classpathContainers.state"; //$NON-NLS-1$
+
+  private static final String MODULE_INFO_CACHE_FILE = "moduleInfos.cache"; //$NON-NLS-1$
+
   public static final String CLASSIFIER_SOURCES = "sources"; //$NON-NLS-1$
 
   public static final String CLASSIFIER_JAVADOC = "javadoc"; //$NON-NLS-1$
@@ -140,6 +145,12 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
 
   private final DefaultClasspathManagerDelegate defaultDelegate;
 
+  private final ContainerStateStore containerStateStore;
+
+  private final ContainerStateSaveJob containerStateSaveJob;
+
+  private final ModuleInfoCache moduleInfoCache;
+
   public BuildPathManager(IMavenProjectRegistry projectManager, BundleContext bundleContext, File stateLocationDir) {
     this.projectManager = projectManager;
     this.mavenConfiguration = MavenPlugin.getMavenConfiguration();
@@ -149,6 +160,9 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
     this.downloadSourcesJob = new DownloadSourcesJob(this);
     downloadSourcesJob.setPriority(SOURCE_DOWNLOAD_PRIORITY);
     this.defaultDelegate = new DefaultClasspathManagerDelegate();
+    this.containerStateStore = new ContainerStateStore(new File(stateLocationDir, CONTAINER_STATE_FILE));
+    this.containerStateSaveJob = new ContainerStateSaveJob(containerStateStore);
+    this.moduleInfoCache = new ModuleInfoCache(new File(stateLocationDir, MODULE_INFO_CACHE_FILE));
   }
 
   public static IClasspathEntry getMavenContainerEntry(IJavaProject javaProject) {
@@ -179,56 +193,103 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
 
   @Override
   public void mavenProjectChanged(List<MavenProjectChangedEvent> events, IProgressMonitor monitor) {
-    Set<IProject> projects = new HashSet<>();
+    Set<IProject> projects = new LinkedHashSet<>();
     monitor.setTaskName(Messages.BuildPathManager_monitor_setting_cp);
     for(MavenProjectChangedEvent event : events) {
       IFile pom = event.getSource();
       IProject project = pom.getProject();
-      if(project.isAccessible() && projects.add(project)) {
-        updateClasspath(project, monitor);
+      if(project.isAccessible()) {
+        projects.add(project);
       }
     }
+    updateClasspath(projects, monitor);
   }
 
   @Override
   public void updateClasspath(IProject project, IProgressMonitor monitor) {
-    IJavaProject javaProject = JavaCore.create(project);
-    if(javaProject != null) {
+    updateClasspath(List.of(project), monitor);
+  }
+
+  /**
+   * Calculates the Maven classpath of all given projects first and then sets all containers with one call per
+   * container path, so JDT processes the change of all projects at once.
+   */
+  public void updateClasspath(Collection<IProject> projects, IProgressMonitor monitor) {
+    SubMonitor progress = SubMonitor.convert(monitor, projects.size() + 1);
+    Map<IPath, Map<IJavaProject, IClasspathContainer>> containers = new LinkedHashMap<>();
+    Map<IJavaProject, Long> durations = new HashMap<>();
+    for(IProject project : projects) {
+      IJavaProject javaProject = JavaCore.create(project);
+      if(javaProject != null) {
+        long start = System.nanoTime();
+        try {
+          IClasspathEntry containerEntry = getMavenContainerEntry(javaProject);
+          IPath path = containerEntry != null ? containerEntry.getPath() : IPath.fromOSString(CONTAINER_ID);
+          IClasspathEntry[] classpath = getClasspath(project, progress.newChild(1));
+          containers.computeIfAbsent(path, p -> new LinkedHashMap<>()).put(javaProject,
+              new MavenClasspathContainer(path, classpath));
+          durations.put(javaProject, System.nanoTime() - start);
+        } catch(CoreException ex) {
+          log.error(ex.getMessage(), ex);
+        }
+      }
+    }
+    for(Map.Entry<IPath, Map<IJavaProject, IClasspathContainer>> entry : containers.entrySet()) {
+      Map<IJavaProject, IClasspathContainer> pathContainers = entry.getValue();
+      long start = System.nanoTime();
       try {
-        IClasspathEntry containerEntry = getMavenContainerEntry(javaProject);
-        IPath path = containerEntry != null ? containerEntry.getPath() : IPath.fromOSString(CONTAINER_ID);
-        IClasspathEntry[] classpath = getClasspath(project, monitor);
-        IClasspathContainer container = new MavenClasspathContainer(path, classpath);
-        JavaCore.setClasspathContainer(container.getPath(), new IJavaProject[] {javaProject},
-            new IClasspathContainer[] {container}, monitor);
-        saveContainerState(project, container);
+        JavaCore.setClasspathContainer(entry.getKey(), pathContainers.keySet().toArray(IJavaProject[]::new),
+            pathContainers.values().toArray(IClasspathContainer[]::new), progress.newChild(1));
+        // the containers of all projects are set at once, each project gets an equal share of the time
+        long share = (System.nanoTime() - start) / pathContainers.size();
+        pathContainers.keySet().forEach(javaProject -> Metrics.record(Metrics.PHASE_CLASSPATH,
+            javaProject.getElementName(), durations.get(javaProject) + share));
+        pathContainers.forEach((javaProject, container) -> containerStateSaveJob.save(javaProject.getProject(),
+            container));
       } catch(CoreException ex) {
         log.error(ex.getMessage(), ex);
       }
     }
   }
 
-  private void saveContainerState(IProject project, IClasspathContainer container) {
-    File containerStateFile = getContainerStateFile(project);
-    try (FileOutputStream is = new FileOutputStream(containerStateFile)) {
-      new MavenClasspathContainerSaveHelper().writeContainer(container, is);
+  /**
+   * Writes all classpath container state and module descriptors that have not been persisted yet.
+   */
+  public void flushContainerState() {
+    containerStateSaveJob.cancel();
+    containerStateSaveJob.flush();
+    try {
+      moduleInfoCache.write();
     } catch(IOException ex) {
-      log.error("Can't save classpath container state for " + project.getName(), ex); //$NON-NLS-1$
+      log.error("Can't save module descriptor cache", ex); //$NON-NLS-1$
     }
   }
 
+  ModuleInfoCache getModuleInfoCache() {
+    return moduleInfoCache;
+  }
+
   public IClasspathContainer getSavedContainer(IProject project) throws CoreException {
+    IClasspathContainer container = containerStateStore.get(project.getName());
+    if(container != null) {
+      return container;
+    }
+
+    // migrate the state of previous versions, that used one file per project
     File containerStateFile = getContainerStateFile(project);
     if(!containerStateFile.exists()) {
       return null;
     }
-
     try (FileInputStream is = new FileInputStream(containerStateFile)) {
-      ;
-      return new MavenClasspathContainerSaveHelper().readContainer(is);
+      container = new MavenClasspathContainerSaveHelper().readContainer(is);
     } catch(IOException | ClassNotFoundException ex) {
       throw new CoreException(Status.error("Can't read classpath container state for " + project.getName(), ex));
     }
+    containerStateSaveJob.save(project, container);
+    if(!containerStateFile.delete()) {
+      log.error("Can't delete " + containerStateFile.getAbsolutePath()); //$NON-NLS-1$
+    }
+    return container;
   }
 
   private IClasspathEntry[] getClasspath(IMavenProjectFacade projectFacade, final int kind,
@@ -534,7 +595,7 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
     return new File(stateLocationDir, project.getName() + ".sources"); //$NON-NLS-1$
   }
 
-  /** public for unit tests only */
+  /** container state file of previous versions, public for unit tests only */
   public File getContainerStateFile(IProject project) {
     return new File(stateLocationDir, project.getName() + ".container"); //$NON-NLS-1$
   }
@@ -551,6 +612,7 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
       }
 
       // remove classpath container state
+      containerStateSaveJob.discard(project);
       File containerState = getContainerStateFile(project);
       if(containerState.exists() && !containerState.delete()) {
         log.error("Can't delete " + containerState.getAbsolutePath()); //$NON-NLS-1$
@@ -582,16 +644,17 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
       Job job = new WorkspaceJob(Messages.BuildPathManager_update_module_path_job_name) {
         @Override
         public IStatus runInWorkspace(IProgressMonitor monitor) {
-          SubMonitor subMonitor = SubMonitor.convert(monitor, affectedProjects.size());
+          SubMonitor subMonitor = SubMonitor.convert(monitor, 2 * affectedProjects.size());
+          List<IProject> projects = new ArrayList<>();
           for(IProject p : affectedProjects) {
             if(monitor.isCanceled()) {
               return Status.CANCEL_STATUS;
             }
-            if(requiresUpdate(p, subMonitor)) {
-              monitor.setTaskName(p.getName());
-              updateClasspath(p, subMonitor.newChild(1));
+            if(requiresUpdate(p, subMonitor.newChild(1))) {
+              projects.add(p);
             }
           }
+          updateClasspath(projects, subMonitor.newChild(affectedProjects.size()));
           return Status.OK_STATUS;
         }
 
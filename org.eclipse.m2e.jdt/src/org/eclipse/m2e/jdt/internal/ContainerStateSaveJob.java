@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.jdt.internal;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IClasspathContainer;
+
+
+/**
+ * Persists classpath container state in the background. Containers set in quick succession are coalesced into one
+ * write of the {@link ContainerStateStore}.
+ */
+class ContainerStateSaveJob extends Job {
+  private static final Logger log = LoggerFactory.getLogger(ContainerStateSaveJob.class);
+
+  private static final long DELAY = 500;
+
+  private final ContainerStateStore store;
+
+  ContainerStateSaveJob(ContainerStateStore store) {
+    super(Messages.BuildPathManager_save_container_state_job_name);
+    this.store = store;
+    setSystem(true);
+  }
+
+  void save(IProject project, IClasspathContainer container) {
+    store.put(project.getName(), container);
+    schedule(DELAY);
+  }
+
+  /**
+   * Forgets the container of the given project.
+   */
+  void discard(IProject project) {
+    store.remove(project.getName());
+    schedule(DELAY);
+  }
+
+  /**
+   * Writes all unsaved containers in the calling thread.
+   */
+  void flush() {
+    try {
+      store.write();
+    } catch(IOException ex) {
+      log.error("Can't save classpath container state", ex); //$NON-NLS-1$
+    }
+  }
+
+  @Override
+  protected IStatus run(IProgressMonitor monitor) {
+    flush();
+    return Status.OK_STATUS;
+  }
+}
@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.jdt.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IAccessRule;
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IClasspathContainer;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+
+
+/**
+ * Single file store of the Maven classpath containers of all workspace projects. Paths and attributes are stored once
+ * in a string table and referenced by index, so the local repository jars shared by many projects are not repeated for
+ * every container. Each project record carries its own checksum, a damaged record only drops the container of that
+ * project, which is then calculated again on the next classpath update.
+ *
+ * <pre>
+ * int      MAGIC
+ * int      VERSION
+ * int      number of strings
+ * int      length of the string table
+ * int      CRC32 of the string table
+ * ...      string table, each string as int length and UTF-8 bytes
+ * int      number of projects
+ * ...      per project: int name, int record length, int record CRC32, record
+ * </pre>
+ *
+ * All numbers are fixed size, so records can be located without decoding them. The whole file is read sequentially on
+ * first access and kept in memory, writes replace the file atomically.
+ */
+public class ContainerStateStore {
+  private static final Logger log = LoggerFactory.getLogger(ContainerStateStore.class);
+
+  static final int MAGIC = 0x4d324543; // M2EC
+
+  static final int VERSION = 1;
+
+  private static final int NULL = -1;
+
+  private static final int FLAG_EXPORTED = 1;
+
+  private static final int FLAG_COMBINE_ACCESS_RULES = 2;
+
+  private final Path file;
+
+  private final Object writeLock = new Object();
+
+  private Map<String, IClasspathContainer> containers;
+
+  private boolean dirty;
+
+  public ContainerStateStore(File file) {
+    this.file = file.toPath();
+  }
+
+  public synchronized IClasspathContainer get(String project) {
+    return getContainers().get(project);
+  }
+
+  public synchronized void put(String project, IClasspathContainer container) {
+    getContainers().put(project, container);
+    dirty = true;
+  }
+
+  public synchronized void remove(String project) {
+    if(getContainers().remove(project) != null) {
+      dirty = true;
+    }
+  }
+
+  /**
+   * Writes the store if it changed since it was read or last written.
+   */
+  public void write() throws IOException {
+    synchronized(writeLock) {
+      byte[] bytes;
+      synchronized(this) {
+        if(!dirty) {
+          return;
+        }
+        bytes = encode(getContainers());
+        dirty = false;
+      }
+      Path temp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+      try {
+        Files.write(temp, bytes);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      } catch(IOException ex) {
+        synchronized(this) {
+          dirty = true;
+        }
+        throw ex;
+      }
+    }
+  }
+
+  private Map<String, IClasspathContainer> getContainers() {
+    if(containers == null) {
+      containers = read();
+    }
+    return containers;
+  }
+
+  private Map<String, IClasspathContainer> read() {
+    Map<String, IClasspathContainer> result = new LinkedHashMap<>();
+    if(!Files.isRegularFile(file)) {
+      return result;
+    }
+    try {
+      byte[] bytes = Files.readAllBytes(file);
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        log.info("Ignoring classpath container state of unsupported format {}", file); //$NON-NLS-1$
+        return result;
+      }
+      String[] strings = new String[buffer.getInt()];
+      int tableLength = buffer.getInt();
+      int tableChecksum = buffer.getInt();
+      if(checksum(bytes, buffer.position(), tableLength) != tableChecksum) {
+        throw new IOException("Corrupt string table"); //$NON-NLS-1$
+      }
+      for(int i = 0; i < strings.length; i++ ) {
+        int length = buffer.getInt();
+        strings[i] = new String(bytes, buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+      }
+      int projects = buffer.getInt();
+      for(int i = 0; i < projects; i++ ) {
+        String project = strings[buffer.getInt()];
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        int offset = buffer.position();
+        buffer.position(offset + length);
+        if(checksum(bytes, offset, length) != checksum) {
+          log.warn("Ignoring corrupt classpath container state of project {}", project); //$NON-NLS-1$
+          continue;
+        }
+        try {
+          result.put(project, decodeContainer(ByteBuffer.wrap(bytes, offset, length), strings));
+        } catch(IOException | RuntimeException ex) {
+          log.warn("Can't read classpath container state of project " + project, ex); //$NON-NLS-1$
+        }
+      }
+    } catch(IOException | RuntimeException ex) {
+      log.error("Can't read classpath container state " + file, ex); //$NON-NLS-1$
+    }
+    return result;
+  }
+
+  private static byte[] encode(Map<String, IClasspathContainer> containers) throws IOException {
+    Map<String, Integer> strings = new LinkedHashMap<>();
+    ByteArrayOutputStream records = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(records);
+    int projects = 0;
+    for(Map.Entry<String, IClasspathContainer> entry : containers.entrySet()) {
+      byte[] record;
+      try {
+        record = encodeContainer(entry.getValue(), strings);
+      } catch(IOException ex) {
+        log.warn("Can't save classpath container state of project " + entry.getKey(), ex); //$NON-NLS-1$
+        continue;
+      }
+      out.writeInt(index(strings, entry.getKey()));
+      out.writeInt(record.length);
+      out.writeInt(checksum(record, 0, record.length));
+      out.write(record);
+      projects++ ;
+    }
+
+    ByteArrayOutputStream table = new ByteArrayOutputStream();
+    DataOutputStream tableOut = new DataOutputStream(table);
+    for(String string : strings.keySet()) {
+      byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      tableOut.writeInt(bytes.length);
+      tableOut.write(bytes);
+    }
+    byte[] tableBytes = table.toByteArray();
+
+    ByteArrayOutputStream result = new ByteArrayOutputStream(tableBytes.length + records.size() + 32);
+    DataOutputStream resultOut = new DataOutputStream(result);
+    resultOut.writeInt(MAGIC);
+    resultOut.writeInt(VERSION);
+    resultOut.writeInt(strings.size());
+    resultOut.writeInt(tableBytes.length);
+    resultOut.writeInt(checksum(tableBytes, 0, tableBytes.length));
+    resultOut.write(tableBytes);
+    resultOut.writeInt(projects);
+    records.writeTo(resultOut);
+    resultOut.flush();
+    return result.toByteArray();
+  }
+
+  private static byte[] encodeContainer(IClasspathContainer container, Map<String, Integer> strings)
+      throws IOException {
+    ByteArrayOutputStream record = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(record);
+    IClasspathEntry[] entries = container.getClasspathEntries();
+    out.writeInt(index(strings, container.getPath()));
+    out.writeInt(entries.length);
+    for(IClasspathEntry entry : entries) {
+      int kind = entry.getEntryKind();
+      if(kind != IClasspathEntry.CPE_LIBRARY && kind != IClasspathEntry.CPE_PROJECT) {
+        throw new IOException("Unsupported classpath entry " + entry); //$NON-NLS-1$
+      }
+      out.writeByte(kind);
+      out.writeInt(index(strings, entry.getPath()));
+      if(kind == IClasspathEntry.CPE_LIBRARY) {
+        out.writeInt(index(strings, entry.getSourceAttachmentPath()));
+        out.writeInt(index(strings, entry.getSourceAttachmentRootPath()));
+      }
+      out.writeByte((entry.isExported() ? FLAG_EXPORTED : 0)
+          | (entry.combineAccessRules() ? FLAG_COMBINE_ACCESS_RULES : 0));
+      IAccessRule[] accessRules = entry.getAccessRules();
+      out.writeInt(accessRules.length);
+      for(IAccessRule accessRule : accessRules) {
+        out.writeInt(index(strings, accessRule.getPattern()));
+        out.writeInt(accessRule.getKind() | (accessRule.ignoreIfBetter() ? IAccessRule.IGNORE_IF_BETTER : 0));
+      }
+      IClasspathAttribute[] attributes = entry.getExtraAttributes();
+      out.writeInt(attributes.length);
+      for(IClasspathAttribute attribute : attributes) {
+        out.writeInt(index(strings, attribute.getName()));
+        out.writeInt(index(strings, attribute.getValue()));
+      }
+    }
+    out.flush();
+    return record.toByteArray();
+  }
+
+  private static IClasspathContainer decodeContainer(ByteBuffer in, String[] strings) throws IOException {
+    IPath path = path(in, strings);
+    IClasspathEntry[] entries = new IClasspathEntry[in.getInt()];
+    for(int i = 0; i < entries.length; i++ ) {
+      int kind = in.get();
+      IPath entryPath = path(in, strings);
+      IPath sourceAttachmentPath = null;
+      IPath sourceAttachmentRootPath = null;
+      if(kind == IClasspathEntry.CPE_LIBRARY) {
+        sourceAttachmentPath = path(in, strings);
+        sourceAttachmentRootPath = path(in, strings);
+      } else if(kind != IClasspathEntry.CPE_PROJECT) {
+        throw new IOException("Unsupported classpath entry kind " + kind); //$NON-NLS-1$
+      }
+      int flags = in.get();
+      IAccessRule[] accessRules = new IAccessRule[in.getInt()];
+      for(int j = 0; j < accessRules.length; j++ ) {
+        accessRules[j] = JavaCore.newAccessRule(path(in, strings), in.getInt());
+      }
+      IClasspathAttribute[] attributes = new IClasspathAttribute[in.getInt()];
+      for(int j = 0; j < attributes.length; j++ ) {
+        attributes[j] = JavaCore.newClasspathAttribute(string(in, strings), string(in, strings));
+      }
+      boolean exported = (flags & FLAG_EXPORTED) != 0;
+      entries[i] = kind == IClasspathEntry.CPE_LIBRARY
+          ? JavaCore.newLibraryEntry(entryPath, sourceAttachmentPath, sourceAttachmentRootPath, accessRules,
+              attributes, exported)
+          : JavaCore.newProjectEntry(entryPath, accessRules, (flags & FLAG_COMBINE_ACCESS_RULES) != 0, attributes,
+              exported);
+    }
+    return new MavenClasspathContainer(path, entries);
+  }
+
+  private static int index(Map<String, Integer> strings, IPath path) {
+    return index(strings, path != null ? path.toPortableString() : null);
+  }
+
+  private static int index(Map<String, Integer> strings, String value) {
+    if(value == null) {
+      return NULL;
+    }
+    return strings.computeIfAbsent(value, v -> strings.size());
+  }
+
+  private static String string(ByteBuffer in, String[] strings) {
+    int index = in.getInt();
+    return index == NULL ? null : strings[index];
+  }
+
+  private static IPath path(ByteBuffer in, String[] strings) {
+    String path = string(in, strings);
+    return path != null ? IPath.fromPortableString(path) : null;
+  }
+
+  private static int checksum(byte[] bytes, int offset, int length) {
+    CRC32 crc = new CRC32();
+    crc.update(bytes, offset, length);
+    return (int) crc.getValue();
+  }
+}
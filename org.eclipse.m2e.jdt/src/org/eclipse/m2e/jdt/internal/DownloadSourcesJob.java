@@ -190,11 +190,7 @@ class DownloadSourcesJob extends MavenJob implements IBackgroundProcessingQueue
     ISchedulingRule schedulingRule = ResourcesPlugin.getWorkspace().getRuleFactory().buildRule();
     getJobManager().beginRule(schedulingRule, updateMonitor.split(1));
     try {
-      for(IProject mavenProject : toUpdateMavenProjects) {
-        updateMonitor
-            .setTaskName(Messages.DownloadSourcesJob_job_associateWithClasspath + " - " + mavenProject.getName());
-        manager.updateClasspath(mavenProject, updateMonitor.split(1));
-      }
+      manager.updateClasspath(toUpdateMavenProjects, updateMonitor.split(toUpdateMavenProjects.size()));
       for(Map.Entry<IPackageFragmentRoot, Attachments> entry : toUpdateAttachments.entrySet()) {
         updateMonitor.setTaskName(
             Messages.DownloadSourcesJob_job_associateWithClasspath + " - " + entry.getKey().getElementName());
@@ -31,7 +31,9 @@ import org.eclipse.jdt.core.JavaCore;
 
 
 /**
- * BuildPath save helper
+ * BuildPath save helper, reads and writes the Java serialization format used by previous versions to persist the
+ * container state of a project. Container state is now kept in the {@link ContainerStateStore}, this format is only
+ * read to migrate existing workspaces.
  *
  * @author Eugene Kuleshov
  */
@@ -30,6 +30,8 @@ public class Messages extends NLS {
 
   public static String BuildPathManager_update_module_path_job_name;
 
+  public static String BuildPathManager_save_container_state_job_name;
+
   public static String DownloadSourcesJob_job_download;
 
   public static String DownloadSourcesJob_job_associateWithClasspath;
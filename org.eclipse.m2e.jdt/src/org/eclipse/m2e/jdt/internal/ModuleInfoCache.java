@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.jdt.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.IModule;
+
+
+/**
+ * Persistent cache of the module descriptors of classpath jars, i.e. the name, required modules, used and provided
+ * services declared by their <code>module-info.class</code> or the <code>Automatic-Module-Name</code> of their
+ * manifest. Descriptors are cached by the absolute path of the jar and are valid as long as its size and last
+ * modification time do not change, which for the jars of the local repository is forever. A Multi-Release jar can
+ * declare a different module for each Java release, the descriptors of those jars are cached per target compliance.
+ *
+ * <pre>
+ * int      MAGIC
+ * int      VERSION
+ * int      number of jars
+ * ...      per jar: UTF path, long size, long last modified, boolean multi-release, int number of descriptors,
+ *          per descriptor: int release, UTF name, requires, uses and provides each as int count and UTF names
+ * long     CRC32 of everything before
+ * </pre>
+ *
+ * The file is read on first access and written when the plugin stops. Jars that no longer exist are dropped when the
+ * cache is written.
+ */
+@SuppressWarnings("restriction")
+class ModuleInfoCache {
+  private static final Logger log = LoggerFactory.getLogger(ModuleInfoCache.class);
+
+  static final int MAGIC = 0x4d324d49; // M2MI
+
+  static final int VERSION = 1;
+
+  /**
+   * Release of the unversioned <code>module-info.class</code>
+   */
+  private static final int BASE_RELEASE = 8;
+
+  private static final String MULTI_RELEASE = "Multi-Release"; //$NON-NLS-1$
+
+  private static final String AUTOMATIC_MODULE_NAME = "Automatic-Module-Name"; //$NON-NLS-1$
+
+  private final Path file;
+
+  private final Object writeLock = new Object();
+
+  private Map<String, JarDescriptor> jars;
+
+  private volatile boolean dirty;
+
+  ModuleInfoCache(File file) {
+    this.file = file.toPath();
+  }
+
+  /**
+   * Returns the module descriptor of the given jar file for the given target compliance, reading the jar only if its
+   * descriptor is not cached yet. May be called concurrently.
+   */
+  InternalModuleInfo get(File jar, int targetCompliance) {
+    String path = jar.getAbsolutePath();
+    long size = jar.length();
+    long lastModified = jar.lastModified();
+    Map<String, JarDescriptor> descriptors = getJars();
+    JarDescriptor cached = descriptors.get(path);
+    if(cached != null && cached.size() == size && cached.lastModified() == lastModified) {
+      InternalModuleInfo module = cached.modules().get(cached.getRelease(targetCompliance));
+      if(module != null) {
+        return module;
+      }
+    }
+    JarDescriptor descriptor = read(jar, targetCompliance, size, lastModified);
+    if(descriptor == null) {
+      // not cached, the jar may still be written
+      return InternalModuleInfo.withAutomaticNameFromFile(jar);
+    }
+    descriptors.merge(path, descriptor, JarDescriptor::merge);
+    dirty = true;
+    return descriptor.modules().get(descriptor.getRelease(targetCompliance));
+  }
+
+  /**
+   * Reads the module descriptor of the given jar file for the given target compliance without caching it.
+   */
+  static InternalModuleInfo read(File jar, int targetCompliance) {
+    JarDescriptor descriptor = read(jar, targetCompliance, 0, 0);
+    return descriptor != null ? descriptor.modules().values().iterator().next()
+        : InternalModuleInfo.withAutomaticNameFromFile(jar);
+  }
+
+  private static JarDescriptor read(File jar, int targetCompliance, long size, long lastModified) {
+    try (JarFile jarFile = new JarFile(jar, false)) {
+      Manifest manifest = jarFile.getManifest();
+      boolean multiRelease = false;
+      if(manifest != null) {
+        multiRelease = "true".equalsIgnoreCase(manifest.getMainAttributes().getValue(MULTI_RELEASE)); //$NON-NLS-1$
+      }
+      int release = multiRelease ? targetCompliance : BASE_RELEASE;
+      InternalModuleInfo module = readModule(jarFile, manifest, release);
+      if(module == null) {
+        module = InternalModuleInfo.withAutomaticNameFromFile(jar);
+      }
+      return new JarDescriptor(size, lastModified, multiRelease, Map.of(release, module));
+    } catch(ClassFormatException | IOException ex) {
+      log.error(ex.getMessage(), ex);
+      return null;
+    }
+  }
+
+  private static InternalModuleInfo readModule(JarFile jar, Manifest manifest, int release)
+      throws ClassFormatException, IOException {
+    for(int i = release; i >= BASE_RELEASE; i-- ) {
+      String filename;
+      if(i == BASE_RELEASE) {
+        filename = IModule.MODULE_INFO_CLASS;
+      } else {
+        filename = "META-INF/versions/" + i + "/" + IModule.MODULE_INFO_CLASS; //$NON-NLS-1$ //$NON-NLS-2$
+      }
+      ClassFileReader reader = ClassFileReader.read(jar, filename);
+      if(reader != null) {
+        IModule module = reader.getModuleDeclaration();
+        if(module != null) {
+          return InternalModuleInfo.fromDeclaration(module);
+        }
+      }
+    }
+    if(manifest != null) {
+      // optimization: we already have the manifest, so directly check for Automatic-Module-Name
+      // rather than using AutomaticModuleNaming.determineAutomaticModuleName(String)
+      String automaticModuleName = manifest.getMainAttributes().getValue(AUTOMATIC_MODULE_NAME);
+      if(automaticModuleName != null) {
+        return InternalModuleInfo.withAutomaticName(automaticModuleName);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Writes the cache if descriptors were read since it was read or last written.
+   */
+  void write() throws IOException {
+    synchronized(writeLock) {
+      if(!dirty) {
+        return;
+      }
+      // descriptors added while writing mark the cache dirty again
+      dirty = false;
+      Path temp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+      try {
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(temp))) {
+          encode(getJars(), os);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      } catch(IOException ex) {
+        dirty = true;
+        throw ex;
+      }
+    }
+  }
+
+  private synchronized Map<String, JarDescriptor> getJars() {
+    if(jars == null) {
+      jars = new ConcurrentHashMap<>();
+      if(Files.isRegularFile(file)) {
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(file))) {
+          decode(is, jars);
+        } catch(IOException | RuntimeException ex) {
+          jars.clear();
+          log.error("Can't read module descriptor cache " + file, ex); //$NON-NLS-1$
+        }
+      }
+    }
+    return jars;
+  }
+
+  private static void encode(Map<String, JarDescriptor> jars, OutputStream os) throws IOException {
+    CheckedOutputStream checked = new CheckedOutputStream(os, new CRC32());
+    DataOutputStream out = new DataOutputStream(checked);
+    List<Map.Entry<String, JarDescriptor>> existing = new ArrayList<>();
+    jars.entrySet().forEach(entry -> {
+      if(new File(entry.getKey()).isFile()) {
+        existing.add(entry);
+      }
+    });
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeInt(existing.size());
+    for(Map.Entry<String, JarDescriptor> entry : existing) {
+      JarDescriptor descriptor = entry.getValue();
+      out.writeUTF(entry.getKey());
+      out.writeLong(descriptor.size());
+      out.writeLong(descriptor.lastModified());
+      out.writeBoolean(descriptor.multiRelease());
+      out.writeInt(descriptor.modules().size());
+      for(Map.Entry<Integer, InternalModuleInfo> module : descriptor.modules().entrySet()) {
+        out.writeInt(module.getKey());
+        out.writeUTF(module.getValue().name);
+        writeNames(out, module.getValue().requiredModuleNames);
+        writeNames(out, module.getValue().usedServiceNames);
+        writeNames(out, module.getValue().providedServiceNames);
+      }
+    }
+    out.flush();
+    out.writeLong(checked.getChecksum().getValue());
+    out.flush();
+  }
+
+  private void decode(InputStream is, Map<String, JarDescriptor> jars) throws IOException {
+    CheckedInputStream checked = new CheckedInputStream(is, new CRC32());
+    DataInputStream in = new DataInputStream(checked);
+    if(in.readInt() != MAGIC || in.readInt() != VERSION) {
+      log.info("Ignoring module descriptor cache of unsupported format {}", file); //$NON-NLS-1$
+      return;
+    }
+    Map<String, JarDescriptor> result = new HashMap<>();
+    for(int jarCount = in.readInt(); jarCount > 0; jarCount-- ) {
+      String path = in.readUTF();
+      long size = in.readLong();
+      long lastModified = in.readLong();
+      boolean multiRelease = in.readBoolean();
+      Map<Integer, InternalModuleInfo> modules = new HashMap<>();
+      for(int moduleCount = in.readInt(); moduleCount > 0; moduleCount-- ) {
+        int release = in.readInt();
+        String name = in.readUTF();
+        modules.put(release, new InternalModuleInfo(name, readNames(in), readNames(in), readNames(in)));
+      }
+      result.put(path, new JarDescriptor(size, lastModified, multiRelease, Map.copyOf(modules)));
+    }
+    long checksum = checked.getChecksum().getValue();
+    if(in.readLong() != checksum) {
+      throw new IOException("Corrupt module descriptor cache"); //$NON-NLS-1$
+    }
+    jars.putAll(result);
+  }
+
+  private static void writeNames(DataOutputStream out, List<String> names) throws IOException {
+    out.writeInt(names.size());
+    for(String name : names) {
+      out.writeUTF(name);
+    }
+  }
+
+  private static List<String> readNames(DataInputStream in) throws IOException {
+    int count = in.readInt();
+    List<String> names = new ArrayList<>(count);
+    for(int i = 0; i < count; i++ ) {
+      names.add(in.readUTF());
+    }
+    return names;
+  }
+
+  /**
+   * The module descriptors of one jar, by the release their <code>module-info.class</code> was looked up for.
+   */
+  private record JarDescriptor(long size, long lastModified, boolean multiRelease,
+      Map<Integer, InternalModuleInfo> modules) {
+
+    int getRelease(int targetCompliance) {
+      return multiRelease ? targetCompliance : BASE_RELEASE;
+    }
+
+    /**
+     * Adds the descriptors read for another release of the same jar, or replaces those of a jar that changed.
+     */
+    JarDescriptor merge(JarDescriptor other) {
+      if(size != other.size || lastModified != other.lastModified || multiRelease != other.multiRelease) {
+        return other;
+      }
+      Map<Integer, InternalModuleInfo> merged = new HashMap<>(modules);
+      merged.putAll(other.modules);
+      return new JarDescriptor(size, lastModified, multiRelease, Map.copyOf(merged));
+    }
+  }
+}
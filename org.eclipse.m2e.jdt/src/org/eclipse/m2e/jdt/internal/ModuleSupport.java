@@ -15,7 +15,6 @@
 package org.eclipse.m2e.jdt.internal;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -30,11 +29,10 @@ import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.jar.JarFile;
-import java.util.jar.Manifest;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,10 +52,7 @@ import org.eclipse.jdt.core.IModuleDescription;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
-import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
 import org.eclipse.jdt.internal.compiler.env.AutomaticModuleNaming;
-import org.eclipse.jdt.internal.compiler.env.IModule;
 import org.eclipse.jdt.internal.core.JrtPackageFragmentRoot;
 import org.eclipse.jdt.internal.launching.RuntimeClasspathEntry;
 import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
@@ -70,6 +65,7 @@ import org.eclipse.m2e.core.project.configurator.ProjectConfigurationRequest;
 import org.eclipse.m2e.jdt.IClasspathDescriptor;
 import org.eclipse.m2e.jdt.IClasspathEntryDescriptor;
 import org.eclipse.m2e.jdt.IClasspathManager;
+import org.eclipse.m2e.jdt.MavenJdtPlugin;
 
 
 /**
@@ -124,13 +120,31 @@ public class ModuleSupport {
       return;
     }
 
+    // the jars missing from the module descriptor cache are read in parallel
+    List<IClasspathEntryDescriptor> classpathEntries = classpath.getEntryDescriptors();
+    InternalModuleInfo[] libraryModuleInfos = new InternalModuleInfo[classpathEntries.size()];
+    IProgressMonitor libraryMonitor = monitor;
+    int compliance = targetCompliance;
+    IntStream.range(0, libraryModuleInfos.length).parallel().forEach(i -> {
+      if(libraryMonitor.isCanceled()) {
+        return;
+      }
+      IClasspathEntryDescriptor entryDescriptor = classpathEntries.get(i);
+      if(IClasspathEntry.CPE_LIBRARY == entryDescriptor.getEntryKind()) {
+        libraryModuleInfos[i] = getModuleInfo(entryDescriptor, libraryMonitor, compliance);
+      }
+    });
+
     Map<String, InternalModuleInfo> entryModuleInfos = new LinkedHashMap<>();
     Map<String, IClasspathEntryDescriptor> entryDescriptors = new LinkedHashMap<>();
-    for(IClasspathEntryDescriptor entryDescriptor : classpath.getEntryDescriptors()) {
+    for(int i = 0; i < libraryModuleInfos.length; i++ ) {
       if(monitor.isCanceled()) {
         return;
       }
-      InternalModuleInfo entryModuleInfo = getModuleInfo(entryDescriptor, monitor, targetCompliance);
+      IClasspathEntryDescriptor entryDescriptor = classpathEntries.get(i);
+      InternalModuleInfo entryModuleInfo = IClasspathEntry.CPE_LIBRARY == entryDescriptor.getEntryKind()
+          ? libraryModuleInfos[i]
+          : getModuleInfo(entryDescriptor, monitor, targetCompliance);
       if(entryModuleInfo != null) {
         entryModuleInfos.put(entryModuleInfo.name, entryModuleInfo);//potentially suppresses duplicate entries from the same workspace project, with different classifiers
         entryDescriptors.put(entryModuleInfo.name, entryDescriptor);
@@ -237,41 +251,11 @@ public class ModuleSupport {
     if(!file.isFile()) {
       return null;
     }
-    try (JarFile jar = new JarFile(file, false)) {
-      Manifest manifest = jar.getManifest();
-      boolean isMultiRelease = false;
-      if(manifest != null) {
-        isMultiRelease = "true".equalsIgnoreCase(manifest.getMainAttributes().getValue("Multi-Release"));
-      }
-      int compliance = isMultiRelease ? targetCompliance : 8;
-      for(int i = compliance; i >= 8; i-- ) {
-        String filename;
-        if(i == 8) {
-          // 8 represents unversioned module-info.class
-          filename = IModule.MODULE_INFO_CLASS;
-        } else {
-          filename = "META-INF/versions/" + i + "/" + IModule.MODULE_INFO_CLASS;
-        }
-        ClassFileReader reader = ClassFileReader.read(jar, filename);
-        if(reader != null) {
-          IModule module = reader.getModuleDeclaration();
-          if(module != null) {
-            return InternalModuleInfo.fromDeclaration(module);
-          }
-        }
-      }
-      if(manifest != null) {
-        // optimization: we already have the manifest, so directly check for Automatic-Module-Name
-        // rather than using AutomaticModuleNaming.determineAutomaticModuleName(String)
-        String automaticModuleName = manifest.getMainAttributes().getValue("Automatic-Module-Name");
-        if(automaticModuleName != null) {
-          return InternalModuleInfo.withAutomaticName(automaticModuleName);
-        }
-      }
-    } catch(ClassFormatException | IOException ex) {
-      log.error(ex.getMessage(), ex);
+    MavenJdtPlugin plugin = MavenJdtPlugin.getDefault();
+    if(plugin == null) {
+      return ModuleInfoCache.read(file, targetCompliance);
     }
-    return InternalModuleInfo.withAutomaticNameFromFile(file);
+    return ((BuildPathManager) plugin.getBuildpathManager()).getModuleInfoCache().get(file, targetCompliance);
   }
 
   private static IJavaProject getJavaProject(IPath projectPath) {
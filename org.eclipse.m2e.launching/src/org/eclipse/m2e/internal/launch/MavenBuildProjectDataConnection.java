@@ -15,9 +15,15 @@ package org.eclipse.m2e.internal.launch;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
@@ -30,21 +36,31 @@ import org.eclipse.m2e.core.internal.launch.MavenEmbeddedRuntime;
 import org.eclipse.m2e.internal.launch.MavenRuntimeLaunchSupport.VMArguments;
 import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge;
 import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge.MavenBuildConnection;
+import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge.MavenBuildEvent;
 import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge.MavenProjectBuildData;
 
 
 public class MavenBuildProjectDataConnection {
 
-  private static record MavenBuildConnectionData(Map<ArtifactKey, MavenProjectBuildData> projects,
-      MavenBuildConnection connection) {
+  private static record MavenBuildConnectionData(Map<ArtifactKey, CompletableFuture<MavenProjectBuildData>> projects,
+      MavenBuildTimeline timeline, MavenBuildConnection connection) {
   }
 
+  /**
+   * How long to wait for the data of a project, whose GAV was printed on the console. It is sent before that, so it
+   * usually arrives immediately.
+   */
+  private static final long PROJECT_DATA_TIMEOUT_SECONDS = 10;
+
   private static final Map<ILaunch, MavenBuildConnectionData> LAUNCH_PROJECT_DATA = new ConcurrentHashMap<>();
 
+  private static final List<Runnable> TIMELINE_LISTENERS = new CopyOnWriteArrayList<>();
+
   static {
     DebugPlugin.getDefault().getLaunchManager().addLaunchListener(new ILaunchesListener2() {
       public void launchesRemoved(ILaunch[] launches) {
         closeServers(Arrays.stream(launches).map(LAUNCH_PROJECT_DATA::remove));
+        notifyTimelineListeners();
       }
 
       public void launchesTerminated(ILaunch[] launches) {
@@ -72,35 +88,77 @@ public class MavenBuildProjectDataConnection {
     try {
       if(MavenLaunchUtils.getMavenRuntime(launch.getLaunchConfiguration()) instanceof MavenEmbeddedRuntime) {
 
-        Map<ArtifactKey, MavenProjectBuildData> projects = new ConcurrentHashMap<>();
+        Map<ArtifactKey, CompletableFuture<MavenProjectBuildData>> projects = new ConcurrentHashMap<>();
+        String name = launch.getLaunchConfiguration().getName();
+        MavenBuildTimeline timeline = new MavenBuildTimeline(name,
+            MavenBuildProjectDataConnection::notifyTimelineListeners);
 
-        MavenBuildConnection connection = M2EMavenBuildDataBridge.prepareConnection(
-            launch.getLaunchConfiguration().getName(),
-            d -> projects.put(new ArtifactKey(d.groupId, d.artifactId, d.version, null), d));
+        MavenBuildConnection connection = M2EMavenBuildDataBridge.prepareConnection(name, event -> {
+          if(event.type == MavenBuildEvent.Type.PROJECT_STARTED) {
+            MavenProjectBuildData d = event.projectData;
+            getProjectData(projects, new ArtifactKey(d.groupId, d.artifactId, d.version, null)).complete(d);
+          }
+          timeline.accept(event);
+        });
+        // projects not built by Maven are not sent, release all waiting for them
+        connection.whenReadCompleted(() -> projects.values().forEach(project -> project.complete(null)));
 
-        if(LAUNCH_PROJECT_DATA.putIfAbsent(launch, new MavenBuildConnectionData(projects, connection)) != null) {
+        MavenBuildConnectionData data = new MavenBuildConnectionData(projects, timeline, connection);
+        if(LAUNCH_PROJECT_DATA.putIfAbsent(launch, data) != null) {
           connection.close();
-          throw new IllegalStateException(
-              "Maven bridge already created for launch of" + launch.getLaunchConfiguration().getName());
+          throw new IllegalStateException("Maven bridge already created for launch of" + name);
         }
+        notifyTimelineListeners();
         arguments.append(connection.getMavenVMArguments());
       }
     } catch(CoreException | IOException ex) { // ignore
     }
   }
 
+  private static CompletableFuture<MavenProjectBuildData> getProjectData(
+      Map<ArtifactKey, CompletableFuture<MavenProjectBuildData>> projects, ArtifactKey key) {
+    return projects.computeIfAbsent(key, k -> new CompletableFuture<>());
+  }
+
+  /**
+   * Returns the timelines of all Maven builds of the current launches that are connected to the IDE.
+   */
+  public static List<MavenBuildTimeline> getTimelines() {
+    return LAUNCH_PROJECT_DATA.values().stream().map(MavenBuildConnectionData::timeline).toList();
+  }
+
+  /**
+   * Adds a listener notified whenever a build timeline changes, or a timeline is added or removed.
+   */
+  public static void addTimelineListener(Runnable listener) {
+    TIMELINE_LISTENERS.add(listener);
+  }
+
+  public static void removeTimelineListener(Runnable listener) {
+    TIMELINE_LISTENERS.remove(listener);
+  }
+
+  /*package*/static void notifyTimelineListeners() {
+    TIMELINE_LISTENERS.forEach(Runnable::run);
+  }
+
   static MavenProjectBuildData getBuildProject(ILaunch launch, String groupId, String artifactId, String version) {
     MavenBuildConnectionData build = LAUNCH_PROJECT_DATA.get(launch);
     if(build == null) {
       return null;
     }
     ArtifactKey key = new ArtifactKey(groupId, artifactId, version, null);
-    while(true) {
-      MavenProjectBuildData buildProject = build.projects().get(key);
-      if(buildProject != null || build.connection().isReadCompleted()) {
-        return buildProject;
-      }
-      Thread.onSpinWait(); // Await completion of project data read. It has to become available soon, since its GAV was printed on the console
+    CompletableFuture<MavenProjectBuildData> project = getProjectData(build.projects(), key);
+    if(build.connection().isReadCompleted()) {
+      project.complete(null);
+    }
+    try {
+      return project.get(PROJECT_DATA_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch(ExecutionException | TimeoutException ex) {
+      return null;
     }
   }
 
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.internal.launch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge.MavenBuildEvent;
+
+
+/**
+ * The timeline of the projects and their mojo executions of one Maven build launched from the IDE, as reported by the
+ * events of the build. All times are relative to the first event of the build, since the event times are taken in the
+ * Maven build JVM.
+ */
+public class MavenBuildTimeline {
+
+  public enum Status {
+    RUNNING, SUCCEEDED, FAILED, SKIPPED
+  }
+
+  /**
+   * A project or mojo execution of the build.
+   */
+  public final class Span {
+    private final String name;
+
+    private final long startNanos;
+
+    private long endNanos = -1;
+
+    private Status status = Status.RUNNING;
+
+    private final List<Span> children = new ArrayList<>();
+
+    Span(String name, long startNanos) {
+      this.name = name;
+      this.startNanos = startNanos;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public long getStartMillis() {
+      synchronized(MavenBuildTimeline.this) {
+        return TimeUnit.NANOSECONDS.toMillis(startNanos - firstNanos);
+      }
+    }
+
+    /**
+     * Returns the duration, up to the latest event of the build while still running.
+     */
+    public long getDurationMillis() {
+      synchronized(MavenBuildTimeline.this) {
+        return TimeUnit.NANOSECONDS.toMillis((endNanos >= 0 ? endNanos : lastNanos) - startNanos);
+      }
+    }
+
+    public Status getStatus() {
+      synchronized(MavenBuildTimeline.this) {
+        return status;
+      }
+    }
+
+    /**
+     * Returns the mojo executions of a project in the order they were started.
+     */
+    public List<Span> getChildren() {
+      synchronized(MavenBuildTimeline.this) {
+        return List.copyOf(children);
+      }
+    }
+
+    void end(long nanos, Status status) {
+      this.endNanos = nanos;
+      this.status = status;
+    }
+  }
+
+  private final String name;
+
+  private final Runnable changeListener;
+
+  private final Map<String, Span> projects = new LinkedHashMap<>();
+
+  private final Map<String, Span> runningMojos = new HashMap<>();
+
+  private final List<Span> mojos = new ArrayList<>();
+
+  private long firstNanos = -1;
+
+  private long lastNanos;
+
+  private boolean ended;
+
+  MavenBuildTimeline(String name, Runnable changeListener) {
+    this.name = name;
+    this.changeListener = changeListener;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  void accept(MavenBuildEvent event) {
+    synchronized(this) {
+      if(firstNanos < 0) {
+        firstNanos = event.nanoTime;
+      }
+      lastNanos = Math.max(lastNanos, event.nanoTime);
+      String projectKey = event.groupId + ':' + event.artifactId + ':' + event.version;
+      switch(event.type) {
+        case PROJECT_STARTED -> projects.put(projectKey, new Span(projectKey, event.nanoTime));
+        case PROJECT_SUCCEEDED -> endProject(projectKey, event.nanoTime, Status.SUCCEEDED);
+        case PROJECT_FAILED -> endProject(projectKey, event.nanoTime, Status.FAILED);
+        case PROJECT_SKIPPED -> endProject(projectKey, event.nanoTime, Status.SKIPPED);
+        case MOJO_STARTED -> {
+          Span mojo = new Span(getMojoName(event), event.nanoTime);
+          runningMojos.put(projectKey + '/' + mojo.getName(), mojo);
+          mojos.add(mojo);
+          Span project = projects.get(projectKey);
+          if(project != null) {
+            project.children.add(mojo);
+          }
+        }
+        case MOJO_SUCCEEDED -> endMojo(projectKey, event, Status.SUCCEEDED);
+        case MOJO_FAILED -> endMojo(projectKey, event, Status.FAILED);
+        case SESSION_ENDED -> ended = true;
+      }
+    }
+    changeListener.run();
+  }
+
+  private void endProject(String projectKey, long nanos, Status status) {
+    Span project = projects.get(projectKey);
+    if(project != null) {
+      project.end(nanos, status);
+    }
+  }
+
+  private void endMojo(String projectKey, MavenBuildEvent event, Status status) {
+    Span mojo = runningMojos.remove(projectKey + '/' + getMojoName(event));
+    if(mojo != null) {
+      mojo.end(event.nanoTime, status);
+    }
+  }
+
+  private static String getMojoName(MavenBuildEvent event) {
+    return event.mojo + " (" + event.executionId + ") @ " + event.artifactId; //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Returns the projects of the build in the order they were started.
+   */
+  public synchronized List<Span> getProjects() {
+    return List.copyOf(projects.values());
+  }
+
+  /**
+   * Returns the given number of mojo executions of all projects that took the longest.
+   */
+  public List<Span> getSlowestMojos(int limit) {
+    List<Span> result;
+    synchronized(this) {
+      result = new ArrayList<>(mojos);
+    }
+    result.sort(Comparator.comparingLong(Span::getDurationMillis).reversed());
+    return result.subList(0, Math.min(limit, result.size()));
+  }
+
+  public synchronized long getDurationMillis() {
+    return firstNanos < 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(lastNanos - firstNanos);
+  }
+
+  public synchronized boolean isEnded() {
+    return ended;
+  }
+}
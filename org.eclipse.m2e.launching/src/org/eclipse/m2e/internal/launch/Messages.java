@@ -131,6 +131,24 @@ public class Messages extends NLS {
 
   public static String MavenLaunchMainTab_lblUserSettings_text;
 
+  public static String MavenBuildTimelineView_columnDuration;
+
+  public static String MavenBuildTimelineView_columnName;
+
+  public static String MavenBuildTimelineView_columnStart;
+
+  public static String MavenBuildTimelineView_columnStatus;
+
+  public static String MavenBuildTimelineView_nodeProjects;
+
+  public static String MavenBuildTimelineView_nodeSlowestMojos;
+
+  public static String MavenBuildTimelineView_refreshJob;
+
+  public static String MavenBuildTimelineView_statusEnded;
+
+  public static String MavenBuildTimelineView_statusRunning;
+
   static {
     // initialize resource bundle
     NLS.initializeMessages(BUNDLE_NAME, Messages.class);
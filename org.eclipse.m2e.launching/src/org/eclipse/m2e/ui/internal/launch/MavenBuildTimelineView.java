@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.ui.internal.launch;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.viewers.ITableLabelProvider;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.TreeViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.ui.part.ViewPart;
+
+import org.eclipse.m2e.internal.launch.MavenBuildProjectDataConnection;
+import org.eclipse.m2e.internal.launch.MavenBuildTimeline;
+import org.eclipse.m2e.internal.launch.MavenBuildTimeline.Span;
+import org.eclipse.m2e.internal.launch.Messages;
+
+
+/**
+ * Shows the live timeline of the projects and mojo executions of the Maven builds launched from the IDE, together with
+ * the slowest mojo executions of each build.
+ */
+public class MavenBuildTimelineView extends ViewPart {
+
+  private static final int SLOWEST_MOJOS = 10;
+
+  /*package*/TreeViewer viewer;
+
+  /*package*/final Job refreshJob = new Job(Messages.MavenBuildTimelineView_refreshJob) {
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+      getSite().getShell().getDisplay().asyncExec(() -> {
+        if(!viewer.getControl().isDisposed()) {
+          viewer.setInput(MavenBuildProjectDataConnection.getTimelines());
+        }
+      });
+      return Status.OK_STATUS;
+    }
+  };
+
+  private final Runnable timelineListener = () -> refreshJob.schedule(500L);
+
+  @Override
+  public void createPartControl(Composite parent) {
+    viewer = new TreeViewer(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
+    Tree tree = viewer.getTree();
+    tree.setHeaderVisible(true);
+    tree.setLinesVisible(true);
+
+    addColumn(Messages.MavenBuildTimelineView_columnName, 400);
+    addColumn(Messages.MavenBuildTimelineView_columnStart, 100);
+    addColumn(Messages.MavenBuildTimelineView_columnDuration, 100);
+    addColumn(Messages.MavenBuildTimelineView_columnStatus, 100);
+
+    viewer.setLabelProvider(new TimelineLabelProvider());
+    viewer.setContentProvider(new ITreeContentProvider() {
+
+      @Override
+      public Object[] getElements(Object inputElement) {
+        return ((List<?>) inputElement).toArray();
+      }
+
+      @Override
+      public Object[] getChildren(Object parentElement) {
+        if(parentElement instanceof MavenBuildTimeline timeline) {
+          return new Object[] {new Group(Messages.MavenBuildTimelineView_nodeProjects, timeline.getProjects()),
+              new Group(Messages.MavenBuildTimelineView_nodeSlowestMojos, timeline.getSlowestMojos(SLOWEST_MOJOS))};
+        } else if(parentElement instanceof Group group) {
+          return group.children().toArray();
+        } else if(parentElement instanceof Span span) {
+          return span.getChildren().toArray();
+        }
+        return new Object[0];
+      }
+
+      @Override
+      public Object getParent(Object element) {
+        return null;
+      }
+
+      @Override
+      public boolean hasChildren(Object element) {
+        return getChildren(element).length > 0;
+      }
+    });
+    viewer.setInput(MavenBuildProjectDataConnection.getTimelines());
+    MavenBuildProjectDataConnection.addTimelineListener(timelineListener);
+  }
+
+  private void addColumn(String text, int width) {
+    TreeViewerColumn column = new TreeViewerColumn(viewer, SWT.NONE);
+    column.getColumn().setText(text);
+    column.getColumn().setWidth(width);
+  }
+
+  @Override
+  public void setFocus() {
+    viewer.getTree().setFocus();
+  }
+
+  @Override
+  public void dispose() {
+    MavenBuildProjectDataConnection.removeTimelineListener(timelineListener);
+    refreshJob.cancel();
+    super.dispose();
+  }
+
+  private record Group(String name, List<Span> children) {
+  }
+
+  private static class TimelineLabelProvider extends LabelProvider implements ITableLabelProvider {
+
+    @Override
+    public String getColumnText(Object element, int columnIndex) {
+      if(element instanceof MavenBuildTimeline timeline) {
+        return switch(columnIndex) {
+          case 0 -> timeline.getName();
+          case 2 -> Long.toString(timeline.getDurationMillis());
+          case 3 -> timeline.isEnded() ? Messages.MavenBuildTimelineView_statusEnded
+              : Messages.MavenBuildTimelineView_statusRunning;
+          default -> null;
+        };
+      } else if(element instanceof Group group) {
+        return columnIndex == 0 ? group.name() : null;
+      } else if(element instanceof Span span) {
+        return switch(columnIndex) {
+          case 0 -> span.getName();
+          case 1 -> Long.toString(span.getStartMillis());
+          case 2 -> Long.toString(span.getDurationMillis());
+          case 3 -> span.getStatus().toString();
+          default -> null;
+        };
+      }
+      return null;
+    }
+
+    @Override
+    public Image getColumnImage(Object element, int columnIndex) {
+      return null;
+    }
+  }
+}
@@ -13,21 +13,26 @@
 
 package org.eclipse.m2e.internal.maven.listener;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
-import java.util.StringJoiner;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
 import javax.inject.Named;
@@ -35,15 +40,23 @@ import javax.inject.Singleton;
 
 import org.apache.maven.eventspy.EventSpy;
 import org.apache.maven.execution.ExecutionEvent;
-import org.apache.maven.execution.ExecutionEvent.Type;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.project.MavenProject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * This {@link EventSpy} listens to certain events within a Maven build JVM and
- * sends certain data (e.g. about projects being built) to the JVM of the
- * Eclipse IDE that launched the Maven build JVM.
+ * sends certain data (e.g. about projects and mojos being built) to the JVM of
+ * the Eclipse IDE that launched the Maven build JVM.
+ * <p>
+ * Each event is sent as one frame, consisting of the length of the frame's
+ * payload as {@code int} followed by the payload. The payload starts with the
+ * ordinal of the {@link MavenBuildEvent.Type} as {@code byte} and the
+ * {@link System#nanoTime()} of the event as {@code long}, followed by the
+ * strings of the event, written as modified UTF-8 with {@code null} written as
+ * empty string. Frames longer than {@link #MAX_FRAME_LENGTH} are rejected.
+ * </p>
  * 
  * @author Hannes Wellmann
  *
@@ -53,10 +66,26 @@ import org.slf4j.LoggerFactory;
 public class M2EMavenBuildDataBridge implements EventSpy {
 
 	private static final String SOCKET_FILE_PROPERTY_NAME = "m2e.build.project.data.socket.port";
-	private static final String DATA_SET_SEPARATOR = ";;";
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(M2EMavenBuildDataBridge.class);
 
+	/**
+	 * The maximum length of the payload of a frame. A frame consists of at most
+	 * eight strings of at most 65535 bytes each, so longer frames are not sent by
+	 * a bridge.
+	 */
+	static final int MAX_FRAME_LENGTH = 1 << 20;
+
+	/**
+	 * Runs the readers of the connections in the Eclipse-IDE JVM, which block on
+	 * their connection until the next event arrives.
+	 */
+	private static final ExecutorService READERS = Executors.newCachedThreadPool(r -> {
+		Thread thread = new Thread(r, "M2E Maven build connection reader");
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	private SocketChannel writeChannel;
 
 	@Override
@@ -77,38 +106,61 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 
 	@Override
 	public void close() throws IOException {
-		writeChannel.close();
+		if (writeChannel != null) {
+			writeChannel.close();
+		}
 	}
 
 	@Override
 	public void onEvent(Object event) throws Exception {
-		if (writeChannel != null && event instanceof ExecutionEvent
-				&& ((ExecutionEvent) event).getType() == Type.ProjectStarted) {
-
-			String message = serializeProjectData(((ExecutionEvent) event).getProject());
-
-			ByteBuffer buffer = ByteBuffer.wrap(message.getBytes());
-			synchronized (writeChannel) {
-				while (buffer.hasRemaining()) {
-					writeChannel.write(buffer);
+		long nanoTime = System.nanoTime();
+		if (writeChannel != null && event instanceof ExecutionEvent) {
+			ExecutionEvent executionEvent = (ExecutionEvent) event;
+			MavenBuildEvent.Type type = MavenBuildEvent.Type.of(executionEvent.getType());
+			if (type != null) {
+				ByteBuffer buffer = serializeEvent(type, nanoTime, executionEvent);
+				synchronized (writeChannel) {
+					while (buffer.hasRemaining()) {
+						writeChannel.write(buffer);
+					}
 				}
 			}
 		}
 	}
 
-	private static String serializeProjectData(MavenProject project) {
-		StringJoiner data = new StringJoiner(",");
-		add(data, "groupId", project.getGroupId());
-		add(data, "artifactId", project.getArtifactId());
-		add(data, "version", project.getVersion());
-		add(data, "file", project.getFile());
-		add(data, "basedir", project.getBasedir());
-		add(data, "build.directory", project.getBuild().getDirectory());
-		return data.toString() + DATA_SET_SEPARATOR;
+	private static ByteBuffer serializeEvent(MavenBuildEvent.Type type, long nanoTime, ExecutionEvent event)
+			throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(0); // the length of the frame is set below
+		out.writeByte(type.ordinal());
+		out.writeLong(nanoTime);
+		if (type != MavenBuildEvent.Type.SESSION_ENDED) {
+			MavenProject project = event.getProject();
+			writeString(out, project.getGroupId());
+			writeString(out, project.getArtifactId());
+			writeString(out, project.getVersion());
+			if (type == MavenBuildEvent.Type.PROJECT_STARTED) {
+				writeString(out, project.getFile());
+				writeString(out, project.getBasedir());
+				writeString(out, project.getBuild().getDirectory());
+			} else if (type.isMojoEvent()) {
+				MojoExecution mojo = event.getMojoExecution();
+				writeString(out, mojo.getGroupId());
+				writeString(out, mojo.getArtifactId());
+				writeString(out, mojo.getVersion());
+				writeString(out, mojo.getGoal());
+				writeString(out, mojo.getExecutionId());
+			}
+		}
+		out.flush();
+		ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+		buffer.putInt(0, buffer.limit() - Integer.BYTES);
+		return buffer;
 	}
 
-	private static void add(StringJoiner data, String key, Object value) {
-		data.add(key + "=" + value);
+	private static void writeString(DataOutputStream out, Object value) throws IOException {
+		out.writeUTF(value != null ? value.toString() : "");
 	}
 
 	/**
@@ -116,19 +168,57 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 	 * This method is supposed to be called from M2E within the Eclipse-IDE JVM.
 	 * </p>
 	 * 
-	 * @param dataSet the data-set to parse
-	 * @return the {@link MavenProjectBuildData} parsed from the given string
+	 * @param frame the payload of a frame to parse
+	 * @return the {@link MavenBuildEvent} parsed from the given frame or
+	 *         {@code null} if its type is unknown
 	 */
-	private static MavenProjectBuildData parseMavenBuildProject(String dataSet) {
-		Map<String, String> data = new HashMap<>(8);
-		for (String entry : dataSet.split(",")) {
-			String[] keyValue = entry.split("=");
-			if (keyValue.length != 2) {
-				throw new IllegalStateException("Invalid data-set format" + dataSet);
-			}
-			data.put(keyValue[0], keyValue[1]);
+	private static MavenBuildEvent parseEvent(byte[] frame) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame));
+		int ordinal = in.readUnsignedByte();
+		if (ordinal >= MavenBuildEvent.Type.VALUES.length) {
+			return null; // sent by a newer bridge
+		}
+		MavenBuildEvent.Type type = MavenBuildEvent.Type.VALUES[ordinal];
+		long nanoTime = in.readLong();
+		if (type == MavenBuildEvent.Type.SESSION_ENDED) {
+			return new MavenBuildEvent(type, nanoTime, null, null, null, null, null, null);
+		}
+		String groupId = readString(in);
+		String artifactId = readString(in);
+		String version = readString(in);
+		MavenProjectBuildData projectData = null;
+		String mojo = null;
+		String executionId = null;
+		if (type == MavenBuildEvent.Type.PROJECT_STARTED) {
+			Path file = readPath(in);
+			Path basedir = readPath(in);
+			Path buildDirectory = readPath(in);
+			projectData = new MavenProjectBuildData(groupId, artifactId, version, basedir, file, buildDirectory);
+		} else if (type.isMojoEvent()) {
+			mojo = in.readUTF() + ":" + in.readUTF() + ":" + in.readUTF() + ":" + in.readUTF();
+			executionId = readString(in);
+		}
+		return new MavenBuildEvent(type, nanoTime, groupId, artifactId, version, projectData, mojo, executionId);
+	}
+
+	private static String readString(DataInput in) throws IOException {
+		String value = in.readUTF();
+		return value.isEmpty() ? null : value;
+	}
+
+	private static Path readPath(DataInput in) throws IOException {
+		String value = readString(in);
+		return value != null ? Paths.get(value) : null;
+	}
+
+	private static byte[] readFrame(DataInput in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > MAX_FRAME_LENGTH) {
+			throw new IOException("Invalid frame length " + length);
 		}
-		return new MavenProjectBuildData(data);
+		byte[] frame = new byte[length];
+		in.readFully(frame);
+		return frame;
 	}
 
 	public static final class MavenProjectBuildData {
@@ -139,16 +229,93 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 		public final Path projectFile;
 		public final Path projectBuildDirectory;
 
-		MavenProjectBuildData(Map<String, String> data) {
-			if (data.size() != 6) {
-				throw new IllegalArgumentException();
+		MavenProjectBuildData(String groupId, String artifactId, String version, Path projectBasedir,
+				Path projectFile, Path projectBuildDirectory) {
+			this.groupId = Objects.requireNonNull(groupId);
+			this.artifactId = Objects.requireNonNull(artifactId);
+			this.version = Objects.requireNonNull(version);
+			this.projectBasedir = projectBasedir;
+			this.projectFile = projectFile;
+			this.projectBuildDirectory = projectBuildDirectory;
+		}
+	}
+
+	/**
+	 * An event of a Maven build, sent from the Maven build JVM.
+	 */
+	public static final class MavenBuildEvent {
+
+		/**
+		 * The types of events. New types must be added at the end, since the ordinal
+		 * is sent.
+		 */
+		public enum Type {
+			PROJECT_STARTED, PROJECT_SUCCEEDED, PROJECT_FAILED, PROJECT_SKIPPED, MOJO_STARTED, MOJO_SUCCEEDED,
+			MOJO_FAILED, SESSION_ENDED;
+
+			static final Type[] VALUES = values();
+
+			public boolean isMojoEvent() {
+				return this == MOJO_STARTED || this == MOJO_SUCCEEDED || this == MOJO_FAILED;
+			}
+
+			public boolean isProjectFinished() {
+				return this == PROJECT_SUCCEEDED || this == PROJECT_FAILED || this == PROJECT_SKIPPED;
+			}
+
+			static Type of(ExecutionEvent.Type type) {
+				switch (type) {
+				case ProjectStarted:
+					return PROJECT_STARTED;
+				case ProjectSucceeded:
+					return PROJECT_SUCCEEDED;
+				case ProjectFailed:
+					return PROJECT_FAILED;
+				case ProjectSkipped:
+					return PROJECT_SKIPPED;
+				case MojoStarted:
+					return MOJO_STARTED;
+				case MojoSucceeded:
+					return MOJO_SUCCEEDED;
+				case MojoFailed:
+					return MOJO_FAILED;
+				case SessionEnded:
+					return SESSION_ENDED;
+				default:
+					return null;
+				}
 			}
-			this.groupId = Objects.requireNonNull(data.get("groupId"));
-			this.artifactId = Objects.requireNonNull(data.get("artifactId"));
-			this.version = Objects.requireNonNull(data.get("version"));
-			this.projectBasedir = Paths.get(data.get("basedir"));
-			this.projectFile = Paths.get(data.get("file"));
-			this.projectBuildDirectory = Paths.get(data.get("build.directory"));
+		}
+
+		public final Type type;
+		/**
+		 * The {@link System#nanoTime()} of the event in the Maven build JVM, only
+		 * comparable with the times of other events of the same build.
+		 */
+		public final long nanoTime;
+		/** The coordinates of the project, {@code null} for the end of the session */
+		public final String groupId;
+		public final String artifactId;
+		public final String version;
+		/** The data of a started project, {@code null} for all other events */
+		public final MavenProjectBuildData projectData;
+		/**
+		 * The {@code groupId:artifactId:version:goal} of the mojo of mojo events,
+		 * {@code null} for all other events
+		 */
+		public final String mojo;
+		public final String executionId;
+
+		MavenBuildEvent(Type type, long nanoTime, String groupId, String artifactId, String version,
+				MavenProjectBuildData projectData, String mojo, String executionId) {
+			this.type = type;
+			this.nanoTime = nanoTime;
+			this.groupId = groupId;
+			this.artifactId = artifactId;
+			this.version = version;
+			this.projectData = projectData;
+			this.mojo = mojo;
+			this.executionId = executionId;
 		}
 	}
 
@@ -156,14 +323,14 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 	 * Prepares the connection to a {@code Maven build JVM} to be launched and is
 	 * intended to be called from the Eclipse IDE JVM.
 	 * 
-	 * @param label           the label of the listener thread
-	 * @param datasetListener the listener, which is notified whenever a new
-	 *                        {@link MavenProjectBuildData MavenProjectBuildDataSet}
-	 *                        has arived from the Maven VM in the Eclipse-IDE VM.
+	 * @param label         the label of the listener thread
+	 * @param eventListener the listener, which is notified whenever a new
+	 *                      {@link MavenBuildEvent} has arrived from the Maven VM
+	 *                      in the Eclipse-IDE VM.
 	 * @return the preapre {@link MavenBuildConnection}
 	 * @throws IOException
 	 */
-	public static MavenBuildConnection prepareConnection(String label, Consumer<MavenProjectBuildData> datasetListener)
+	public static MavenBuildConnection prepareConnection(String label, Consumer<MavenBuildEvent> eventListener)
 			throws IOException {
 
 //	    TODO: use UNIX domain socket once Java-17 is required by Maven
@@ -178,40 +345,38 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 
 		MavenBuildConnection connection = new MavenBuildConnection(server);
 
-		Thread reader = new Thread(() -> {
-			try (ServerSocketChannel s = server; SocketChannel readChannel = server.accept()) {
-				ByteBuffer buffer = ByteBuffer.allocate(512);
-				StringBuilder message = new StringBuilder();
-				while (readChannel.read(buffer) >= 0) {
-					message.append(new String(buffer.array(), 0, buffer.position()));
-					for (int terminatorIndex; (terminatorIndex = message.indexOf(DATA_SET_SEPARATOR)) >= 0;) {
-						String dataSet = message.substring(0, terminatorIndex);
-						message.delete(0, terminatorIndex + DATA_SET_SEPARATOR.length());
-
-						MavenProjectBuildData buildData = parseMavenBuildProject(dataSet);
-						datasetListener.accept(buildData);
+		READERS.execute(() -> {
+			Thread thread = Thread.currentThread();
+			String name = thread.getName();
+			thread.setName("M2E Maven build <" + label + "> connection reader");
+			try (ServerSocketChannel s = server;
+					SocketChannel readChannel = server.accept();
+					DataInputStream in = new DataInputStream(
+							new BufferedInputStream(Channels.newInputStream(readChannel)))) {
+				while (true) {
+					MavenBuildEvent event = parseEvent(readFrame(in));
+					if (event != null) {
+						eventListener.accept(event);
 					}
-					// Explicit cast for compatibility with covariant return type on JDK 9's
-					// ByteBuffer
-					((Buffer) buffer).clear();
 				}
-			} catch (IOException ex) { // ignore, happens if Maven process is forcibly terminated
+			} catch (IOException ex) { // end of the build, or the Maven process was forcibly terminated
+			} catch (RuntimeException ex) {
+				LOGGER.error("Failed to read Maven build event", ex);
 			} finally {
-				connection.readCompleted.set(true);
+				thread.setName(name);
+				connection.readCompleted.complete(null);
 			}
 //	      try {
 //	        Files.deleteIfExists(socketFile);
 //	      } catch(IOException ex) { // ignore
 //	      }
-		}, "M2E Maven build <" + label + "> connection reader");
-		reader.setDaemon(true);
-		reader.start();
+		});
 		return connection;
 	}
 
 	public static final class MavenBuildConnection {
 		private final ServerSocketChannel server;
-		private final AtomicBoolean readCompleted = new AtomicBoolean(false);
+		private final CompletableFuture<Void> readCompleted = new CompletableFuture<>();
 
 		MavenBuildConnection(ServerSocketChannel server) {
 			this.server = server;
@@ -223,7 +388,15 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 		}
 
 		public boolean isReadCompleted() {
-			return readCompleted.get();
+			return readCompleted.isDone();
+		}
+
+		/**
+		 * Runs the given action once all events have been read from the Maven
+		 * build, or immediately if that has already happened.
+		 */
+		public void whenReadCompleted(Runnable action) {
+			readCompleted.thenRun(action);
 		}
 
 		public void close() throws IOException {
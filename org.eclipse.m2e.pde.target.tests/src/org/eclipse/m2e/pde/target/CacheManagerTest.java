@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.m2e.pde.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheManagerTest {
+
+	private static final int MB = 1024 * 1024;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path baseDir;
+
+	@Before
+	public void setUp() throws IOException {
+		baseDir = folder.getRoot().toPath();
+		Path target = Files.createDirectories(baseDir.resolve("target"));
+		Files.writeString(target.resolve(".lastaccess"), "");
+	}
+
+	@After
+	public void tearDown() {
+		System.clearProperty(CacheManager.MAX_SIZE_PROPERTY);
+		System.clearProperty(CacheManager.RETENTION_PROPERTY);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedArtifactsAreEvictedToFitBudget() throws IOException {
+		Path a = artifact("a", 3);
+		Path b = artifact("b", 2);
+		Path c = artifact("c", 1);
+		System.setProperty(CacheManager.MAX_SIZE_PROPERTY, "2");
+		long evictions = CacheManager.getStatistics().evictions();
+
+		CacheManager.evict(baseDir);
+
+		assertFalse(Files.exists(a));
+		assertTrue(Files.exists(b));
+		assertTrue(Files.exists(c));
+		assertEquals(evictions + 1, CacheManager.getStatistics().evictions());
+	}
+
+	@Test
+	public void testAccessedArtifactsAreEvictedAfterRetention() throws IOException {
+		Path a = artifact("a", 3);
+		Path b = artifact("b", 2);
+		Path c = artifact("c", 1);
+		CacheManager.markAccess(a);
+		Files.setLastModifiedTime(a.resolve(".lastaccess"), hoursAgo(3));
+		System.setProperty(CacheManager.MAX_SIZE_PROPERTY, "2");
+
+		CacheManager.evict(baseDir);
+
+		assertTrue(Files.exists(a));
+		assertFalse(Files.exists(b));
+		assertTrue(Files.exists(c));
+
+		System.setProperty(CacheManager.MAX_SIZE_PROPERTY, "1");
+		System.setProperty(CacheManager.RETENTION_PROPERTY, "0");
+
+		CacheManager.evict(baseDir);
+
+		assertFalse(Files.exists(a));
+		assertTrue(Files.exists(c));
+	}
+
+	private Path artifact(String artifactId, int hoursAgo) throws IOException {
+		Path gavFolder = Files.createDirectories(baseDir.resolve("target").resolve("group").resolve(artifactId)
+				.resolve("1.0.0"));
+		Files.write(gavFolder.resolve(artifactId + "-1.0.0.jar"), new byte[MB]);
+		Path marker = Files.writeString(gavFolder.resolve(".lastaccess"), "");
+		Files.setLastModifiedTime(marker, hoursAgo(hoursAgo));
+		return gavFolder;
+	}
+
+	private static FileTime hoursAgo(int hours) {
+		return FileTime.from(Instant.now().minus(Duration.ofHours(hours)));
+	}
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.m2e.pde.target.shared;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.m2e.pde.target.BNDInstructions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MavenBundleWrapperTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testCycleIsWrappedAsLeaf() throws Exception {
+		DefaultDependencyNode a = node("a");
+		DefaultDependencyNode b = node("b");
+		// Aether represents a cycle by a node that shares the children of its ancestor
+		DefaultDependencyNode cycle = node("a");
+		a.setChildren(List.of(b));
+		b.setChildren(List.of(cycle));
+		cycle.setChildren(a.getChildren());
+
+		Map<DependencyNode, List<DependencyNode>> graph = MavenBundleWrapper.getWrappingGraph(a);
+
+		assertEquals(List.of(b), graph.get(a));
+		DependencyNode leaf = graph.get(b).get(0);
+		assertNotSame(cycle, leaf);
+		assertEquals(cycle.getArtifact(), leaf.getArtifact());
+		assertEquals(List.of(), graph.get(leaf));
+	}
+
+	@Test(timeout = 60_000)
+	public void testWrapCycleInCallingThread() throws Exception {
+		assertCycleIsWrapped(Runnable::run);
+	}
+
+	@Test(timeout = 60_000)
+	public void testWrapCycleConcurrently() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			assertCycleIsWrapped(executor);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void assertCycleIsWrapped(Executor executor) throws Exception {
+		DefaultDependencyNode a = node("a");
+		DefaultDependencyNode b = node("b");
+		DefaultDependencyNode cycle = node("a");
+		a.setChildren(List.of(b));
+		b.setChildren(List.of(cycle));
+		cycle.setChildren(a.getChildren());
+
+		WrappedBundle wrapped = MavenBundleWrapper.wrapGraph(a, MavenBundleWrapper.getWrappingGraph(a),
+				node -> BNDInstructions.getDefaultInstructionProperties(), executor);
+
+		assertTrue(wrapped.getFile().isPresent());
+	}
+
+	private DefaultDependencyNode node(String artifactId) throws IOException {
+		File file = new File(folder.getRoot(), artifactId + ".jar");
+		if (!file.isFile()) {
+			Manifest manifest = new Manifest();
+			manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+			try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(file), manifest)) {
+				jar.putNextEntry(new JarEntry(artifactId + "/readme.txt"));
+				jar.write(artifactId.getBytes(StandardCharsets.UTF_8));
+				jar.closeEntry();
+			}
+		}
+		Artifact artifact = new DefaultArtifact("test", artifactId, "jar", "1.0.0").setFile(file);
+		return new DefaultDependencyNode(new Dependency(artifact, "compile"));
+	}
+}
@@ -21,19 +21,27 @@ import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.nio.file.attribute.FileTime;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.file.DeletingPathVisitor;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.pde.core.target.ITargetHandle;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.FrameworkUtil;
@@ -50,14 +58,57 @@ import org.osgi.framework.FrameworkUtil;
  * reference the same maven artifact but with different properties</li>
  * <li>allows to remove target content that has not been used for a long
  * time</li>
+ * <li>keeps the size of all storage areas below a budget by evicting the least
+ * recently used artifacts</li>
  * </ul>
+ * The budget (in MB) and the maximum age (in days) of unused content can be
+ * configured with the <code>m2e.pde.target.cache.maxSize</code> and
+ * <code>m2e.pde.target.cache.maxAge</code> system properties, how long (in
+ * hours) artifacts used by this session are kept regardless of the budget with
+ * <code>m2e.pde.target.cache.retention</code>.
  */
 class CacheManager {
 
+	private static final ILog LOGGER = Platform.getLog(CacheManager.class);
+
 	private static final String LASTACCESS_MARKER = ".lastaccess";
 
+	static final String MAX_SIZE_PROPERTY = "m2e.pde.target.cache.maxSize";
+
+	static final String MAX_AGE_PROPERTY = "m2e.pde.target.cache.maxAge";
+
+	static final String RETENTION_PROPERTY = "m2e.pde.target.cache.retention";
+
+	/**
+	 * the last access marker of an artifact is only written again once it is older
+	 * than this
+	 */
+	private static final Duration ACCESS_MARKER_INTERVAL = Duration.ofHours(1);
+
+	private static final long EVICTION_DELAY = 30_000;
+
+	private static final ReentrantLock[] LOCKS = Stream.generate(ReentrantLock::new).limit(64)
+			.toArray(ReentrantLock[]::new);
+
+	/**
+	 * artifact folders accessed since startup with the time of their last access,
+	 * these might be referenced by a loaded target and are not evicted until they
+	 * were unused for longer than the retention
+	 */
+	private static final Map<Path, Instant> ACCESSED = new ConcurrentHashMap<>();
+
+	private static final AtomicLong HITS = new AtomicLong();
+
+	private static final AtomicLong MISSES = new AtomicLong();
+
+	private static final AtomicLong EVICTIONS = new AtomicLong();
+
+	private static final AtomicLong EVICTED_BYTES = new AtomicLong();
+
 	private static Path baseDir;
 
+	private static Job evictionJob;
+
 	private static final Map<String, CacheManager> MANAGERS = new HashMap<>();
 
 	private final Path folder;
@@ -77,7 +128,7 @@ class CacheManager {
 	/**
 	 * Allows synchronized and locked access to the given artifact, the consumer is
 	 * called with the file that represents the artifact at this cache location
-	 * (what might not exits).
+	 * (what might not exits). Different artifacts can be accessed concurrently.
 	 *
 	 * @param <R>      the return value type
 	 * @param artifact the artifact identifier to be used
@@ -90,13 +141,61 @@ class CacheManager {
 	 *                   system-resources locks or any exception thrown by the
 	 *                   consumer itself
 	 */
-	public synchronized <R> R accessArtifactFile(Artifact artifact, CacheConsumer<R> consumer) throws Exception {
+	public <R> R accessArtifactFile(Artifact artifact, CacheConsumer<R> consumer) throws Exception {
 		Path gav = Path.of(artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion());
-		Path gavFolder = Files.createDirectories(folder.resolve(gav));
-		Path file = gavFolder.resolve(artifact.getFile().getName());
-		Path lockFile = gavFolder.resolve(artifact.getFile().getName() + ".lock");
-		try (FileChannel channel = FileChannel.open(lockFile, LOCK_FILE_OPEN_OPTIONS); FileLock lock = channel.lock()) {
-			return consumer.consume(file.toFile());
+		Path gavFolder = folder.resolve(gav);
+		ReentrantLock gavLock = getLock(gavFolder);
+		gavLock.lock();
+		try {
+			(isCached(gavFolder, artifact.getFile()) ? HITS : MISSES).incrementAndGet();
+			Files.createDirectories(gavFolder);
+			Path file = gavFolder.resolve(artifact.getFile().getName());
+			Path lockFile = gavFolder.resolve(artifact.getFile().getName() + ".lock");
+			try (FileChannel channel = FileChannel.open(lockFile, LOCK_FILE_OPEN_OPTIONS);
+					FileLock lock = channel.lock()) {
+				return consumer.consume(file.toFile());
+			} finally {
+				markAccess(gavFolder);
+			}
+		} finally {
+			gavLock.unlock();
+			scheduleEviction();
+		}
+	}
+
+	private static ReentrantLock getLock(Path gavFolder) {
+		return LOCKS[Math.floorMod(gavFolder.hashCode(), LOCKS.length)];
+	}
+
+	/**
+	 * @return <code>true</code> if the artifact folder contains content that is
+	 *         up-to-date with the given source file
+	 */
+	private static boolean isCached(Path gavFolder, File sourceFile) throws IOException {
+		if (!Files.isDirectory(gavFolder)) {
+			return false;
+		}
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(gavFolder, Files::isRegularFile)) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				if (!name.equals(LASTACCESS_MARKER) && !name.endsWith(".lock")
+						&& !isOutdated(file.toFile(), sourceFile)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	static void markAccess(Path gavFolder) {
+		Instant now = Instant.now();
+		Instant previous = ACCESSED.put(gavFolder, now);
+		if (previous == null || previous.plus(ACCESS_MARKER_INTERVAL).isBefore(now)) {
+			try {
+				Files.writeString(gavFolder.resolve(LASTACCESS_MARKER), ""); // touch last access
+			} catch (IOException e) {
+				// can't mark last access then...
+			}
 		}
 	}
 
@@ -117,27 +216,151 @@ class CacheManager {
 	}
 
 	/**
-	 * Clears all inactive cache locations that are older than the given time
+	 * @return the counters of the cache since startup
+	 */
+	static Statistics getStatistics() {
+		return new Statistics(HITS.get(), MISSES.get(), EVICTIONS.get(), EVICTED_BYTES.get());
+	}
+
+	/**
+	 * Counters of the cache
 	 *
-	 * @param timeout the duration since the last use after which a CacheManager is
-	 *                deleted
+	 * @param hits         accesses to artifacts that were already cached
+	 * @param misses       accesses to artifacts that were not cached yet
+	 * @param evictions    number of evicted artifacts and cache locations
+	 * @param evictedBytes size of the evicted content
 	 */
-	private static synchronized void clearFilesOlderThan(Path cacheBaseDir, Duration timeout) {
-		FileTime deleteBefore = FileTime.from(Instant.now().minus(timeout));
-		try (DirectoryStream<Path> folders = Files.newDirectoryStream(cacheBaseDir)) {
+	record Statistics(long hits, long misses, long evictions, long evictedBytes) {
+	}
+
+	private static long getMaxSize() {
+		return Long.getLong(MAX_SIZE_PROPERTY, 4096) * 1024 * 1024;
+	}
+
+	private static Duration getMaxAge() {
+		return Duration.ofDays(Long.getLong(MAX_AGE_PROPERTY, 14));
+	}
+
+	private static Duration getRetention() {
+		return Duration.ofHours(Long.getLong(RETENTION_PROPERTY, 24));
+	}
+
+	private static synchronized void scheduleEviction() {
+		if (evictionJob != null) {
+			evictionJob.schedule(EVICTION_DELAY);
+		}
+	}
+
+	/**
+	 * Deletes inactive cache locations and artifacts that were not used for longer
+	 * than the maximum age and then the least recently used artifacts until the
+	 * cache is within its size budget. Artifacts used since startup are only
+	 * deleted once they were not used for longer than the retention.
+	 */
+	static void evict(Path cacheBaseDir) {
+		long evictionsBefore = EVICTIONS.get();
+		long maxSize = getMaxSize();
+		Instant now = Instant.now();
+		Instant deleteBefore = now.minus(getMaxAge());
+		Instant retainAfter = now.minus(getRetention());
+		ACCESSED.values().removeIf(lastAccess -> !lastAccess.isAfter(retainAfter));
+		List<CachedArtifact> candidates = new ArrayList<>();
+		long size = 0;
+		try (DirectoryStream<Path> folders = Files.newDirectoryStream(cacheBaseDir, Files::isDirectory)) {
 			for (Path folder : folders) {
+				boolean inUse;
+				synchronized (CacheManager.class) {
+					inUse = MANAGERS.containsKey(folder.getFileName().toString());
+				}
 				// Delete cache-folders last used before the specified timeout
 				// and not used in any manager
-				if (!MANAGERS.containsKey(folder.getFileName().toString())) {
-					Path marker = folder.resolve(LASTACCESS_MARKER);
-					if (Files.isRegularFile(marker) && Files.getLastModifiedTime(marker).compareTo(deleteBefore) < 0) {
-						Files.walkFileTree(folder, DeletingPathVisitor.withLongCounters());
+				if (!inUse && getLastAccess(folder).isBefore(deleteBefore)) {
+					delete(folder);
+					continue;
+				}
+				for (Path gavFolder : getArtifactFolders(folder)) {
+					CachedArtifact artifact = new CachedArtifact(gavFolder, getLastAccess(gavFolder),
+							sizeOf(gavFolder));
+					if (ACCESSED.containsKey(gavFolder)) {
+						size += artifact.size();
+					} else if (artifact.lastAccess().isBefore(deleteBefore)) {
+						evict(artifact);
+					} else {
+						size += artifact.size();
+						candidates.add(artifact);
 					}
 				}
 			}
+			candidates.sort(Comparator.comparing(CachedArtifact::lastAccess));
+			for (CachedArtifact artifact : candidates) {
+				if (size <= maxSize) {
+					break;
+				}
+				if (evict(artifact)) {
+					size -= artifact.size();
+				}
+			}
 		} catch (IOException e) { // ignore exceptions
-			Platform.getLog(CacheManager.class).log(Status.error("Failed to clear Maven bundle cache", e));
+			LOGGER.log(Status.error("Failed to clear Maven bundle cache", e));
+		}
+		// logged on every sweep, so that hits and misses are visible even if nothing is evicted
+		long evictions = EVICTIONS.get() - evictionsBefore;
+		LOGGER.info("Swept the Maven bundle cache, evicted " + evictions + " entries, " + (size >> 20)
+				+ " MB remain (budget " + (maxSize >> 20) + " MB, " + getStatistics() + ")");
+	}
+
+	private static boolean evict(CachedArtifact artifact) throws IOException {
+		ReentrantLock gavLock = getLock(artifact.folder());
+		gavLock.lock();
+		try {
+			if (ACCESSED.containsKey(artifact.folder())) {
+				// accessed meanwhile
+				return false;
+			}
+			delete(artifact.folder());
+		} finally {
+			gavLock.unlock();
 		}
+		return true;
+	}
+
+	private static void delete(Path folder) throws IOException {
+		DeletingPathVisitor visitor = DeletingPathVisitor.withLongCounters();
+		Files.walkFileTree(folder, visitor);
+		EVICTIONS.incrementAndGet();
+		EVICTED_BYTES.addAndGet(visitor.getPathCounters().getByteCounter().get());
+	}
+
+	/**
+	 * @return the groupId/artifactId/version folders of the given cache location
+	 */
+	private static List<Path> getArtifactFolders(Path folder) throws IOException {
+		List<Path> folders = new ArrayList<>(List.of(folder));
+		for (int depth = 0; depth < 3; depth++) {
+			List<Path> children = new ArrayList<>();
+			for (Path parent : folders) {
+				try (DirectoryStream<Path> stream = Files.newDirectoryStream(parent, Files::isDirectory)) {
+					stream.forEach(children::add);
+				}
+			}
+			folders = children;
+		}
+		return folders;
+	}
+
+	private static Instant getLastAccess(Path folder) throws IOException {
+		Path marker = folder.resolve(LASTACCESS_MARKER);
+		Path file = Files.isRegularFile(marker) ? marker : folder;
+		return Files.getLastModifiedTime(file).toInstant();
+	}
+
+	private static long sizeOf(Path folder) throws IOException {
+		try (Stream<Path> files = Files.walk(folder)) {
+			return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+		}
+	}
+
+	private record CachedArtifact(Path folder, Instant lastAccess, long size) {
 	}
 
 	private static synchronized Path getCacheBaseDir() {
@@ -147,13 +370,16 @@ class CacheManager {
 				throw new IllegalStateException(CacheManager.class.getSimpleName() + " not loaded from a bundle");
 			}
 			baseDir = bundle.getDataFile("").toPath();
-			// clear all locations older than 14 days, this can be improved by
+			// evict content unused for too long or exceeding the budget, this can be
+			// improved by
 			// 1) watch for changes in the workspace -> if target is deleted/removed from
 			// workspace we can clear the cache
 			// 2) we can add a preference page where the user can force clearing the cache
-			// or set the cache days
-			Runnable cleaner = () -> clearFilesOlderThan(baseDir, Duration.ofDays(14));
-			new Thread(cleaner, "Wrapped bundles cache cleaner").start();
+			// or set the budget
+			Path cacheBaseDir = baseDir;
+			evictionJob = Job.create("Wrapped bundles cache cleaner", monitor -> evict(cacheBaseDir));
+			evictionJob.setSystem(true);
+			evictionJob.schedule();
 		}
 		return baseDir;
 	}
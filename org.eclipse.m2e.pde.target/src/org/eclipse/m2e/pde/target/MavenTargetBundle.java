@@ -139,7 +139,8 @@ public class MavenTargetBundle extends TargetBundle {
 			RepositorySystemSession repositorySession = context.getRepositorySession();
 			try {
 				WrappedBundle wrap = MavenBundleWrapper.getWrappedArtifact(artifact, instructionsLookup, repositories,
-						repoSystem, repositorySession, context.getComponentLookup().lookup(SyncContextFactory.class));
+						repoSystem, repositorySession, context.getComponentLookup().lookup(SyncContextFactory.class),
+						MavenTargetLocation.WRAPPING_POOL);
 				List<ProcessingMessage> directErrors = wrap.messages(false)
 						.filter(msg -> msg.type() == ProcessingMessage.Type.ERROR).toList();
 				if (directErrors.isEmpty()) {
@@ -30,6 +30,9 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Predicate;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
@@ -49,6 +52,9 @@ import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResolutionException;
 import org.eclipse.aether.resolution.VersionRangeResult;
@@ -122,6 +128,20 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 	public static final String DEPENDENCYNODE_ROOT = "dependencynode.root";
 	public static final DependencyDepth DEFAULT_INCLUDE_MODE = DependencyDepth.NONE;
 
+	/**
+	 * Number of bundles that are created concurrently, wrapping uses the same
+	 * number of threads
+	 */
+	private static final int THREADS = Integer.getInteger("m2e.pde.target.threads",
+			Runtime.getRuntime().availableProcessors());
+	private static final ForkJoinPool BUNDLE_POOL = createPool("M2E Target Bundle Resolver");
+	/**
+	 * Pool of the tasks that wrap the artifacts of a dependency graph, separate
+	 * from the {@link #BUNDLE_POOL} as those tasks block while waiting for locks
+	 * and the wrapped graph.
+	 */
+	static final ForkJoinPool WRAPPING_POOL = createPool("M2E Target Bundle Wrapper");
+
 	private final Collection<String> dependencyScopes;
 	private final MissingMetadataMode metadataMode;
 	private TargetBundles targetBundles;
@@ -157,6 +177,14 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 		}
 	}
 
+	private static ForkJoinPool createPool(String name) {
+		return new ForkJoinPool(THREADS, pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName(name + " " + thread.getPoolIndex());
+			return thread;
+		}, null, false);
+	}
+
 	@Override
 	protected TargetBundle[] resolveBundles(ITargetDefinition definition, IProgressMonitor monitor)
 			throws CoreException {
@@ -171,10 +199,12 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 			TargetBundles bundles = new TargetBundles();
 			IMaven maven = MavenPlugin.getMaven();
 			List<ArtifactRepository> repositories = getAvailableArtifactRepositories(maven);
-			SubMonitor subMonitor = SubMonitor.convert(monitor, roots.size() * 100);
+			SubMonitor subMonitor = SubMonitor.convert(monitor, roots.size() * 100 + 100);
+			List<Artifact> artifacts = new ArrayList<>();
 			for (MavenTargetDependency root : roots) {
-				resolveDependency(root, maven, repositories, bundles, cacheManager, subMonitor.split(100));
+				resolveDependency(root, maven, repositories, bundles, artifacts, subMonitor.split(100));
 			}
+			addBundlesForArtifacts(artifacts, cacheManager, maven, bundles, subMonitor.split(100));
 			if (featureTemplate != null) {
 				generateFeature(bundles, false);
 				if (includeSource) {
@@ -231,8 +261,12 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 		return extraRepositories;
 	}
 
+	/**
+	 * Resolves the given root and adds it and its dependencies to the given list
+	 * of artifacts that are to be added to the target.
+	 */
 	private Artifact resolveDependency(MavenTargetDependency root, IMaven maven, List<ArtifactRepository> repositories,
-			TargetBundles targetBundles, CacheManager cacheManager, IProgressMonitor monitor) throws CoreException {
+			TargetBundles targetBundles, List<Artifact> artifacts, IProgressMonitor monitor) throws CoreException {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, 100); 
 		IMavenProjectRegistry registry = MavenPlugin.getMavenProjectRegistry();
 		IMavenProjectFacade workspaceProject = registry.getMavenProject(root.getGroupId(), root.getArtifactId(),
@@ -250,7 +284,6 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 					artifact.getVersion(), artifact.getClassifier(), artifact.getExtension());
 			DependencyDepth depth = MavenDependencyCollector.getEffectiveDepth(dependency,
 					dependencyDepth);
-			SubMonitor split = subMonitor.split(20);
 			if (depth == DependencyDepth.DIRECT || depth == DependencyDepth.INFINITE) {
 				// We should resolve the main artifact from the collector, but because this
 				// is currently separate we already have the additional repos added. see
@@ -261,22 +294,20 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 						repositories, this, extra);
 				DependencyResult dependecies;
 				if (workspaceProject == null) {
-					dependecies = maven.createExecutionContext().execute(callable, subMonitor);
+					dependecies = maven.createExecutionContext().execute(callable, subMonitor.split(20));
 				} else {
-					dependecies = registry.execute(workspaceProject, callable, subMonitor);
+					dependecies = registry.execute(workspaceProject, callable, subMonitor.split(20));
 				}
-				List<RepositoryArtifact> artifacts = dependecies.artifacts();
-				split.setWorkRemaining(artifacts.size());
-				for (RepositoryArtifact a : artifacts) {
+				for (RepositoryArtifact a : dependecies.artifacts()) {
 					if (a.artifact().getFile() == null) {
 						// this is a filtered dependency
 						continue;
 					}
-					addBundleForArtifact(a.artifact(), cacheManager, maven, targetBundles, split.split(1));
+					artifacts.add(a.artifact());
 				}
 				targetBundles.dependencyNodes.put(root, dependecies.nodes());
 			} else {
-				addBundleForArtifact(artifact, cacheManager, maven, targetBundles, split);
+				artifacts.add(artifact);
 			}
 		}
 
@@ -364,51 +395,115 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 		}
 	}
 
-	private void addBundleForArtifact(Artifact artifact, CacheManager cacheManager, IMaven maven,
-			TargetBundles targetBundles, IProgressMonitor monitor) {
-		File featureFile = getFeatureFile(artifact, cacheManager);
-
-		if (isPomType(artifact)) {
-			targetBundles.features
-					.add(new MavenTargetFeature(new MavenPomFeatureModel(artifact, targetBundles, false)));
-			if (includeSource) {
+	/**
+	 * Adds the given artifacts to the target. Bundles are created (and wrapped if
+	 * needed) concurrently, the sources of all bundles are resolved with a single
+	 * request. The results are added in the order of the given artifacts.
+	 */
+	private void addBundlesForArtifacts(List<Artifact> artifacts, CacheManager cacheManager, IMaven maven,
+			TargetBundles targetBundles, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, artifacts.size() * 2 + 1);
+		List<Artifact> bundleArtifacts = new ArrayList<>();
+		List<ForkJoinTask<MavenTargetBundle>> bundleTasks = new ArrayList<>();
+		for (Artifact artifact : artifacts) {
+			if (isPomType(artifact)) {
 				targetBundles.features
-						.add(new MavenTargetFeature(new MavenPomFeatureModel(artifact, targetBundles, true)));
+						.add(new MavenTargetFeature(new MavenPomFeatureModel(artifact, targetBundles, false)));
+				if (includeSource) {
+					targetBundles.features
+							.add(new MavenTargetFeature(new MavenPomFeatureModel(artifact, targetBundles, true)));
+				}
+				continue;
+			}
+			File featureFile = getFeatureFile(artifact, cacheManager);
+			if (featureFile != null) {
+				try {
+					targetBundles.features.add(new TargetFeature(featureFile));
+				} catch (CoreException e) {
+					failedArtifacts.add(artifact);
+					LOGGER.error(e.getLocalizedMessage(), e);
+				}
+				continue;
 			}
+			bundleArtifacts.add(artifact);
+			bundleTasks.add(BUNDLE_POOL.submit(() -> new MavenTargetBundle(artifact, this, new NullProgressMonitor())));
+			subMonitor.worked(1);
+		}
+		List<Artifact> sourceArtifacts = new ArrayList<>();
+		List<MavenTargetBundle> sourceTargets = new ArrayList<>();
+		try {
+			for (int i = 0; i < bundleTasks.size(); i++) {
+				Artifact artifact = bundleArtifacts.get(i);
+				MavenTargetBundle bundle = bundleTasks.get(i).join();
+				subMonitor.split(1);
+				IStatus status = bundle.getStatus();
+				if (status.isOK()) {
+					targetBundles.addBundle(artifact, bundle);
+					if (includeSource) {
+						sourceArtifacts.add(artifact);
+						sourceTargets.add(bundle);
+					}
+				} else if (status.matches(IStatus.CANCEL)) {
+					targetBundles.ignoredArtifacts.add(artifact);
+				} else {
+					failedArtifacts.add(artifact);
+					// failed ones must be added to the target as well to fail resolution of the TP
+					targetBundles.addBundle(artifact, bundle);
+				}
+			}
+		} finally {
+			// only has an effect if canceled
+			bundleTasks.forEach(task -> task.cancel(false));
+		}
+		if (sourceArtifacts.isEmpty()) {
 			return;
-		} else if (featureFile != null) {
+		}
+		List<Artifact> resolvedSources = resolveSourceArtifacts(sourceArtifacts, maven, subMonitor.split(1));
+		for (int i = 0; i < resolvedSources.size(); i++) {
+			Artifact sourceArtifact = resolvedSources.get(i);
+			if (sourceArtifact == null) {
+				// Source not available
+				continue;
+			}
 			try {
-				targetBundles.features.add(new TargetFeature(featureFile));
-			} catch (CoreException e) {
-				failedArtifacts.add(artifact);
-				LOGGER.error(e.getLocalizedMessage(), e);
+				MavenSourceBundle sourceBundle = new MavenSourceBundle(sourceTargets.get(i).getBundleInfo(),
+						sourceArtifact, cacheManager);
+				targetBundles.addBundle(sourceArtifact, sourceBundle);
+				targetBundles.addSourceBundle(sourceArtifacts.get(i), sourceBundle);
+			} catch (Exception e) {
+				// Source not usable
 			}
-			return;
 		}
-		MavenTargetBundle bundle = new MavenTargetBundle(artifact, this, monitor);
-		IStatus status = bundle.getStatus();
-		if (status.isOK()) {
-			targetBundles.addBundle(artifact, bundle);
-			if (includeSource) {
+	}
+
+	/**
+	 * Resolves the sources of the given artifacts with one request, so they are
+	 * downloaded concurrently.
+	 *
+	 * @return the resolved source artifacts in the order of the given artifacts,
+	 *         <code>null</code> for artifacts without sources
+	 */
+	private List<Artifact> resolveSourceArtifacts(List<Artifact> artifacts, IMaven maven, IProgressMonitor monitor) {
+		try {
+			List<RemoteRepository> repositories = RepositoryUtils.toRepos(getAvailableArtifactRepositories(maven));
+			List<ArtifactRequest> requests = artifacts.stream()
+					.map(artifact -> new ArtifactRequest(new DefaultArtifact(artifact.getGroupId(),
+							artifact.getArtifactId(), "sources", artifact.getExtension(), artifact.getBaseVersion()),
+							repositories, null))
+					.toList();
+			RepositorySystem repoSystem = MavenPluginActivator.getDefault().getRepositorySystem();
+			List<ArtifactResult> results = maven.createExecutionContext().execute((context, m) -> {
 				try {
-					List<ArtifactRepository> repositories = getAvailableArtifactRepositories(maven);
-					Artifact sourceArtifact = RepositoryUtils.toArtifact(
-							maven.resolve(artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion(),
-									artifact.getExtension(), "sources", repositories, new NullProgressMonitor()));
-					MavenSourceBundle sourceBundle = new MavenSourceBundle(bundle.getBundleInfo(), sourceArtifact,
-							cacheManager);
-					targetBundles.addBundle(sourceArtifact, sourceBundle);
-					targetBundles.addSourceBundle(artifact, sourceBundle);
-				} catch (Exception e) {
-					// Source not available / usable
+					return repoSystem.resolveArtifacts(context.getRepositorySession(), requests);
+				} catch (ArtifactResolutionException e) {
+					// some sources are not available
+					return e.getResults();
 				}
-			}
-		} else if (status.matches(IStatus.CANCEL)) {
-			targetBundles.ignoredArtifacts.add(artifact);
-		} else {
-			failedArtifacts.add(artifact);
-			// failed ones must be added to the target as well to fail resolution of the TP
-			targetBundles.addBundle(artifact, bundle);
+			}, monitor);
+			return results.stream().map(result -> result.isResolved() ? result.getArtifact() : null).toList();
+		} catch (CoreException e) {
+			LOGGER.error("Resolving source artifacts failed", e);
+			return Collections.nCopies(artifacts.size(), null);
 		}
 	}
 
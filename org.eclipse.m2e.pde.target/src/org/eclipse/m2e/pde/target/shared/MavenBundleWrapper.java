@@ -16,17 +16,23 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.jar.Attributes;
 import java.util.jar.Attributes.Name;
@@ -47,15 +53,16 @@ import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.SyncContext;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.graph.DefaultDependencyNode;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyFilter;
 import org.eclipse.aether.graph.DependencyNode;
-import org.eclipse.aether.graph.DependencyVisitor;
 import org.eclipse.aether.impl.SyncContextFactory;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.m2e.pde.target.shared.ProcessingMessage.Type;
 import org.osgi.framework.Constants;
@@ -84,12 +91,15 @@ public class MavenBundleWrapper {
 	@SuppressWarnings("restriction")
 	public static final String ECLIPSE_SOURCE_BUNDLE_HEADER = org.eclipse.pde.internal.core.ICoreConstants.ECLIPSE_SOURCE_BUNDLE;
 
+	private static final Map<Path, FileDigest> CONTENT_DIGESTS = new ConcurrentHashMap<>();
+
 	private MavenBundleWrapper() {
 	}
 
 	/**
 	 * Wraps an artifact (and possible its dependents if required) to produce a
-	 * manifest with OSGi metadata.
+	 * manifest with OSGi metadata, all artifacts are processed in the calling
+	 * thread.
 	 * 
 	 * @param artifact           the artifact to wrap
 	 * @param instructionsLookup a lookup for bnd instructions
@@ -106,6 +116,33 @@ public class MavenBundleWrapper {
 			Function<DependencyNode, Properties> instructionsLookup, List<RemoteRepository> repositories,
 			RepositorySystem repoSystem, RepositorySystemSession repositorySession,
 			SyncContextFactory syncContextFactory) throws Exception {
+		return getWrappedArtifact(artifact, instructionsLookup, repositories, repoSystem, repositorySession,
+				syncContextFactory, Runnable::run);
+	}
+
+	/**
+	 * Wraps an artifact (and possible its dependents if required) to produce a
+	 * manifest with OSGi metadata. The dependency graph is processed on the given
+	 * executor, each artifact is wrapped as soon as all of its dependencies are
+	 * wrapped, so independent branches are wrapped concurrently.
+	 * 
+	 * @param artifact           the artifact to wrap
+	 * @param instructionsLookup a lookup for bnd instructions, must be thread-safe
+	 * @param repositories       the repositories that should be used to resolve
+	 *                           dependencies
+	 * @param repoSystem         the repository system for lookup dependent items
+	 * @param repositorySession  the session to use
+	 * @param syncContextFactory the sync context factory to acquire exclusive
+	 *                           access to the wrapped artifact and its dependencies
+	 * @param executor           the executor that wraps the artifacts, tasks
+	 *                           submitted to it never block
+	 * @return the wrapped artifact
+	 * @throws Exception if wrapping the artifact fails for any reason
+	 */
+	public static WrappedBundle getWrappedArtifact(Artifact artifact,
+			Function<DependencyNode, Properties> instructionsLookup, List<RemoteRepository> repositories,
+			RepositorySystem repoSystem, RepositorySystemSession repositorySession,
+			SyncContextFactory syncContextFactory, Executor executor) throws Exception {
 		CollectRequest collectRequest = new CollectRequest();
 		collectRequest.setRoot(new Dependency(artifact, null));
 		collectRequest.setRepositories(repositories);
@@ -131,70 +168,147 @@ public class MavenBundleWrapper {
 		});
 		repoSystem.resolveDependencies(repositorySession, dependencyRequest);
 
+		Map<DependencyNode, List<DependencyNode>> graph = getWrappingGraph(node);
 		try (SyncContext syncContext = syncContextFactory.newInstance(repositorySession, false)) {
 			Set<Artifact> lockList = new HashSet<>();
-			node.accept(new DependencyVisitor() {
+			for (DependencyNode n : graph.keySet()) {
+				lockList.add(n.getArtifact());
+			}
+			syncContext.acquire(lockList, null);
+			return wrapGraph(node, graph, instructionsLookup, executor);
+		}
+	}
 
-				@Override
-				public boolean visitLeave(DependencyNode n) {
-					return true;
-				}
+	/**
+	 * Computes the children to wrap for each node reachable from the given root.
+	 * Aether represents a dependency cycle by a node that shares the children of
+	 * its ancestor, so the graph is walked depth first and a child that (or whose
+	 * artifact) is already on the current path is replaced by a copy without
+	 * children. The resulting graph is acyclic, so no node ever waits for one of
+	 * its ancestors.
+	 */
+	static Map<DependencyNode, List<DependencyNode>> getWrappingGraph(DependencyNode root) {
+		Map<DependencyNode, List<DependencyNode>> graph = new IdentityHashMap<>();
+		collectChildren(root, Collections.newSetFromMap(new IdentityHashMap<>()), new HashSet<>(), graph);
+		return graph;
+	}
+
+	private static void collectChildren(DependencyNode node, Set<DependencyNode> path, Set<String> pathIds,
+			Map<DependencyNode, List<DependencyNode>> graph) {
+		String id = ArtifactIdUtils.toId(node.getArtifact());
+		path.add(node);
+		boolean added = pathIds.add(id);
+		List<DependencyNode> children = new ArrayList<>();
+		for (DependencyNode child : node.getChildren()) {
+			if (path.contains(child) || pathIds.contains(ArtifactIdUtils.toId(child.getArtifact()))) {
+				// a cycle, wrap the artifact as a leaf
+				DependencyNode leaf = new DefaultDependencyNode(child);
+				graph.put(leaf, List.of());
+				children.add(leaf);
+				continue;
+			}
+			if (!graph.containsKey(child)) {
+				collectChildren(child, path, pathIds, graph);
+			}
+			children.add(child);
+		}
+		graph.put(node, children);
+		path.remove(node);
+		if (added) {
+			pathIds.remove(id);
+		}
+	}
 
-				@Override
-				public boolean visitEnter(DependencyNode n) {
-					lockList.add(n.getArtifact());
-					return true;
+	static WrappedBundle wrapGraph(DependencyNode root, Map<DependencyNode, List<DependencyNode>> graph,
+			Function<DependencyNode, Properties> instructionsLookup, Executor executor) throws Exception {
+		Map<DependencyNode, CompletableFuture<WrappedBundle>> visited = new ConcurrentHashMap<>();
+		try {
+			return getWrappedNode(root, graph, instructionsLookup, visited, executor).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof Exception cause) {
+				throw cause;
+			}
+			throw e;
+		} finally {
+			// all started nodes are done once the root is done
+			for (CompletableFuture<WrappedBundle> wrap : visited.values()) {
+				if (wrap.isDone() && !wrap.isCompletedExceptionally()) {
+					wrap.join().getJar().ifPresent(jar -> jar.close());
 				}
-			});
-			syncContext.acquire(lockList, null);
-			Map<DependencyNode, WrappedBundle> visited = new HashMap<>();
-			WrappedBundle wrappedNode = getWrappedNode(node, instructionsLookup, visited);
-			for (WrappedBundle wrap : visited.values()) {
-				wrap.getJar().ifPresent(jar -> jar.close());
 			}
-			return wrappedNode;
 		}
 	}
 
-	private static WrappedBundle getWrappedNode(DependencyNode node,
-			Function<DependencyNode, Properties> instructionsLookup, Map<DependencyNode, WrappedBundle> visited)
-			throws Exception {
-		WrappedBundle wrappedNode = visited.get(node);
-		if (wrappedNode != null) {
-			return wrappedNode;
+	private static CompletableFuture<WrappedBundle> getWrappedNode(DependencyNode node,
+			Map<DependencyNode, List<DependencyNode>> graph, Function<DependencyNode, Properties> instructionsLookup,
+			Map<DependencyNode, CompletableFuture<WrappedBundle>> visited, Executor executor) {
+		CompletableFuture<WrappedBundle> wrappedNode = new CompletableFuture<>();
+		CompletableFuture<WrappedBundle> existing = visited.putIfAbsent(node, wrappedNode);
+		if (existing != null) {
+			return existing;
 		}
-		Artifact artifact = node.getArtifact();
-		File originalFile = artifact.getFile();
-		if (originalFile == null) {
-			if (node.getDependency().isOptional()) {
-				visited.put(node,
-						wrappedNode = new WrappedBundle(node, List.of(), null, null, null,
+		executor.execute(() -> {
+			try {
+				Artifact artifact = node.getArtifact();
+				File originalFile = artifact.getFile();
+				if (originalFile == null) {
+					if (node.getDependency().isOptional()) {
+						wrappedNode.complete(new WrappedBundle(node, List.of(), null, null, null,
 								List.of(new ProcessingMessage(artifact, Type.WARN,
 										"Optional artifact " + node.getArtifact() + " was not found"))));
-			} else {
-				visited.put(node, wrappedNode = new WrappedBundle(node, List.of(), null, null, null, List.of(
-						new ProcessingMessage(artifact, Type.ERROR, "Artifact " + node.getArtifact() + " not found"))));
+					} else {
+						wrappedNode.complete(new WrappedBundle(node, List.of(), null, null, null,
+								List.of(new ProcessingMessage(artifact, Type.ERROR,
+										"Artifact " + node.getArtifact() + " not found"))));
+					}
+					return;
+				}
+				Jar jar = new Jar(originalFile);
+				if (isValidOSGi(jar.getManifest())) {
+					// already a bundle!
+					wrappedNode.complete(
+							new WrappedBundle(node, List.of(), null, originalFile.toPath(), jar, List.of()));
+					return;
+				}
+				// children first, the node itself is wrapped once all children are done
+				List<CompletableFuture<WrappedBundle>> children = new ArrayList<>();
+				for (DependencyNode child : graph.get(node)) {
+					children.add(getWrappedNode(child, graph, instructionsLookup, visited, executor));
+				}
+				CompletableFuture<Void> allChildren = CompletableFuture
+						.allOf(children.toArray(CompletableFuture[]::new));
+				allChildren.whenComplete((v, error) -> {
+					if (error != null) {
+						jar.close();
+					}
+				});
+				allChildren.thenApplyAsync(v -> {
+					List<WrappedBundle> depends = children.stream().map(CompletableFuture::join).toList();
+					try {
+						return wrapNode(node, jar, depends, instructionsLookup);
+					} catch (Exception e) {
+						throw new CompletionException(e);
+					}
+				}, executor).whenComplete((wrapped, error) -> {
+					if (error != null) {
+						wrappedNode.completeExceptionally(error);
+					} else {
+						wrappedNode.complete(wrapped);
+					}
+				});
+			} catch (Exception e) {
+				wrappedNode.completeExceptionally(e);
 			}
-			return wrappedNode;
-		}
-		Jar jar = new Jar(originalFile);
-		if (isValidOSGi(jar.getManifest())) {
-			// already a bundle!
-			visited.put(node,
-					wrappedNode = new WrappedBundle(node, List.of(), null, originalFile.toPath(), jar, List.of()));
-			return wrappedNode;
-		}
-		List<DependencyNode> children = node.getChildren();
-		List<WrappedBundle> depends = new ArrayList<>();
-		for (DependencyNode child : children) {
-			depends.add(getWrappedNode(child, instructionsLookup, visited));
-		}
-		WrappedBundle wrappedNodeAfterVisit = visited.get(node);
-		if (wrappedNodeAfterVisit != null) {
-			return wrappedNodeAfterVisit;
-		}
+		});
+		return wrappedNode;
+	}
+
+	private static WrappedBundle wrapNode(DependencyNode node, Jar jar, List<WrappedBundle> depends,
+			Function<DependencyNode, Properties> instructionsLookup) throws Exception {
+		Artifact artifact = node.getArtifact();
+		File originalFile = artifact.getFile();
 		Properties instructions = instructionsLookup.apply(node);
-		String key = getInstructionsKey(instructions, depends);
+		String key = getInstructionsKey(instructions, getContentDigest(originalFile.toPath()), depends);
 		try (Jar analyzerJar = jar) {
 			// now we know the key and the depends we enter the critical section of checking
 			// if the data is already there or needs to be refreshed
@@ -249,18 +363,13 @@ public class MavenBundleWrapper {
 				}
 				if (hasErrors) {
 					Files.deleteIfExists(wrapArtifactFile.toPath());
-					visited.put(node, wrappedNode = new WrappedBundle(node, depends, key, null, null, messages));
-				} else {
-					Files.setLastModifiedTime(wrapArtifactFile.toPath(),
-							Files.getLastModifiedTime(originalFile.toPath()));
-					visited.put(node, wrappedNode = new WrappedBundle(node, depends, key, wrapArtifactFile.toPath(),
-							new Jar(wrapArtifactFile), messages));
+					return new WrappedBundle(node, depends, key, null, null, messages);
 				}
-			} else {
-				visited.put(node, wrappedNode = new WrappedBundle(node, depends, key, wrapArtifactFile.toPath(),
-						new Jar(wrapArtifactFile), List.of()));
+				Files.setLastModifiedTime(wrapArtifactFile.toPath(), Files.getLastModifiedTime(originalFile.toPath()));
+				return new WrappedBundle(node, depends, key, wrapArtifactFile.toPath(), new Jar(wrapArtifactFile),
+						messages);
 			}
-			return wrappedNode;
+			return new WrappedBundle(node, depends, key, wrapArtifactFile.toPath(), cached, List.of());
 		}
 	}
 
@@ -286,16 +395,38 @@ public class MavenBundleWrapper {
 		return null;
 	}
 
-	private static String getInstructionsKey(Properties properties, List<WrappedBundle> depends) {
+	private static String getInstructionsKey(Properties properties, String contentDigest,
+			List<WrappedBundle> depends) {
 		Stream<String> instructionsStream = properties == null ? Stream.empty()
 				: properties.stringPropertyNames().stream().sorted(String.CASE_INSENSITIVE_ORDER)
 						.map(key -> key.toLowerCase() + ":" + properties.getProperty(key));
 		Stream<String> dependsStream = depends.stream().map(WrappedBundle::getInstructionsKey).filter(Objects::nonNull)
 				.sorted(String.CASE_INSENSITIVE_ORDER).distinct();
-		String string = Stream.concat(instructionsStream, dependsStream).collect(Collectors.joining("#"));
+		String string = Stream.concat(Stream.concat(instructionsStream, Stream.of(contentDigest)), dependsStream)
+				.collect(Collectors.joining("#"));
 		return DigestUtils.md5Hex(string);
 	}
 
+	/**
+	 * Computes the SHA-1 digest of the content of the given file, the digest is
+	 * remembered as long as size and modification time of the file do not change.
+	 */
+	private static String getContentDigest(Path file) throws IOException {
+		long size = Files.size(file);
+		long lastModified = Files.getLastModifiedTime(file).toMillis();
+		FileDigest digest = CONTENT_DIGESTS.get(file);
+		if (digest == null || digest.size() != size || digest.lastModified() != lastModified) {
+			try (InputStream stream = Files.newInputStream(file)) {
+				digest = new FileDigest(size, lastModified, DigestUtils.sha1Hex(stream));
+			}
+			CONTENT_DIGESTS.put(file, digest);
+		}
+		return digest.digest();
+	}
+
+	private record FileDigest(long size, long lastModified, String digest) {
+	}
+
 	public static Version createOSGiVersion(Artifact artifact) {
 		String version = artifact.getVersion();
 		return createOSGiVersion(version);